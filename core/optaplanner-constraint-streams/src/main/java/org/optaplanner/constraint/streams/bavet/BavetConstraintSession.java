@@ -1,5 +1,5 @@
 /*
- * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,79 +21,133 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.optaplanner.constraint.streams.bavet.common.AbstractNode;
 import org.optaplanner.constraint.streams.bavet.uni.ForEachUniNode;
-import org.optaplanner.constraint.streams.common.inliner.AbstractScoreInliner;
+
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.api.score.stream.Constraint;
 
 public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_>> {
 
-    private final AbstractScoreInliner<Score_> scoreInliner;
-    private final Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap;
-    private final AbstractNode[] nodes; // Indexed by nodeIndex
+    /**
+     * A move rarely changes more than a few facts,
+     * while a new working solution or a batch of problem changes usually changes far more.
+     */
+    static final int BULK_FACT_CHANGE_THRESHOLD = 100;
 
-    private final Map<Class<?>, List<ForEachUniNode<Object>>> effectiveClassToNodeListMap;
+    private final Map<Constraint, Score_> constraintWeightMap;
+    /**
+     * Usually just 1, unless the session was built for parallel bulk calculation.
+     */
+    private final List<BavetConstraintSubnetwork<Score_>> subnetworkList;
+    /**
+     * The {@link ForEachUniNode}s of every subnetwork, so a fact change skips the subnetworks that don't use it.
+     */
+    private final Map<Class<?>, List<ForEachUniNode<Object>>> effectiveClassToNodeListMap = new HashMap<>();
+    /**
+     * The number of fact inserts, updates and retracts since the last score calculation.
+     */
+    private int pendingFactChangeCount = 0;
 
-    public BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner,
-            Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap,
-            AbstractNode[] nodes) {
-        this.scoreInliner = scoreInliner;
-        this.declaredClassToNodeMap = declaredClassToNodeMap;
-        this.nodes = nodes;
-        effectiveClassToNodeListMap = new HashMap<>(declaredClassToNodeMap.size());
+    public BavetConstraintSession(Map<Constraint, Score_> constraintWeightMap,
+            List<BavetConstraintSubnetwork<Score_>> subnetworkList) {
+        if (subnetworkList.isEmpty()) {
+            throw new IllegalStateException("Impossible state: the subnetworkList is empty.");
+        }
+        this.constraintWeightMap = constraintWeightMap;
+        this.subnetworkList = subnetworkList;
     }
 
-    public List<ForEachUniNode<Object>> findNodeList(Class<?> factClass) {
+    private List<ForEachUniNode<Object>> findNodeList(Class<?> factClass) {
+        if (subnetworkList.size() == 1) {
+            return subnetworkList.get(0).findNodeList(factClass);
+        }
         return effectiveClassToNodeListMap.computeIfAbsent(factClass, key -> {
             List<ForEachUniNode<Object>> nodeList = new ArrayList<>();
-            declaredClassToNodeMap.forEach((declaredClass, declaredNode) -> {
-                if (declaredClass.isAssignableFrom(factClass)) {
-                    nodeList.add(declaredNode);
-                }
-            });
+            for (BavetConstraintSubnetwork<Score_> subnetwork : subnetworkList) {
+                nodeList.addAll(subnetwork.findNodeList(factClass));
+            }
             return nodeList;
         });
     }
 
     public void insert(Object fact) {
-        Class<?> factClass = fact.getClass();
-        List<ForEachUniNode<Object>> nodeList = findNodeList(factClass);
-        for (ForEachUniNode<Object> node : nodeList) {
+        for (ForEachUniNode<Object> node : findNodeList(fact.getClass())) {
             node.insert(fact);
         }
+        pendingFactChangeCount++;
     }
 
     public void update(Object fact) {
-        Class<?> factClass = fact.getClass();
-        List<ForEachUniNode<Object>> nodeList = findNodeList(factClass);
-        for (ForEachUniNode<Object> node : nodeList) {
+        for (ForEachUniNode<Object> node : findNodeList(fact.getClass())) {
             node.update(fact);
         }
+        pendingFactChangeCount++;
     }
 
     public void retract(Object fact) {
-        Class<?> factClass = fact.getClass();
-        List<ForEachUniNode<Object>> nodeList = findNodeList(factClass);
-        for (ForEachUniNode<Object> node : nodeList) {
+        for (ForEachUniNode<Object> node : findNodeList(fact.getClass())) {
             node.retract(fact);
         }
+        pendingFactChangeCount++;
     }
 
+    /**
+     * Calculates the subnetworks in parallel, in the {@link java.util.concurrent.ForkJoinPool#commonPool()},
+     * if there are several and if at least {@link #BULK_FACT_CHANGE_THRESHOLD} facts changed since the last call,
+     * such as after the insert of every fact of a new working solution or after a batch of problem changes.
+     * After a single move, the hand-off isn't worth it.
+     *
+     * @param initScore {@code <= 0}
+     * @return never null
+     */
     public Score_ calculateScore(int initScore) {
-        for (AbstractNode node : nodes) {
-            node.calculateScore();
+        if (subnetworkList.size() > 1 && pendingFactChangeCount >= BULK_FACT_CHANGE_THRESHOLD) {
+            // The subnetworks share no state, so they don't need to synchronize
+            subnetworkList.parallelStream().forEach(BavetConstraintSubnetwork::calculateScore);
+        } else {
+            for (BavetConstraintSubnetwork<Score_> subnetwork : subnetworkList) {
+                subnetwork.calculateScore();
+            }
+        }
+        pendingFactChangeCount = 0;
+        return extractScore(initScore);
+    }
+
+    /**
+     * @return {@code >= 0}, the number of fact inserts, updates and retracts since the last score calculation
+     */
+    public int getPendingFactChangeCount() {
+        return pendingFactChangeCount;
+    }
+
+    private Score_ extractScore(int initScore) {
+        Score_ score = subnetworkList.get(0).getScoreInliner().extractScore(initScore);
+        for (int i = 1; i < subnetworkList.size(); i++) {
+            score = score.add(subnetworkList.get(i).getScoreInliner().extractScore(0));
         }
-        return scoreInliner.extractScore(initScore);
+        return score;
+    }
+
+    /**
+     * @return never null, the weights this session was built with, only for the constraints with a non-zero weight
+     */
+    public Map<Constraint, Score_> getConstraintWeightMap() {
+        return constraintWeightMap;
+    }
+
+    public List<BavetConstraintSubnetwork<Score_>> getSubnetworkList() {
+        return subnetworkList;
     }
 
     public Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
-        return scoreInliner.getConstraintMatchTotalMap();
+        // Constraint matching disables the subnetwork split, so all constraint matches are in the first subnetwork
+        return subnetworkList.get(0).getScoreInliner().getConstraintMatchTotalMap();
     }
 
     public Map<Object, Indictment<Score_>> getIndictmentMap() {
-        return scoreInliner.getIndictmentMap();
+        return subnetworkList.get(0).getScoreInliner().getIndictmentMap();
     }
 
 }
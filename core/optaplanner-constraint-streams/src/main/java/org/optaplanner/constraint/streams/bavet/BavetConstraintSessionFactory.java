@@ -19,15 +19,22 @@ package org.optaplanner.constraint.streams.bavet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.optaplanner.constraint.streams.bavet.bi.BavetFilterBiConstraintStream;
 import org.optaplanner.constraint.streams.bavet.common.AbstractNode;
 import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
+import org.optaplanner.constraint.streams.bavet.quad.BavetFilterQuadConstraintStream;
+import org.optaplanner.constraint.streams.bavet.tri.BavetFilterTriConstraintStream;
+import org.optaplanner.constraint.streams.bavet.uni.BavetFilterUniConstraintStream;
+import org.optaplanner.constraint.streams.bavet.uni.BavetForEachUniConstraintStream;
 import org.optaplanner.constraint.streams.bavet.uni.ForEachUniNode;
 import org.optaplanner.constraint.streams.common.inliner.AbstractScoreInliner;
 import org.optaplanner.core.api.score.Score;
@@ -37,13 +44,15 @@ import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score<Score_>> {
 
-    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final ScoreDefinition<Score_> scoreDefinition;
     private final List<BavetConstraint<Solution_>> constraintList;
+    private final boolean parallelBulkCalculation;
 
     public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
-            List<BavetConstraint<Solution_>> constraintList) {
-        this.solutionDescriptor = solutionDescriptor;
+            List<BavetConstraint<Solution_>> constraintList, boolean parallelBulkCalculation) {
+        this.scoreDefinition = solutionDescriptor.getScoreDefinition();
         this.constraintList = constraintList;
+        this.parallelBulkCalculation = parallelBulkCalculation;
     }
 
     // ************************************************************************
@@ -52,24 +61,101 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
     public BavetConstraintSession<Solution_, Score_> buildSession(boolean constraintMatchEnabled,
             Solution_ workingSolution) {
-        ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
-        AbstractScoreInliner<Score_> scoreInliner = AbstractScoreInliner.buildScoreInliner(scoreDefinition,
-                constraintMatchEnabled);
+        Map<Constraint, Score_> constraintWeightMap = extractConstraintWeightMap(workingSolution);
+        List<Set<BavetAbstractConstraintStream<Solution_>>> constraintStreamSetList;
+        // Constraint matching is for explaining a score, not for performance, so it doesn't split up the network,
+        // which would require merging the constraint matches and indictments of the subnetworks.
+        if (parallelBulkCalculation && !constraintMatchEnabled) {
+            constraintStreamSetList = splitIndependentConstraintStreamSets(constraintWeightMap);
+        } else {
+            Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet = new LinkedHashSet<>();
+            for (BavetConstraint<Solution_> constraint : constraintList) {
+                // Filter out nodes that only lead to constraints with zero weight.
+                // Note: Node sharing happens earlier, in BavetConstraintFactory#share(Stream_).
+                if (constraintWeightMap.containsKey(constraint)) {
+                    // Relies on BavetConstraintFactory#share(Stream_) occurring for all constraint stream instances
+                    // to ensure there are no 2 equal ConstraintStream instances (with different child stream lists).
+                    constraint.collectActiveConstraintStreams(constraintStreamSet);
+                }
+            }
+            constraintStreamSetList = Collections.singletonList(constraintStreamSet);
+        }
+        List<BavetConstraintSubnetwork<Score_>> subnetworkList = new ArrayList<>(constraintStreamSetList.size());
+        for (Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet : constraintStreamSetList) {
+            subnetworkList.add(buildSubnetwork(constraintMatchEnabled, constraintWeightMap, constraintStreamSet));
+        }
+        return new BavetConstraintSession<>(constraintWeightMap, subnetworkList);
+    }
 
-        Score_ zeroScore = scoreDefinition.getZeroScore();
-        Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet = new LinkedHashSet<>();
-        Map<Constraint, Score_> constraintWeightMap = new HashMap<>(constraintList.size());
+    /**
+     * Groups the constraints that share a node into the same set, except for the {@link ForEachUniNode}s,
+     * which every subnetwork builds for itself, so the subnetworks share no state.
+     * See {@link #sharesNodeState(BavetAbstractConstraintStream)}.
+     *
+     * @param constraintWeightMap never null
+     * @return never null, at least 1 element, each set is in topological order, like in the unsplit case
+     */
+    private List<Set<BavetAbstractConstraintStream<Solution_>>> splitIndependentConstraintStreamSets(
+            Map<Constraint, Score_> constraintWeightMap) {
+        List<Set<BavetAbstractConstraintStream<Solution_>>> constraintStreamSetList = new ArrayList<>();
+        Map<BavetAbstractConstraintStream<Solution_>, Set<BavetAbstractConstraintStream<Solution_>>> streamToSetMap =
+                new HashMap<>();
         for (BavetConstraint<Solution_> constraint : constraintList) {
-            Score_ constraintWeight = constraint.extractConstraintWeight(workingSolution);
-            // Filter out nodes that only lead to constraints with zero weight.
-            // Note: Node sharing happens earlier, in BavetConstraintFactory#share(Stream_).
-            if (!constraintWeight.equals(zeroScore)) {
-                // Relies on BavetConstraintFactory#share(Stream_) occurring for all constraint stream instances
-                // to ensure there are no 2 equal ConstraintStream instances (with different child stream lists).
-                constraint.collectActiveConstraintStreams(constraintStreamSet);
-                constraintWeightMap.put(constraint, constraintWeight);
+            if (!constraintWeightMap.containsKey(constraint)) {
+                continue;
+            }
+            Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet = new LinkedHashSet<>();
+            constraint.collectActiveConstraintStreams(constraintStreamSet);
+            // Merge with every set that shares a stream, in order of creation to keep the result reproducible
+            Set<Set<BavetAbstractConstraintStream<Solution_>>> sharingSetSet =
+                    Collections.newSetFromMap(new IdentityHashMap<>());
+            for (BavetAbstractConstraintStream<Solution_> stream : constraintStreamSet) {
+                if (sharesNodeState(stream)) {
+                    Set<BavetAbstractConstraintStream<Solution_>> sharingSet = streamToSetMap.get(stream);
+                    if (sharingSet != null) {
+                        sharingSetSet.add(sharingSet);
+                    }
+                }
+            }
+            Set<BavetAbstractConstraintStream<Solution_>> mergedSet = new LinkedHashSet<>();
+            for (Iterator<Set<BavetAbstractConstraintStream<Solution_>>> it = constraintStreamSetList.iterator();
+                    it.hasNext();) {
+                Set<BavetAbstractConstraintStream<Solution_>> otherSet = it.next();
+                if (sharingSetSet.contains(otherSet)) {
+                    mergedSet.addAll(otherSet);
+                    it.remove();
+                }
+            }
+            mergedSet.addAll(constraintStreamSet);
+            for (BavetAbstractConstraintStream<Solution_> stream : mergedSet) {
+                streamToSetMap.put(stream, mergedSet);
             }
+            constraintStreamSetList.add(mergedSet);
         }
+        if (constraintStreamSetList.isEmpty()) {
+            constraintStreamSetList.add(new LinkedHashSet<>());
+        }
+        return constraintStreamSetList;
+    }
+
+    /**
+     * A filter stream builds no node, it only wires its parent to its children.
+     * A forEach stream does build a node, but every subnetwork builds its own one.
+     * So neither forces the constraints that share it into the same subnetwork.
+     * This matters, because most constraints share the forEach nullity filter of their planning entity class.
+     */
+    private static boolean sharesNodeState(BavetAbstractConstraintStream<?> stream) {
+        return !(stream instanceof BavetForEachUniConstraintStream
+                || stream instanceof BavetFilterUniConstraintStream
+                || stream instanceof BavetFilterBiConstraintStream
+                || stream instanceof BavetFilterTriConstraintStream
+                || stream instanceof BavetFilterQuadConstraintStream);
+    }
+
+    private BavetConstraintSubnetwork<Score_> buildSubnetwork(boolean constraintMatchEnabled,
+            Map<Constraint, Score_> constraintWeightMap, Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet) {
+        AbstractScoreInliner<Score_> scoreInliner = AbstractScoreInliner.buildScoreInliner(scoreDefinition,
+                constraintMatchEnabled);
         NodeBuildHelper<Score_> buildHelper = new NodeBuildHelper<>(constraintStreamSet, constraintWeightMap, scoreInliner);
         // Build constraintStreamSet in reverse order to create downstream nodes first
         // so every node only has final variables (some of which have downstream node method references).
@@ -90,7 +176,23 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                 }
             }
         }
-        return new BavetConstraintSession<>(scoreInliner, declaredClassToNodeMap, nodeList.toArray(AbstractNode[]::new));
+        return new BavetConstraintSubnetwork<>(scoreInliner, declaredClassToNodeMap, nodeList.toArray(AbstractNode[]::new));
+    }
+
+    /**
+     * @param workingSolution never null
+     * @return never null, only contains the constraints with a non-zero weight
+     */
+    public Map<Constraint, Score_> extractConstraintWeightMap(Solution_ workingSolution) {
+        Score_ zeroScore = scoreDefinition.getZeroScore();
+        Map<Constraint, Score_> constraintWeightMap = new HashMap<>(constraintList.size());
+        for (BavetConstraint<Solution_> constraint : constraintList) {
+            Score_ constraintWeight = constraint.extractConstraintWeight(workingSolution);
+            if (!constraintWeight.equals(zeroScore)) {
+                constraintWeightMap.put(constraint, constraintWeight);
+            }
+        }
+        return constraintWeightMap;
     }
 
 }
@@ -16,7 +16,12 @@
 
 package org.optaplanner.constraint.streams.bavet;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.optaplanner.core.api.domain.entity.PlanningEntity;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
@@ -24,6 +29,8 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.solver.change.ProblemChange;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
@@ -53,8 +60,32 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
 
     @Override
     public void setWorkingSolution(Solution_ workingSolution) {
+        Solution_ oldWorkingSolution = this.workingSolution;
         super.setWorkingSolution(workingSolution);
-        resetConstraintStreamingSession();
+        if (isConstraintStreamingSessionReusable(oldWorkingSolution)) {
+            replaceConstraintStreamingSessionFacts(oldWorkingSolution);
+        } else {
+            resetConstraintStreamingSession();
+        }
+    }
+
+    /**
+     * If {@link BavetConstraintStreamScoreDirectorFactory#isSessionReuseEnabled()},
+     * the session survives a replacement of the working solution by another instance,
+     * such as the planning clone of the best solution when a phase starts or a {@link ProblemChange} is done.
+     * Otherwise, and when setting the same instance again, the session is always reset,
+     * because a problem fact might have changed without notifying this score director.
+     */
+    private boolean isConstraintStreamingSessionReusable(Solution_ oldWorkingSolution) {
+        if (!scoreDirectorFactory.isSessionReuseEnabled()) {
+            return false;
+        }
+        if (session == null || oldWorkingSolution == null || oldWorkingSolution == workingSolution) {
+            return false;
+        }
+        // The node network depends on which constraints have a non-zero weight
+        Map<Constraint, Score_> constraintWeightMap = scoreDirectorFactory.extractConstraintWeightMap(workingSolution);
+        return session.getConstraintWeightMap().equals(constraintWeightMap);
     }
 
     private void resetConstraintStreamingSession() {
@@ -62,6 +93,33 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         getSolutionDescriptor().visitAllFacts(workingSolution, session::insert);
     }
 
+    /**
+     * Only retracts the facts (including entities) that are no longer in the working solution
+     * and only inserts the facts that are new, both by identity.
+     * So the tuples of problem facts that weren't cloned survive, along with every node state that derives from them
+     * only, such as a join between 2 problem fact classes.
+     */
+    private void replaceConstraintStreamingSessionFacts(Solution_ oldWorkingSolution) {
+        List<Object> newFactList = new ArrayList<>();
+        Set<Object> newFactSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        getSolutionDescriptor().visitAllFacts(workingSolution, fact -> {
+            newFactList.add(fact);
+            newFactSet.add(fact);
+        });
+        Set<Object> oldFactSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        // Visit the old facts in order, for reproducibility
+        getSolutionDescriptor().visitAllFacts(oldWorkingSolution, fact -> {
+            if (oldFactSet.add(fact) && !newFactSet.contains(fact)) {
+                session.retract(fact);
+            }
+        });
+        for (Object fact : newFactList) {
+            if (!oldFactSet.contains(fact)) {
+                session.insert(fact);
+            }
+        }
+    }
+
     @Override
     public Score_ calculateScore() {
         variableListenerSupport.assertNotificationQueuesAreEmpty();
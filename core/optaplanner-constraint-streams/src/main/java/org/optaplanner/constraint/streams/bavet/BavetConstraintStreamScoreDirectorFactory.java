@@ -17,6 +17,7 @@
 package org.optaplanner.constraint.streams.bavet;
 
 import java.util.List;
+import java.util.Map;
 
 import org.optaplanner.constraint.streams.common.AbstractConstraintStreamScoreDirectorFactory;
 import org.optaplanner.core.api.score.Score;
@@ -29,13 +30,40 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
 
     private final BavetConstraintSessionFactory<Solution_, Score_> constraintSessionFactory;
     private final List<BavetConstraint<Solution_>> constraintList;
+    private final boolean sessionReuseEnabled;
 
     public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintProvider constraintProvider) {
+        this(solutionDescriptor, constraintProvider, false, false);
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param constraintProvider never null
+     * @param parallelBulkCalculation true to split the node network into independent subnetworks
+     *        and calculate those in parallel after a bulk change, such as setting the working solution
+     */
+    public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, boolean parallelBulkCalculation) {
+        this(solutionDescriptor, constraintProvider, parallelBulkCalculation, false);
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param constraintProvider never null
+     * @param parallelBulkCalculation true to split the node network into independent subnetworks
+     *        and calculate those in parallel after a bulk change, such as setting the working solution
+     * @param sessionReuseEnabled true to keep the session when the working solution is replaced by another instance,
+     *        see {@link BavetConstraintStreamScoreDirector#setWorkingSolution(Object)}
+     */
+    public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, boolean parallelBulkCalculation, boolean sessionReuseEnabled) {
         super(solutionDescriptor);
+        this.sessionReuseEnabled = sessionReuseEnabled;
         BavetConstraintFactory<Solution_> constraintFactory = new BavetConstraintFactory<>(solutionDescriptor);
         constraintList = constraintFactory.buildConstraints(constraintProvider);
-        constraintSessionFactory = new BavetConstraintSessionFactory<>(solutionDescriptor, constraintList);
+        constraintSessionFactory = new BavetConstraintSessionFactory<>(solutionDescriptor, constraintList,
+                parallelBulkCalculation);
     }
 
     @Override
@@ -49,6 +77,14 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
         return constraintSessionFactory.buildSession(constraintMatchEnabled, workingSolution);
     }
 
+    public boolean isSessionReuseEnabled() {
+        return sessionReuseEnabled;
+    }
+
+    public Map<Constraint, Score_> extractConstraintWeightMap(Solution_ workingSolution) {
+        return constraintSessionFactory.extractConstraintWeightMap(workingSolution);
+    }
+
     @Override
     public Constraint[] getConstraints() {
         return constraintList.toArray(Constraint[]::new);
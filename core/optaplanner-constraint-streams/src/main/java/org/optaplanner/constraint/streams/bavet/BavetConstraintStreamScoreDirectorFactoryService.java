@@ -40,7 +40,9 @@ public final class BavetConstraintStreamScoreDirectorFactoryService<Solution_, S
                         "constraintProviderClass", config.getConstraintProviderClass());
                 ConfigUtils.applyCustomProperties(constraintProvider, "constraintProviderClass",
                         config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
-                return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider);
+                return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider,
+                        Objects.requireNonNullElse(config.getConstraintStreamParallelBulkCalculationEnabled(), false),
+                        Objects.requireNonNullElse(config.getConstraintStreamSessionReuseEnabled(), false));
             };
         } else {
             if (config.getConstraintProviderCustomProperties() != null) {
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.constraint.streams.bavet.common.AbstractNode;
+import org.optaplanner.constraint.streams.bavet.uni.ForEachUniNode;
+import org.optaplanner.constraint.streams.common.inliner.AbstractScoreInliner;
+import org.optaplanner.core.api.score.Score;
+
+/**
+ * A node network with its own {@link ForEachUniNode}s and its own {@link AbstractScoreInliner},
+ * so it doesn't share any state with the other subnetworks of the same {@link BavetConstraintSession}.
+ *
+ * @param <Score_> the score type
+ */
+public final class BavetConstraintSubnetwork<Score_ extends Score<Score_>> {
+
+    private final AbstractScoreInliner<Score_> scoreInliner;
+    private final Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap;
+    private final AbstractNode[] nodes; // Indexed by nodeIndex
+    /**
+     * The nodes with a non-empty dirty queue, so the per move overhead doesn't grow with the number of nodes.
+     */
+    private final BitSet dirtyNodeSet;
+
+    private final Map<Class<?>, List<ForEachUniNode<Object>>> effectiveClassToNodeListMap;
+
+    public BavetConstraintSubnetwork(AbstractScoreInliner<Score_> scoreInliner,
+            Map<Class<?>, ForEachUniNode<Object>> declaredClassToNodeMap,
+            AbstractNode[] nodes) {
+        this.scoreInliner = scoreInliner;
+        this.declaredClassToNodeMap = declaredClassToNodeMap;
+        this.nodes = nodes;
+        dirtyNodeSet = new BitSet(nodes.length);
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i].initDirtyNodeSet(dirtyNodeSet, i);
+        }
+        effectiveClassToNodeListMap = new HashMap<>(declaredClassToNodeMap.size());
+    }
+
+    public List<ForEachUniNode<Object>> findNodeList(Class<?> factClass) {
+        return effectiveClassToNodeListMap.computeIfAbsent(factClass, key -> {
+            List<ForEachUniNode<Object>> nodeList = new ArrayList<>();
+            declaredClassToNodeMap.forEach((declaredClass, declaredNode) -> {
+                if (declaredClass.isAssignableFrom(factClass)) {
+                    nodeList.add(declaredNode);
+                }
+            });
+            return nodeList;
+        });
+    }
+
+    public void calculateScore() {
+        // The nodes are sorted topologically, so a node only marks nodes with a higher nodeIndex dirty
+        for (int i = dirtyNodeSet.nextSetBit(0); i >= 0; i = dirtyNodeSet.nextSetBit(i + 1)) {
+            dirtyNodeSet.clear(i);
+            nodes[i].calculateScore();
+        }
+    }
+
+    public AbstractScoreInliner<Score_> getScoreInliner() {
+        return scoreInliner;
+    }
+
+}
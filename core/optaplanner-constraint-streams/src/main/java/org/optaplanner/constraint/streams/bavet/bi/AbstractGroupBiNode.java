@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.bi;
+
+import java.util.function.Consumer;
+
+import org.optaplanner.constraint.streams.bavet.common.AbstractGroupNode;
+import org.optaplanner.constraint.streams.bavet.common.Tuple;
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.impl.util.Pair;
+import org.optaplanner.core.impl.util.Quadruple;
+import org.optaplanner.core.impl.util.Triple;
+
+public abstract class AbstractGroupBiNode<OldA, OldB, OutTuple_ extends Tuple, GroupKey_, ResultContainer_, Result_>
+        extends AbstractGroupNode<BiTuple<OldA, OldB>, OutTuple_, GroupKey_, ResultContainer_, Result_> {
+
+    /**
+     * Null if the node has no collectors.
+     */
+    private final TriFunction<ResultContainer_, OldA, OldB, Runnable> accumulator;
+
+    protected AbstractGroupBiNode(int groupStoreIndex,
+            BiConstraintCollector<OldA, OldB, ResultContainer_, Result_> collector,
+            Consumer<OutTuple_> nextNodesInsert, Consumer<OutTuple_> nextNodesRetract) {
+        super(groupStoreIndex,
+                collector == null ? null : collector.supplier(),
+                collector == null ? null : collector.finisher(),
+                nextNodesInsert, nextNodesRetract);
+        accumulator = collector == null ? null : collector.accumulator();
+    }
+
+    @Override
+    protected final Runnable accumulate(ResultContainer_ resultContainer, BiTuple<OldA, OldB> tuple) {
+        return accumulator.apply(resultContainer, tuple.factA, tuple.factB);
+    }
+
+    protected static <OldA, OldB, A, B,
+            ResultContainerA_, ResultContainerB_>
+            BiConstraintCollector<OldA, OldB, ?, Pair<A, B>> mergeCollectors(
+                    BiConstraintCollector<OldA, OldB, ResultContainerA_, A> collectorA,
+                    BiConstraintCollector<OldA, OldB, ResultContainerB_, B> collectorB) {
+        return ConstraintCollectors.compose(collectorA, collectorB, Pair::of);
+    }
+
+    protected static <OldA, OldB, A, B, C,
+            ResultContainerA_, ResultContainerB_, ResultContainerC_>
+            BiConstraintCollector<OldA, OldB, ?, Triple<A, B, C>> mergeCollectors(
+                    BiConstraintCollector<OldA, OldB, ResultContainerA_, A> collectorA,
+                    BiConstraintCollector<OldA, OldB, ResultContainerB_, B> collectorB,
+                    BiConstraintCollector<OldA, OldB, ResultContainerC_, C> collectorC) {
+        return ConstraintCollectors.compose(collectorA, collectorB, collectorC, Triple::of);
+    }
+
+    protected static <OldA, OldB, A, B, C, D,
+            ResultContainerA_, ResultContainerB_, ResultContainerC_, ResultContainerD_>
+            BiConstraintCollector<OldA, OldB, ?, Quadruple<A, B, C, D>> mergeCollectors(
+                    BiConstraintCollector<OldA, OldB, ResultContainerA_, A> collectorA,
+                    BiConstraintCollector<OldA, OldB, ResultContainerB_, B> collectorB,
+                    BiConstraintCollector<OldA, OldB, ResultContainerC_, C> collectorC,
+                    BiConstraintCollector<OldA, OldB, ResultContainerD_, D> collectorD) {
+        return ConstraintCollectors.compose(collectorA, collectorB, collectorC, collectorD, Quadruple::of);
+    }
+
+}
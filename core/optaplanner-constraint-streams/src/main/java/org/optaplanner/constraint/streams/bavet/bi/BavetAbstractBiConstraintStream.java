@@ -27,13 +27,23 @@ import java.util.function.ToLongBiFunction;
 
 import org.optaplanner.constraint.streams.bavet.BavetConstraintFactory;
 import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.constraint.streams.bavet.common.GroupNodeConstructor;
+import org.optaplanner.constraint.streams.bavet.quad.BavetGroupQuadConstraintStream;
+import org.optaplanner.constraint.streams.bavet.quad.QuadTuple;
+import org.optaplanner.constraint.streams.bavet.tri.BavetGroupTriConstraintStream;
 import org.optaplanner.constraint.streams.bavet.tri.BavetJoinTriConstraintStream;
+import org.optaplanner.constraint.streams.bavet.tri.TriTuple;
 import org.optaplanner.constraint.streams.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.constraint.streams.bavet.uni.BavetGroupUniConstraintStream;
+import org.optaplanner.constraint.streams.bavet.uni.BavetIfExistsBridgeUniConstraintStream;
 import org.optaplanner.constraint.streams.bavet.uni.BavetJoinBridgeUniConstraintStream;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
 import org.optaplanner.constraint.streams.bi.InnerBiConstraintStream;
 import org.optaplanner.constraint.streams.common.RetrievalSemantics;
 import org.optaplanner.constraint.streams.common.ScoreImpactType;
 import org.optaplanner.constraint.streams.tri.DefaultTriJoiner;
+import org.optaplanner.constraint.streams.tri.FilteringTriJoiner;
+import org.optaplanner.core.api.function.TriPredicate;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
@@ -53,6 +63,7 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
         super(constraintFactory, retrievalSemantics);
     }
 
+    @Override
     public List<BavetAbstractBiConstraintStream<Solution_, A, B>> getChildStreamList() {
         return childStreamList;
     }
@@ -119,21 +130,19 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
     @SafeVarargs
     @Override
     public final <C> BiConstraintStream<A, B> ifExists(Class<C> otherClass, TriJoiner<A, B, C>... joiners) {
-        if (getRetrievalSemantics() == RetrievalSemantics.STANDARD) {
-            return ifExists(constraintFactory.forEach(otherClass), joiners);
-        } else {
-            return ifExists(constraintFactory.from(otherClass), joiners);
-        }
+        UniConstraintStream<C> otherStream = getRetrievalSemantics() == RetrievalSemantics.STANDARD
+                ? constraintFactory.forEach(otherClass)
+                : constraintFactory.from(otherClass);
+        return ifExistsOrNot(true, otherStream, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <C> BiConstraintStream<A, B> ifExistsIncludingNullVars(Class<C> otherClass, TriJoiner<A, B, C>... joiners) {
-        if (getRetrievalSemantics() == RetrievalSemantics.STANDARD) {
-            return ifExists(constraintFactory.forEachIncludingNullVars(otherClass), joiners);
-        } else {
-            return ifExists(constraintFactory.fromUnfiltered(otherClass), joiners);
-        }
+        UniConstraintStream<C> otherStream = getRetrievalSemantics() == RetrievalSemantics.STANDARD
+                ? constraintFactory.forEachIncludingNullVars(otherClass)
+                : constraintFactory.fromUnfiltered(otherClass);
+        return ifExistsOrNot(true, otherStream, joiners);
     }
 
     @SafeVarargs
@@ -144,21 +153,19 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
     @SafeVarargs
     @Override
     public final <C> BiConstraintStream<A, B> ifNotExists(Class<C> otherClass, TriJoiner<A, B, C>... joiners) {
-        if (getRetrievalSemantics() == RetrievalSemantics.STANDARD) {
-            return ifNotExists(constraintFactory.forEach(otherClass), joiners);
-        } else {
-            return ifNotExists(constraintFactory.from(otherClass), joiners);
-        }
+        UniConstraintStream<C> otherStream = getRetrievalSemantics() == RetrievalSemantics.STANDARD
+                ? constraintFactory.forEach(otherClass)
+                : constraintFactory.from(otherClass);
+        return ifExistsOrNot(false, otherStream, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <C> BiConstraintStream<A, B> ifNotExistsIncludingNullVars(Class<C> otherClass, TriJoiner<A, B, C>... joiners) {
-        if (getRetrievalSemantics() == RetrievalSemantics.STANDARD) {
-            return ifNotExists(constraintFactory.forEachIncludingNullVars(otherClass), joiners);
-        } else {
-            return ifNotExists(constraintFactory.fromUnfiltered(otherClass), joiners);
-        }
+        UniConstraintStream<C> otherStream = getRetrievalSemantics() == RetrievalSemantics.STANDARD
+                ? constraintFactory.forEachIncludingNullVars(otherClass)
+                : constraintFactory.fromUnfiltered(otherClass);
+        return ifExistsOrNot(false, otherStream, joiners);
     }
 
     @SafeVarargs
@@ -169,8 +176,44 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
     private final <C> BiConstraintStream<A, B> ifExistsOrNot(boolean shouldExist, UniConstraintStream<C> otherStream,
             TriJoiner<A, B, C>[] joiners) {
         BavetAbstractUniConstraintStream<Solution_, C> other = assertBavetUniConstraintStream(otherStream);
-
-        throw new UnsupportedOperationException();
+        int indexOfFirstFilter = -1;
+        // Prepare the indexing joiner and the filter, if any, that will be used by the node.
+        DefaultTriJoiner<A, B, C> indexingJoiner = null;
+        TriPredicate<A, B, C> filtering = null;
+        for (int i = 0; i < joiners.length; i++) {
+            TriJoiner<A, B, C> joiner = joiners[i];
+            boolean hasAFilter = indexOfFirstFilter >= 0;
+            if (joiner instanceof FilteringTriJoiner) {
+                if (!hasAFilter) { // From now on, only allow filtering joiners.
+                    indexOfFirstFilter = i;
+                }
+                // Merge all filters into one to avoid paying the penalty for lack of indexing more than once.
+                FilteringTriJoiner<A, B, C> castJoiner = (FilteringTriJoiner<A, B, C>) joiner;
+                filtering = filtering == null ? castJoiner.getFilter() : filtering.and(castJoiner.getFilter());
+            } else {
+                if (hasAFilter) {
+                    throw new IllegalStateException("Indexing joiner (" + joiner
+                            + ") must not follow a filtering joiner (" + joiners[indexOfFirstFilter] + ").");
+                } else { // Merge this Joiner with the existing Joiners.
+                    DefaultTriJoiner<A, B, C> castJoiner = (DefaultTriJoiner<A, B, C>) joiner;
+                    indexingJoiner = indexingJoiner == null ? castJoiner : indexingJoiner.and(castJoiner);
+                }
+            }
+        }
+        if (indexingJoiner == null) {
+            indexingJoiner = DefaultTriJoiner.merge();
+        }
+        BavetIfExistsBridgeUniConstraintStream<Solution_, C> parentBridgeC =
+                new BavetIfExistsBridgeUniConstraintStream<>(constraintFactory, other);
+        return constraintFactory.share(
+                new BavetIfExistsBiConstraintStream<>(constraintFactory, this, parentBridgeC,
+                        shouldExist, indexingJoiner, filtering),
+                ifExistsStream_ -> {
+                    // Connect the bridge upstream, as it is an actual new ifExists.
+                    childStreamList.add(ifExistsStream_);
+                    other.getChildStreamList().add(parentBridgeC);
+                    parentBridgeC.setIfExistsStream(ifExistsStream_);
+                });
     }
 
     // ************************************************************************
@@ -180,14 +223,21 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<BiTuple<A, B>, UniTuple<Result_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group0Mapping1CollectorBiNode<>(
+                        groupStoreIndex, collector, insert, retract, outputStoreSize);
+        return buildUniGroupBy(nodeConstructor, collector);
     }
 
     @Override
     public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_> BiConstraintStream<ResultA_, ResultB_> groupBy(
             BiConstraintCollector<A, B, ResultContainerA_, ResultA_> collectorA,
             BiConstraintCollector<A, B, ResultContainerB_, ResultB_> collectorB) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<BiTuple<A, B>, BiTuple<ResultA_, ResultB_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group0Mapping2CollectorBiNode<>(
+                        groupStoreIndex, AbstractGroupBiNode.mergeCollectors(collectorA, collectorB), insert, retract,
+                        outputStoreSize);
+        return buildBiGroupBy(nodeConstructor, collectorA, collectorB);
     }
 
     @Override
@@ -196,7 +246,11 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
             groupBy(BiConstraintCollector<A, B, ResultContainerA_, ResultA_> collectorA,
                     BiConstraintCollector<A, B, ResultContainerB_, ResultB_> collectorB,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<BiTuple<A, B>, TriTuple<ResultA_, ResultB_, ResultC_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group0Mapping3CollectorBiNode<>(
+                        groupStoreIndex, AbstractGroupBiNode.mergeCollectors(collectorA, collectorB, collectorC),
+                        insert, retract, outputStoreSize);
+        return buildTriGroupBy(nodeConstructor, collectorA, collectorB, collectorC);
     }
 
     @Override
@@ -206,12 +260,20 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
                     BiConstraintCollector<A, B, ResultContainerB_, ResultB_> collectorB,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC,
                     BiConstraintCollector<A, B, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<BiTuple<A, B>, QuadTuple<ResultA_, ResultB_, ResultC_, ResultD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group0Mapping4CollectorBiNode<>(
+                        groupStoreIndex,
+                        AbstractGroupBiNode.mergeCollectors(collectorA, collectorB, collectorC, collectorD), insert,
+                        retract, outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor, collectorA, collectorB, collectorC, collectorD);
     }
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(BiFunction<A, B, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<BiTuple<A, B>, UniTuple<GroupKey_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group1Mapping0CollectorBiNode<>(
+                        groupKeyMapping, groupStoreIndex, insert, retract, outputStoreSize);
+        return buildUniGroupBy(nodeConstructor, groupKeyMapping);
     }
 
     @Override
@@ -219,7 +281,11 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
             TriConstraintStream<GroupKey_, ResultB_, ResultC_> groupBy(BiFunction<A, B, GroupKey_> groupKeyMapping,
                     BiConstraintCollector<A, B, ResultContainerB_, ResultB_> collectorB,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<BiTuple<A, B>, TriTuple<GroupKey_, ResultB_, ResultC_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group1Mapping2CollectorBiNode<>(
+                        groupKeyMapping, groupStoreIndex, AbstractGroupBiNode.mergeCollectors(collectorB, collectorC),
+                        insert, retract, outputStoreSize);
+        return buildTriGroupBy(nodeConstructor, groupKeyMapping, collectorB, collectorC);
     }
 
     @Override
@@ -228,32 +294,42 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
                     BiConstraintCollector<A, B, ResultContainerB_, ResultB_> collectorB,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC,
                     BiConstraintCollector<A, B, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<BiTuple<A, B>, QuadTuple<GroupKey_, ResultB_, ResultC_, ResultD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group1Mapping3CollectorBiNode<>(
+                        groupKeyMapping, groupStoreIndex,
+                        AbstractGroupBiNode.mergeCollectors(collectorB, collectorC, collectorD), insert, retract,
+                        outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor, groupKeyMapping, collectorB, collectorC, collectorD);
     }
 
     @Override
     public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
             BiFunction<A, B, GroupKey_> groupKeyMapping,
             BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
-        BavetGroupBridgeBiConstraintStream<Solution_, A, B, GroupKey_, ResultContainer_, Result_> bridge =
-                shareAndAddChild(
-                        new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this, groupKeyMapping, collector));
-        return constraintFactory.share(
-                new BavetGroupBiConstraintStream<>(constraintFactory, bridge),
-                bridge::setGroupStream);
+        GroupNodeConstructor<BiTuple<A, B>, BiTuple<GroupKey_, Result_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group1Mapping1CollectorBiNode<>(
+                        groupKeyMapping, groupStoreIndex, collector, insert, retract, outputStoreSize);
+        return buildBiGroupBy(nodeConstructor, groupKeyMapping, collector);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
             BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<BiTuple<A, B>, BiTuple<GroupKeyA_, GroupKeyB_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group2Mapping0CollectorBiNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupStoreIndex, insert, retract, outputStoreSize);
+        return buildBiGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
             BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping,
             BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<BiTuple<A, B>, TriTuple<GroupKeyA_, GroupKeyB_, Result_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group2Mapping1CollectorBiNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupStoreIndex, collector, insert, retract,
+                        outputStoreSize);
+        return buildTriGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping, collector);
     }
 
     @Override
@@ -262,14 +338,22 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
                     BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC,
                     BiConstraintCollector<A, B, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<BiTuple<A, B>, QuadTuple<GroupKeyA_, GroupKeyB_, ResultC_, ResultD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group2Mapping2CollectorBiNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupStoreIndex,
+                        AbstractGroupBiNode.mergeCollectors(collectorC, collectorD), insert, retract, outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping, collectorC, collectorD);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, GroupKeyC_> TriConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_> groupBy(
             BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping,
             BiFunction<A, B, GroupKeyC_> groupKeyCMapping) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<BiTuple<A, B>, TriTuple<GroupKeyA_, GroupKeyB_, GroupKeyC_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group3Mapping0CollectorBiNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, groupStoreIndex, insert, retract,
+                        outputStoreSize);
+        return buildTriGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping, groupKeyCMapping);
     }
 
     @Override
@@ -278,14 +362,65 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
             groupBy(BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping,
                     BiFunction<A, B, GroupKeyC_> groupKeyCMapping,
                     BiConstraintCollector<A, B, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<BiTuple<A, B>, QuadTuple<GroupKeyA_, GroupKeyB_, GroupKeyC_, ResultD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group3Mapping1CollectorBiNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, groupStoreIndex, collectorD, insert,
+                        retract, outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, collectorD);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_> QuadConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_>
             groupBy(BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping,
                     BiFunction<A, B, GroupKeyC_> groupKeyCMapping, BiFunction<A, B, GroupKeyD_> groupKeyDMapping) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<BiTuple<A, B>, QuadTuple<GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group4Mapping0CollectorBiNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, groupKeyDMapping, groupStoreIndex,
+                        insert, retract, outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor,
+                groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, groupKeyDMapping);
+    }
+
+    private <NewA> UniConstraintStream<NewA> buildUniGroupBy(
+            GroupNodeConstructor<BiTuple<A, B>, UniTuple<NewA>> nodeConstructor, Object... groupByArguments) {
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, UniTuple<NewA>> bridge =
+                shareAndAddChild(new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this,
+                        nodeConstructor, groupByArguments));
+        return constraintFactory.share(
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge),
+                bridge::setGroupStream);
+    }
+
+    private <NewA, NewB> BiConstraintStream<NewA, NewB> buildBiGroupBy(
+            GroupNodeConstructor<BiTuple<A, B>, BiTuple<NewA, NewB>> nodeConstructor, Object... groupByArguments) {
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, BiTuple<NewA, NewB>> bridge =
+                shareAndAddChild(new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this,
+                        nodeConstructor, groupByArguments));
+        return constraintFactory.share(
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge),
+                bridge::setGroupStream);
+    }
+
+    private <NewA, NewB, NewC> TriConstraintStream<NewA, NewB, NewC> buildTriGroupBy(
+            GroupNodeConstructor<BiTuple<A, B>, TriTuple<NewA, NewB, NewC>> nodeConstructor,
+            Object... groupByArguments) {
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, TriTuple<NewA, NewB, NewC>> bridge =
+                shareAndAddChild(new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this,
+                        nodeConstructor, groupByArguments));
+        return constraintFactory.share(
+                new BavetGroupTriConstraintStream<>(constraintFactory, bridge),
+                bridge::setGroupStream);
+    }
+
+    private <NewA, NewB, NewC, NewD> QuadConstraintStream<NewA, NewB, NewC, NewD> buildQuadGroupBy(
+            GroupNodeConstructor<BiTuple<A, B>, QuadTuple<NewA, NewB, NewC, NewD>> nodeConstructor,
+            Object... groupByArguments) {
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, QuadTuple<NewA, NewB, NewC, NewD>> bridge =
+                shareAndAddChild(new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this,
+                        nodeConstructor, groupByArguments));
+        return constraintFactory.share(
+                new BavetGroupQuadConstraintStream<>(constraintFactory, bridge),
+                bridge::setGroupStream);
     }
 
     // ************************************************************************
@@ -16,6 +16,7 @@
 
 package org.optaplanner.constraint.streams.bavet.bi;
 
+import java.util.Objects;
 import java.util.Set;
 
 import org.optaplanner.constraint.streams.bavet.BavetConstraintFactory;
@@ -64,7 +65,23 @@ public final class BavetGroupBiConstraintStream<Solution_, A, B>
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BavetGroupBiConstraintStream<?, ?, ?> that = (BavetGroupBiConstraintStream<?, ?, ?>) o;
+        // The groupBy bridge is shared, so it is the same instance for the same groupBy
+        return parent == that.parent;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(parent);
+    }
 
     @Override
     public String toString() {
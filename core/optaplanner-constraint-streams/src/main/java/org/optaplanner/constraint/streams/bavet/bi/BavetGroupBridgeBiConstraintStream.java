@@ -16,32 +16,39 @@
 
 package org.optaplanner.constraint.streams.bavet.bi;
 
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.Set;
-import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 import org.optaplanner.constraint.streams.bavet.BavetConstraintFactory;
+import org.optaplanner.constraint.streams.bavet.common.AbstractGroupNode;
 import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.constraint.streams.bavet.common.GroupNodeConstructor;
 import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
+import org.optaplanner.constraint.streams.bavet.common.Tuple;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.ConstraintStream;
-import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
 
-public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B, NewA, ResultContainer_, NewB>
+public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B, NewTuple_ extends Tuple>
         extends BavetAbstractBiConstraintStream<Solution_, A, B> {
 
     private final BavetAbstractBiConstraintStream<Solution_, A, B> parent;
-    private final BiFunction<A, B, NewA> groupKeyMapping;
-    private final BiConstraintCollector<A, B, ResultContainer_, NewB> collector;
-    private BavetGroupBiConstraintStream<Solution_, NewA, NewB> groupStream;
+    private final GroupNodeConstructor<BiTuple<A, B>, NewTuple_> nodeConstructor;
+    /**
+     * The group key mappings and collectors that the node is built from, used for node sharing.
+     */
+    private final Object[] groupByArguments;
+    private BavetAbstractConstraintStream<Solution_> groupStream;
 
     public BavetGroupBridgeBiConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
-            BavetAbstractBiConstraintStream<Solution_, A, B> parent, BiFunction<A, B, NewA> groupKeyMapping,
-            BiConstraintCollector<A, B, ResultContainer_, NewB> collector) {
+            BavetAbstractBiConstraintStream<Solution_, A, B> parent,
+            GroupNodeConstructor<BiTuple<A, B>, NewTuple_> nodeConstructor,
+            Object[] groupByArguments) {
         super(constraintFactory, parent.getRetrievalSemantics());
         this.parent = parent;
-        this.groupKeyMapping = groupKeyMapping;
-        this.collector = collector;
+        this.nodeConstructor = nodeConstructor;
+        this.groupByArguments = groupByArguments;
     }
 
     @Override
@@ -49,7 +56,7 @@ public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B, NewA, Res
         return parent.guaranteesDistinct();
     }
 
-    public void setGroupStream(BavetGroupBiConstraintStream<Solution_, NewA, NewB> groupStream) {
+    public void setGroupStream(BavetAbstractConstraintStream<Solution_> groupStream) {
         this.groupStream = groupStream;
     }
 
@@ -75,14 +82,44 @@ public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B, NewA, Res
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's a groupBy bridge.");
         }
         int inputStoreIndex = buildHelper.reserveTupleStoreIndex(parent.getTupleSource());
-        Consumer<BiTuple<NewA, NewB>> insert = buildHelper.getAggregatedInsert(groupStream.getChildStreamList());
-        Consumer<BiTuple<NewA, NewB>> retract = buildHelper.getAggregatedRetract(groupStream.getChildStreamList());
+        Consumer<NewTuple_> insert = buildHelper.getAggregatedInsert(groupStream.getChildStreamList());
+        Consumer<NewTuple_> retract = buildHelper.getAggregatedRetract(groupStream.getChildStreamList());
         int outputStoreSize = buildHelper.extractTupleStoreSize(groupStream);
-        GroupBiToBiNode<A, B, NewA, NewB, ResultContainer_> node = new GroupBiToBiNode<>(
-                groupKeyMapping, inputStoreIndex, collector,
+        AbstractGroupNode<BiTuple<A, B>, NewTuple_, ?, ?, ?> node = nodeConstructor.apply(inputStoreIndex,
                 insert, retract, outputStoreSize);
         buildHelper.addNode(node);
-        buildHelper.putInsertRetract(this, node::insertAB, node::retractAB);
+        buildHelper.putInsertRetract(this, node::insert, node::retract);
     }
 
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BavetGroupBridgeBiConstraintStream<?, ?, ?, ?> that = (BavetGroupBridgeBiConstraintStream<?, ?, ?, ?>) o;
+        return Objects.equals(parent, that.parent)
+                && Arrays.equals(groupByArguments, that.groupByArguments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parent, Arrays.hashCode(groupByArguments));
+    }
+
+    @Override
+    public String toString() {
+        return "GroupBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
 }
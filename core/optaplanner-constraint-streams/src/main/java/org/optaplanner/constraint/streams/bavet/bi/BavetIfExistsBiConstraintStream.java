@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.bi;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.optaplanner.constraint.streams.bavet.BavetConstraintFactory;
+import org.optaplanner.constraint.streams.bavet.common.AbstractIfExistsNode.Counter;
+import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.constraint.streams.bavet.common.BavetIfExistsConstraintStream;
+import org.optaplanner.constraint.streams.bavet.common.JoinerUtils;
+import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
+import org.optaplanner.constraint.streams.bavet.common.index.Indexer;
+import org.optaplanner.constraint.streams.bavet.common.index.IndexerFactory;
+import org.optaplanner.constraint.streams.bavet.uni.BavetIfExistsBridgeUniConstraintStream;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.constraint.streams.tri.DefaultTriJoiner;
+import org.optaplanner.core.api.function.TriPredicate;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.ConstraintStream;
+
+public final class BavetIfExistsBiConstraintStream<Solution_, A, B, C>
+        extends BavetAbstractBiConstraintStream<Solution_, A, B>
+        implements BavetIfExistsConstraintStream<Solution_> {
+
+    private final BavetAbstractBiConstraintStream<Solution_, A, B> parentAB;
+    private final BavetIfExistsBridgeUniConstraintStream<Solution_, C> parentBridgeC;
+
+    private final boolean shouldExist;
+    private final DefaultTriJoiner<A, B, C> joiner;
+    /**
+     * Null if there are no filtering joiners.
+     */
+    private final TriPredicate<A, B, C> filtering;
+
+    public BavetIfExistsBiConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractBiConstraintStream<Solution_, A, B> parentAB,
+            BavetIfExistsBridgeUniConstraintStream<Solution_, C> parentBridgeC,
+            boolean shouldExist,
+            DefaultTriJoiner<A, B, C> joiner, TriPredicate<A, B, C> filtering) {
+        super(constraintFactory, parentAB.getRetrievalSemantics());
+        this.parentAB = parentAB;
+        this.parentBridgeC = parentBridgeC;
+        this.shouldExist = shouldExist;
+        this.joiner = joiner;
+        this.filtering = filtering;
+    }
+
+    @Override
+    public boolean guaranteesDistinct() {
+        return parentAB.guaranteesDistinct();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    public void collectActiveConstraintStreams(Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet) {
+        parentAB.collectActiveConstraintStreams(constraintStreamSet);
+        parentBridgeC.collectActiveConstraintStreams(constraintStreamSet);
+        constraintStreamSet.add(this);
+    }
+
+    @Override
+    public ConstraintStream getTupleSource() {
+        return parentAB.getTupleSource();
+    }
+
+    @Override
+    public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
+        int inputStoreIndexAB = buildHelper.reserveTupleStoreIndex(parentAB.getTupleSource());
+        int inputStoreIndexC = buildHelper.reserveTupleStoreIndex(parentBridgeC.getTupleSource());
+        Consumer<BiTuple<A, B>> insert = buildHelper.getAggregatedInsert(childStreamList);
+        Consumer<BiTuple<A, B>> retract = buildHelper.getAggregatedRetract(childStreamList);
+        IndexerFactory indexerFactory = new IndexerFactory(joiner);
+        Indexer<BiTuple<A, B>, Counter<BiTuple<A, B>>> indexerAB = indexerFactory.buildIndexer(true);
+        Indexer<UniTuple<C>, Set<Counter<BiTuple<A, B>>>> indexerC = indexerFactory.buildIndexer(false);
+        IfExistsBiWithUniNode<A, B, C> node = new IfExistsBiWithUniNode<>(shouldExist,
+                JoinerUtils.combineLeftMappings(joiner), JoinerUtils.combineRightMappings(joiner),
+                inputStoreIndexAB, inputStoreIndexC, insert, retract,
+                indexerAB, indexerC, filtering);
+        buildHelper.addNode(node);
+        buildHelper.putInsertRetract(this, node::insertLeft, node::retractLeft);
+        buildHelper.putInsertRetract(parentBridgeC, node::insertRight, node::retractRight);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BavetIfExistsBiConstraintStream<?, ?, ?, ?> that = (BavetIfExistsBiConstraintStream<?, ?, ?, ?>) o;
+        /*
+         * Bridge streams do not implement equality because their equals() would have to point back to this stream,
+         * resulting in StackOverflowError.
+         * Therefore we need to check bridge parents to see where this ifExists node comes from.
+         */
+        return shouldExist == that.shouldExist
+                && Objects.equals(parentAB, that.parentAB)
+                && Objects.equals(parentBridgeC.getParent(), that.parentBridgeC.getParent())
+                && Objects.equals(joiner, that.joiner)
+                && Objects.equals(filtering, that.filtering);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parentAB, parentBridgeC.getParent(), shouldExist, joiner, filtering);
+    }
+
+    @Override
+    public String toString() {
+        return "IfExists() with " + childStreamList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -30,7 +30,6 @@ import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintSt
 import org.optaplanner.constraint.streams.bavet.common.BavetScoringConstraintStream;
 import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
 import org.optaplanner.constraint.streams.common.inliner.AbstractScoreInliner;
-import org.optaplanner.constraint.streams.common.inliner.UndoScoreImpacter;
 import org.optaplanner.constraint.streams.common.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.ConstraintStream;
@@ -121,19 +120,37 @@ public final class BavetScoringBiConstraintStream<Solution_, A, B>
         Score_ constraintWeight = buildHelper.getConstraintWeight(constraint);
         AbstractScoreInliner<Score_> scoreInliner = buildHelper.getScoreInliner();
         WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraint, constraintWeight);
-        BiFunction<A, B, UndoScoreImpacter> scoreImpacter;
+        BiFunction<A, B, Object> scoreImpacter;
         if (intMatchWeigher != null) {
-            scoreImpacter = (a, b) -> {
-                int matchWeight = intMatchWeigher.applyAsInt(a, b);
-                constraint.assertCorrectImpact(matchWeight);
-                return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b));
-            };
+            if (weightedScoreImpacter.isUndoFree()) {
+                scoreImpacter = (a, b) -> {
+                    int matchWeight = intMatchWeigher.applyAsInt(a, b);
+                    constraint.assertCorrectImpact(matchWeight);
+                    weightedScoreImpacter.impactScore(matchWeight);
+                    return matchWeight;
+                };
+            } else {
+                scoreImpacter = (a, b) -> {
+                    int matchWeight = intMatchWeigher.applyAsInt(a, b);
+                    constraint.assertCorrectImpact(matchWeight);
+                    return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b));
+                };
+            }
         } else if (longMatchWeigher != null) {
-            scoreImpacter = (a, b) -> {
-                long matchWeight = longMatchWeigher.applyAsLong(a, b);
-                constraint.assertCorrectImpact(matchWeight);
-                return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b));
-            };
+            if (weightedScoreImpacter.isUndoFree()) {
+                scoreImpacter = (a, b) -> {
+                    long matchWeight = longMatchWeigher.applyAsLong(a, b);
+                    constraint.assertCorrectImpact(matchWeight);
+                    weightedScoreImpacter.impactScore(matchWeight);
+                    return matchWeight;
+                };
+            } else {
+                scoreImpacter = (a, b) -> {
+                    long matchWeight = longMatchWeigher.applyAsLong(a, b);
+                    constraint.assertCorrectImpact(matchWeight);
+                    return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b));
+                };
+            }
         } else if (bigDecimalMatchWeigher != null) {
             scoreImpacter = (a, b) -> {
                 BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a, b);
@@ -141,12 +158,20 @@ public final class BavetScoringBiConstraintStream<Solution_, A, B>
                 return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b));
             };
         } else if (noMatchWeigher) {
-            scoreImpacter = (a, b) -> weightedScoreImpacter.impactScore(1, () -> asList(a, b));
+            if (weightedScoreImpacter.isUndoFree()) {
+                scoreImpacter = (a, b) -> {
+                    weightedScoreImpacter.impactScore(1);
+                    return 1;
+                };
+            } else {
+                scoreImpacter = (a, b) -> weightedScoreImpacter.impactScore(1, () -> asList(a, b));
+            }
         } else {
             throw new IllegalStateException("Impossible state: neither of the supported match weighers provided.");
         }
         BiScorer<A, B> scorer = new BiScorer<>(constraint.getConstraintPackage(), constraint.getConstraintName(),
-                constraintWeight, scoreImpacter, buildHelper.reserveTupleStoreIndex(parent.getTupleSource()));
+                constraintWeight, weightedScoreImpacter, scoreImpacter,
+                buildHelper.reserveTupleStoreIndex(parent.getTupleSource()));
         buildHelper.putInsertRetract(this, scorer::insert, scorer::retract);
     }
 
@@ -19,7 +19,7 @@ package org.optaplanner.constraint.streams.bavet.bi;
 import java.util.function.BiFunction;
 
 import org.optaplanner.constraint.streams.bavet.common.AbstractScorer;
-import org.optaplanner.constraint.streams.common.inliner.UndoScoreImpacter;
+import org.optaplanner.constraint.streams.common.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.api.score.Score;
 
 public final class BiScorer<A, B> extends AbstractScorer {
@@ -27,12 +27,14 @@ public final class BiScorer<A, B> extends AbstractScorer {
     private final String constraintPackage;
     private final String constraintName;
     private final Score<?> constraintWeight;
-    private final BiFunction<A, B, UndoScoreImpacter> scoreImpacter;
+    private final BiFunction<A, B, Object> scoreImpacter;
     private final int inputStoreIndex;
 
     public BiScorer(String constraintPackage, String constraintName,
-            Score<?> constraintWeight, BiFunction<A, B, UndoScoreImpacter> scoreImpacter,
+            Score<?> constraintWeight, WeightedScoreImpacter weightedScoreImpacter,
+            BiFunction<A, B, Object> scoreImpacter,
             int inputStoreIndex) {
+        super(weightedScoreImpacter);
         this.constraintPackage = constraintPackage;
         this.constraintName = constraintName;
         this.constraintWeight = constraintWeight;
@@ -46,15 +48,15 @@ public final class BiScorer<A, B> extends AbstractScorer {
                     + tupleAB.factA + ", " + tupleAB.factB
                     + ") was already added in the tupleStore.");
         }
-        UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(tupleAB.factA, tupleAB.factB);
-        tupleAB.store[inputStoreIndex] = undoScoreImpacter;
+        Object impact = scoreImpacter.apply(tupleAB.factA, tupleAB.factB);
+        tupleAB.store[inputStoreIndex] = impact;
     }
 
     public void retract(BiTuple<A, B> tupleAB) {
-        UndoScoreImpacter undoScoreImpacter = (UndoScoreImpacter) tupleAB.store[inputStoreIndex];
+        Object impact = tupleAB.store[inputStoreIndex];
         // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
-        if (undoScoreImpacter != null) {
-            undoScoreImpacter.run();
+        if (impact != null) {
+            undoScoreImpact(impact);
             tupleAB.store[inputStoreIndex] = null;
         }
     }
@@ -34,6 +34,21 @@ public final class BiTuple<A, B> implements Tuple {
         store = (storeSize <= 0) ? null : new Object[storeSize];
     }
 
+    @Override
+    public Object[] getStore() {
+        return store;
+    }
+
+    @Override
+    public BavetTupleState getState() {
+        return state;
+    }
+
+    @Override
+    public void setState(BavetTupleState state) {
+        this.state = state;
+    }
+
     @Override
     public String toString() {
         return "BiTuple(" + factA + ", " + factB + ")";
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.bi;
+
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.impl.util.Pair;
+
+public final class Group0Mapping2CollectorBiNode<OldA, OldB, A, B, ResultContainer_>
+        extends AbstractGroupBiNode<OldA, OldB, BiTuple<A, B>, Void, ResultContainer_, Pair<A, B>> {
+
+    private final int outputStoreSize;
+
+    public Group0Mapping2CollectorBiNode(int groupStoreIndex,
+            BiConstraintCollector<OldA, OldB, ResultContainer_, Pair<A, B>> collector,
+            Consumer<BiTuple<A, B>> nextNodesInsert, Consumer<BiTuple<A, B>> nextNodesRetract, int outputStoreSize) {
+        super(groupStoreIndex, collector, nextNodesInsert, nextNodesRetract);
+        this.outputStoreSize = outputStoreSize;
+    }
+
+    @Override
+    protected Void createGroupKey(BiTuple<OldA, OldB> tuple) {
+        return null;
+    }
+
+    @Override
+    protected BiTuple<A, B> createOutTuple(Void groupKey, Pair<A, B> result) {
+        return new BiTuple<>(result.getKey(), result.getValue(), outputStoreSize);
+    }
+
+}
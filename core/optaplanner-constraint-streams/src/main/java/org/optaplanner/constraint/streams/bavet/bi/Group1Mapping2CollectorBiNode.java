@@ -0,0 +1,51 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.bi;
+
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import org.optaplanner.constraint.streams.bavet.tri.TriTuple;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.impl.util.Pair;
+
+public final class Group1Mapping2CollectorBiNode<OldA, OldB, A, B, C, ResultContainer_>
+        extends AbstractGroupBiNode<OldA, OldB, TriTuple<A, B, C>, A, ResultContainer_, Pair<B, C>> {
+
+    private final BiFunction<OldA, OldB, A> groupKeyMapping;
+    private final int outputStoreSize;
+
+    public Group1Mapping2CollectorBiNode(BiFunction<OldA, OldB, A> groupKeyMapping, int groupStoreIndex,
+            BiConstraintCollector<OldA, OldB, ResultContainer_, Pair<B, C>> collector,
+            Consumer<TriTuple<A, B, C>> nextNodesInsert, Consumer<TriTuple<A, B, C>> nextNodesRetract,
+            int outputStoreSize) {
+        super(groupStoreIndex, collector, nextNodesInsert, nextNodesRetract);
+        this.groupKeyMapping = groupKeyMapping;
+        this.outputStoreSize = outputStoreSize;
+    }
+
+    @Override
+    protected A createGroupKey(BiTuple<OldA, OldB> tuple) {
+        return groupKeyMapping.apply(tuple.factA, tuple.factB);
+    }
+
+    @Override
+    protected TriTuple<A, B, C> createOutTuple(A groupKey, Pair<B, C> result) {
+        return new TriTuple<>(groupKey, result.getKey(), result.getValue(), outputStoreSize);
+    }
+
+}
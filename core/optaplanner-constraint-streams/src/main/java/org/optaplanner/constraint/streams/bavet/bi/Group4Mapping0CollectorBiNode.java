@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.bi;
+
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import org.optaplanner.constraint.streams.bavet.quad.QuadTuple;
+import org.optaplanner.core.impl.util.Quadruple;
+
+public final class Group4Mapping0CollectorBiNode<OldA, OldB, A, B, C, D>
+        extends AbstractGroupBiNode<OldA, OldB, QuadTuple<A, B, C, D>, Quadruple<A, B, C, D>, Void, Void> {
+
+    private final BiFunction<OldA, OldB, A> groupKeyAMapping;
+    private final BiFunction<OldA, OldB, B> groupKeyBMapping;
+    private final BiFunction<OldA, OldB, C> groupKeyCMapping;
+    private final BiFunction<OldA, OldB, D> groupKeyDMapping;
+    private final int outputStoreSize;
+
+    public Group4Mapping0CollectorBiNode(BiFunction<OldA, OldB, A> groupKeyAMapping,
+            BiFunction<OldA, OldB, B> groupKeyBMapping, BiFunction<OldA, OldB, C> groupKeyCMapping,
+            BiFunction<OldA, OldB, D> groupKeyDMapping, int groupStoreIndex,
+            Consumer<QuadTuple<A, B, C, D>> nextNodesInsert, Consumer<QuadTuple<A, B, C, D>> nextNodesRetract,
+            int outputStoreSize) {
+        super(groupStoreIndex, null, nextNodesInsert, nextNodesRetract);
+        this.groupKeyAMapping = groupKeyAMapping;
+        this.groupKeyBMapping = groupKeyBMapping;
+        this.groupKeyCMapping = groupKeyCMapping;
+        this.groupKeyDMapping = groupKeyDMapping;
+        this.outputStoreSize = outputStoreSize;
+    }
+
+    @Override
+    protected Quadruple<A, B, C, D> createGroupKey(BiTuple<OldA, OldB> tuple) {
+        OldA oldA = tuple.factA;
+        OldB oldB = tuple.factB;
+        A a = groupKeyAMapping.apply(oldA, oldB);
+        B b = groupKeyBMapping.apply(oldA, oldB);
+        C c = groupKeyCMapping.apply(oldA, oldB);
+        D d = groupKeyDMapping.apply(oldA, oldB);
+        return Quadruple.of(a, b, c, d);
+    }
+
+    @Override
+    protected QuadTuple<A, B, C, D> createOutTuple(Quadruple<A, B, C, D> groupKey, Void result) {
+        return new QuadTuple<>(groupKey.getA(), groupKey.getB(), groupKey.getC(), groupKey.getD(), outputStoreSize);
+    }
+
+}
@@ -83,6 +83,7 @@ public final class JoinBiNode<A, B> extends AbstractNode {
             tupleABSetA.add(tupleAB);
             tupleABSetB.add(tupleAB);
             dirtyTupleQueue.add(tupleAB);
+            markNodeDirty();
         });
     }
 
@@ -127,6 +128,7 @@ public final class JoinBiNode<A, B> extends AbstractNode {
             tupleABSetB.add(tupleAB);
             tupleABSetA.add(tupleAB);
             dirtyTupleQueue.add(tupleAB);
+            markNodeDirty();
         });
     }
 
@@ -177,6 +179,7 @@ public final class JoinBiNode<A, B> extends AbstractNode {
         } else {
             tupleAB.state = BavetTupleState.DYING;
             dirtyTupleQueue.add(tupleAB);
+            markNodeDirty();
         }
     }
 
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Groups the input tuples by a group key and propagates one output tuple per group.
+ * <p>
+ * A node without collectors only propagates when a group appears or disappears.
+ * A node with collectors also repropagates every group whose result container changed,
+ * but only once per {@link #calculateScore()}, no matter how many input tuples changed in that group.
+ *
+ * @param <InTuple_> the input tuple type
+ * @param <OutTuple_> the output tuple type
+ * @param <GroupKey_> null if the node has no group key mappings, a {@link org.optaplanner.core.impl.util.Pair}, etc
+ *        if it has more than 1
+ * @param <ResultContainer_> {@link Void} if the node has no collectors
+ * @param <Result_> {@link Void} if the node has no collectors
+ */
+public abstract class AbstractGroupNode<InTuple_ extends Tuple, OutTuple_ extends Tuple,
+        GroupKey_, ResultContainer_, Result_>
+        extends AbstractNode {
+
+    private final int groupStoreIndex;
+    /**
+     * Null if the node has no collectors.
+     */
+    private final Supplier<ResultContainer_> supplier;
+    /**
+     * Null if the node has no collectors.
+     */
+    private final Function<ResultContainer_, Result_> finisher;
+    private final Consumer<OutTuple_> nextNodesInsert;
+    private final Consumer<OutTuple_> nextNodesRetract;
+
+    private final Map<GroupKey_, Group<OutTuple_, GroupKey_, ResultContainer_>> groupMap;
+    private final Queue<Group<OutTuple_, GroupKey_, ResultContainer_>> dirtyGroupQueue;
+
+    protected AbstractGroupNode(int groupStoreIndex, Supplier<ResultContainer_> supplier,
+            Function<ResultContainer_, Result_> finisher,
+            Consumer<OutTuple_> nextNodesInsert, Consumer<OutTuple_> nextNodesRetract) {
+        this.groupStoreIndex = groupStoreIndex;
+        this.supplier = supplier;
+        this.finisher = finisher;
+        this.nextNodesInsert = nextNodesInsert;
+        this.nextNodesRetract = nextNodesRetract;
+        groupMap = new HashMap<>(1000);
+        dirtyGroupQueue = new ArrayDeque<>(1000);
+    }
+
+    private static final class Group<OutTuple_ extends Tuple, GroupKey_, ResultContainer_> {
+        final GroupKey_ groupKey;
+        final ResultContainer_ resultContainer;
+        int parentCount = 0;
+        boolean dirty = false;
+        boolean dying = false;
+        OutTuple_ tuple = null;
+
+        public Group(GroupKey_ groupKey, ResultContainer_ resultContainer) {
+            this.groupKey = groupKey;
+            this.resultContainer = resultContainer;
+        }
+    }
+
+    private static final class GroupPart<Group_> {
+        final Group_ group;
+        /**
+         * Null if the node has no collectors.
+         */
+        final Runnable undoAccumulator;
+
+        public GroupPart(Group_ group, Runnable undoAccumulator) {
+            this.group = group;
+            this.undoAccumulator = undoAccumulator;
+        }
+    }
+
+    public void insert(InTuple_ tuple) {
+        Object[] store = tuple.getStore();
+        if (store[groupStoreIndex] != null) {
+            throw new IllegalStateException("Impossible state: the input for the tuple (" + tuple
+                    + ") was already added in the tupleStore.");
+        }
+        GroupKey_ groupKey = createGroupKey(tuple);
+        Group<OutTuple_, GroupKey_, ResultContainer_> group = groupMap.computeIfAbsent(groupKey,
+                k -> new Group<>(k, supplier == null ? null : supplier.get()));
+        group.parentCount++;
+        Runnable undoAccumulator = null;
+        if (supplier != null) {
+            undoAccumulator = accumulate(group.resultContainer, tuple);
+            markDirty(group);
+        } else if (group.parentCount == 1) {
+            // Without collectors, only the first parent can change the output
+            markDirty(group);
+        }
+        store[groupStoreIndex] = new GroupPart<>(group, undoAccumulator);
+    }
+
+    public void retract(InTuple_ tuple) {
+        Object[] store = tuple.getStore();
+        GroupPart<Group<OutTuple_, GroupKey_, ResultContainer_>> groupPart =
+                (GroupPart<Group<OutTuple_, GroupKey_, ResultContainer_>>) store[groupStoreIndex];
+        if (groupPart == null) {
+            // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
+            return;
+        }
+        store[groupStoreIndex] = null;
+        Group<OutTuple_, GroupKey_, ResultContainer_> group = groupPart.group;
+        group.parentCount--;
+        if (groupPart.undoAccumulator != null) {
+            groupPart.undoAccumulator.run();
+        }
+        if (group.parentCount == 0) {
+            Group<OutTuple_, GroupKey_, ResultContainer_> old = groupMap.remove(group.groupKey);
+            if (old == null) {
+                throw new IllegalStateException("Impossible state: the group for the groupKey ("
+                        + group.groupKey + ") doesn't exist in the groupMap.");
+            }
+            group.dying = true;
+            markDirty(group);
+        } else if (supplier != null) {
+            markDirty(group);
+        }
+    }
+
+    private void markDirty(Group<OutTuple_, GroupKey_, ResultContainer_> group) {
+        if (!group.dirty) {
+            group.dirty = true;
+            dirtyGroupQueue.add(group);
+            markNodeDirty();
+        }
+    }
+
+    protected abstract GroupKey_ createGroupKey(InTuple_ tuple);
+
+    /**
+     * Only called if the node has collectors.
+     *
+     * @param resultContainer never null
+     * @param tuple never null
+     * @return never null, undoes the accumulation
+     */
+    protected abstract Runnable accumulate(ResultContainer_ resultContainer, InTuple_ tuple);
+
+    /**
+     * @param groupKey as returned by {@link #createGroupKey(Tuple)}
+     * @param result null if the node has no collectors
+     * @return never null
+     */
+    protected abstract OutTuple_ createOutTuple(GroupKey_ groupKey, Result_ result);
+
+    @Override
+    public void calculateScore() {
+        for (Group<OutTuple_, GroupKey_, ResultContainer_> group : dirtyGroupQueue) {
+            group.dirty = false;
+            OutTuple_ tuple = group.tuple;
+            if (tuple != null) {
+                if (!group.dying && supplier == null) {
+                    // Without collectors, a surviving group doesn't need to be repropagated
+                    continue;
+                }
+                if (tuple.getState() != BavetTupleState.OK) {
+                    throw new IllegalStateException("Impossible state: The tuple (" + tuple + ") in node (" +
+                            this + ") is in the state (" + tuple.getState() + ").");
+                }
+                tuple.setState(BavetTupleState.DYING);
+                nextNodesRetract.accept(tuple);
+                tuple.setState(BavetTupleState.DEAD);
+                group.tuple = null;
+            }
+            if (!group.dying) {
+                // Delay calculating the result until it propagates
+                Result_ result = (finisher == null) ? null : finisher.apply(group.resultContainer);
+                tuple = createOutTuple(group.groupKey, result);
+                group.tuple = tuple;
+                nextNodesInsert.accept(tuple);
+                tuple.setState(BavetTupleState.OK);
+            }
+        }
+        dirtyGroupQueue.clear();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+
+}
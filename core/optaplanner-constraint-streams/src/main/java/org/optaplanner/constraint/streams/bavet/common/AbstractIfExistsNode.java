@@ -0,0 +1,260 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.optaplanner.constraint.streams.bavet.common.index.Indexer;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+
+/**
+ * Propagates a left tuple if at least one (ifExists) or no (ifNotExists) right tuple matches it.
+ * <p>
+ * Each left tuple has a {@link Counter} with the number of matching right tuples,
+ * and each right tuple remembers the counters it contributes to,
+ * so an insert or retract only visits the tuples of the other side with the same index properties.
+ *
+ * @param <LeftTuple_> the tuple type of the left side
+ * @param <Right_> the fact type of the right side
+ */
+public abstract class AbstractIfExistsNode<LeftTuple_ extends Tuple, Right_> extends AbstractNode {
+
+    private final boolean shouldExist;
+    private final Function<Right_, Object[]> mappingRight;
+    private final int inputStoreIndexLeft;
+    private final int inputStoreIndexRight;
+    private final Consumer<LeftTuple_> nextNodesInsert;
+    private final Consumer<LeftTuple_> nextNodesRetract;
+    // No outputStoreSize because this node is not a tuple source, even though it has a dirtyCounterQueue.
+
+    private final Indexer<LeftTuple_, Counter<LeftTuple_>> indexerLeft;
+    private final Indexer<UniTuple<Right_>, Set<Counter<LeftTuple_>>> indexerRight;
+    private final Queue<Counter<LeftTuple_>> dirtyCounterQueue;
+
+    protected AbstractIfExistsNode(boolean shouldExist, Function<Right_, Object[]> mappingRight,
+            int inputStoreIndexLeft, int inputStoreIndexRight,
+            Consumer<LeftTuple_> nextNodesInsert, Consumer<LeftTuple_> nextNodesRetract,
+            Indexer<LeftTuple_, Counter<LeftTuple_>> indexerLeft,
+            Indexer<UniTuple<Right_>, Set<Counter<LeftTuple_>>> indexerRight) {
+        this.shouldExist = shouldExist;
+        this.mappingRight = mappingRight;
+        this.inputStoreIndexLeft = inputStoreIndexLeft;
+        this.inputStoreIndexRight = inputStoreIndexRight;
+        this.nextNodesInsert = nextNodesInsert;
+        this.nextNodesRetract = nextNodesRetract;
+        this.indexerLeft = indexerLeft;
+        this.indexerRight = indexerRight;
+        dirtyCounterQueue = new ArrayDeque<>(1000);
+    }
+
+    protected abstract Object[] createLeftIndexProperties(LeftTuple_ leftTuple);
+
+    /**
+     * @param leftTuple never null
+     * @param rightTuple never null, with the same index properties as the leftTuple
+     * @return true if the filtering joiners, if any, accept the pair
+     */
+    protected abstract boolean testFiltering(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple);
+
+    public final void insertLeft(LeftTuple_ leftTuple) {
+        Object[] store = leftTuple.getStore();
+        if (store[inputStoreIndexLeft] != null) {
+            throw new IllegalStateException("Impossible state: the input for the tuple (" + leftTuple
+                    + ") was already added in the tupleStore.");
+        }
+        Object[] indexProperties = createLeftIndexProperties(leftTuple);
+        store[inputStoreIndexLeft] = indexProperties;
+
+        Counter<LeftTuple_> counter = new Counter<>(leftTuple);
+        indexerLeft.put(indexProperties, leftTuple, counter);
+        indexerRight.visit(indexProperties, (rightTuple, counterSetRight) -> {
+            if (testFiltering(leftTuple, rightTuple)) {
+                counter.countRight++;
+                counterSetRight.add(counter);
+            }
+        });
+        if (shouldExist ? counter.countRight > 0 : counter.countRight == 0) {
+            insertCounter(counter);
+        }
+    }
+
+    public final void retractLeft(LeftTuple_ leftTuple) {
+        Object[] store = leftTuple.getStore();
+        Object[] indexProperties = (Object[]) store[inputStoreIndexLeft];
+        if (indexProperties == null) {
+            // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
+            return;
+        }
+        store[inputStoreIndexLeft] = null;
+
+        Counter<LeftTuple_> counter = indexerLeft.remove(indexProperties, leftTuple);
+        if (counter.countRight > 0) {
+            // No fail fast if absent because we don't track which pairs made it through the filtering joiner(s)
+            indexerRight.visit(indexProperties, (rightTuple, counterSetRight) -> counterSetRight.remove(counter));
+        }
+        if (shouldExist ? counter.countRight > 0 : counter.countRight == 0) {
+            retractCounter(counter);
+        }
+    }
+
+    public final void insertRight(UniTuple<Right_> rightTuple) {
+        if (rightTuple.store[inputStoreIndexRight] != null) {
+            throw new IllegalStateException("Impossible state: the input for the fact ("
+                    + rightTuple.factA + ") was already added in the tupleStore.");
+        }
+        Object[] indexProperties = mappingRight.apply(rightTuple.factA);
+        rightTuple.store[inputStoreIndexRight] = indexProperties;
+
+        Set<Counter<LeftTuple_>> counterSetRight = new LinkedHashSet<>();
+        indexerRight.put(indexProperties, rightTuple, counterSetRight);
+        indexerLeft.visit(indexProperties, (leftTuple, counter) -> {
+            if (testFiltering(leftTuple, rightTuple)) {
+                counterSetRight.add(counter);
+                counter.countRight++;
+                if (counter.countRight == 1) {
+                    if (shouldExist) {
+                        insertCounter(counter);
+                    } else {
+                        retractCounter(counter);
+                    }
+                }
+            }
+        });
+    }
+
+    public final void retractRight(UniTuple<Right_> rightTuple) {
+        Object[] indexProperties = (Object[]) rightTuple.store[inputStoreIndexRight];
+        if (indexProperties == null) {
+            // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
+            return;
+        }
+        rightTuple.store[inputStoreIndexRight] = null;
+
+        Set<Counter<LeftTuple_>> counterSetRight = indexerRight.remove(indexProperties, rightTuple);
+        for (Counter<LeftTuple_> counter : counterSetRight) {
+            counter.countRight--;
+            if (counter.countRight == 0) {
+                if (shouldExist) {
+                    retractCounter(counter);
+                } else {
+                    insertCounter(counter);
+                }
+            }
+        }
+    }
+
+    private void insertCounter(Counter<LeftTuple_> counter) {
+        switch (counter.state) {
+            case DEAD:
+                counter.state = BavetTupleState.CREATING;
+                dirtyCounterQueue.add(counter);
+                markNodeDirty();
+                break;
+            case ABORTING:
+                // Revive it before it was ever propagated
+                counter.state = BavetTupleState.CREATING;
+                break;
+            case DYING:
+                // Undo the kill of the original propagation
+                counter.state = BavetTupleState.UPDATING;
+                break;
+            default:
+                throw new IllegalStateException("Impossible state: The counter (" + counter
+                        + ") has the state (" + counter.state + ") when it is inserted.");
+        }
+    }
+
+    private void retractCounter(Counter<LeftTuple_> counter) {
+        switch (counter.state) {
+            case CREATING:
+                // Kill it before it propagates
+                counter.state = BavetTupleState.ABORTING;
+                break;
+            case UPDATING:
+                // Kill the original propagation
+                counter.state = BavetTupleState.DYING;
+                break;
+            case OK:
+                counter.state = BavetTupleState.DYING;
+                dirtyCounterQueue.add(counter);
+                markNodeDirty();
+                break;
+            default:
+                throw new IllegalStateException("Impossible state: The counter (" + counter
+                        + ") has the state (" + counter.state + ") when it is retracted.");
+        }
+    }
+
+    @Override
+    public final void calculateScore() {
+        dirtyCounterQueue.forEach(counter -> {
+            // Retract
+            if (counter.state == BavetTupleState.UPDATING || counter.state == BavetTupleState.DYING) {
+                nextNodesRetract.accept(counter.leftTuple);
+            }
+            // Insert
+            if (counter.state == BavetTupleState.CREATING || counter.state == BavetTupleState.UPDATING) {
+                nextNodesInsert.accept(counter.leftTuple);
+            }
+            switch (counter.state) {
+                case CREATING:
+                case UPDATING:
+                    counter.state = BavetTupleState.OK;
+                    return;
+                case DYING:
+                case ABORTING:
+                    counter.state = BavetTupleState.DEAD;
+                    return;
+                case DEAD:
+                    throw new IllegalStateException("Impossible state: The counter (" + counter + ") in node (" +
+                            this + ") is already in the dead state (" + counter.state + ").");
+                default:
+                    throw new IllegalStateException("Impossible state: The counter (" + counter + ") in node (" +
+                            this + ") is in an unexpected state (" + counter.state + ").");
+            }
+        });
+        dirtyCounterQueue.clear();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+
+    public static final class Counter<Tuple_ extends Tuple> {
+
+        private final Tuple_ leftTuple;
+        private BavetTupleState state = BavetTupleState.DEAD;
+        private int countRight = 0;
+
+        public Counter(Tuple_ leftTuple) {
+            this.leftTuple = leftTuple;
+        }
+
+        @Override
+        public String toString() {
+            return "Counter(" + leftTuple + ")";
+        }
+
+    }
+
+}
@@ -16,8 +16,32 @@
 
 package org.optaplanner.constraint.streams.bavet.common;
 
+import java.util.BitSet;
+
 public abstract class AbstractNode {
 
+    private BitSet dirtyNodeSet;
+    private int nodeIndex = -1;
+
+    /**
+     * Called once, when the session that owns this node is created.
+     *
+     * @param dirtyNodeSet never null, shared by all nodes of the session
+     * @param nodeIndex {@code >= 0}, the index of this node in the topologically sorted nodes of the session
+     */
+    public final void initDirtyNodeSet(BitSet dirtyNodeSet, int nodeIndex) {
+        this.dirtyNodeSet = dirtyNodeSet;
+        this.nodeIndex = nodeIndex;
+    }
+
+    /**
+     * Must be called whenever something is added to the dirty queue of this node,
+     * because the session only calls {@link #calculateScore()} on dirty nodes.
+     */
+    protected final void markNodeDirty() {
+        dirtyNodeSet.set(nodeIndex);
+    }
+
     public abstract void calculateScore();
 
 }
@@ -16,6 +16,33 @@
 
 package org.optaplanner.constraint.streams.bavet.common;
 
+import org.optaplanner.constraint.streams.common.inliner.UndoScoreImpacter;
+import org.optaplanner.constraint.streams.common.inliner.WeightedScoreImpacter;
+
 public abstract class AbstractScorer {
 
+    private final WeightedScoreImpacter weightedScoreImpacter;
+
+    protected AbstractScorer(WeightedScoreImpacter weightedScoreImpacter) {
+        this.weightedScoreImpacter = weightedScoreImpacter;
+    }
+
+    /**
+     * The tuple store of a scorer holds the impact of that tuple, which is an {@link UndoScoreImpacter}.
+     * But if {@link WeightedScoreImpacter#isUndoFree()}, it's just the boxed int or long match weight instead,
+     * which {@link Integer#valueOf(int)} and {@link Long#valueOf(long)} cache for small match weights,
+     * so inserting and retracting a tuple usually doesn't allocate.
+     *
+     * @param impact never null, the value of the tuple store
+     */
+    protected final void undoScoreImpact(Object impact) {
+        if (impact instanceof Integer) {
+            weightedScoreImpacter.impactScore(-(Integer) impact);
+        } else if (impact instanceof Long) {
+            weightedScoreImpacter.impactScore(-(Long) impact);
+        } else {
+            ((UndoScoreImpacter) impact).run();
+        }
+    }
+
 }
@@ -16,6 +16,7 @@
 
 package org.optaplanner.constraint.streams.bavet.common;
 
+import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -72,6 +73,8 @@ public abstract class BavetAbstractConstraintStream<Solution_> extends AbstractC
     // Node creation
     // ************************************************************************
 
+    public abstract List<? extends BavetAbstractConstraintStream<Solution_>> getChildStreamList();
+
     public abstract void collectActiveConstraintStreams(Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet);
 
     public abstract ConstraintStream getTupleSource();
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common;
+
+import java.util.function.Consumer;
+
+/**
+ * Creates the {@link AbstractGroupNode} of a groupBy bridge stream,
+ * once the tuple store indexes and the next nodes are known.
+ *
+ * @param <InTuple_> the tuple type of the stream that is grouped
+ * @param <OutTuple_> the tuple type of the group stream
+ */
+@FunctionalInterface
+public interface GroupNodeConstructor<InTuple_ extends Tuple, OutTuple_ extends Tuple> {
+
+    AbstractGroupNode<InTuple_, OutTuple_, ?, ?, ?> apply(int groupStoreIndex,
+            Consumer<OutTuple_> nextNodesInsert, Consumer<OutTuple_> nextNodesRetract, int outputStoreSize);
+
+}
@@ -5,7 +5,11 @@ import java.util.function.Function;
 
 import org.optaplanner.constraint.streams.bi.DefaultBiJoiner;
 import org.optaplanner.constraint.streams.common.AbstractJoiner;
+import org.optaplanner.constraint.streams.penta.DefaultPentaJoiner;
+import org.optaplanner.constraint.streams.quad.DefaultQuadJoiner;
 import org.optaplanner.constraint.streams.tri.DefaultTriJoiner;
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.TriFunction;
 
 public final class JoinerUtils {
 
@@ -51,6 +55,44 @@ public final class JoinerUtils {
         }
     }
 
+    public static <A, B, C, D> TriFunction<A, B, C, Object[]> combineLeftMappings(
+            DefaultQuadJoiner<A, B, C, D> joiner) {
+        int joinerCount = joiner.getJoinerCount();
+        if (joinerCount == 0) {
+            return (A a, B b, C c) -> EMPTY_OBJECT_ARRAY;
+        } else if (joinerCount == 1) {
+            TriFunction<A, B, C, Object> mapping = joiner.getLeftMapping(0);
+            return (A a, B b, C c) -> new Object[] { mapping.apply(a, b, c) };
+        } else {
+            return (A a, B b, C c) -> {
+                Object[] result = new Object[joinerCount];
+                for (int i = 0; i < joinerCount; i++) {
+                    result[i] = joiner.getLeftMapping(i).apply(a, b, c);
+                }
+                return result;
+            };
+        }
+    }
+
+    public static <A, B, C, D, E> QuadFunction<A, B, C, D, Object[]> combineLeftMappings(
+            DefaultPentaJoiner<A, B, C, D, E> joiner) {
+        int joinerCount = joiner.getJoinerCount();
+        if (joinerCount == 0) {
+            return (A a, B b, C c, D d) -> EMPTY_OBJECT_ARRAY;
+        } else if (joinerCount == 1) {
+            QuadFunction<A, B, C, D, Object> mapping = joiner.getLeftMapping(0);
+            return (A a, B b, C c, D d) -> new Object[] { mapping.apply(a, b, c, d) };
+        } else {
+            return (A a, B b, C c, D d) -> {
+                Object[] result = new Object[joinerCount];
+                for (int i = 0; i < joinerCount; i++) {
+                    result[i] = joiner.getLeftMapping(i).apply(a, b, c, d);
+                }
+                return result;
+            };
+        }
+    }
+
     public static <Right_> Function<Right_, Object[]> combineRightMappings(AbstractJoiner<Right_> joiner) {
         int joinerCount = joiner.getJoinerCount();
         if (joinerCount == 0) {
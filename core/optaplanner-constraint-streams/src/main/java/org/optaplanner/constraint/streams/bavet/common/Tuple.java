@@ -27,4 +27,13 @@ import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
  */
 public interface Tuple {
 
+    /**
+     * @return null if the tuple has no store
+     */
+    Object[] getStore();
+
+    BavetTupleState getState();
+
+    void setState(BavetTupleState state);
+
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import java.util.Arrays;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.optaplanner.constraint.streams.bavet.common.Tuple;
+import org.optaplanner.core.impl.score.stream.JoinerType;
+
+/**
+ * Sorts on the index property at {@code propertyIndex}
+ * and delegates the next index properties to a downstream {@link Indexer} per distinct value,
+ * so several comparison joiners can be chained.
+ */
+public final class ComparisonIndexer<Tuple_ extends Tuple, Value_> implements Indexer<Tuple_, Value_> {
+
+    private final int propertyIndex;
+    private final JoinerType comparisonJoinerType;
+    private final Supplier<Indexer<Tuple_, Value_>> downstreamIndexerSupplier;
+    private final NavigableMap<Object, Indexer<Tuple_, Value_>> comparisonMap = new TreeMap<>();
+
+    public ComparisonIndexer(int propertyIndex, JoinerType comparisonJoinerType,
+            Supplier<Indexer<Tuple_, Value_>> downstreamIndexerSupplier) {
+        this.propertyIndex = propertyIndex;
+        this.comparisonJoinerType = comparisonJoinerType;
+        this.downstreamIndexerSupplier = downstreamIndexerSupplier;
+    }
+
+    @Override
+    public void put(Object[] indexProperties, Tuple_ tuple, Value_ value) {
+        Object comparisonIndexProperty = indexProperties[propertyIndex];
+        Indexer<Tuple_, Value_> downstreamIndexer =
+                comparisonMap.computeIfAbsent(comparisonIndexProperty, k -> downstreamIndexerSupplier.get());
+        downstreamIndexer.put(indexProperties, tuple, value);
+    }
+
+    @Override
+    public Value_ remove(Object[] indexProperties, Tuple_ tuple) {
+        Object comparisonIndexProperty = indexProperties[propertyIndex];
+        Indexer<Tuple_, Value_> downstreamIndexer = comparisonMap.get(comparisonIndexProperty);
+        if (downstreamIndexer == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + tuple
+                    + ") with indexProperties (" + Arrays.toString(indexProperties)
+                    + ") doesn't exist in the indexer.");
+        }
+        Value_ value = downstreamIndexer.remove(indexProperties, tuple);
+        if (downstreamIndexer.isEmpty()) {
+            comparisonMap.remove(comparisonIndexProperty);
+        }
+        return value;
+    }
+
+    @Override
+    public void visit(Object[] indexProperties, BiConsumer<Tuple_, Value_> tupleValueVisitor) {
+        for (Indexer<Tuple_, Value_> downstreamIndexer : selectComparisonMap(indexProperties).values()) {
+            downstreamIndexer.visit(indexProperties, tupleValueVisitor);
+        }
+    }
+
+    @Override
+    public int countValues(Object[] indexProperties) {
+        int count = 0;
+        for (Indexer<Tuple_, Value_> downstreamIndexer : selectComparisonMap(indexProperties).values()) {
+            count += downstreamIndexer.countValues(indexProperties);
+        }
+        return count;
+    }
+
+    private NavigableMap<Object, Indexer<Tuple_, Value_>> selectComparisonMap(Object[] indexProperties) {
+        Object comparisonIndexProperty = indexProperties[propertyIndex];
+        switch (comparisonJoinerType) {
+            case LESS_THAN:
+                return comparisonMap.headMap(comparisonIndexProperty, false);
+            case LESS_THAN_OR_EQUAL:
+                return comparisonMap.headMap(comparisonIndexProperty, true);
+            case GREATER_THAN:
+                return comparisonMap.tailMap(comparisonIndexProperty, false);
+            case GREATER_THAN_OR_EQUAL:
+                return comparisonMap.tailMap(comparisonIndexProperty, true);
+            default:
+                throw new IllegalStateException("Impossible state: the comparisonJoinerType (" + comparisonJoinerType
+                        + ") is not one of the 4 comparison types.");
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return comparisonMap.isEmpty();
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.optaplanner.constraint.streams.bavet.common.Tuple;
+
+/**
+ * Hashes the first {@code equalsPropertyCount} index properties
+ * and delegates the remaining index properties to a downstream {@link Indexer} per hash bucket.
+ */
+public final class CompositeEqualsIndexer<Tuple_ extends Tuple, Value_> implements Indexer<Tuple_, Value_> {
+
+    private final int equalsPropertyCount;
+    private final Supplier<Indexer<Tuple_, Value_>> downstreamIndexerSupplier;
+    private final Map<IndexerKey, Indexer<Tuple_, Value_>> equalsMap = new HashMap<>();
+    /**
+     * Reused for every lookup, a new key is only created when a downstream indexer is added.
+     */
+    private final IndexerKey lookupKey = new IndexerKey(null, 0);
+
+    public CompositeEqualsIndexer(int equalsPropertyCount,
+            Supplier<Indexer<Tuple_, Value_>> downstreamIndexerSupplier) {
+        this.equalsPropertyCount = equalsPropertyCount;
+        this.downstreamIndexerSupplier = downstreamIndexerSupplier;
+    }
+
+    @Override
+    public void put(Object[] indexProperties, Tuple_ tuple, Value_ value) {
+        Indexer<Tuple_, Value_> downstreamIndexer =
+                equalsMap.get(lookupKey.reset(indexProperties, equalsPropertyCount));
+        if (downstreamIndexer == null) {
+            downstreamIndexer = downstreamIndexerSupplier.get();
+            equalsMap.put(new IndexerKey(indexProperties, equalsPropertyCount), downstreamIndexer);
+        }
+        downstreamIndexer.put(indexProperties, tuple, value);
+    }
+
+    @Override
+    public Value_ remove(Object[] indexProperties, Tuple_ tuple) {
+        IndexerKey equalsIndexKey = lookupKey.reset(indexProperties, equalsPropertyCount);
+        Indexer<Tuple_, Value_> downstreamIndexer = equalsMap.get(equalsIndexKey);
+        if (downstreamIndexer == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + tuple
+                    + ") with indexProperties (" + Arrays.toString(indexProperties)
+                    + ") doesn't exist in the indexer.");
+        }
+        Value_ value = downstreamIndexer.remove(indexProperties, tuple);
+        if (downstreamIndexer.isEmpty()) {
+            equalsMap.remove(equalsIndexKey);
+        }
+        return value;
+    }
+
+    @Override
+    public void visit(Object[] indexProperties, BiConsumer<Tuple_, Value_> tupleValueVisitor) {
+        Indexer<Tuple_, Value_> downstreamIndexer =
+                equalsMap.get(lookupKey.reset(indexProperties, equalsPropertyCount));
+        if (downstreamIndexer == null) {
+            return;
+        }
+        downstreamIndexer.visit(indexProperties, tupleValueVisitor);
+    }
+
+    @Override
+    public int countValues(Object[] indexProperties) {
+        Indexer<Tuple_, Value_> downstreamIndexer =
+                equalsMap.get(lookupKey.reset(indexProperties, equalsPropertyCount));
+        if (downstreamIndexer == null) {
+            return 0;
+        }
+        return downstreamIndexer.countValues(indexProperties);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return equalsMap.isEmpty();
+    }
+
+}
@@ -18,12 +18,11 @@ package org.optaplanner.constraint.streams.bavet.common.index;
 
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.TreeMap;
-import java.util.function.Consumer;
+import java.util.function.BiConsumer;
 
 import org.optaplanner.constraint.streams.bavet.common.Tuple;
 import org.optaplanner.core.impl.score.stream.JoinerType;
@@ -31,7 +30,11 @@ import org.optaplanner.core.impl.score.stream.JoinerType;
 public final class EqualsAndComparisonIndexer<Tuple_ extends Tuple, Value_> implements Indexer<Tuple_, Value_> {
 
     private final JoinerType comparisonJoinerType;
-    private final Map<IndexerKey, NavigableMap<Object, Map<Tuple_, Value_>>> equalsMap = new HashMap<>();
+    private final Map<IndexerKey, NavigableMap<Object, TupleBucket<Tuple_, Value_>>> equalsMap = new HashMap<>();
+    /**
+     * Reused for every lookup, a new key is only created when a comparison map is added.
+     */
+    private final IndexerKey lookupKey = new IndexerKey(null, 0);
 
     public EqualsAndComparisonIndexer(JoinerType comparisonJoinerType) {
         this.comparisonJoinerType = comparisonJoinerType;
@@ -41,13 +44,16 @@ public final class EqualsAndComparisonIndexer<Tuple_ extends Tuple, Value_> impl
     public void put(Object[] indexProperties, Tuple_ tuple, Value_ value) {
         Objects.requireNonNull(value);
         int indexPropertyCount = indexProperties.length;
-        IndexerKey equalsIndexKey = new IndexerKey(indexProperties, indexPropertyCount - 1);
+        NavigableMap<Object, TupleBucket<Tuple_, Value_>> comparisonMap =
+                equalsMap.get(lookupKey.reset(indexProperties, indexPropertyCount - 1));
+        if (comparisonMap == null) {
+            comparisonMap = new TreeMap<>();
+            equalsMap.put(new IndexerKey(indexProperties, indexPropertyCount - 1), comparisonMap);
+        }
         Object comparisonIndexProperty = indexProperties[indexPropertyCount - 1];
-        NavigableMap<Object, Map<Tuple_, Value_>> comparisonMap =
-                equalsMap.computeIfAbsent(equalsIndexKey, k -> new TreeMap<>());
-        Map<Tuple_, Value_> tupleMap = comparisonMap.computeIfAbsent(comparisonIndexProperty, k -> new LinkedHashMap<>());
-        Value_ old = tupleMap.put(tuple, value);
-        if (old != null) {
+        TupleBucket<Tuple_, Value_> bucket =
+                comparisonMap.computeIfAbsent(comparisonIndexProperty, k -> new TupleBucket<>());
+        if (!bucket.put(tuple, value)) {
             throw new IllegalStateException("Impossible state: the tuple (" + tuple
                     + ") with indexProperties (" + Arrays.toString(indexProperties)
                     + ") was already added in the indexer.");
@@ -57,27 +63,27 @@ public final class EqualsAndComparisonIndexer<Tuple_ extends Tuple, Value_> impl
     @Override
     public Value_ remove(Object[] indexProperties, Tuple_ tuple) {
         int indexPropertyCount = indexProperties.length;
-        IndexerKey equalsIndexKey = new IndexerKey(indexProperties, indexPropertyCount - 1);
-        NavigableMap<Object, Map<Tuple_, Value_>> comparisonMap = equalsMap.get(equalsIndexKey);
+        IndexerKey equalsIndexKey = lookupKey.reset(indexProperties, indexPropertyCount - 1);
+        NavigableMap<Object, TupleBucket<Tuple_, Value_>> comparisonMap = equalsMap.get(equalsIndexKey);
         if (comparisonMap == null) {
             throw new IllegalStateException("Impossible state: the tuple (" + tuple
                     + ") with indexProperties (" + Arrays.toString(indexProperties)
                     + ") doesn't exist in the indexer.");
         }
         Object comparisonIndexProperty = indexProperties[indexPropertyCount - 1];
-        Map<Tuple_, Value_> tupleMap = comparisonMap.get(comparisonIndexProperty);
-        if (tupleMap == null) {
+        TupleBucket<Tuple_, Value_> bucket = comparisonMap.get(comparisonIndexProperty);
+        if (bucket == null) {
             throw new IllegalStateException("Impossible state: the tuple (" + tuple
                     + ") with indexProperties (" + Arrays.toString(indexProperties)
                     + ") doesn't exist in the indexer.");
         }
-        Value_ value = tupleMap.remove(tuple);
+        Value_ value = bucket.remove(tuple);
         if (value == null) {
             throw new IllegalStateException("Impossible state: the tuple (" + tuple
                     + ") with indexProperties (" + Arrays.toString(indexProperties)
                     + ") doesn't exist in the indexer.");
         }
-        if (tupleMap.isEmpty()) {
+        if (bucket.isEmpty()) {
             comparisonMap.remove(comparisonIndexProperty);
             if (comparisonMap.isEmpty()) {
                 equalsMap.remove(equalsIndexKey);
@@ -87,15 +93,15 @@ public final class EqualsAndComparisonIndexer<Tuple_ extends Tuple, Value_> impl
     }
 
     @Override
-    public void visit(Object[] indexProperties, Consumer<Map<Tuple_, Value_>> tupleValueMapVisitor) {
+    public void visit(Object[] indexProperties, BiConsumer<Tuple_, Value_> tupleValueVisitor) {
         int indexPropertyCount = indexProperties.length;
-        IndexerKey equalsIndexKey = new IndexerKey(indexProperties, indexPropertyCount - 1);
-        NavigableMap<Object, Map<Tuple_, Value_>> comparisonMap = equalsMap.get(equalsIndexKey);
+        NavigableMap<Object, TupleBucket<Tuple_, Value_>> comparisonMap =
+                equalsMap.get(lookupKey.reset(indexProperties, indexPropertyCount - 1));
         if (comparisonMap == null) {
             return;
         }
         Object comparisonIndexProperty = indexProperties[indexPropertyCount - 1];
-        NavigableMap<Object, Map<Tuple_, Value_>> selectedComparisonMap;
+        NavigableMap<Object, TupleBucket<Tuple_, Value_>> selectedComparisonMap;
         switch (comparisonJoinerType) {
             case LESS_THAN:
                 selectedComparisonMap = comparisonMap.headMap(comparisonIndexProperty, false);
@@ -116,14 +122,21 @@ public final class EqualsAndComparisonIndexer<Tuple_ extends Tuple, Value_> impl
         if (selectedComparisonMap.isEmpty()) {
             return;
         }
-        selectedComparisonMap.values().forEach(tupleValueMapVisitor);
+        for (TupleBucket<Tuple_, Value_> bucket : selectedComparisonMap.values()) {
+            bucket.forEach(tupleValueVisitor);
+        }
     }
 
     @Override
     public int countValues(Object[] indexProperties) {
         int[] count = new int[1];
-        visit(indexProperties, map -> count[0] += map.size());
+        visit(indexProperties, (tuple, value) -> count[0]++);
         return count[0];
     }
 
+    @Override
+    public boolean isEmpty() {
+        return equalsMap.isEmpty();
+    }
+
 }
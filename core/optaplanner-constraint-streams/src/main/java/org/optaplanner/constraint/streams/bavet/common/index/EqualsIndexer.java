@@ -18,23 +18,29 @@ package org.optaplanner.constraint.streams.bavet.common.index;
 
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Consumer;
+import java.util.function.BiConsumer;
 
 import org.optaplanner.constraint.streams.bavet.common.Tuple;
 
 public final class EqualsIndexer<Tuple_ extends Tuple, Value_> implements Indexer<Tuple_, Value_> {
 
-    private final Map<IndexerKey, Map<Tuple_, Value_>> map = new HashMap<>();
+    private final Map<IndexerKey, TupleBucket<Tuple_, Value_>> map = new HashMap<>();
+    /**
+     * Reused for every lookup, a new key is only created when a bucket is added.
+     */
+    private final IndexerKey lookupKey = new IndexerKey(null, 0);
 
     @Override
     public void put(Object[] indexProperties, Tuple_ tuple, Value_ value) {
         Objects.requireNonNull(value);
-        Map<Tuple_, Value_> tupleMap = map.computeIfAbsent(new IndexerKey(indexProperties), k -> new LinkedHashMap<>());
-        Value_ old = tupleMap.put(tuple, value);
-        if (old != null) {
+        TupleBucket<Tuple_, Value_> bucket = map.get(lookupKey.reset(indexProperties, indexProperties.length));
+        if (bucket == null) {
+            bucket = new TupleBucket<>();
+            map.put(new IndexerKey(indexProperties), bucket);
+        }
+        if (!bucket.put(tuple, value)) {
             throw new IllegalStateException("Impossible state: the tuple (" + tuple
                     + ") with indexProperties (" + Arrays.toString(indexProperties)
                     + ") was already added in the indexer.");
@@ -43,41 +49,46 @@ public final class EqualsIndexer<Tuple_ extends Tuple, Value_> implements Indexe
 
     @Override
     public Value_ remove(Object[] indexProperties, Tuple_ tuple) {
-        IndexerKey oldIndexKey = new IndexerKey(indexProperties);
-        Map<Tuple_, Value_> tupleMap = map.get(oldIndexKey);
-        if (tupleMap == null) {
+        IndexerKey oldIndexKey = lookupKey.reset(indexProperties, indexProperties.length);
+        TupleBucket<Tuple_, Value_> bucket = map.get(oldIndexKey);
+        if (bucket == null) {
             throw new IllegalStateException("Impossible state: the tuple (" + tuple
                     + ") with indexProperties (" + Arrays.toString(indexProperties)
                     + ") doesn't exist in the indexer.");
         }
-        Value_ value = tupleMap.remove(tuple);
+        Value_ value = bucket.remove(tuple);
         if (value == null) {
             throw new IllegalStateException("Impossible state: the tuple (" + tuple
                     + ") with indexProperties (" + Arrays.toString(indexProperties)
                     + ") doesn't exist in the indexer.");
         }
-        if (tupleMap.isEmpty()) {
+        if (bucket.isEmpty()) {
             map.remove(oldIndexKey);
         }
         return value;
     }
 
     @Override
-    public void visit(Object[] indexProperties, Consumer<Map<Tuple_, Value_>> tupleValueMapVisitor) {
-        Map<Tuple_, Value_> tupleMap = map.get(new IndexerKey(indexProperties));
-        if (tupleMap == null) {
+    public void visit(Object[] indexProperties, BiConsumer<Tuple_, Value_> tupleValueVisitor) {
+        TupleBucket<Tuple_, Value_> bucket = map.get(lookupKey.reset(indexProperties, indexProperties.length));
+        if (bucket == null) {
             return;
         }
-        tupleValueMapVisitor.accept(tupleMap);
+        bucket.forEach(tupleValueVisitor);
     }
 
     @Override
     public int countValues(Object[] indexProperties) {
-        Map<Tuple_, Value_> tupleMap = map.get(new IndexerKey(indexProperties));
-        if (tupleMap == null) {
+        TupleBucket<Tuple_, Value_> bucket = map.get(lookupKey.reset(indexProperties, indexProperties.length));
+        if (bucket == null) {
             return 0;
         }
-        return tupleMap.size();
+        return bucket.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
     }
 
 }
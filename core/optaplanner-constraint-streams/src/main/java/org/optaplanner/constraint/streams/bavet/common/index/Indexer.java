@@ -18,7 +18,6 @@ package org.optaplanner.constraint.streams.bavet.common.index;
 
 import java.util.Map;
 import java.util.function.BiConsumer;
-import java.util.function.Consumer;
 
 import org.optaplanner.constraint.streams.bavet.bi.JoinBiNode;
 import org.optaplanner.constraint.streams.bavet.common.BavetTupleState;
@@ -67,22 +66,19 @@ public interface Indexer<Tuple_ extends Tuple, Value_> {
 
     /**
      * @param indexProperties never null
-     * @param tupleValueMapEntryVisitor never null
+     * @param tupleValueVisitor never null
      */
-    default void visit(Object[] indexProperties, BiConsumer<Tuple_, Value_> tupleValueMapEntryVisitor) {
-        visit(indexProperties, map -> map.forEach(tupleValueMapEntryVisitor));
-    }
+    void visit(Object[] indexProperties, BiConsumer<Tuple_, Value_> tupleValueVisitor);
 
     /**
      * @param indexProperties never null
-     * @param tupleValueMapVisitor never null
+     * @return number of values across all tuples
      */
-    void visit(Object[] indexProperties, Consumer<Map<Tuple_, Value_>> tupleValueMapVisitor);
+    int countValues(Object[] indexProperties);
 
     /**
-     * @param indexProperties never null
-     * @return number of values across all tuples
+     * @return true if no tuple is indexed
      */
-    int countValues(Object[] indexProperties);
+    boolean isEmpty();
 
 }
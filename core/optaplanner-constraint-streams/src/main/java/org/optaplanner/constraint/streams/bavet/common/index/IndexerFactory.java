@@ -16,54 +16,107 @@
 
 package org.optaplanner.constraint.streams.bavet.common.index;
 
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import org.optaplanner.constraint.streams.bavet.common.Tuple;
 import org.optaplanner.constraint.streams.common.AbstractJoiner;
+import org.optaplanner.core.api.score.stream.Joiners;
 import org.optaplanner.core.impl.score.stream.JoinerType;
 
 public class IndexerFactory {
 
     private final JoinerType[] joinerTypes;
+    /**
+     * The number of leading EQUAL joiners.
+     */
+    private final int equalsJoinerCount;
 
     public IndexerFactory(AbstractJoiner joiner) {
         int joinerCount = joiner.getJoinerCount();
         joinerTypes = new JoinerType[joinerCount];
+        int firstComparisonJoinerIndex = -1;
         for (int i = 0; i < joinerCount; i++) {
             JoinerType joinerType = joiner.getJoinerType(i);
             switch (joinerType) {
                 case EQUAL:
+                    if (firstComparisonJoinerIndex >= 0) {
+                        JoinerType comparisonJoinerType = joiner.getJoinerType(firstComparisonJoinerIndex);
+                        throw new IllegalArgumentException("The joinerType (" + joinerType
+                                + ") is currently not supported after the joinerType (" + comparisonJoinerType + ").\n"
+                                + "Maybe move this joinerType (" + joinerType
+                                + ") before the joinerType (" + comparisonJoinerType + ").");
+                    }
+                    break;
                 case LESS_THAN:
                 case LESS_THAN_OR_EQUAL:
                 case GREATER_THAN:
                 case GREATER_THAN_OR_EQUAL:
+                    if (firstComparisonJoinerIndex < 0) {
+                        firstComparisonJoinerIndex = i;
+                    }
                     break;
                 default:
                     throw new UnsupportedOperationException("Unsupported joiner type (" + joinerType + ").");
             }
-            if (joinerType != JoinerType.EQUAL && i != (joinerCount - 1)) {
-                JoinerType nextJoinerType = joiner.getJoinerType(i + 1);
-                throw new IllegalArgumentException("The joinerType (" + joinerType
-                        + ") is currently only supported as the last joinerType.\n"
-                        + ((nextJoinerType == JoinerType.EQUAL)
-                                ? "Maybe move the next joinerType (" + nextJoinerType
-                                        + ") before this joinerType (" + joinerType + ")."
-                                : "Maybe put the next joinerType (" + nextJoinerType
-                                        + ") in a filter() predicate after the join() call for now."));
-            }
-            joinerTypes[i] = joiner.getJoinerType(i);
+            joinerTypes[i] = joinerType;
         }
+        equalsJoinerCount = firstComparisonJoinerIndex < 0 ? joinerCount : firstComparisonJoinerIndex;
     }
 
     public <Tuple_ extends Tuple, Value_> Indexer<Tuple_, Value_> buildIndexer(boolean isLeftBridge) {
         if (joinerTypes.length == 0) {
             return new NoneIndexer<>();
         }
-        JoinerType lastJoinerType = joinerTypes[joinerTypes.length - 1];
-        if (lastJoinerType == JoinerType.EQUAL) {
+        int comparisonJoinerCount = joinerTypes.length - equalsJoinerCount;
+        if (comparisonJoinerCount == 0) {
+            if (equalsJoinerCount == 1) {
+                return new SingleEqualsIndexer<>();
+            }
             return new EqualsIndexer<>();
-        } else {
-            // Use flip() to model A < B as B > A
-            return new EqualsAndComparisonIndexer<>(isLeftBridge ? lastJoinerType : lastJoinerType.flip());
+        } else if (comparisonJoinerCount == 1) {
+            return new EqualsAndComparisonIndexer<>(getJoinerType(joinerTypes.length - 1, isLeftBridge));
+        }
+        // Chain the comparison joiners, from the last one to the first one.
+        Supplier<Indexer<Tuple_, Value_>> downstreamIndexerSupplier = NoneIndexer::new;
+        int i = joinerTypes.length - 1;
+        while (i >= equalsJoinerCount) {
+            Supplier<Indexer<Tuple_, Value_>> nextIndexerSupplier = downstreamIndexerSupplier;
+            JoinerType joinerType = getJoinerType(i, isLeftBridge);
+            if (i > equalsJoinerCount && isOverlapping(joinerTypes[i - 1], joinerTypes[i])) {
+                int propertyIndex = i - 1;
+                JoinerType previousJoinerType = getJoinerType(propertyIndex, isLeftBridge);
+                downstreamIndexerSupplier = () -> new IntervalIndexer<>(propertyIndex, previousJoinerType, joinerType,
+                        nextIndexerSupplier);
+                i -= 2;
+            } else {
+                int propertyIndex = i;
+                downstreamIndexerSupplier =
+                        () -> new ComparisonIndexer<>(propertyIndex, joinerType, nextIndexerSupplier);
+                i--;
+            }
+        }
+        if (equalsJoinerCount == 0) {
+            return downstreamIndexerSupplier.get();
         }
+        return new CompositeEqualsIndexer<>(equalsJoinerCount, downstreamIndexerSupplier);
+    }
+
+    private JoinerType getJoinerType(int index, boolean isLeftBridge) {
+        JoinerType joinerType = joinerTypes[index];
+        // Use flip() to model A < B as B > A
+        return isLeftBridge ? joinerType : joinerType.flip();
+    }
+
+    /**
+     * For example {@link Joiners#overlapping(Function, Function)} results in a lessThan() and a greaterThan().
+     */
+    private static boolean isOverlapping(JoinerType joinerType, JoinerType nextJoinerType) {
+        return isLessThan(joinerType) != isLessThan(nextJoinerType);
+    }
+
+    private static boolean isLessThan(JoinerType joinerType) {
+        return joinerType == JoinerType.LESS_THAN || joinerType == JoinerType.LESS_THAN_OR_EQUAL;
     }
 
 }
@@ -20,20 +20,34 @@ import java.util.Arrays;
 
 public final class IndexerKey {
 
-    private final Object[] indexProperties;
-    private final int effectiveLength;
+    private Object[] indexProperties;
+    private int effectiveLength;
+    private int hashCode;
 
     public IndexerKey(Object[] indexProperties) {
         this(indexProperties, indexProperties.length);
     }
 
     public IndexerKey(Object[] indexProperties, int effectiveLength) {
+        reset(indexProperties, effectiveLength);
+    }
+
+    /**
+     * Only to be used on a lookup key, which is never stored in a map,
+     * so a lookup doesn't allocate a new key.
+     *
+     * @param indexProperties never null
+     * @param effectiveLength {@code 0 <= effectiveLength <= indexProperties.length}
+     * @return this
+     */
+    IndexerKey reset(Object[] indexProperties, int effectiveLength) {
         this.indexProperties = indexProperties;
         this.effectiveLength = effectiveLength;
+        this.hashCode = calculateHashCode(indexProperties, effectiveLength);
+        return this;
     }
 
-    @Override
-    public int hashCode() {
+    private static int calculateHashCode(Object[] indexProperties, int effectiveLength) {
         if (indexProperties == null) {
             return 0;
         }
@@ -45,6 +59,11 @@ public final class IndexerKey {
         return result;
     }
 
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == this) {
@@ -54,8 +73,9 @@ public final class IndexerKey {
             return false;
         }
         IndexerKey other = (IndexerKey) o;
-        return Arrays.equals(indexProperties, 0, effectiveLength,
-                other.indexProperties, 0, effectiveLength);
+        return effectiveLength == other.effectiveLength
+                && Arrays.equals(indexProperties, 0, effectiveLength,
+                        other.indexProperties, 0, effectiveLength);
     }
 
 }
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.optaplanner.constraint.streams.bavet.common.Tuple;
+import org.optaplanner.core.impl.score.stream.JoinerType;
+
+/**
+ * Indexes 2 consecutive index properties that are compared in opposite directions,
+ * such as the {@code lessThan(start, end)} and {@code greaterThan(end, start)} pair
+ * that {@link org.optaplanner.core.api.score.stream.Joiners#overlapping} creates.
+ * <p>
+ * It is a treap sorted on the first property,
+ * in which every node also tracks the most extreme second property of its subtree.
+ * A visit only descends into subtrees that contain at least one match on the second property,
+ * so put and remove are {@code O(log(n))} and a visit is {@code O(log(n))} per matching distinct value,
+ * instead of a scan over every value that matches the first property.
+ */
+public final class IntervalIndexer<Tuple_ extends Tuple, Value_> implements Indexer<Tuple_, Value_> {
+
+    private static final Comparator<Object> REVERSE_ORDER = Collections.reverseOrder();
+    // The reverse of the reverse order is the natural order, without an unchecked cast to Comparable
+    private static final Comparator<Object> NATURAL_ORDER = Collections.reverseOrder(REVERSE_ORDER);
+
+    private final int propertyIndex;
+    private final Supplier<Indexer<Tuple_, Value_>> downstreamIndexerSupplier;
+    /**
+     * Orders the first property such that the matches are a prefix.
+     */
+    private final Comparator<Object> firstComparator;
+    private final boolean firstInclusive;
+    /**
+     * Orders the second property such that the matches are a suffix.
+     */
+    private final Comparator<Object> secondComparator;
+    private final boolean secondInclusive;
+
+    private Node<Tuple_, Value_> root = null;
+    // Deterministic priorities, to keep the tree shape reproducible
+    private long prioritySeed = 0L;
+    /**
+     * Only used during {@link #remove(Object[], Tuple)}, to return the removed value out of the recursion.
+     */
+    private Value_ removedValue = null;
+
+    /**
+     * @param propertyIndex the index of the first property, the second property is the next one
+     * @param firstJoinerType never null, a comparison joiner type
+     * @param secondJoinerType never null, a comparison joiner type of the opposite direction
+     * @param downstreamIndexerSupplier never null
+     */
+    public IntervalIndexer(int propertyIndex, JoinerType firstJoinerType, JoinerType secondJoinerType,
+            Supplier<Indexer<Tuple_, Value_>> downstreamIndexerSupplier) {
+        this.propertyIndex = propertyIndex;
+        this.downstreamIndexerSupplier = downstreamIndexerSupplier;
+        switch (firstJoinerType) {
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+                firstComparator = NATURAL_ORDER;
+                break;
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                firstComparator = REVERSE_ORDER;
+                break;
+            default:
+                throw new IllegalStateException("Impossible state: the firstJoinerType (" + firstJoinerType
+                        + ") is not one of the 4 comparison types.");
+        }
+        firstInclusive = firstJoinerType == JoinerType.LESS_THAN_OR_EQUAL
+                || firstJoinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+        switch (secondJoinerType) {
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                secondComparator = NATURAL_ORDER;
+                break;
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+                secondComparator = REVERSE_ORDER;
+                break;
+            default:
+                throw new IllegalStateException("Impossible state: the secondJoinerType (" + secondJoinerType
+                        + ") is not one of the 4 comparison types.");
+        }
+        if (firstComparator != secondComparator) {
+            throw new IllegalArgumentException("The firstJoinerType (" + firstJoinerType
+                    + ") and the secondJoinerType (" + secondJoinerType + ") must compare in opposite directions.");
+        }
+        secondInclusive = secondJoinerType == JoinerType.LESS_THAN_OR_EQUAL
+                || secondJoinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+    }
+
+    @Override
+    public void put(Object[] indexProperties, Tuple_ tuple, Value_ value) {
+        root = put(root, indexProperties, tuple, value);
+    }
+
+    private Node<Tuple_, Value_> put(Node<Tuple_, Value_> node, Object[] indexProperties, Tuple_ tuple, Value_ value) {
+        Object firstProperty = indexProperties[propertyIndex];
+        if (node == null) {
+            node = new Node<>(firstProperty, nextPriority(), secondComparator);
+            putInNode(node, indexProperties, tuple, value);
+            updateMaxSecondProperty(node);
+            return node;
+        }
+        int comparison = firstComparator.compare(firstProperty, node.firstProperty);
+        if (comparison < 0) {
+            node.left = put(node.left, indexProperties, tuple, value);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else if (comparison > 0) {
+            node.right = put(node.right, indexProperties, tuple, value);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        } else {
+            putInNode(node, indexProperties, tuple, value);
+        }
+        updateMaxSecondProperty(node);
+        return node;
+    }
+
+    private void putInNode(Node<Tuple_, Value_> node, Object[] indexProperties, Tuple_ tuple, Value_ value) {
+        Object secondProperty = indexProperties[propertyIndex + 1];
+        Indexer<Tuple_, Value_> downstreamIndexer =
+                node.secondMap.computeIfAbsent(secondProperty, k -> downstreamIndexerSupplier.get());
+        downstreamIndexer.put(indexProperties, tuple, value);
+    }
+
+    @Override
+    public Value_ remove(Object[] indexProperties, Tuple_ tuple) {
+        root = remove(root, indexProperties, tuple);
+        Value_ value = removedValue;
+        removedValue = null;
+        return value;
+    }
+
+    private Node<Tuple_, Value_> remove(Node<Tuple_, Value_> node, Object[] indexProperties, Tuple_ tuple) {
+        if (node == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + tuple
+                    + ") with indexProperties (" + Arrays.toString(indexProperties)
+                    + ") doesn't exist in the indexer.");
+        }
+        int comparison = firstComparator.compare(indexProperties[propertyIndex], node.firstProperty);
+        if (comparison < 0) {
+            node.left = remove(node.left, indexProperties, tuple);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, indexProperties, tuple);
+        } else {
+            Object secondProperty = indexProperties[propertyIndex + 1];
+            Indexer<Tuple_, Value_> downstreamIndexer = node.secondMap.get(secondProperty);
+            if (downstreamIndexer == null) {
+                throw new IllegalStateException("Impossible state: the tuple (" + tuple
+                        + ") with indexProperties (" + Arrays.toString(indexProperties)
+                        + ") doesn't exist in the indexer.");
+            }
+            removedValue = downstreamIndexer.remove(indexProperties, tuple);
+            if (downstreamIndexer.isEmpty()) {
+                node.secondMap.remove(secondProperty);
+                if (node.secondMap.isEmpty()) {
+                    return merge(node.left, node.right);
+                }
+            }
+        }
+        updateMaxSecondProperty(node);
+        return node;
+    }
+
+    @Override
+    public void visit(Object[] indexProperties, BiConsumer<Tuple_, Value_> tupleValueVisitor) {
+        visit(root, indexProperties, tupleValueVisitor);
+    }
+
+    private void visit(Node<Tuple_, Value_> node, Object[] indexProperties,
+            BiConsumer<Tuple_, Value_> tupleValueVisitor) {
+        Object secondProperty = indexProperties[propertyIndex + 1];
+        while (node != null && matchesSecond(node.maxSecondProperty, secondProperty)) {
+            // Visit in order, to keep the visit order independent of the tree shape
+            visit(node.left, indexProperties, tupleValueVisitor);
+            if (!matchesFirst(node.firstProperty, indexProperties[propertyIndex])) {
+                // Everything to the right is even further away from the first property
+                return;
+            }
+            for (Indexer<Tuple_, Value_> downstreamIndexer : node.secondMap.tailMap(secondProperty, secondInclusive)
+                    .values()) {
+                downstreamIndexer.visit(indexProperties, tupleValueVisitor);
+            }
+            node = node.right;
+        }
+    }
+
+    @Override
+    public int countValues(Object[] indexProperties) {
+        int[] count = new int[1];
+        visit(indexProperties, (tuple, value) -> count[0]++);
+        return count[0];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    private boolean matchesFirst(Object storedFirstProperty, Object firstProperty) {
+        int comparison = firstComparator.compare(storedFirstProperty, firstProperty);
+        return firstInclusive ? comparison <= 0 : comparison < 0;
+    }
+
+    private boolean matchesSecond(Object storedSecondProperty, Object secondProperty) {
+        int comparison = secondComparator.compare(storedSecondProperty, secondProperty);
+        return secondInclusive ? comparison >= 0 : comparison > 0;
+    }
+
+    private int nextPriority() {
+        // SplitMix64 finalizer
+        long z = (prioritySeed += 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return (int) (z ^ (z >>> 31));
+    }
+
+    private Node<Tuple_, Value_> merge(Node<Tuple_, Value_> left, Node<Tuple_, Value_> right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            updateMaxSecondProperty(left);
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            updateMaxSecondProperty(right);
+            return right;
+        }
+    }
+
+    private Node<Tuple_, Value_> rotateRight(Node<Tuple_, Value_> node) {
+        Node<Tuple_, Value_> newParent = node.left;
+        node.left = newParent.right;
+        newParent.right = node;
+        updateMaxSecondProperty(node);
+        updateMaxSecondProperty(newParent);
+        return newParent;
+    }
+
+    private Node<Tuple_, Value_> rotateLeft(Node<Tuple_, Value_> node) {
+        Node<Tuple_, Value_> newParent = node.right;
+        node.right = newParent.left;
+        newParent.left = node;
+        updateMaxSecondProperty(node);
+        updateMaxSecondProperty(newParent);
+        return newParent;
+    }
+
+    private void updateMaxSecondProperty(Node<Tuple_, Value_> node) {
+        Object max = node.secondMap.lastKey();
+        if (node.left != null && secondComparator.compare(node.left.maxSecondProperty, max) > 0) {
+            max = node.left.maxSecondProperty;
+        }
+        if (node.right != null && secondComparator.compare(node.right.maxSecondProperty, max) > 0) {
+            max = node.right.maxSecondProperty;
+        }
+        node.maxSecondProperty = max;
+    }
+
+    private static final class Node<Tuple_ extends Tuple, Value_> {
+
+        private final Object firstProperty;
+        private final int priority;
+        private final NavigableMap<Object, Indexer<Tuple_, Value_>> secondMap;
+        private Object maxSecondProperty;
+        private Node<Tuple_, Value_> left = null;
+        private Node<Tuple_, Value_> right = null;
+
+        private Node(Object firstProperty, int priority, Comparator<Object> secondComparator) {
+            this.firstProperty = firstProperty;
+            this.priority = priority;
+            this.secondMap = new TreeMap<>(secondComparator);
+        }
+
+    }
+
+}
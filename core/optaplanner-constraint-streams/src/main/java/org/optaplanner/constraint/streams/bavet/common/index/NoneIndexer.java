@@ -17,22 +17,19 @@
 package org.optaplanner.constraint.streams.bavet.common.index;
 
 import java.util.Arrays;
-import java.util.LinkedHashMap;
-import java.util.Map;
 import java.util.Objects;
-import java.util.function.Consumer;
+import java.util.function.BiConsumer;
 
 import org.optaplanner.constraint.streams.bavet.common.Tuple;
 
 public final class NoneIndexer<Tuple_ extends Tuple, Value_> implements Indexer<Tuple_, Value_> {
 
-    private final Map<Tuple_, Value_> tupleMap = new LinkedHashMap<>();
+    private final TupleBucket<Tuple_, Value_> bucket = new TupleBucket<>();
 
     @Override
     public void put(Object[] indexProperties, Tuple_ tuple, Value_ value) {
         Objects.requireNonNull(value);
-        Value_ old = tupleMap.put(tuple, value);
-        if (old != null) {
+        if (!bucket.put(tuple, value)) {
             throw new IllegalStateException("Impossible state: the tuple (" + tuple
                     + ") with indexProperties (" + Arrays.toString(indexProperties)
                     + ") was already added in the indexer.");
@@ -41,7 +38,7 @@ public final class NoneIndexer<Tuple_ extends Tuple, Value_> implements Indexer<
 
     @Override
     public Value_ remove(Object[] indexProperties, Tuple_ tuple) {
-        Value_ value = tupleMap.remove(tuple);
+        Value_ value = bucket.remove(tuple);
         if (value == null) {
             throw new IllegalStateException("Impossible state: the tuple (" + tuple
                     + ") with indexProperties (" + Arrays.toString(indexProperties)
@@ -51,13 +48,18 @@ public final class NoneIndexer<Tuple_ extends Tuple, Value_> implements Indexer<
     }
 
     @Override
-    public void visit(Object[] indexProperties, Consumer<Map<Tuple_, Value_>> tupleValueMapVisitor) {
-        tupleValueMapVisitor.accept(tupleMap);
+    public void visit(Object[] indexProperties, BiConsumer<Tuple_, Value_> tupleValueVisitor) {
+        bucket.forEach(tupleValueVisitor);
     }
 
     @Override
     public int countValues(Object[] indexProperties) {
-        return tupleMap.size();
+        return bucket.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return bucket.isEmpty();
     }
 
 }
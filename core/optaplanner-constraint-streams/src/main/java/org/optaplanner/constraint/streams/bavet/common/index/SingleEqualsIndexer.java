@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import org.optaplanner.constraint.streams.bavet.common.Tuple;
+
+/**
+ * An {@link EqualsIndexer} for a single index property,
+ * which uses that property as the hash key directly, instead of wrapping it in an {@link IndexerKey}.
+ * <p>
+ * Single equal joins (for example on an int, a long or an enum) are the most common joins by far.
+ */
+public final class SingleEqualsIndexer<Tuple_ extends Tuple, Value_> implements Indexer<Tuple_, Value_> {
+
+    private final Map<Object, TupleBucket<Tuple_, Value_>> map = new HashMap<>();
+
+    @Override
+    public void put(Object[] indexProperties, Tuple_ tuple, Value_ value) {
+        Objects.requireNonNull(value);
+        Object indexProperty = indexProperties[0];
+        TupleBucket<Tuple_, Value_> bucket = map.get(indexProperty);
+        if (bucket == null) {
+            bucket = new TupleBucket<>();
+            map.put(indexProperty, bucket);
+        }
+        if (!bucket.put(tuple, value)) {
+            throw new IllegalStateException("Impossible state: the tuple (" + tuple
+                    + ") with indexProperties (" + Arrays.toString(indexProperties)
+                    + ") was already added in the indexer.");
+        }
+    }
+
+    @Override
+    public Value_ remove(Object[] indexProperties, Tuple_ tuple) {
+        Object indexProperty = indexProperties[0];
+        TupleBucket<Tuple_, Value_> bucket = map.get(indexProperty);
+        if (bucket == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + tuple
+                    + ") with indexProperties (" + Arrays.toString(indexProperties)
+                    + ") doesn't exist in the indexer.");
+        }
+        Value_ value = bucket.remove(tuple);
+        if (value == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + tuple
+                    + ") with indexProperties (" + Arrays.toString(indexProperties)
+                    + ") doesn't exist in the indexer.");
+        }
+        if (bucket.isEmpty()) {
+            map.remove(indexProperty);
+        }
+        return value;
+    }
+
+    @Override
+    public void visit(Object[] indexProperties, BiConsumer<Tuple_, Value_> tupleValueVisitor) {
+        TupleBucket<Tuple_, Value_> bucket = map.get(indexProperties[0]);
+        if (bucket == null) {
+            return;
+        }
+        bucket.forEach(tupleValueVisitor);
+    }
+
+    @Override
+    public int countValues(Object[] indexProperties) {
+        TupleBucket<Tuple_, Value_> bucket = map.get(indexProperties[0]);
+        if (bucket == null) {
+            return 0;
+        }
+        return bucket.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+}
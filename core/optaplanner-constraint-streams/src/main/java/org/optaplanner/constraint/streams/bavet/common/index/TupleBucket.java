@@ -0,0 +1,198 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.optaplanner.constraint.streams.bavet.common.Tuple;
+
+/**
+ * A tuple to value map by identity, without an entry instance per tuple,
+ * to avoid the per-put allocation of a {@link java.util.LinkedHashMap}.
+ * <p>
+ * The tuples and values are kept in 2 dense lists, which are iterated in a deterministic order.
+ * A remove moves the last tuple into the hole.
+ * Small buckets are scanned linearly,
+ * larger buckets also have an open addressing table (with linear probing) of positions in the dense lists.
+ *
+ * @param <Tuple_> the tuple type
+ * @param <Value_> the value type
+ */
+final class TupleBucket<Tuple_ extends Tuple, Value_> {
+
+    private static final int LINEAR_SCAN_THRESHOLD = 8;
+
+    private final List<Tuple_> tuples = new ArrayList<>(4);
+    private final List<Value_> values = new ArrayList<>(4);
+    /**
+     * Null while the bucket is small.
+     * Otherwise each slot holds a position in the dense lists plus 1, or 0 if it is free.
+     */
+    private int[] slotTable = null;
+
+    /**
+     * @param tuple never null
+     * @param value never null
+     * @return false if the tuple was already in this bucket, in which case nothing changed
+     */
+    public boolean put(Tuple_ tuple, Value_ value) {
+        if (indexOf(tuple) >= 0) {
+            return false;
+        }
+        tuples.add(tuple);
+        values.add(value);
+        int size = tuples.size();
+        if (slotTable != null) {
+            if (size * 2 > slotTable.length) {
+                rebuildSlotTable();
+            } else {
+                insertSlot(size - 1);
+            }
+        } else if (size > LINEAR_SCAN_THRESHOLD) {
+            rebuildSlotTable();
+        }
+        return true;
+    }
+
+    /**
+     * @param tuple never null
+     * @return null if the tuple was not in this bucket
+     */
+    public Value_ remove(Tuple_ tuple) {
+        int index;
+        if (slotTable == null) {
+            index = linearIndexOf(tuple);
+            if (index < 0) {
+                return null;
+            }
+        } else {
+            int slot = findSlot(tuple);
+            if (slot < 0) {
+                return null;
+            }
+            index = slotTable[slot] - 1;
+            deleteSlot(slot);
+        }
+        Value_ value = values.get(index);
+        int lastIndex = tuples.size() - 1;
+        if (index != lastIndex) {
+            Tuple_ lastTuple = tuples.get(lastIndex);
+            if (slotTable != null) {
+                slotTable[findSlot(lastTuple)] = index + 1;
+            }
+            tuples.set(index, lastTuple);
+            values.set(index, values.get(lastIndex));
+        }
+        tuples.remove(lastIndex);
+        values.remove(lastIndex);
+        return value;
+    }
+
+    public void forEach(BiConsumer<Tuple_, Value_> tupleValueVisitor) {
+        for (int i = 0; i < tuples.size(); i++) {
+            tupleValueVisitor.accept(tuples.get(i), values.get(i));
+        }
+    }
+
+    public int size() {
+        return tuples.size();
+    }
+
+    public boolean isEmpty() {
+        return tuples.isEmpty();
+    }
+
+    private int indexOf(Object tuple) {
+        if (slotTable == null) {
+            return linearIndexOf(tuple);
+        }
+        int slot = findSlot(tuple);
+        return slot < 0 ? -1 : slotTable[slot] - 1;
+    }
+
+    private int linearIndexOf(Object tuple) {
+        for (int i = 0; i < tuples.size(); i++) {
+            if (tuples.get(i) == tuple) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int homeSlot(Object tuple) {
+        int hash = System.identityHashCode(tuple);
+        return (hash ^ (hash >>> 16)) & (slotTable.length - 1);
+    }
+
+    private int findSlot(Object tuple) {
+        int mask = slotTable.length - 1;
+        int slot = homeSlot(tuple);
+        while (slotTable[slot] != 0) {
+            if (tuples.get(slotTable[slot] - 1) == tuple) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insertSlot(int index) {
+        int mask = slotTable.length - 1;
+        int slot = homeSlot(tuples.get(index));
+        while (slotTable[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slotTable[slot] = index + 1;
+    }
+
+    private void deleteSlot(int slot) {
+        // Shift back the following slots of the same probe sequence, because there are no tombstones
+        int mask = slotTable.length - 1;
+        int hole = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (slotTable[next] == 0) {
+                break;
+            }
+            int home = homeSlot(tuples.get(slotTable[next] - 1));
+            // Move it if its home slot is not cyclically in (hole, next]
+            boolean homeBetween = (hole < next) ? (hole < home && home <= next) : (hole < home || home <= next);
+            if (!homeBetween) {
+                slotTable[hole] = slotTable[next];
+                hole = next;
+            }
+        }
+        slotTable[hole] = 0;
+    }
+
+    private void rebuildSlotTable() {
+        int size = tuples.size();
+        slotTable = new int[Integer.highestOneBit(size) * 4];
+        for (int i = 0; i < size; i++) {
+            insertSlot(i);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TupleBucket(size=" + tuples.size() + ")";
+    }
+
+}
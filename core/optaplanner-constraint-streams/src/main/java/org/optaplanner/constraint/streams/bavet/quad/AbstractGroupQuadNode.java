@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.quad;
+
+import java.util.function.Consumer;
+
+import org.optaplanner.constraint.streams.bavet.common.AbstractGroupNode;
+import org.optaplanner.constraint.streams.bavet.common.Tuple;
+import org.optaplanner.core.api.function.PentaFunction;
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
+import org.optaplanner.core.impl.util.Pair;
+import org.optaplanner.core.impl.util.Quadruple;
+import org.optaplanner.core.impl.util.Triple;
+
+public abstract class AbstractGroupQuadNode<OldA, OldB, OldC, OldD, OutTuple_ extends Tuple, GroupKey_, ResultContainer_, Result_>
+        extends AbstractGroupNode<QuadTuple<OldA, OldB, OldC, OldD>, OutTuple_, GroupKey_, ResultContainer_, Result_> {
+
+    /**
+     * Null if the node has no collectors.
+     */
+    private final PentaFunction<ResultContainer_, OldA, OldB, OldC, OldD, Runnable> accumulator;
+
+    protected AbstractGroupQuadNode(int groupStoreIndex,
+            QuadConstraintCollector<OldA, OldB, OldC, OldD, ResultContainer_, Result_> collector,
+            Consumer<OutTuple_> nextNodesInsert, Consumer<OutTuple_> nextNodesRetract) {
+        super(groupStoreIndex,
+                collector == null ? null : collector.supplier(),
+                collector == null ? null : collector.finisher(),
+                nextNodesInsert, nextNodesRetract);
+        accumulator = collector == null ? null : collector.accumulator();
+    }
+
+    @Override
+    protected final Runnable accumulate(ResultContainer_ resultContainer, QuadTuple<OldA, OldB, OldC, OldD> tuple) {
+        return accumulator.apply(resultContainer, tuple.factA, tuple.factB, tuple.factC, tuple.factD);
+    }
+
+    protected static <OldA, OldB, OldC, OldD, A, B,
+            ResultContainerA_, ResultContainerB_>
+            QuadConstraintCollector<OldA, OldB, OldC, OldD, ?, Pair<A, B>> mergeCollectors(
+                    QuadConstraintCollector<OldA, OldB, OldC, OldD, ResultContainerA_, A> collectorA,
+                    QuadConstraintCollector<OldA, OldB, OldC, OldD, ResultContainerB_, B> collectorB) {
+        return ConstraintCollectors.compose(collectorA, collectorB, Pair::of);
+    }
+
+    protected static <OldA, OldB, OldC, OldD, A, B, C,
+            ResultContainerA_, ResultContainerB_, ResultContainerC_>
+            QuadConstraintCollector<OldA, OldB, OldC, OldD, ?, Triple<A, B, C>> mergeCollectors(
+                    QuadConstraintCollector<OldA, OldB, OldC, OldD, ResultContainerA_, A> collectorA,
+                    QuadConstraintCollector<OldA, OldB, OldC, OldD, ResultContainerB_, B> collectorB,
+                    QuadConstraintCollector<OldA, OldB, OldC, OldD, ResultContainerC_, C> collectorC) {
+        return ConstraintCollectors.compose(collectorA, collectorB, collectorC, Triple::of);
+    }
+
+    protected static <OldA, OldB, OldC, OldD, A, B, C, D,
+            ResultContainerA_, ResultContainerB_, ResultContainerC_, ResultContainerD_>
+            QuadConstraintCollector<OldA, OldB, OldC, OldD, ?, Quadruple<A, B, C, D>> mergeCollectors(
+                    QuadConstraintCollector<OldA, OldB, OldC, OldD, ResultContainerA_, A> collectorA,
+                    QuadConstraintCollector<OldA, OldB, OldC, OldD, ResultContainerB_, B> collectorB,
+                    QuadConstraintCollector<OldA, OldB, OldC, OldD, ResultContainerC_, C> collectorC,
+                    QuadConstraintCollector<OldA, OldB, OldC, OldD, ResultContainerD_, D> collectorD) {
+        return ConstraintCollectors.compose(collectorA, collectorB, collectorC, collectorD, Quadruple::of);
+    }
+
+}
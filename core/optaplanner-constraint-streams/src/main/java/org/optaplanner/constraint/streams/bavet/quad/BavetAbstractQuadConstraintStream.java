@@ -0,0 +1,487 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.quad;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.optaplanner.constraint.streams.bavet.BavetConstraintFactory;
+import org.optaplanner.constraint.streams.bavet.bi.BavetGroupBiConstraintStream;
+import org.optaplanner.constraint.streams.bavet.bi.BiTuple;
+import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.constraint.streams.bavet.common.GroupNodeConstructor;
+import org.optaplanner.constraint.streams.bavet.tri.BavetGroupTriConstraintStream;
+import org.optaplanner.constraint.streams.bavet.tri.TriTuple;
+import org.optaplanner.constraint.streams.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.constraint.streams.bavet.uni.BavetGroupUniConstraintStream;
+import org.optaplanner.constraint.streams.bavet.uni.BavetIfExistsBridgeUniConstraintStream;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.constraint.streams.common.RetrievalSemantics;
+import org.optaplanner.constraint.streams.common.ScoreImpactType;
+import org.optaplanner.constraint.streams.penta.DefaultPentaJoiner;
+import org.optaplanner.constraint.streams.penta.FilteringPentaJoiner;
+import org.optaplanner.constraint.streams.quad.InnerQuadConstraintStream;
+import org.optaplanner.core.api.function.PentaPredicate;
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.QuadPredicate;
+import org.optaplanner.core.api.function.ToIntQuadFunction;
+import org.optaplanner.core.api.function.ToLongQuadFunction;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
+import org.optaplanner.core.api.score.stream.penta.PentaJoiner;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintStream;
+import org.optaplanner.core.api.score.stream.tri.TriConstraintStream;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+
+public abstract class BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> extends BavetAbstractConstraintStream<Solution_>
+        implements InnerQuadConstraintStream<A, B, C, D> {
+
+    protected final List<BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>> childStreamList = new ArrayList<>(2);
+
+    public BavetAbstractQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            RetrievalSemantics retrievalSemantics) {
+        super(constraintFactory, retrievalSemantics);
+    }
+
+    @Override
+    public List<BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>> getChildStreamList() {
+        return childStreamList;
+    }
+
+    // ************************************************************************
+    // Stream builder methods
+    // ************************************************************************
+
+    public <Stream_ extends BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>> Stream_ shareAndAddChild(
+            Stream_ stream) {
+        return constraintFactory.share(stream, childStreamList::add);
+    }
+
+    // ************************************************************************
+    // Filter
+    // ************************************************************************
+
+    @Override
+    public BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> filter(QuadPredicate<A, B, C, D> predicate) {
+        return shareAndAddChild(
+                new BavetFilterQuadConstraintStream<>(constraintFactory, this, predicate));
+    }
+
+    // ************************************************************************
+    // If (not) exists
+    // ************************************************************************
+
+    @SafeVarargs
+    @Override
+    public final <E> QuadConstraintStream<A, B, C, D> ifExists(Class<E> otherClass,
+            PentaJoiner<A, B, C, D, E>... joiners) {
+        UniConstraintStream<E> otherStream = getRetrievalSemantics() == RetrievalSemantics.STANDARD
+                ? constraintFactory.forEach(otherClass)
+                : constraintFactory.from(otherClass);
+        return ifExistsOrNot(true, otherStream, joiners);
+    }
+
+    @SafeVarargs
+    @Override
+    public final <E> QuadConstraintStream<A, B, C, D> ifExistsIncludingNullVars(Class<E> otherClass,
+            PentaJoiner<A, B, C, D, E>... joiners) {
+        UniConstraintStream<E> otherStream = getRetrievalSemantics() == RetrievalSemantics.STANDARD
+                ? constraintFactory.forEachIncludingNullVars(otherClass)
+                : constraintFactory.fromUnfiltered(otherClass);
+        return ifExistsOrNot(true, otherStream, joiners);
+    }
+
+    @SafeVarargs
+    public final <E> QuadConstraintStream<A, B, C, D> ifExists(UniConstraintStream<E> otherStream,
+            PentaJoiner<A, B, C, D, E>... joiners) {
+        return ifExistsOrNot(true, otherStream, joiners);
+    }
+
+    @SafeVarargs
+    @Override
+    public final <E> QuadConstraintStream<A, B, C, D> ifNotExists(Class<E> otherClass,
+            PentaJoiner<A, B, C, D, E>... joiners) {
+        UniConstraintStream<E> otherStream = getRetrievalSemantics() == RetrievalSemantics.STANDARD
+                ? constraintFactory.forEach(otherClass)
+                : constraintFactory.from(otherClass);
+        return ifExistsOrNot(false, otherStream, joiners);
+    }
+
+    @SafeVarargs
+    @Override
+    public final <E> QuadConstraintStream<A, B, C, D> ifNotExistsIncludingNullVars(Class<E> otherClass,
+            PentaJoiner<A, B, C, D, E>... joiners) {
+        UniConstraintStream<E> otherStream = getRetrievalSemantics() == RetrievalSemantics.STANDARD
+                ? constraintFactory.forEachIncludingNullVars(otherClass)
+                : constraintFactory.fromUnfiltered(otherClass);
+        return ifExistsOrNot(false, otherStream, joiners);
+    }
+
+    @SafeVarargs
+    public final <E> QuadConstraintStream<A, B, C, D> ifNotExists(UniConstraintStream<E> otherStream,
+            PentaJoiner<A, B, C, D, E>... joiners) {
+        return ifExistsOrNot(false, otherStream, joiners);
+    }
+
+    private final <E> QuadConstraintStream<A, B, C, D> ifExistsOrNot(boolean shouldExist,
+            UniConstraintStream<E> otherStream, PentaJoiner<A, B, C, D, E>[] joiners) {
+        BavetAbstractUniConstraintStream<Solution_, E> other = assertBavetUniConstraintStream(otherStream);
+        int indexOfFirstFilter = -1;
+        // Prepare the indexing joiner and the filter, if any, that will be used by the node.
+        DefaultPentaJoiner<A, B, C, D, E> indexingJoiner = null;
+        PentaPredicate<A, B, C, D, E> filtering = null;
+        for (int i = 0; i < joiners.length; i++) {
+            PentaJoiner<A, B, C, D, E> joiner = joiners[i];
+            boolean hasAFilter = indexOfFirstFilter >= 0;
+            if (joiner instanceof FilteringPentaJoiner) {
+                if (!hasAFilter) { // From now on, only allow filtering joiners.
+                    indexOfFirstFilter = i;
+                }
+                // Merge all filters into one to avoid paying the penalty for lack of indexing more than once.
+                FilteringPentaJoiner<A, B, C, D, E> castJoiner = (FilteringPentaJoiner<A, B, C, D, E>) joiner;
+                filtering = filtering == null ? castJoiner.getFilter() : filtering.and(castJoiner.getFilter());
+            } else {
+                if (hasAFilter) {
+                    throw new IllegalStateException("Indexing joiner (" + joiner
+                            + ") must not follow a filtering joiner (" + joiners[indexOfFirstFilter] + ").");
+                } else { // Merge this Joiner with the existing Joiners.
+                    DefaultPentaJoiner<A, B, C, D, E> castJoiner = (DefaultPentaJoiner<A, B, C, D, E>) joiner;
+                    indexingJoiner = indexingJoiner == null ? castJoiner : indexingJoiner.and(castJoiner);
+                }
+            }
+        }
+        if (indexingJoiner == null) {
+            indexingJoiner = DefaultPentaJoiner.merge();
+        }
+        BavetIfExistsBridgeUniConstraintStream<Solution_, E> parentBridgeE =
+                new BavetIfExistsBridgeUniConstraintStream<>(constraintFactory, other);
+        return constraintFactory.share(
+                new BavetIfExistsQuadConstraintStream<>(constraintFactory, this, parentBridgeE,
+                        shouldExist, indexingJoiner, filtering),
+                ifExistsStream_ -> {
+                    // Connect the bridge upstream, as it is an actual new ifExists.
+                    childStreamList.add(ifExistsStream_);
+                    other.getChildStreamList().add(parentBridgeE);
+                    parentBridgeE.setIfExistsStream(ifExistsStream_);
+                });
+    }
+
+    // ************************************************************************
+    // Group by
+    // ************************************************************************
+
+    @Override
+    public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        GroupNodeConstructor<QuadTuple<A, B, C, D>, UniTuple<Result_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group0Mapping1CollectorQuadNode<>(
+                        groupStoreIndex, collector, insert, retract, outputStoreSize);
+        return buildUniGroupBy(nodeConstructor, collector);
+    }
+
+    @Override
+    public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_> BiConstraintStream<ResultA_, ResultB_> groupBy(
+            QuadConstraintCollector<A, B, C, D, ResultContainerA_, ResultA_> collectorA,
+            QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB) {
+        GroupNodeConstructor<QuadTuple<A, B, C, D>, BiTuple<ResultA_, ResultB_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group0Mapping2CollectorQuadNode<>(
+                        groupStoreIndex, AbstractGroupQuadNode.mergeCollectors(collectorA, collectorB), insert, retract,
+                        outputStoreSize);
+        return buildBiGroupBy(nodeConstructor, collectorA, collectorB);
+    }
+
+    @Override
+    public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_, ResultContainerC_, ResultC_>
+            TriConstraintStream<ResultA_, ResultB_, ResultC_>
+            groupBy(QuadConstraintCollector<A, B, C, D, ResultContainerA_, ResultA_> collectorA,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC) {
+        GroupNodeConstructor<QuadTuple<A, B, C, D>, TriTuple<ResultA_, ResultB_, ResultC_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group0Mapping3CollectorQuadNode<>(
+                        groupStoreIndex, AbstractGroupQuadNode.mergeCollectors(collectorA, collectorB, collectorC),
+                        insert, retract, outputStoreSize);
+        return buildTriGroupBy(nodeConstructor, collectorA, collectorB, collectorC);
+    }
+
+    @Override
+    public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<ResultA_, ResultB_, ResultC_, ResultD_>
+            groupBy(QuadConstraintCollector<A, B, C, D, ResultContainerA_, ResultA_> collectorA,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        GroupNodeConstructor<QuadTuple<A, B, C, D>, QuadTuple<ResultA_, ResultB_, ResultC_, ResultD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group0Mapping4CollectorQuadNode<>(
+                        groupStoreIndex,
+                        AbstractGroupQuadNode.mergeCollectors(collectorA, collectorB, collectorC, collectorD), insert,
+                        retract, outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor, collectorA, collectorB, collectorC, collectorD);
+    }
+
+    @Override
+    public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping) {
+        GroupNodeConstructor<QuadTuple<A, B, C, D>, UniTuple<GroupKey_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group1Mapping0CollectorQuadNode<>(
+                        groupKeyMapping, groupStoreIndex, insert, retract, outputStoreSize);
+        return buildUniGroupBy(nodeConstructor, groupKeyMapping);
+    }
+
+    @Override
+    public <GroupKey_, ResultContainerB_, ResultB_, ResultContainerC_, ResultC_>
+            TriConstraintStream<GroupKey_, ResultB_, ResultC_> groupBy(QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC) {
+        GroupNodeConstructor<QuadTuple<A, B, C, D>, TriTuple<GroupKey_, ResultB_, ResultC_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group1Mapping2CollectorQuadNode<>(
+                        groupKeyMapping, groupStoreIndex, AbstractGroupQuadNode.mergeCollectors(collectorB, collectorC),
+                        insert, retract, outputStoreSize);
+        return buildTriGroupBy(nodeConstructor, groupKeyMapping, collectorB, collectorC);
+    }
+
+    @Override
+    public <GroupKey_, ResultContainerB_, ResultB_, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<GroupKey_, ResultB_, ResultC_, ResultD_>
+            groupBy(QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        GroupNodeConstructor<QuadTuple<A, B, C, D>, QuadTuple<GroupKey_, ResultB_, ResultC_, ResultD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group1Mapping3CollectorQuadNode<>(
+                        groupKeyMapping, groupStoreIndex,
+                        AbstractGroupQuadNode.mergeCollectors(collectorB, collectorC, collectorD), insert, retract,
+                        outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor, groupKeyMapping, collectorB, collectorC, collectorD);
+    }
+
+    @Override
+    public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
+            QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        GroupNodeConstructor<QuadTuple<A, B, C, D>, BiTuple<GroupKey_, Result_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group1Mapping1CollectorQuadNode<>(
+                        groupKeyMapping, groupStoreIndex, collector, insert, retract, outputStoreSize);
+        return buildBiGroupBy(nodeConstructor, groupKeyMapping, collector);
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
+            QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping, QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping) {
+        GroupNodeConstructor<QuadTuple<A, B, C, D>, BiTuple<GroupKeyA_, GroupKeyB_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group2Mapping0CollectorQuadNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupStoreIndex, insert, retract, outputStoreSize);
+        return buildBiGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping);
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
+            QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping, QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        GroupNodeConstructor<QuadTuple<A, B, C, D>, TriTuple<GroupKeyA_, GroupKeyB_, Result_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group2Mapping1CollectorQuadNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupStoreIndex, collector, insert, retract,
+                        outputStoreSize);
+        return buildTriGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping, collector);
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<GroupKeyA_, GroupKeyB_, ResultC_, ResultD_> groupBy(
+                    QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping, QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        GroupNodeConstructor<QuadTuple<A, B, C, D>, QuadTuple<GroupKeyA_, GroupKeyB_, ResultC_, ResultD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group2Mapping2CollectorQuadNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupStoreIndex,
+                        AbstractGroupQuadNode.mergeCollectors(collectorC, collectorD), insert, retract,
+                        outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping, collectorC, collectorD);
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, GroupKeyC_> TriConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_> groupBy(
+            QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping, QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+            QuadFunction<A, B, C, D, GroupKeyC_> groupKeyCMapping) {
+        GroupNodeConstructor<QuadTuple<A, B, C, D>, TriTuple<GroupKeyA_, GroupKeyB_, GroupKeyC_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group3Mapping0CollectorQuadNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, groupStoreIndex, insert, retract,
+                        outputStoreSize);
+        return buildTriGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping, groupKeyCMapping);
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, GroupKeyC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_, ResultD_>
+            groupBy(QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping, QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+                    QuadFunction<A, B, C, D, GroupKeyC_> groupKeyCMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        GroupNodeConstructor<QuadTuple<A, B, C, D>, QuadTuple<GroupKeyA_, GroupKeyB_, GroupKeyC_, ResultD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group3Mapping1CollectorQuadNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, groupStoreIndex, collectorD, insert,
+                        retract, outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, collectorD);
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_> QuadConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_>
+            groupBy(QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping, QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+                    QuadFunction<A, B, C, D, GroupKeyC_> groupKeyCMapping, QuadFunction<A, B, C, D, GroupKeyD_> groupKeyDMapping) {
+        GroupNodeConstructor<QuadTuple<A, B, C, D>, QuadTuple<GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group4Mapping0CollectorQuadNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, groupKeyDMapping, groupStoreIndex,
+                        insert, retract, outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor,
+                groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, groupKeyDMapping);
+    }
+
+    private <NewA> UniConstraintStream<NewA> buildUniGroupBy(
+            GroupNodeConstructor<QuadTuple<A, B, C, D>, UniTuple<NewA>> nodeConstructor, Object... groupByArguments) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, UniTuple<NewA>> bridge =
+                shareAndAddChild(new BavetGroupBridgeQuadConstraintStream<>(constraintFactory, this,
+                        nodeConstructor, groupByArguments));
+        return constraintFactory.share(
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge),
+                bridge::setGroupStream);
+    }
+
+    private <NewA, NewB> BiConstraintStream<NewA, NewB> buildBiGroupBy(
+            GroupNodeConstructor<QuadTuple<A, B, C, D>, BiTuple<NewA, NewB>> nodeConstructor,
+            Object... groupByArguments) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, BiTuple<NewA, NewB>> bridge =
+                shareAndAddChild(new BavetGroupBridgeQuadConstraintStream<>(constraintFactory, this,
+                        nodeConstructor, groupByArguments));
+        return constraintFactory.share(
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge),
+                bridge::setGroupStream);
+    }
+
+    private <NewA, NewB, NewC> TriConstraintStream<NewA, NewB, NewC> buildTriGroupBy(
+            GroupNodeConstructor<QuadTuple<A, B, C, D>, TriTuple<NewA, NewB, NewC>> nodeConstructor,
+            Object... groupByArguments) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, TriTuple<NewA, NewB, NewC>> bridge =
+                shareAndAddChild(new BavetGroupBridgeQuadConstraintStream<>(constraintFactory, this,
+                        nodeConstructor, groupByArguments));
+        return constraintFactory.share(
+                new BavetGroupTriConstraintStream<>(constraintFactory, bridge),
+                bridge::setGroupStream);
+    }
+
+    private <NewA, NewB, NewC, NewD> QuadConstraintStream<NewA, NewB, NewC, NewD> buildQuadGroupBy(
+            GroupNodeConstructor<QuadTuple<A, B, C, D>, QuadTuple<NewA, NewB, NewC, NewD>> nodeConstructor,
+            Object... groupByArguments) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, QuadTuple<NewA, NewB, NewC, NewD>> bridge =
+                shareAndAddChild(new BavetGroupBridgeQuadConstraintStream<>(constraintFactory, this,
+                        nodeConstructor, groupByArguments));
+        return constraintFactory.share(
+                new BavetGroupQuadConstraintStream<>(constraintFactory, bridge),
+                bridge::setGroupStream);
+    }
+
+    // ************************************************************************
+    // Operations with duplicate tuple possibility
+    // ************************************************************************
+
+    @Override
+    public <ResultA_> UniConstraintStream<ResultA_> map(QuadFunction<A, B, C, D, ResultA_> mapping) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <ResultD_> QuadConstraintStream<A, B, C, ResultD_> flattenLast(Function<D, Iterable<ResultD_>> mapping) {
+        throw new UnsupportedOperationException();
+    }
+
+    // ************************************************************************
+    // Penalize/reward
+    // ************************************************************************
+
+    @Override
+    public final Constraint impactScore(String constraintPackage, String constraintName, Score<?> constraintWeight,
+            ScoreImpactType impactType) {
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = shareAndAddChild(
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this));
+        return buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType, stream);
+    }
+
+    @Override
+    public final Constraint impactScore(String constraintPackage, String constraintName, Score<?> constraintWeight,
+            ToIntQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = shareAndAddChild(
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, matchWeigher));
+        return buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType, stream);
+    }
+
+    @Override
+    public final Constraint impactScoreLong(String constraintPackage, String constraintName,
+            Score<?> constraintWeight, ToLongQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = shareAndAddChild(
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, matchWeigher));
+        return buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType, stream);
+    }
+
+    @Override
+    public final Constraint impactScoreBigDecimal(String constraintPackage, String constraintName,
+            Score<?> constraintWeight, QuadFunction<A, B, C, D, BigDecimal> matchWeigher, ScoreImpactType impactType) {
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = shareAndAddChild(
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, matchWeigher));
+        return buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType, stream);
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurable(String constraintPackage, String constraintName,
+            ScoreImpactType impactType) {
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = shareAndAddChild(
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this));
+        return buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType, stream);
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurable(String constraintPackage, String constraintName,
+            ToIntQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = shareAndAddChild(
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, matchWeigher));
+        return buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType, stream);
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurableLong(String constraintPackage, String constraintName,
+            ToLongQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = shareAndAddChild(
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, matchWeigher));
+        return buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType, stream);
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurableBigDecimal(String constraintPackage, String constraintName,
+            QuadFunction<A, B, C, D, BigDecimal> matchWeigher, ScoreImpactType impactType) {
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = shareAndAddChild(
+                new BavetScoringQuadConstraintStream<>(constraintFactory, this, matchWeigher));
+        return buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType, stream);
+    }
+
+}
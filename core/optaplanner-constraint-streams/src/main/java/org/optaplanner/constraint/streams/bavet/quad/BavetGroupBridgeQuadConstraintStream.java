@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.quad;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.optaplanner.constraint.streams.bavet.BavetConstraintFactory;
+import org.optaplanner.constraint.streams.bavet.common.AbstractGroupNode;
+import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.constraint.streams.bavet.common.GroupNodeConstructor;
+import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
+import org.optaplanner.constraint.streams.bavet.common.Tuple;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.ConstraintStream;
+
+public final class BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, NewTuple_ extends Tuple>
+        extends BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> {
+
+    private final BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent;
+    private final GroupNodeConstructor<QuadTuple<A, B, C, D>, NewTuple_> nodeConstructor;
+    /**
+     * The group key mappings and collectors that the node is built from, used for node sharing.
+     */
+    private final Object[] groupByArguments;
+    private BavetAbstractConstraintStream<Solution_> groupStream;
+
+    public BavetGroupBridgeQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent,
+            GroupNodeConstructor<QuadTuple<A, B, C, D>, NewTuple_> nodeConstructor,
+            Object[] groupByArguments) {
+        super(constraintFactory, parent.getRetrievalSemantics());
+        this.parent = parent;
+        this.nodeConstructor = nodeConstructor;
+        this.groupByArguments = groupByArguments;
+    }
+
+    @Override
+    public boolean guaranteesDistinct() {
+        return parent.guaranteesDistinct();
+    }
+
+    public void setGroupStream(BavetAbstractConstraintStream<Solution_> groupStream) {
+        this.groupStream = groupStream;
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    public void collectActiveConstraintStreams(Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet) {
+        parent.collectActiveConstraintStreams(constraintStreamSet);
+        constraintStreamSet.add(this);
+    }
+
+    @Override
+    public ConstraintStream getTupleSource() {
+        return parent.getTupleSource();
+    }
+
+    @Override
+    public <Score_ extends Score<Score_>> void buildNode(NodeBuildHelper<Score_> buildHelper) {
+        if (!childStreamList.isEmpty()) {
+            throw new IllegalStateException("Impossible state: the stream (" + this
+                    + ") has an non-empty childStreamList (" + childStreamList + ") but it's a groupBy bridge.");
+        }
+        int inputStoreIndex = buildHelper.reserveTupleStoreIndex(parent.getTupleSource());
+        Consumer<NewTuple_> insert = buildHelper.getAggregatedInsert(groupStream.getChildStreamList());
+        Consumer<NewTuple_> retract = buildHelper.getAggregatedRetract(groupStream.getChildStreamList());
+        int outputStoreSize = buildHelper.extractTupleStoreSize(groupStream);
+        AbstractGroupNode<QuadTuple<A, B, C, D>, NewTuple_, ?, ?, ?> node = nodeConstructor.apply(inputStoreIndex,
+                insert, retract, outputStoreSize);
+        buildHelper.addNode(node);
+        buildHelper.putInsertRetract(this, node::insert, node::retract);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BavetGroupBridgeQuadConstraintStream<?, ?, ?, ?, ?, ?> that =
+                (BavetGroupBridgeQuadConstraintStream<?, ?, ?, ?, ?, ?>) o;
+        return Objects.equals(parent, that.parent)
+                && Arrays.equals(groupByArguments, that.groupByArguments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parent, Arrays.hashCode(groupByArguments));
+    }
+
+    @Override
+    public String toString() {
+        return "GroupBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
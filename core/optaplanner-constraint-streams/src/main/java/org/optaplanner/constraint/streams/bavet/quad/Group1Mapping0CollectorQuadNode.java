@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.quad;
+
+import java.util.function.Consumer;
+
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.core.api.function.QuadFunction;
+
+public final class Group1Mapping0CollectorQuadNode<OldA, OldB, OldC, OldD, A>
+        extends AbstractGroupQuadNode<OldA, OldB, OldC, OldD, UniTuple<A>, A, Void, Void> {
+
+    private final QuadFunction<OldA, OldB, OldC, OldD, A> groupKeyMapping;
+    private final int outputStoreSize;
+
+    public Group1Mapping0CollectorQuadNode(QuadFunction<OldA, OldB, OldC, OldD, A> groupKeyMapping,
+            int groupStoreIndex, Consumer<UniTuple<A>> nextNodesInsert, Consumer<UniTuple<A>> nextNodesRetract,
+            int outputStoreSize) {
+        super(groupStoreIndex, null, nextNodesInsert, nextNodesRetract);
+        this.groupKeyMapping = groupKeyMapping;
+        this.outputStoreSize = outputStoreSize;
+    }
+
+    @Override
+    protected A createGroupKey(QuadTuple<OldA, OldB, OldC, OldD> tuple) {
+        return groupKeyMapping.apply(tuple.factA, tuple.factB, tuple.factC, tuple.factD);
+    }
+
+    @Override
+    protected UniTuple<A> createOutTuple(A groupKey, Void result) {
+        return new UniTuple<>(groupKey, outputStoreSize);
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.quad;
+
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
+import org.optaplanner.core.impl.util.Triple;
+
+public final class Group3Mapping1CollectorQuadNode<OldA, OldB, OldC, OldD, A, B, C, D, ResultContainer_>
+        extends AbstractGroupQuadNode<OldA, OldB, OldC, OldD, QuadTuple<A, B, C, D>, Triple<A, B, C>, ResultContainer_, D> {
+
+    private final QuadFunction<OldA, OldB, OldC, OldD, A> groupKeyAMapping;
+    private final QuadFunction<OldA, OldB, OldC, OldD, B> groupKeyBMapping;
+    private final QuadFunction<OldA, OldB, OldC, OldD, C> groupKeyCMapping;
+    private final int outputStoreSize;
+
+    public Group3Mapping1CollectorQuadNode(QuadFunction<OldA, OldB, OldC, OldD, A> groupKeyAMapping,
+            QuadFunction<OldA, OldB, OldC, OldD, B> groupKeyBMapping,
+            QuadFunction<OldA, OldB, OldC, OldD, C> groupKeyCMapping, int groupStoreIndex,
+            QuadConstraintCollector<OldA, OldB, OldC, OldD, ResultContainer_, D> collector,
+            Consumer<QuadTuple<A, B, C, D>> nextNodesInsert, Consumer<QuadTuple<A, B, C, D>> nextNodesRetract,
+            int outputStoreSize) {
+        super(groupStoreIndex, collector, nextNodesInsert, nextNodesRetract);
+        this.groupKeyAMapping = groupKeyAMapping;
+        this.groupKeyBMapping = groupKeyBMapping;
+        this.groupKeyCMapping = groupKeyCMapping;
+        this.outputStoreSize = outputStoreSize;
+    }
+
+    @Override
+    protected Triple<A, B, C> createGroupKey(QuadTuple<OldA, OldB, OldC, OldD> tuple) {
+        OldA oldA = tuple.factA;
+        OldB oldB = tuple.factB;
+        OldC oldC = tuple.factC;
+        OldD oldD = tuple.factD;
+        A a = groupKeyAMapping.apply(oldA, oldB, oldC, oldD);
+        B b = groupKeyBMapping.apply(oldA, oldB, oldC, oldD);
+        C c = groupKeyCMapping.apply(oldA, oldB, oldC, oldD);
+        return Triple.of(a, b, c);
+    }
+
+    @Override
+    protected QuadTuple<A, B, C, D> createOutTuple(Triple<A, B, C> groupKey, D result) {
+        return new QuadTuple<>(groupKey.getA(), groupKey.getB(), groupKey.getC(), result, outputStoreSize);
+    }
+
+}
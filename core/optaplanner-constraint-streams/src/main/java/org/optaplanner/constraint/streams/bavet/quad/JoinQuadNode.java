@@ -0,0 +1,230 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.quad;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.optaplanner.constraint.streams.bavet.common.AbstractNode;
+import org.optaplanner.constraint.streams.bavet.common.BavetTupleState;
+import org.optaplanner.constraint.streams.bavet.common.index.Indexer;
+import org.optaplanner.constraint.streams.bavet.tri.TriTuple;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.core.api.function.TriFunction;
+
+public final class JoinQuadNode<A, B, C, D> extends AbstractNode {
+
+    private final TriFunction<A, B, C, Object[]> mappingABC;
+    private final Function<D, Object[]> mappingD;
+    private final int inputStoreIndexABC;
+    private final int inputStoreIndexD;
+    /**
+     * Calls for example {@link QuadScorer#insert(QuadTuple)} and/or ...
+     */
+    private final Consumer<QuadTuple<A, B, C, D>> nextNodesInsert;
+    /**
+     * Calls for example {@link QuadScorer#retract(QuadTuple)} and/or ...
+     */
+    private final Consumer<QuadTuple<A, B, C, D>> nextNodesRetract;
+    private final int outputStoreSize;
+
+    private final Indexer<TriTuple<A, B, C>, Set<QuadTuple<A, B, C, D>>> indexerABC;
+    private final Indexer<UniTuple<D>, Set<QuadTuple<A, B, C, D>>> indexerD;
+    private final Queue<QuadTuple<A, B, C, D>> dirtyTupleQueue;
+
+    public JoinQuadNode(TriFunction<A, B, C, Object[]> mappingABC, Function<D, Object[]> mappingD,
+            int inputStoreIndexABC, int inputStoreIndexD,
+            Consumer<QuadTuple<A, B, C, D>> nextNodesInsert, Consumer<QuadTuple<A, B, C, D>> nextNodesRetract,
+            int outputStoreSize,
+            Indexer<TriTuple<A, B, C>, Set<QuadTuple<A, B, C, D>>> indexerABC,
+            Indexer<UniTuple<D>, Set<QuadTuple<A, B, C, D>>> indexerD) {
+        this.mappingABC = mappingABC;
+        this.mappingD = mappingD;
+        this.inputStoreIndexABC = inputStoreIndexABC;
+        this.inputStoreIndexD = inputStoreIndexD;
+        this.nextNodesInsert = nextNodesInsert;
+        this.nextNodesRetract = nextNodesRetract;
+        this.outputStoreSize = outputStoreSize;
+        this.indexerABC = indexerABC;
+        this.indexerD = indexerD;
+        dirtyTupleQueue = new ArrayDeque<>(1000);
+    }
+
+    public void insertABC(TriTuple<A, B, C> tupleABC) {
+        if (tupleABC.store[inputStoreIndexABC] != null) {
+            throw new IllegalStateException("Impossible state: the input for the fact ("
+                    + tupleABC.factA + ", " + tupleABC.factB + ", " + tupleABC.factC
+                    + ") was already added in the tupleStore.");
+        }
+        Object[] indexProperties = mappingABC.apply(tupleABC.factA, tupleABC.factB, tupleABC.factC);
+        tupleABC.store[inputStoreIndexABC] = indexProperties;
+
+        Set<QuadTuple<A, B, C, D>> tupleABCDSetABC = new LinkedHashSet<>();
+        indexerABC.put(indexProperties, tupleABC, tupleABCDSetABC);
+        indexerD.visit(indexProperties, (tupleD, tupleABCDSetD) -> {
+            QuadTuple<A, B, C, D> tupleABCD = new QuadTuple<>(tupleABC.factA, tupleABC.factB, tupleABC.factC,
+                    tupleD.factA, outputStoreSize);
+            tupleABCD.state = BavetTupleState.CREATING;
+            tupleABCDSetABC.add(tupleABCD);
+            tupleABCDSetD.add(tupleABCD);
+            dirtyTupleQueue.add(tupleABCD);
+            markNodeDirty();
+        });
+    }
+
+    public void retractABC(TriTuple<A, B, C> tupleABC) {
+        Object[] indexProperties = (Object[]) tupleABC.store[inputStoreIndexABC];
+        if (indexProperties == null) {
+            // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
+            return;
+        }
+        tupleABC.store[inputStoreIndexABC] = null;
+
+        Set<QuadTuple<A, B, C, D>> tupleABCDSetABC = indexerABC.remove(indexProperties, tupleABC);
+        // Remove tupleABCDs from the other side
+        indexerD.visit(indexProperties, (tupleD, tupleABCDSetD) -> {
+            // TODO Performance: if tupleABCD would contain tupleD, do this faster code instead:
+            // for (tupleABCD : tupleABCDSetABC { tupleABCDSetMapD.get(tupleABCD.tupleD).remove(tupleABCD); }
+            boolean changed = tupleABCDSetD.removeAll(tupleABCDSetABC);
+            if (!changed) {
+                throw new IllegalStateException("Impossible state: the fact ("
+                        + tupleABC.factA + ", " + tupleABC.factB + ", " + tupleABC.factC
+                        + ") with indexProperties (" + Arrays.toString(indexProperties)
+                        + ") has tuples on the ABC side that didn't exist on the D side.");
+            }
+        });
+        for (QuadTuple<A, B, C, D> tupleABCD : tupleABCDSetABC) {
+            killTuple(tupleABCD);
+        }
+    }
+
+    public void insertD(UniTuple<D> tupleD) {
+        if (tupleD.store[inputStoreIndexD] != null) {
+            throw new IllegalStateException("Impossible state: the input for the fact ("
+                    + tupleD.factA + ") was already added in the tupleStore.");
+        }
+        Object[] indexProperties = mappingD.apply(tupleD.factA);
+        tupleD.store[inputStoreIndexD] = indexProperties;
+
+        Set<QuadTuple<A, B, C, D>> tupleABCDSetD = new LinkedHashSet<>();
+        indexerD.put(indexProperties, tupleD, tupleABCDSetD);
+        indexerABC.visit(indexProperties, (tupleABC, tupleABCDSetABC) -> {
+            QuadTuple<A, B, C, D> tupleABCD = new QuadTuple<>(tupleABC.factA, tupleABC.factB, tupleABC.factC,
+                    tupleD.factA, outputStoreSize);
+            tupleABCD.state = BavetTupleState.CREATING;
+            tupleABCDSetD.add(tupleABCD);
+            tupleABCDSetABC.add(tupleABCD);
+            dirtyTupleQueue.add(tupleABCD);
+            markNodeDirty();
+        });
+    }
+
+    public void retractD(UniTuple<D> tupleD) {
+        Object[] indexProperties = (Object[]) tupleD.store[inputStoreIndexD];
+        if (indexProperties == null) {
+            // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
+            return;
+        }
+        tupleD.store[inputStoreIndexD] = null;
+
+        Set<QuadTuple<A, B, C, D>> tupleABCDSetD = indexerD.remove(indexProperties, tupleD);
+        // Remove tupleABCDs from the other side
+        indexerABC.visit(indexProperties, (tupleABC, tupleABCDSetABC) -> {
+            // TODO Performance: if tupleABCD would contain tupleABC, do this faster code instead:
+            // for (tupleABCD : tupleABCDSetD { tupleABCDSetMapABC.get(tupleABCD.tupleABC).remove(tupleABCD); }
+            boolean changed = tupleABCDSetABC.removeAll(tupleABCDSetD);
+            if (!changed) {
+                throw new IllegalStateException("Impossible state: the fact ("
+                        + tupleABC.factA + ", " + tupleABC.factB + ", " + tupleABC.factC
+                        + ") with indexProperties (" + Arrays.toString(indexProperties)
+                        + ") has tuples on the D side that didn't exist on the ABC side.");
+            }
+        });
+        for (QuadTuple<A, B, C, D> tupleABCD : tupleABCDSetD) {
+            killTuple(tupleABCD);
+        }
+    }
+
+    private void killTuple(QuadTuple<A, B, C, D> tupleABCD) {
+        // Don't add the tuple to the dirtyTupleQueue twice
+        if (tupleABCD.state.isDirty()) {
+            switch (tupleABCD.state) {
+                case CREATING:
+                    // Kill it before it propagates
+                    tupleABCD.state = BavetTupleState.ABORTING;
+                    break;
+                case UPDATING:
+                    // Kill the original propagation
+                    tupleABCD.state = BavetTupleState.DYING;
+                    break;
+                case DYING:
+                    break;
+                default:
+                    throw new IllegalStateException("Impossible state: The tuple for the facts ("
+                            + tupleABCD.factA + ", " + tupleABCD.factB + ", " + tupleABCD.factC
+                            + ", " + tupleABCD.factD
+                            + ") has the dirty state (" + tupleABCD.state + ").");
+            }
+        } else {
+            tupleABCD.state = BavetTupleState.DYING;
+            dirtyTupleQueue.add(tupleABCD);
+            markNodeDirty();
+        }
+    }
+
+    @Override
+    public void calculateScore() {
+        dirtyTupleQueue.forEach(tuple -> {
+            // Retract
+            if (tuple.state == BavetTupleState.UPDATING || tuple.state == BavetTupleState.DYING) {
+                nextNodesRetract.accept(tuple);
+            }
+            // Insert
+            if (tuple.state == BavetTupleState.CREATING || tuple.state == BavetTupleState.UPDATING) {
+                nextNodesInsert.accept(tuple);
+            }
+            switch (tuple.state) {
+                case CREATING:
+                case UPDATING:
+                    tuple.state = BavetTupleState.OK;
+                    return;
+                case DYING:
+                case ABORTING:
+                    tuple.state = BavetTupleState.DEAD;
+                    return;
+                case DEAD:
+                    throw new IllegalStateException("Impossible state: The tuple (" + tuple + ") in node (" +
+                            this + ") is already in the dead state (" + tuple.state + ").");
+                default:
+                    throw new IllegalStateException("Impossible state: The tuple (" + tuple + ") in node (" +
+                            this + ") is in an unexpected state (" + tuple.state + ").");
+            }
+        });
+        dirtyTupleQueue.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "JoinQuadNode";
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.quad;
+
+import org.optaplanner.constraint.streams.bavet.common.AbstractScorer;
+import org.optaplanner.constraint.streams.common.inliner.WeightedScoreImpacter;
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.score.Score;
+
+public final class QuadScorer<A, B, C, D> extends AbstractScorer {
+
+    private final String constraintPackage;
+    private final String constraintName;
+    private final Score<?> constraintWeight;
+    private final QuadFunction<A, B, C, D, Object> scoreImpacter;
+    private final int inputStoreIndex;
+
+    public QuadScorer(String constraintPackage, String constraintName,
+            Score<?> constraintWeight, WeightedScoreImpacter weightedScoreImpacter,
+            QuadFunction<A, B, C, D, Object> scoreImpacter,
+            int inputStoreIndex) {
+        super(weightedScoreImpacter);
+        this.constraintPackage = constraintPackage;
+        this.constraintName = constraintName;
+        this.constraintWeight = constraintWeight;
+        this.scoreImpacter = scoreImpacter;
+        this.inputStoreIndex = inputStoreIndex;
+    }
+
+    public void insert(QuadTuple<A, B, C, D> tupleABCD) {
+        if (tupleABCD.store[inputStoreIndex] != null) {
+            throw new IllegalStateException("Impossible state: the input for the facts ("
+                    + tupleABCD.factA + ", " + tupleABCD.factB + ", " + tupleABCD.factC + ", " + tupleABCD.factD
+                    + ") was already added in the tupleStore.");
+        }
+        Object impact = scoreImpacter.apply(tupleABCD.factA, tupleABCD.factB, tupleABCD.factC, tupleABCD.factD);
+        tupleABCD.store[inputStoreIndex] = impact;
+    }
+
+    public void retract(QuadTuple<A, B, C, D> tupleABCD) {
+        Object impact = tupleABCD.store[inputStoreIndex];
+        // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
+        if (impact != null) {
+            undoScoreImpact(impact);
+            tupleABCD.store[inputStoreIndex] = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Scorer(" + constraintName + ") with constraintWeight (" + constraintWeight + ")";
+    }
+
+}
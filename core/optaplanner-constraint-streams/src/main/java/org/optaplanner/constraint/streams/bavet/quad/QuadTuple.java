@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.quad;
+
+import org.optaplanner.constraint.streams.bavet.common.BavetTupleState;
+import org.optaplanner.constraint.streams.bavet.common.Tuple;
+
+public final class QuadTuple<A, B, C, D> implements Tuple {
+
+    public final A factA;
+    public final B factB;
+    public final C factC;
+    public final D factD;
+
+    public final Object[] store;
+
+    public BavetTupleState state;
+
+    public QuadTuple(A factA, B factB, C factC, D factD, int storeSize) {
+        this.factA = factA;
+        this.factB = factB;
+        this.factC = factC;
+        this.factD = factD;
+        store = (storeSize <= 0) ? null : new Object[storeSize];
+    }
+
+    @Override
+    public Object[] getStore() {
+        return store;
+    }
+
+    @Override
+    public BavetTupleState getState() {
+        return state;
+    }
+
+    @Override
+    public void setState(BavetTupleState state) {
+        this.state = state;
+    }
+
+    @Override
+    public String toString() {
+        return "QuadTuple(" + factA + ", " + factB + ", " + factC + ", " + factD + ")";
+    }
+
+}
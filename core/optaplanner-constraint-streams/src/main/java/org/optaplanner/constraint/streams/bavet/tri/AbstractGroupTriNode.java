@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.tri;
+
+import java.util.function.Consumer;
+
+import org.optaplanner.constraint.streams.bavet.common.AbstractGroupNode;
+import org.optaplanner.constraint.streams.bavet.common.Tuple;
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
+import org.optaplanner.core.impl.util.Pair;
+import org.optaplanner.core.impl.util.Quadruple;
+import org.optaplanner.core.impl.util.Triple;
+
+public abstract class AbstractGroupTriNode<OldA, OldB, OldC, OutTuple_ extends Tuple, GroupKey_, ResultContainer_, Result_>
+        extends AbstractGroupNode<TriTuple<OldA, OldB, OldC>, OutTuple_, GroupKey_, ResultContainer_, Result_> {
+
+    /**
+     * Null if the node has no collectors.
+     */
+    private final QuadFunction<ResultContainer_, OldA, OldB, OldC, Runnable> accumulator;
+
+    protected AbstractGroupTriNode(int groupStoreIndex,
+            TriConstraintCollector<OldA, OldB, OldC, ResultContainer_, Result_> collector,
+            Consumer<OutTuple_> nextNodesInsert, Consumer<OutTuple_> nextNodesRetract) {
+        super(groupStoreIndex,
+                collector == null ? null : collector.supplier(),
+                collector == null ? null : collector.finisher(),
+                nextNodesInsert, nextNodesRetract);
+        accumulator = collector == null ? null : collector.accumulator();
+    }
+
+    @Override
+    protected final Runnable accumulate(ResultContainer_ resultContainer, TriTuple<OldA, OldB, OldC> tuple) {
+        return accumulator.apply(resultContainer, tuple.factA, tuple.factB, tuple.factC);
+    }
+
+    protected static <OldA, OldB, OldC, A, B,
+            ResultContainerA_, ResultContainerB_>
+            TriConstraintCollector<OldA, OldB, OldC, ?, Pair<A, B>> mergeCollectors(
+                    TriConstraintCollector<OldA, OldB, OldC, ResultContainerA_, A> collectorA,
+                    TriConstraintCollector<OldA, OldB, OldC, ResultContainerB_, B> collectorB) {
+        return ConstraintCollectors.compose(collectorA, collectorB, Pair::of);
+    }
+
+    protected static <OldA, OldB, OldC, A, B, C,
+            ResultContainerA_, ResultContainerB_, ResultContainerC_>
+            TriConstraintCollector<OldA, OldB, OldC, ?, Triple<A, B, C>> mergeCollectors(
+                    TriConstraintCollector<OldA, OldB, OldC, ResultContainerA_, A> collectorA,
+                    TriConstraintCollector<OldA, OldB, OldC, ResultContainerB_, B> collectorB,
+                    TriConstraintCollector<OldA, OldB, OldC, ResultContainerC_, C> collectorC) {
+        return ConstraintCollectors.compose(collectorA, collectorB, collectorC, Triple::of);
+    }
+
+    protected static <OldA, OldB, OldC, A, B, C, D,
+            ResultContainerA_, ResultContainerB_, ResultContainerC_, ResultContainerD_>
+            TriConstraintCollector<OldA, OldB, OldC, ?, Quadruple<A, B, C, D>> mergeCollectors(
+                    TriConstraintCollector<OldA, OldB, OldC, ResultContainerA_, A> collectorA,
+                    TriConstraintCollector<OldA, OldB, OldC, ResultContainerB_, B> collectorB,
+                    TriConstraintCollector<OldA, OldB, OldC, ResultContainerC_, C> collectorC,
+                    TriConstraintCollector<OldA, OldB, OldC, ResultContainerD_, D> collectorD) {
+        return ConstraintCollectors.compose(collectorA, collectorB, collectorC, collectorD, Quadruple::of);
+    }
+
+}
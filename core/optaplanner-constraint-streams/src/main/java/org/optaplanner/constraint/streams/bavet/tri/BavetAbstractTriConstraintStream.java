@@ -22,12 +22,24 @@ import java.util.List;
 import java.util.function.Function;
 
 import org.optaplanner.constraint.streams.bavet.BavetConstraintFactory;
+import org.optaplanner.constraint.streams.bavet.bi.BavetGroupBiConstraintStream;
+import org.optaplanner.constraint.streams.bavet.bi.BiTuple;
 import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.constraint.streams.bavet.common.GroupNodeConstructor;
+import org.optaplanner.constraint.streams.bavet.quad.BavetGroupQuadConstraintStream;
+import org.optaplanner.constraint.streams.bavet.quad.BavetJoinQuadConstraintStream;
+import org.optaplanner.constraint.streams.bavet.quad.QuadTuple;
 import org.optaplanner.constraint.streams.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.constraint.streams.bavet.uni.BavetGroupUniConstraintStream;
+import org.optaplanner.constraint.streams.bavet.uni.BavetIfExistsBridgeUniConstraintStream;
+import org.optaplanner.constraint.streams.bavet.uni.BavetJoinBridgeUniConstraintStream;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
 import org.optaplanner.constraint.streams.common.RetrievalSemantics;
 import org.optaplanner.constraint.streams.common.ScoreImpactType;
 import org.optaplanner.constraint.streams.quad.DefaultQuadJoiner;
+import org.optaplanner.constraint.streams.quad.FilteringQuadJoiner;
 import org.optaplanner.constraint.streams.tri.InnerTriConstraintStream;
+import org.optaplanner.core.api.function.QuadPredicate;
 import org.optaplanner.core.api.function.ToIntTriFunction;
 import org.optaplanner.core.api.function.ToLongTriFunction;
 import org.optaplanner.core.api.function.TriFunction;
@@ -51,6 +63,7 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
         super(constraintFactory, retrievalSemantics);
     }
 
+    @Override
     public List<BavetAbstractTriConstraintStream<Solution_, A, B, C>> getChildStreamList() {
         return childStreamList;
     }
@@ -81,7 +94,24 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     @Override
     public <D> QuadConstraintStream<A, B, C, D> actuallyJoin(UniConstraintStream<D> otherStream,
             DefaultQuadJoiner<A, B, C, D>... joiners) {
-        throw new UnsupportedOperationException();
+        BavetAbstractUniConstraintStream<Solution_, D> other = assertBavetUniConstraintStream(otherStream);
+
+        BavetJoinBridgeTriConstraintStream<Solution_, A, B, C> leftBridge =
+                new BavetJoinBridgeTriConstraintStream<>(constraintFactory, this, true);
+        BavetJoinBridgeUniConstraintStream<Solution_, D> rightBridge =
+                new BavetJoinBridgeUniConstraintStream<>(constraintFactory, other, false);
+
+        BavetJoinQuadConstraintStream<Solution_, A, B, C, D> newJoinStream =
+                new BavetJoinQuadConstraintStream<>(constraintFactory, leftBridge, rightBridge,
+                        (DefaultQuadJoiner<A, B, C, D>) DefaultQuadJoiner.merge(joiners));
+        leftBridge.setJoinStream(newJoinStream);
+        rightBridge.setJoinStream(newJoinStream);
+
+        return constraintFactory.share(newJoinStream, joinStream_ -> {
+            // Connect the bridges upstream, as it is an actual new join.
+            getChildStreamList().add(leftBridge);
+            other.getChildStreamList().add(rightBridge);
+        });
     }
 
     @Override
@@ -100,22 +130,20 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     @SafeVarargs
     @Override
     public final <D> TriConstraintStream<A, B, C> ifExists(Class<D> otherClass, QuadJoiner<A, B, C, D>... joiners) {
-        if (getRetrievalSemantics() == RetrievalSemantics.STANDARD) {
-            return ifExists(constraintFactory.forEach(otherClass), joiners);
-        } else {
-            return ifExists(constraintFactory.from(otherClass), joiners);
-        }
+        UniConstraintStream<D> otherStream = getRetrievalSemantics() == RetrievalSemantics.STANDARD
+                ? constraintFactory.forEach(otherClass)
+                : constraintFactory.from(otherClass);
+        return ifExistsOrNot(true, otherStream, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <D> TriConstraintStream<A, B, C> ifExistsIncludingNullVars(Class<D> otherClass,
             QuadJoiner<A, B, C, D>... joiners) {
-        if (getRetrievalSemantics() == RetrievalSemantics.STANDARD) {
-            return ifExists(constraintFactory.forEachIncludingNullVars(otherClass), joiners);
-        } else {
-            return ifExists(constraintFactory.fromUnfiltered(otherClass), joiners);
-        }
+        UniConstraintStream<D> otherStream = getRetrievalSemantics() == RetrievalSemantics.STANDARD
+                ? constraintFactory.forEachIncludingNullVars(otherClass)
+                : constraintFactory.fromUnfiltered(otherClass);
+        return ifExistsOrNot(true, otherStream, joiners);
     }
 
     @SafeVarargs
@@ -127,22 +155,20 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     @SafeVarargs
     @Override
     public final <D> TriConstraintStream<A, B, C> ifNotExists(Class<D> otherClass, QuadJoiner<A, B, C, D>... joiners) {
-        if (getRetrievalSemantics() == RetrievalSemantics.STANDARD) {
-            return ifNotExists(constraintFactory.forEach(otherClass), joiners);
-        } else {
-            return ifNotExists(constraintFactory.from(otherClass), joiners);
-        }
+        UniConstraintStream<D> otherStream = getRetrievalSemantics() == RetrievalSemantics.STANDARD
+                ? constraintFactory.forEach(otherClass)
+                : constraintFactory.from(otherClass);
+        return ifExistsOrNot(false, otherStream, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <D> TriConstraintStream<A, B, C> ifNotExistsIncludingNullVars(Class<D> otherClass,
             QuadJoiner<A, B, C, D>... joiners) {
-        if (getRetrievalSemantics() == RetrievalSemantics.STANDARD) {
-            return ifNotExists(constraintFactory.forEachIncludingNullVars(otherClass), joiners);
-        } else {
-            return ifNotExists(constraintFactory.fromUnfiltered(otherClass), joiners);
-        }
+        UniConstraintStream<D> otherStream = getRetrievalSemantics() == RetrievalSemantics.STANDARD
+                ? constraintFactory.forEachIncludingNullVars(otherClass)
+                : constraintFactory.fromUnfiltered(otherClass);
+        return ifExistsOrNot(false, otherStream, joiners);
     }
 
     @SafeVarargs
@@ -154,8 +180,44 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     private final <D> TriConstraintStream<A, B, C> ifExistsOrNot(boolean shouldExist, UniConstraintStream<D> otherStream,
             QuadJoiner<A, B, C, D>[] joiners) {
         BavetAbstractUniConstraintStream<Solution_, D> other = assertBavetUniConstraintStream(otherStream);
-
-        throw new UnsupportedOperationException();
+        int indexOfFirstFilter = -1;
+        // Prepare the indexing joiner and the filter, if any, that will be used by the node.
+        DefaultQuadJoiner<A, B, C, D> indexingJoiner = null;
+        QuadPredicate<A, B, C, D> filtering = null;
+        for (int i = 0; i < joiners.length; i++) {
+            QuadJoiner<A, B, C, D> joiner = joiners[i];
+            boolean hasAFilter = indexOfFirstFilter >= 0;
+            if (joiner instanceof FilteringQuadJoiner) {
+                if (!hasAFilter) { // From now on, only allow filtering joiners.
+                    indexOfFirstFilter = i;
+                }
+                // Merge all filters into one to avoid paying the penalty for lack of indexing more than once.
+                FilteringQuadJoiner<A, B, C, D> castJoiner = (FilteringQuadJoiner<A, B, C, D>) joiner;
+                filtering = filtering == null ? castJoiner.getFilter() : filtering.and(castJoiner.getFilter());
+            } else {
+                if (hasAFilter) {
+                    throw new IllegalStateException("Indexing joiner (" + joiner
+                            + ") must not follow a filtering joiner (" + joiners[indexOfFirstFilter] + ").");
+                } else { // Merge this Joiner with the existing Joiners.
+                    DefaultQuadJoiner<A, B, C, D> castJoiner = (DefaultQuadJoiner<A, B, C, D>) joiner;
+                    indexingJoiner = indexingJoiner == null ? castJoiner : indexingJoiner.and(castJoiner);
+                }
+            }
+        }
+        if (indexingJoiner == null) {
+            indexingJoiner = (DefaultQuadJoiner<A, B, C, D>) DefaultQuadJoiner.<A, B, C, D> merge();
+        }
+        BavetIfExistsBridgeUniConstraintStream<Solution_, D> parentBridgeD =
+                new BavetIfExistsBridgeUniConstraintStream<>(constraintFactory, other);
+        return constraintFactory.share(
+                new BavetIfExistsTriConstraintStream<>(constraintFactory, this, parentBridgeD,
+                        shouldExist, indexingJoiner, filtering),
+                ifExistsStream_ -> {
+                    // Connect the bridge upstream, as it is an actual new ifExists.
+                    childStreamList.add(ifExistsStream_);
+                    other.getChildStreamList().add(parentBridgeD);
+                    parentBridgeD.setIfExistsStream(ifExistsStream_);
+                });
     }
 
     // ************************************************************************
@@ -165,14 +227,21 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<TriTuple<A, B, C>, UniTuple<Result_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group0Mapping1CollectorTriNode<>(
+                        groupStoreIndex, collector, insert, retract, outputStoreSize);
+        return buildUniGroupBy(nodeConstructor, collector);
     }
 
     @Override
     public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_> BiConstraintStream<ResultA_, ResultB_> groupBy(
             TriConstraintCollector<A, B, C, ResultContainerA_, ResultA_> collectorA,
             TriConstraintCollector<A, B, C, ResultContainerB_, ResultB_> collectorB) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<TriTuple<A, B, C>, BiTuple<ResultA_, ResultB_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group0Mapping2CollectorTriNode<>(
+                        groupStoreIndex, AbstractGroupTriNode.mergeCollectors(collectorA, collectorB), insert, retract,
+                        outputStoreSize);
+        return buildBiGroupBy(nodeConstructor, collectorA, collectorB);
     }
 
     @Override
@@ -181,7 +250,11 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
             groupBy(TriConstraintCollector<A, B, C, ResultContainerA_, ResultA_> collectorA,
                     TriConstraintCollector<A, B, C, ResultContainerB_, ResultB_> collectorB,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<TriTuple<A, B, C>, TriTuple<ResultA_, ResultB_, ResultC_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group0Mapping3CollectorTriNode<>(
+                        groupStoreIndex, AbstractGroupTriNode.mergeCollectors(collectorA, collectorB, collectorC),
+                        insert, retract, outputStoreSize);
+        return buildTriGroupBy(nodeConstructor, collectorA, collectorB, collectorC);
     }
 
     @Override
@@ -191,12 +264,20 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
                     TriConstraintCollector<A, B, C, ResultContainerB_, ResultB_> collectorB,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC,
                     TriConstraintCollector<A, B, C, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<TriTuple<A, B, C>, QuadTuple<ResultA_, ResultB_, ResultC_, ResultD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group0Mapping4CollectorTriNode<>(
+                        groupStoreIndex,
+                        AbstractGroupTriNode.mergeCollectors(collectorA, collectorB, collectorC, collectorD), insert,
+                        retract, outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor, collectorA, collectorB, collectorC, collectorD);
     }
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(TriFunction<A, B, C, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<TriTuple<A, B, C>, UniTuple<GroupKey_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group1Mapping0CollectorTriNode<>(
+                        groupKeyMapping, groupStoreIndex, insert, retract, outputStoreSize);
+        return buildUniGroupBy(nodeConstructor, groupKeyMapping);
     }
 
     @Override
@@ -204,7 +285,11 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
             TriConstraintStream<GroupKey_, ResultB_, ResultC_> groupBy(TriFunction<A, B, C, GroupKey_> groupKeyMapping,
                     TriConstraintCollector<A, B, C, ResultContainerB_, ResultB_> collectorB,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<TriTuple<A, B, C>, TriTuple<GroupKey_, ResultB_, ResultC_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group1Mapping2CollectorTriNode<>(
+                        groupKeyMapping, groupStoreIndex, AbstractGroupTriNode.mergeCollectors(collectorB, collectorC),
+                        insert, retract, outputStoreSize);
+        return buildTriGroupBy(nodeConstructor, groupKeyMapping, collectorB, collectorC);
     }
 
     @Override
@@ -214,27 +299,42 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
                     TriConstraintCollector<A, B, C, ResultContainerB_, ResultB_> collectorB,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC,
                     TriConstraintCollector<A, B, C, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<TriTuple<A, B, C>, QuadTuple<GroupKey_, ResultB_, ResultC_, ResultD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group1Mapping3CollectorTriNode<>(
+                        groupKeyMapping, groupStoreIndex,
+                        AbstractGroupTriNode.mergeCollectors(collectorB, collectorC, collectorD), insert, retract,
+                        outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor, groupKeyMapping, collectorB, collectorC, collectorD);
     }
 
     @Override
     public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
             TriFunction<A, B, C, GroupKey_> groupKeyMapping,
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<TriTuple<A, B, C>, BiTuple<GroupKey_, Result_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group1Mapping1CollectorTriNode<>(
+                        groupKeyMapping, groupStoreIndex, collector, insert, retract, outputStoreSize);
+        return buildBiGroupBy(nodeConstructor, groupKeyMapping, collector);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
             TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<TriTuple<A, B, C>, BiTuple<GroupKeyA_, GroupKeyB_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group2Mapping0CollectorTriNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupStoreIndex, insert, retract, outputStoreSize);
+        return buildBiGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
             TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping,
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<TriTuple<A, B, C>, TriTuple<GroupKeyA_, GroupKeyB_, Result_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group2Mapping1CollectorTriNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupStoreIndex, collector, insert, retract,
+                        outputStoreSize);
+        return buildTriGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping, collector);
     }
 
     @Override
@@ -243,14 +343,22 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
                     TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC,
                     TriConstraintCollector<A, B, C, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<TriTuple<A, B, C>, QuadTuple<GroupKeyA_, GroupKeyB_, ResultC_, ResultD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group2Mapping2CollectorTriNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupStoreIndex,
+                        AbstractGroupTriNode.mergeCollectors(collectorC, collectorD), insert, retract, outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping, collectorC, collectorD);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, GroupKeyC_> TriConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_> groupBy(
             TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping,
             TriFunction<A, B, C, GroupKeyC_> groupKeyCMapping) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<TriTuple<A, B, C>, TriTuple<GroupKeyA_, GroupKeyB_, GroupKeyC_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group3Mapping0CollectorTriNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, groupStoreIndex, insert, retract,
+                        outputStoreSize);
+        return buildTriGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping, groupKeyCMapping);
     }
 
     @Override
@@ -259,14 +367,65 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
             groupBy(TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping,
                     TriFunction<A, B, C, GroupKeyC_> groupKeyCMapping,
                     TriConstraintCollector<A, B, C, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<TriTuple<A, B, C>, QuadTuple<GroupKeyA_, GroupKeyB_, GroupKeyC_, ResultD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group3Mapping1CollectorTriNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, groupStoreIndex, collectorD, insert,
+                        retract, outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, collectorD);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_> QuadConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_>
             groupBy(TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping,
                     TriFunction<A, B, C, GroupKeyC_> groupKeyCMapping, TriFunction<A, B, C, GroupKeyD_> groupKeyDMapping) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<TriTuple<A, B, C>, QuadTuple<GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group4Mapping0CollectorTriNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, groupKeyDMapping, groupStoreIndex,
+                        insert, retract, outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor,
+                groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, groupKeyDMapping);
+    }
+
+    private <NewA> UniConstraintStream<NewA> buildUniGroupBy(
+            GroupNodeConstructor<TriTuple<A, B, C>, UniTuple<NewA>> nodeConstructor, Object... groupByArguments) {
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, UniTuple<NewA>> bridge =
+                shareAndAddChild(new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this,
+                        nodeConstructor, groupByArguments));
+        return constraintFactory.share(
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge),
+                bridge::setGroupStream);
+    }
+
+    private <NewA, NewB> BiConstraintStream<NewA, NewB> buildBiGroupBy(
+            GroupNodeConstructor<TriTuple<A, B, C>, BiTuple<NewA, NewB>> nodeConstructor, Object... groupByArguments) {
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, BiTuple<NewA, NewB>> bridge =
+                shareAndAddChild(new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this,
+                        nodeConstructor, groupByArguments));
+        return constraintFactory.share(
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge),
+                bridge::setGroupStream);
+    }
+
+    private <NewA, NewB, NewC> TriConstraintStream<NewA, NewB, NewC> buildTriGroupBy(
+            GroupNodeConstructor<TriTuple<A, B, C>, TriTuple<NewA, NewB, NewC>> nodeConstructor,
+            Object... groupByArguments) {
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, TriTuple<NewA, NewB, NewC>> bridge =
+                shareAndAddChild(new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this,
+                        nodeConstructor, groupByArguments));
+        return constraintFactory.share(
+                new BavetGroupTriConstraintStream<>(constraintFactory, bridge),
+                bridge::setGroupStream);
+    }
+
+    private <NewA, NewB, NewC, NewD> QuadConstraintStream<NewA, NewB, NewC, NewD> buildQuadGroupBy(
+            GroupNodeConstructor<TriTuple<A, B, C>, QuadTuple<NewA, NewB, NewC, NewD>> nodeConstructor,
+            Object... groupByArguments) {
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, QuadTuple<NewA, NewB, NewC, NewD>> bridge =
+                shareAndAddChild(new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this,
+                        nodeConstructor, groupByArguments));
+        return constraintFactory.share(
+                new BavetGroupQuadConstraintStream<>(constraintFactory, bridge),
+                bridge::setGroupStream);
     }
 
     // ************************************************************************
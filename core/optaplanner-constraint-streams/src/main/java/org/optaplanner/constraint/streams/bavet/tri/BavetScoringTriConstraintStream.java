@@ -27,7 +27,6 @@ import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintSt
 import org.optaplanner.constraint.streams.bavet.common.BavetScoringConstraintStream;
 import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
 import org.optaplanner.constraint.streams.common.inliner.AbstractScoreInliner;
-import org.optaplanner.constraint.streams.common.inliner.UndoScoreImpacter;
 import org.optaplanner.constraint.streams.common.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.api.function.ToIntTriFunction;
 import org.optaplanner.core.api.function.ToLongTriFunction;
@@ -121,19 +120,37 @@ public final class BavetScoringTriConstraintStream<Solution_, A, B, C>
         Score_ constraintWeight = buildHelper.getConstraintWeight(constraint);
         AbstractScoreInliner<Score_> scoreInliner = buildHelper.getScoreInliner();
         WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraint, constraintWeight);
-        TriFunction<A, B, C, UndoScoreImpacter> scoreImpacter;
+        TriFunction<A, B, C, Object> scoreImpacter;
         if (intMatchWeigher != null) {
-            scoreImpacter = (a, b, c) -> {
-                int matchWeight = intMatchWeigher.applyAsInt(a, b, c);
-                constraint.assertCorrectImpact(matchWeight);
-                return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b, c));
-            };
+            if (weightedScoreImpacter.isUndoFree()) {
+                scoreImpacter = (a, b, c) -> {
+                    int matchWeight = intMatchWeigher.applyAsInt(a, b, c);
+                    constraint.assertCorrectImpact(matchWeight);
+                    weightedScoreImpacter.impactScore(matchWeight);
+                    return matchWeight;
+                };
+            } else {
+                scoreImpacter = (a, b, c) -> {
+                    int matchWeight = intMatchWeigher.applyAsInt(a, b, c);
+                    constraint.assertCorrectImpact(matchWeight);
+                    return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b, c));
+                };
+            }
         } else if (longMatchWeigher != null) {
-            scoreImpacter = (a, b, c) -> {
-                long matchWeight = longMatchWeigher.applyAsLong(a, b, c);
-                constraint.assertCorrectImpact(matchWeight);
-                return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b, c));
-            };
+            if (weightedScoreImpacter.isUndoFree()) {
+                scoreImpacter = (a, b, c) -> {
+                    long matchWeight = longMatchWeigher.applyAsLong(a, b, c);
+                    constraint.assertCorrectImpact(matchWeight);
+                    weightedScoreImpacter.impactScore(matchWeight);
+                    return matchWeight;
+                };
+            } else {
+                scoreImpacter = (a, b, c) -> {
+                    long matchWeight = longMatchWeigher.applyAsLong(a, b, c);
+                    constraint.assertCorrectImpact(matchWeight);
+                    return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b, c));
+                };
+            }
         } else if (bigDecimalMatchWeigher != null) {
             scoreImpacter = (a, b, c) -> {
                 BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a, b, c);
@@ -141,12 +158,20 @@ public final class BavetScoringTriConstraintStream<Solution_, A, B, C>
                 return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b, c));
             };
         } else if (noMatchWeigher) {
-            scoreImpacter = (a, b, c) -> weightedScoreImpacter.impactScore(1, () -> asList(a, b, c));
+            if (weightedScoreImpacter.isUndoFree()) {
+                scoreImpacter = (a, b, c) -> {
+                    weightedScoreImpacter.impactScore(1);
+                    return 1;
+                };
+            } else {
+                scoreImpacter = (a, b, c) -> weightedScoreImpacter.impactScore(1, () -> asList(a, b, c));
+            }
         } else {
             throw new IllegalStateException("Impossible state: neither of the supported match weighers provided.");
         }
         TriScorer<A, B, C> scorer = new TriScorer<>(constraint.getConstraintPackage(), constraint.getConstraintName(),
-                constraintWeight, scoreImpacter, buildHelper.reserveTupleStoreIndex(parent.getTupleSource()));
+                constraintWeight, weightedScoreImpacter, scoreImpacter,
+                buildHelper.reserveTupleStoreIndex(parent.getTupleSource()));
         buildHelper.putInsertRetract(this, scorer::insert, scorer::retract);
     }
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.tri;
+
+import java.util.function.Consumer;
+
+import org.optaplanner.constraint.streams.bavet.quad.QuadTuple;
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
+import org.optaplanner.core.impl.util.Pair;
+
+public final class Group2Mapping2CollectorTriNode<OldA, OldB, OldC, A, B, C, D, ResultContainer_>
+        extends AbstractGroupTriNode<OldA, OldB, OldC, QuadTuple<A, B, C, D>, Pair<A, B>, ResultContainer_, Pair<C, D>> {
+
+    private final TriFunction<OldA, OldB, OldC, A> groupKeyAMapping;
+    private final TriFunction<OldA, OldB, OldC, B> groupKeyBMapping;
+    private final int outputStoreSize;
+
+    public Group2Mapping2CollectorTriNode(TriFunction<OldA, OldB, OldC, A> groupKeyAMapping,
+            TriFunction<OldA, OldB, OldC, B> groupKeyBMapping, int groupStoreIndex,
+            TriConstraintCollector<OldA, OldB, OldC, ResultContainer_, Pair<C, D>> collector,
+            Consumer<QuadTuple<A, B, C, D>> nextNodesInsert, Consumer<QuadTuple<A, B, C, D>> nextNodesRetract,
+            int outputStoreSize) {
+        super(groupStoreIndex, collector, nextNodesInsert, nextNodesRetract);
+        this.groupKeyAMapping = groupKeyAMapping;
+        this.groupKeyBMapping = groupKeyBMapping;
+        this.outputStoreSize = outputStoreSize;
+    }
+
+    @Override
+    protected Pair<A, B> createGroupKey(TriTuple<OldA, OldB, OldC> tuple) {
+        OldA oldA = tuple.factA;
+        OldB oldB = tuple.factB;
+        OldC oldC = tuple.factC;
+        A a = groupKeyAMapping.apply(oldA, oldB, oldC);
+        B b = groupKeyBMapping.apply(oldA, oldB, oldC);
+        return Pair.of(a, b);
+    }
+
+    @Override
+    protected QuadTuple<A, B, C, D> createOutTuple(Pair<A, B> groupKey, Pair<C, D> result) {
+        return new QuadTuple<>(groupKey.getKey(), groupKey.getValue(), result.getKey(), result.getValue(),
+                outputStoreSize);
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.tri;
+
+import java.util.function.Consumer;
+
+import org.optaplanner.constraint.streams.bavet.quad.QuadTuple;
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
+import org.optaplanner.core.impl.util.Triple;
+
+public final class Group3Mapping1CollectorTriNode<OldA, OldB, OldC, A, B, C, D, ResultContainer_>
+        extends AbstractGroupTriNode<OldA, OldB, OldC, QuadTuple<A, B, C, D>, Triple<A, B, C>, ResultContainer_, D> {
+
+    private final TriFunction<OldA, OldB, OldC, A> groupKeyAMapping;
+    private final TriFunction<OldA, OldB, OldC, B> groupKeyBMapping;
+    private final TriFunction<OldA, OldB, OldC, C> groupKeyCMapping;
+    private final int outputStoreSize;
+
+    public Group3Mapping1CollectorTriNode(TriFunction<OldA, OldB, OldC, A> groupKeyAMapping,
+            TriFunction<OldA, OldB, OldC, B> groupKeyBMapping, TriFunction<OldA, OldB, OldC, C> groupKeyCMapping,
+            int groupStoreIndex, TriConstraintCollector<OldA, OldB, OldC, ResultContainer_, D> collector,
+            Consumer<QuadTuple<A, B, C, D>> nextNodesInsert, Consumer<QuadTuple<A, B, C, D>> nextNodesRetract,
+            int outputStoreSize) {
+        super(groupStoreIndex, collector, nextNodesInsert, nextNodesRetract);
+        this.groupKeyAMapping = groupKeyAMapping;
+        this.groupKeyBMapping = groupKeyBMapping;
+        this.groupKeyCMapping = groupKeyCMapping;
+        this.outputStoreSize = outputStoreSize;
+    }
+
+    @Override
+    protected Triple<A, B, C> createGroupKey(TriTuple<OldA, OldB, OldC> tuple) {
+        OldA oldA = tuple.factA;
+        OldB oldB = tuple.factB;
+        OldC oldC = tuple.factC;
+        A a = groupKeyAMapping.apply(oldA, oldB, oldC);
+        B b = groupKeyBMapping.apply(oldA, oldB, oldC);
+        C c = groupKeyCMapping.apply(oldA, oldB, oldC);
+        return Triple.of(a, b, c);
+    }
+
+    @Override
+    protected QuadTuple<A, B, C, D> createOutTuple(Triple<A, B, C> groupKey, D result) {
+        return new QuadTuple<>(groupKey.getA(), groupKey.getB(), groupKey.getC(), result, outputStoreSize);
+    }
+
+}
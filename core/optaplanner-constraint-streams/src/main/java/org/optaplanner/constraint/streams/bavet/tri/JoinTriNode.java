@@ -85,6 +85,7 @@ public final class JoinTriNode<A, B, C> extends AbstractNode {
             tupleABCSetAB.add(tupleABC);
             tupleABCSetC.add(tupleABC);
             dirtyTupleQueue.add(tupleABC);
+            markNodeDirty();
         });
     }
 
@@ -130,6 +131,7 @@ public final class JoinTriNode<A, B, C> extends AbstractNode {
             tupleABCSetC.add(tupleABC);
             tupleABCSetAB.add(tupleABC);
             dirtyTupleQueue.add(tupleABC);
+            markNodeDirty();
         });
     }
 
@@ -180,6 +182,7 @@ public final class JoinTriNode<A, B, C> extends AbstractNode {
         } else {
             tupleABC.state = BavetTupleState.DYING;
             dirtyTupleQueue.add(tupleABC);
+            markNodeDirty();
         }
     }
 
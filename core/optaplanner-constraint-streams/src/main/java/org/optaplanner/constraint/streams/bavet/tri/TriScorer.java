@@ -17,7 +17,7 @@
 package org.optaplanner.constraint.streams.bavet.tri;
 
 import org.optaplanner.constraint.streams.bavet.common.AbstractScorer;
-import org.optaplanner.constraint.streams.common.inliner.UndoScoreImpacter;
+import org.optaplanner.constraint.streams.common.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.score.Score;
 
@@ -26,12 +26,14 @@ public final class TriScorer<A, B, C> extends AbstractScorer {
     private final String constraintPackage;
     private final String constraintName;
     private final Score<?> constraintWeight;
-    private final TriFunction<A, B, C, UndoScoreImpacter> scoreImpacter;
+    private final TriFunction<A, B, C, Object> scoreImpacter;
     private final int inputStoreIndex;
 
     public TriScorer(String constraintPackage, String constraintName,
-            Score<?> constraintWeight, TriFunction<A, B, C, UndoScoreImpacter> scoreImpacter,
+            Score<?> constraintWeight, WeightedScoreImpacter weightedScoreImpacter,
+            TriFunction<A, B, C, Object> scoreImpacter,
             int inputStoreIndex) {
+        super(weightedScoreImpacter);
         this.constraintPackage = constraintPackage;
         this.constraintName = constraintName;
         this.constraintWeight = constraintWeight;
@@ -45,15 +47,15 @@ public final class TriScorer<A, B, C> extends AbstractScorer {
                     + tupleABC.factA + ", " + tupleABC.factB + ", " + tupleABC.factC
                     + ") was already added in the tupleStore.");
         }
-        UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(tupleABC.factA, tupleABC.factB, tupleABC.factC);
-        tupleABC.store[inputStoreIndex] = undoScoreImpacter;
+        Object impact = scoreImpacter.apply(tupleABC.factA, tupleABC.factB, tupleABC.factC);
+        tupleABC.store[inputStoreIndex] = impact;
     }
 
     public void retract(TriTuple<A, B, C> tupleABC) {
-        UndoScoreImpacter undoScoreImpacter = (UndoScoreImpacter) tupleABC.store[inputStoreIndex];
+        Object impact = tupleABC.store[inputStoreIndex];
         // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
-        if (undoScoreImpacter != null) {
-            undoScoreImpacter.run();
+        if (impact != null) {
+            undoScoreImpact(impact);
             tupleABC.store[inputStoreIndex] = null;
         }
     }
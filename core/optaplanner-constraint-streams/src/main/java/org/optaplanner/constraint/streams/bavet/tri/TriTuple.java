@@ -36,6 +36,21 @@ public final class TriTuple<A, B, C> implements Tuple {
         store = (storeSize <= 0) ? null : new Object[storeSize];
     }
 
+    @Override
+    public Object[] getStore() {
+        return store;
+    }
+
+    @Override
+    public BavetTupleState getState() {
+        return state;
+    }
+
+    @Override
+    public void setState(BavetTupleState state) {
+        this.state = state;
+    }
+
     @Override
     public String toString() {
         return "TriTuple(" + factA + ", " + factB + ", " + factC + ")";
@@ -19,6 +19,7 @@ package org.optaplanner.constraint.streams.bavet.uni;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
@@ -27,10 +28,15 @@ import java.util.function.ToLongFunction;
 import org.optaplanner.constraint.streams.bavet.BavetConstraintFactory;
 import org.optaplanner.constraint.streams.bavet.bi.BavetGroupBiConstraintStream;
 import org.optaplanner.constraint.streams.bavet.bi.BavetJoinBiConstraintStream;
+import org.optaplanner.constraint.streams.bavet.bi.BiTuple;
 import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintStream;
-import org.optaplanner.constraint.streams.bavet.common.JoinerUtils;
-import org.optaplanner.constraint.streams.bavet.common.index.IndexerFactory;
+import org.optaplanner.constraint.streams.bavet.common.GroupNodeConstructor;
+import org.optaplanner.constraint.streams.bavet.quad.BavetGroupQuadConstraintStream;
+import org.optaplanner.constraint.streams.bavet.quad.QuadTuple;
+import org.optaplanner.constraint.streams.bavet.tri.BavetGroupTriConstraintStream;
+import org.optaplanner.constraint.streams.bavet.tri.TriTuple;
 import org.optaplanner.constraint.streams.bi.DefaultBiJoiner;
+import org.optaplanner.constraint.streams.bi.FilteringBiJoiner;
 import org.optaplanner.constraint.streams.common.RetrievalSemantics;
 import org.optaplanner.constraint.streams.common.ScoreImpactType;
 import org.optaplanner.constraint.streams.uni.InnerUniConstraintStream;
@@ -53,6 +59,7 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
         super(constraintFactory, retrievalSemantics);
     }
 
+    @Override
     public List<BavetAbstractUniConstraintStream<Solution_, A>> getChildStreamList() {
         return childStreamList;
     }
@@ -119,21 +126,19 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     @SafeVarargs
     @Override
     public final <B> UniConstraintStream<A> ifExists(Class<B> otherClass, BiJoiner<A, B>... joiners) {
-        if (getRetrievalSemantics() == RetrievalSemantics.STANDARD) {
-            return ifExists(constraintFactory.forEach(otherClass), joiners);
-        } else {
-            return ifExists(constraintFactory.from(otherClass), joiners);
-        }
+        UniConstraintStream<B> otherStream = getRetrievalSemantics() == RetrievalSemantics.STANDARD
+                ? constraintFactory.forEach(otherClass)
+                : constraintFactory.from(otherClass);
+        return ifExistsOrNot(true, otherStream, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <B> UniConstraintStream<A> ifExistsIncludingNullVars(Class<B> otherClass, BiJoiner<A, B>... joiners) {
-        if (getRetrievalSemantics() == RetrievalSemantics.STANDARD) {
-            return ifExists(constraintFactory.forEachIncludingNullVars(otherClass), joiners);
-        } else {
-            return ifExists(constraintFactory.fromUnfiltered(otherClass), joiners);
-        }
+        UniConstraintStream<B> otherStream = getRetrievalSemantics() == RetrievalSemantics.STANDARD
+                ? constraintFactory.forEachIncludingNullVars(otherClass)
+                : constraintFactory.fromUnfiltered(otherClass);
+        return ifExistsOrNot(true, otherStream, joiners);
     }
 
     @SafeVarargs
@@ -144,21 +149,19 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     @SafeVarargs
     @Override
     public final <B> UniConstraintStream<A> ifNotExists(Class<B> otherClass, BiJoiner<A, B>... joiners) {
-        if (getRetrievalSemantics() == RetrievalSemantics.STANDARD) {
-            return ifNotExists(constraintFactory.forEach(otherClass), joiners);
-        } else {
-            return ifNotExists(constraintFactory.from(otherClass), joiners);
-        }
+        UniConstraintStream<B> otherStream = getRetrievalSemantics() == RetrievalSemantics.STANDARD
+                ? constraintFactory.forEach(otherClass)
+                : constraintFactory.from(otherClass);
+        return ifExistsOrNot(false, otherStream, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <B> UniConstraintStream<A> ifNotExistsIncludingNullVars(Class<B> otherClass, BiJoiner<A, B>... joiners) {
-        if (getRetrievalSemantics() == RetrievalSemantics.STANDARD) {
-            return ifNotExists(constraintFactory.forEachIncludingNullVars(otherClass), joiners);
-        } else {
-            return ifNotExists(constraintFactory.fromUnfiltered(otherClass), joiners);
-        }
+        UniConstraintStream<B> otherStream = getRetrievalSemantics() == RetrievalSemantics.STANDARD
+                ? constraintFactory.forEachIncludingNullVars(otherClass)
+                : constraintFactory.fromUnfiltered(otherClass);
+        return ifExistsOrNot(false, otherStream, joiners);
     }
 
     @SafeVarargs
@@ -168,28 +171,43 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
 
     private final <B> UniConstraintStream<A> ifExistsOrNot(boolean shouldExist, UniConstraintStream<B> otherStream,
             BiJoiner<A, B>[] joiners) {
-        // TODO support FilteringBiJoiner like join() which probably should do it either?
         BavetAbstractUniConstraintStream<Solution_, B> other = assertBavetUniConstraintStream(otherStream);
-
-        if (joiners.length != 1) {
-            throw new UnsupportedOperationException();
+        int indexOfFirstFilter = -1;
+        // Prepare the indexing joiner and the filter, if any, that will be used by the node.
+        DefaultBiJoiner<A, B> indexingJoiner = null;
+        BiPredicate<A, B> filtering = null;
+        for (int i = 0; i < joiners.length; i++) {
+            BiJoiner<A, B> joiner = joiners[i];
+            boolean hasAFilter = indexOfFirstFilter >= 0;
+            if (joiner instanceof FilteringBiJoiner) {
+                if (!hasAFilter) { // From now on, only allow filtering joiners.
+                    indexOfFirstFilter = i;
+                }
+                // Merge all filters into one to avoid paying the penalty for lack of indexing more than once.
+                FilteringBiJoiner<A, B> castJoiner = (FilteringBiJoiner<A, B>) joiner;
+                filtering = filtering == null ? castJoiner.getFilter() : filtering.and(castJoiner.getFilter());
+            } else {
+                if (hasAFilter) {
+                    throw new IllegalStateException("Indexing joiner (" + joiner
+                            + ") must not follow a filtering joiner (" + joiners[indexOfFirstFilter] + ").");
+                } else { // Merge this Joiner with the existing Joiners.
+                    DefaultBiJoiner<A, B> castJoiner = (DefaultBiJoiner<A, B>) joiner;
+                    indexingJoiner = indexingJoiner == null ? castJoiner : indexingJoiner.and(castJoiner);
+                }
+            }
         }
-        BiJoiner<A, B> joiner = joiners[0];
-        if (!(joiner instanceof DefaultBiJoiner)) {
-            throw new IllegalArgumentException("The joiner class (" + joiner.getClass() + ") is not supported.");
+        if (indexingJoiner == null) {
+            indexingJoiner = DefaultBiJoiner.merge();
         }
-        DefaultBiJoiner<A, B> castedJoiner = (DefaultBiJoiner<A, B>) joiner;
-        IndexerFactory indexerFactory = new IndexerFactory(castedJoiner);
-        Function<A, Object[]> leftMapping = JoinerUtils.combineLeftMappings(castedJoiner);
-        Function<B, Object[]> rightMapping = JoinerUtils.combineRightMappings(castedJoiner);
-        BavetIfExistsBridgeUniConstraintStream<Solution_, A, B> parentBridgeB = other.shareAndAddChild(
-                new BavetIfExistsBridgeUniConstraintStream<>(constraintFactory, other));
+        BavetIfExistsBridgeUniConstraintStream<Solution_, B> parentBridgeB =
+                new BavetIfExistsBridgeUniConstraintStream<>(constraintFactory, other);
         return constraintFactory.share(
                 new BavetIfExistsUniConstraintStream<>(constraintFactory, this, parentBridgeB,
-                        shouldExist,
-                        leftMapping, rightMapping, indexerFactory),
+                        shouldExist, indexingJoiner, filtering),
                 ifExistsStream_ -> {
+                    // Connect the bridge upstream, as it is an actual new ifExists.
                     childStreamList.add(ifExistsStream_);
+                    other.getChildStreamList().add(parentBridgeB);
                     parentBridgeB.setIfExistsStream(ifExistsStream_);
                 });
     }
@@ -201,14 +219,21 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             UniConstraintCollector<A, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<UniTuple<A>, UniTuple<Result_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group0Mapping1CollectorUniNode<>(
+                        groupStoreIndex, collector, insert, retract, outputStoreSize);
+        return buildUniGroupBy(nodeConstructor, collector);
     }
 
     @Override
     public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_> BiConstraintStream<ResultA_, ResultB_> groupBy(
             UniConstraintCollector<A, ResultContainerA_, ResultA_> collectorA,
             UniConstraintCollector<A, ResultContainerB_, ResultB_> collectorB) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<UniTuple<A>, BiTuple<ResultA_, ResultB_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group0Mapping2CollectorUniNode<>(
+                        groupStoreIndex, AbstractGroupUniNode.mergeCollectors(collectorA, collectorB), insert, retract,
+                        outputStoreSize);
+        return buildBiGroupBy(nodeConstructor, collectorA, collectorB);
     }
 
     @Override
@@ -217,7 +242,11 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
             groupBy(UniConstraintCollector<A, ResultContainerA_, ResultA_> collectorA,
                     UniConstraintCollector<A, ResultContainerB_, ResultB_> collectorB,
                     UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<UniTuple<A>, TriTuple<ResultA_, ResultB_, ResultC_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group0Mapping3CollectorUniNode<>(
+                        groupStoreIndex, AbstractGroupUniNode.mergeCollectors(collectorA, collectorB, collectorC),
+                        insert, retract, outputStoreSize);
+        return buildTriGroupBy(nodeConstructor, collectorA, collectorB, collectorC);
     }
 
     @Override
@@ -227,12 +256,20 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
                     UniConstraintCollector<A, ResultContainerB_, ResultB_> collectorB,
                     UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC,
                     UniConstraintCollector<A, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<UniTuple<A>, QuadTuple<ResultA_, ResultB_, ResultC_, ResultD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group0Mapping4CollectorUniNode<>(
+                        groupStoreIndex,
+                        AbstractGroupUniNode.mergeCollectors(collectorA, collectorB, collectorC, collectorD), insert,
+                        retract, outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor, collectorA, collectorB, collectorC, collectorD);
     }
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(Function<A, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<UniTuple<A>, UniTuple<GroupKey_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group1Mapping0CollectorUniNode<>(
+                        groupKeyMapping, groupStoreIndex, insert, retract, outputStoreSize);
+        return buildUniGroupBy(nodeConstructor, groupKeyMapping);
     }
 
     @Override
@@ -240,7 +277,11 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
             TriConstraintStream<GroupKey_, ResultB_, ResultC_> groupBy(Function<A, GroupKey_> groupKeyMapping,
                     UniConstraintCollector<A, ResultContainerB_, ResultB_> collectorB,
                     UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<UniTuple<A>, TriTuple<GroupKey_, ResultB_, ResultC_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group1Mapping2CollectorUniNode<>(
+                        groupKeyMapping, groupStoreIndex, AbstractGroupUniNode.mergeCollectors(collectorB, collectorC),
+                        insert, retract, outputStoreSize);
+        return buildTriGroupBy(nodeConstructor, groupKeyMapping, collectorB, collectorC);
     }
 
     @Override
@@ -249,32 +290,42 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
             groupBy(Function<A, GroupKey_> groupKeyMapping, UniConstraintCollector<A, ResultContainerB_, ResultB_> collectorB,
                     UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC,
                     UniConstraintCollector<A, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<UniTuple<A>, QuadTuple<GroupKey_, ResultB_, ResultC_, ResultD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group1Mapping3CollectorUniNode<>(
+                        groupKeyMapping, groupStoreIndex,
+                        AbstractGroupUniNode.mergeCollectors(collectorB, collectorC, collectorD), insert, retract,
+                        outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor, groupKeyMapping, collectorB, collectorC, collectorD);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
             Function<A, GroupKeyA_> groupKeyAMapping, Function<A, GroupKeyB_> groupKeyBMapping) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<UniTuple<A>, BiTuple<GroupKeyA_, GroupKeyB_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group2Mapping0CollectorUniNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupStoreIndex, insert, retract, outputStoreSize);
+        return buildBiGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping);
     }
 
     @Override
     public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
             Function<A, GroupKey_> groupKeyMapping,
             UniConstraintCollector<A, ResultContainer_, Result_> collector) {
-        BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, ResultContainer_, Result_> bridge =
-                shareAndAddChild(
-                        new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this, groupKeyMapping, collector));
-        return constraintFactory.share(
-                new BavetGroupBiConstraintStream<>(constraintFactory, bridge),
-                bridge::setGroupStream);
+        GroupNodeConstructor<UniTuple<A>, BiTuple<GroupKey_, Result_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group1Mapping1CollectorUniNode<>(
+                        groupKeyMapping, groupStoreIndex, collector, insert, retract, outputStoreSize);
+        return buildBiGroupBy(nodeConstructor, groupKeyMapping, collector);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
             Function<A, GroupKeyA_> groupKeyAMapping, Function<A, GroupKeyB_> groupKeyBMapping,
             UniConstraintCollector<A, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<UniTuple<A>, TriTuple<GroupKeyA_, GroupKeyB_, Result_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group2Mapping1CollectorUniNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupStoreIndex, collector, insert, retract,
+                        outputStoreSize);
+        return buildTriGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping, collector);
     }
 
     @Override
@@ -283,14 +334,22 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
                     Function<A, GroupKeyA_> groupKeyAMapping, Function<A, GroupKeyB_> groupKeyBMapping,
                     UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC,
                     UniConstraintCollector<A, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<UniTuple<A>, QuadTuple<GroupKeyA_, GroupKeyB_, ResultC_, ResultD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group2Mapping2CollectorUniNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupStoreIndex,
+                        AbstractGroupUniNode.mergeCollectors(collectorC, collectorD), insert, retract, outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping, collectorC, collectorD);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, GroupKeyC_> TriConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_> groupBy(
             Function<A, GroupKeyA_> groupKeyAMapping, Function<A, GroupKeyB_> groupKeyBMapping,
             Function<A, GroupKeyC_> groupKeyCMapping) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<UniTuple<A>, TriTuple<GroupKeyA_, GroupKeyB_, GroupKeyC_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group3Mapping0CollectorUniNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, groupStoreIndex, insert, retract,
+                        outputStoreSize);
+        return buildTriGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping, groupKeyCMapping);
     }
 
     @Override
@@ -298,14 +357,64 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
             QuadConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_, ResultD_> groupBy(Function<A, GroupKeyA_> groupKeyAMapping,
                     Function<A, GroupKeyB_> groupKeyBMapping, Function<A, GroupKeyC_> groupKeyCMapping,
                     UniConstraintCollector<A, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<UniTuple<A>, QuadTuple<GroupKeyA_, GroupKeyB_, GroupKeyC_, ResultD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group3Mapping1CollectorUniNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, groupStoreIndex, collectorD, insert,
+                        retract, outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor, groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, collectorD);
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_> QuadConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_>
             groupBy(Function<A, GroupKeyA_> groupKeyAMapping, Function<A, GroupKeyB_> groupKeyBMapping,
                     Function<A, GroupKeyC_> groupKeyCMapping, Function<A, GroupKeyD_> groupKeyDMapping) {
-        throw new UnsupportedOperationException();
+        GroupNodeConstructor<UniTuple<A>, QuadTuple<GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_>> nodeConstructor =
+                (groupStoreIndex, insert, retract, outputStoreSize) -> new Group4Mapping0CollectorUniNode<>(
+                        groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, groupKeyDMapping, groupStoreIndex,
+                        insert, retract, outputStoreSize);
+        return buildQuadGroupBy(nodeConstructor,
+                groupKeyAMapping, groupKeyBMapping, groupKeyCMapping, groupKeyDMapping);
+    }
+
+    private <NewA> UniConstraintStream<NewA> buildUniGroupBy(
+            GroupNodeConstructor<UniTuple<A>, UniTuple<NewA>> nodeConstructor, Object... groupByArguments) {
+        BavetGroupBridgeUniConstraintStream<Solution_, A, UniTuple<NewA>> bridge =
+                shareAndAddChild(new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this,
+                        nodeConstructor, groupByArguments));
+        return constraintFactory.share(
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge),
+                bridge::setGroupStream);
+    }
+
+    private <NewA, NewB> BiConstraintStream<NewA, NewB> buildBiGroupBy(
+            GroupNodeConstructor<UniTuple<A>, BiTuple<NewA, NewB>> nodeConstructor, Object... groupByArguments) {
+        BavetGroupBridgeUniConstraintStream<Solution_, A, BiTuple<NewA, NewB>> bridge =
+                shareAndAddChild(new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this,
+                        nodeConstructor, groupByArguments));
+        return constraintFactory.share(
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge),
+                bridge::setGroupStream);
+    }
+
+    private <NewA, NewB, NewC> TriConstraintStream<NewA, NewB, NewC> buildTriGroupBy(
+            GroupNodeConstructor<UniTuple<A>, TriTuple<NewA, NewB, NewC>> nodeConstructor, Object... groupByArguments) {
+        BavetGroupBridgeUniConstraintStream<Solution_, A, TriTuple<NewA, NewB, NewC>> bridge =
+                shareAndAddChild(new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this,
+                        nodeConstructor, groupByArguments));
+        return constraintFactory.share(
+                new BavetGroupTriConstraintStream<>(constraintFactory, bridge),
+                bridge::setGroupStream);
+    }
+
+    private <NewA, NewB, NewC, NewD> QuadConstraintStream<NewA, NewB, NewC, NewD> buildQuadGroupBy(
+            GroupNodeConstructor<UniTuple<A>, QuadTuple<NewA, NewB, NewC, NewD>> nodeConstructor,
+            Object... groupByArguments) {
+        BavetGroupBridgeUniConstraintStream<Solution_, A, QuadTuple<NewA, NewB, NewC, NewD>> bridge =
+                shareAndAddChild(new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this,
+                        nodeConstructor, groupByArguments));
+        return constraintFactory.share(
+                new BavetGroupQuadConstraintStream<>(constraintFactory, bridge),
+                bridge::setGroupStream);
     }
 
     // ************************************************************************
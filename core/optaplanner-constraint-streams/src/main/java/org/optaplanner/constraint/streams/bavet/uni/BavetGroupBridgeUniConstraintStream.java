@@ -16,35 +16,39 @@
 
 package org.optaplanner.constraint.streams.bavet.uni;
 
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
-import java.util.function.Function;
 
 import org.optaplanner.constraint.streams.bavet.BavetConstraintFactory;
-import org.optaplanner.constraint.streams.bavet.bi.BavetGroupBiConstraintStream;
-import org.optaplanner.constraint.streams.bavet.bi.BiTuple;
-import org.optaplanner.constraint.streams.bavet.bi.GroupUniToBiNode;
+import org.optaplanner.constraint.streams.bavet.common.AbstractGroupNode;
 import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.constraint.streams.bavet.common.GroupNodeConstructor;
 import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
+import org.optaplanner.constraint.streams.bavet.common.Tuple;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.ConstraintStream;
-import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 
-public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, ResultContainer_, NewB>
+public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewTuple_ extends Tuple>
         extends BavetAbstractUniConstraintStream<Solution_, A> {
 
     private final BavetAbstractUniConstraintStream<Solution_, A> parent;
-    private final Function<A, NewA> groupKeyMapping;
-    private final UniConstraintCollector<A, ResultContainer_, NewB> collector;
-    private BavetGroupBiConstraintStream<Solution_, NewA, NewB> groupStream;
+    private final GroupNodeConstructor<UniTuple<A>, NewTuple_> nodeConstructor;
+    /**
+     * The group key mappings and collectors that the node is built from, used for node sharing.
+     */
+    private final Object[] groupByArguments;
+    private BavetAbstractConstraintStream<Solution_> groupStream;
 
     public BavetGroupBridgeUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
-            BavetAbstractUniConstraintStream<Solution_, A> parent, Function<A, NewA> groupKeyMapping,
-            UniConstraintCollector<A, ResultContainer_, NewB> collector) {
+            BavetAbstractUniConstraintStream<Solution_, A> parent,
+            GroupNodeConstructor<UniTuple<A>, NewTuple_> nodeConstructor,
+            Object[] groupByArguments) {
         super(constraintFactory, parent.getRetrievalSemantics());
         this.parent = parent;
-        this.groupKeyMapping = groupKeyMapping;
-        this.collector = collector;
+        this.nodeConstructor = nodeConstructor;
+        this.groupByArguments = groupByArguments;
     }
 
     @Override
@@ -52,7 +56,7 @@ public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, Resul
         return parent.guaranteesDistinct();
     }
 
-    public void setGroupStream(BavetGroupBiConstraintStream<Solution_, NewA, NewB> groupStream) {
+    public void setGroupStream(BavetAbstractConstraintStream<Solution_> groupStream) {
         this.groupStream = groupStream;
     }
 
@@ -78,21 +82,36 @@ public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, Resul
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's a groupBy bridge.");
         }
         int inputStoreIndex = buildHelper.reserveTupleStoreIndex(parent.getTupleSource());
-        Consumer<BiTuple<NewA, NewB>> insert = buildHelper.getAggregatedInsert(groupStream.getChildStreamList());
-        Consumer<BiTuple<NewA, NewB>> retract = buildHelper.getAggregatedRetract(groupStream.getChildStreamList());
+        Consumer<NewTuple_> insert = buildHelper.getAggregatedInsert(groupStream.getChildStreamList());
+        Consumer<NewTuple_> retract = buildHelper.getAggregatedRetract(groupStream.getChildStreamList());
         int outputStoreSize = buildHelper.extractTupleStoreSize(groupStream);
-        GroupUniToBiNode<A, NewA, NewB, ResultContainer_> node = new GroupUniToBiNode<>(
-                groupKeyMapping, inputStoreIndex, collector,
+        AbstractGroupNode<UniTuple<A>, NewTuple_, ?, ?, ?> node = nodeConstructor.apply(inputStoreIndex,
                 insert, retract, outputStoreSize);
         buildHelper.addNode(node);
-        buildHelper.putInsertRetract(this, node::insertA, node::retractA);
+        buildHelper.putInsertRetract(this, node::insert, node::retract);
     }
 
     // ************************************************************************
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BavetGroupBridgeUniConstraintStream<?, ?, ?> that = (BavetGroupBridgeUniConstraintStream<?, ?, ?>) o;
+        return Objects.equals(parent, that.parent)
+                && Arrays.equals(groupByArguments, that.groupByArguments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parent, Arrays.hashCode(groupByArguments));
+    }
 
     @Override
     public String toString() {
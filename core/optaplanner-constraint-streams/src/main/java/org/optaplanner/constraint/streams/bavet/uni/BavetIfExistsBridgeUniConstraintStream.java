@@ -20,24 +20,25 @@ import java.util.Set;
 
 import org.optaplanner.constraint.streams.bavet.BavetConstraintFactory;
 import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.constraint.streams.bavet.common.BavetIfExistsConstraintStream;
 import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.ConstraintStream;
 
-public final class BavetIfExistsBridgeUniConstraintStream<Solution_, A, B>
-        extends BavetAbstractUniConstraintStream<Solution_, B> {
+public final class BavetIfExistsBridgeUniConstraintStream<Solution_, A>
+        extends BavetAbstractUniConstraintStream<Solution_, A> {
 
-    private final BavetAbstractUniConstraintStream<Solution_, B> parent;
+    private final BavetAbstractUniConstraintStream<Solution_, A> parent;
 
-    private BavetIfExistsUniConstraintStream<Solution_, A, B> ifExistsStream;
+    private BavetIfExistsConstraintStream<Solution_> ifExistsStream;
 
     public BavetIfExistsBridgeUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
-            BavetAbstractUniConstraintStream<Solution_, B> parent) {
+            BavetAbstractUniConstraintStream<Solution_, A> parent) {
         super(constraintFactory, parent.getRetrievalSemantics());
         this.parent = parent;
     }
 
-    public void setIfExistsStream(BavetIfExistsUniConstraintStream<Solution_, A, B> ifExistsStream) {
+    public void setIfExistsStream(BavetIfExistsConstraintStream<Solution_> ifExistsStream) {
         this.ifExistsStream = ifExistsStream;
     }
 
@@ -56,6 +57,10 @@ public final class BavetIfExistsBridgeUniConstraintStream<Solution_, A, B>
         constraintStreamSet.add(this);
     }
 
+    public BavetAbstractUniConstraintStream<Solution_, A> getParent() {
+        return parent;
+    }
+
     @Override
     public ConstraintStream getTupleSource() {
         return parent.getTupleSource();
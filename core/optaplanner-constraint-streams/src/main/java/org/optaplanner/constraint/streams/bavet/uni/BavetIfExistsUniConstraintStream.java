@@ -16,41 +16,48 @@
 
 package org.optaplanner.constraint.streams.bavet.uni;
 
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
-import java.util.function.Function;
 
 import org.optaplanner.constraint.streams.bavet.BavetConstraintFactory;
+import org.optaplanner.constraint.streams.bavet.common.AbstractIfExistsNode.Counter;
 import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.constraint.streams.bavet.common.BavetIfExistsConstraintStream;
+import org.optaplanner.constraint.streams.bavet.common.JoinerUtils;
 import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
 import org.optaplanner.constraint.streams.bavet.common.index.Indexer;
 import org.optaplanner.constraint.streams.bavet.common.index.IndexerFactory;
+import org.optaplanner.constraint.streams.bi.DefaultBiJoiner;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.ConstraintStream;
 
-public final class BavetIfExistsUniConstraintStream<Solution_, A, B> extends BavetAbstractUniConstraintStream<Solution_, A> {
+public final class BavetIfExistsUniConstraintStream<Solution_, A, B>
+        extends BavetAbstractUniConstraintStream<Solution_, A>
+        implements BavetIfExistsConstraintStream<Solution_> {
 
     private final BavetAbstractUniConstraintStream<Solution_, A> parentA;
-    private final BavetIfExistsBridgeUniConstraintStream<Solution_, A, B> parentBridgeB;
+    private final BavetIfExistsBridgeUniConstraintStream<Solution_, B> parentBridgeB;
 
     private final boolean shouldExist;
-    private final Function<A, Object[]> mappingA;
-    private final Function<B, Object[]> mappingB;
-    private final IndexerFactory indexerFactory;
+    private final DefaultBiJoiner<A, B> joiner;
+    /**
+     * Null if there are no filtering joiners.
+     */
+    private final BiPredicate<A, B> filtering;
 
     public BavetIfExistsUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
             BavetAbstractUniConstraintStream<Solution_, A> parentA,
-            BavetIfExistsBridgeUniConstraintStream<Solution_, A, B> parentBridgeB,
+            BavetIfExistsBridgeUniConstraintStream<Solution_, B> parentBridgeB,
             boolean shouldExist,
-            Function<A, Object[]> mappingA, Function<B, Object[]> mappingB,
-            IndexerFactory indexerFactory) {
+            DefaultBiJoiner<A, B> joiner, BiPredicate<A, B> filtering) {
         super(constraintFactory, parentA.getRetrievalSemantics());
         this.parentA = parentA;
         this.parentBridgeB = parentBridgeB;
         this.shouldExist = shouldExist;
-        this.mappingA = mappingA;
-        this.mappingB = mappingB;
-        this.indexerFactory = indexerFactory;
+        this.joiner = joiner;
+        this.filtering = filtering;
     }
 
     @Override
@@ -80,22 +87,47 @@ public final class BavetIfExistsUniConstraintStream<Solution_, A, B> extends Bav
         int inputStoreIndexB = buildHelper.reserveTupleStoreIndex(parentBridgeB.getTupleSource());
         Consumer<UniTuple<A>> insert = buildHelper.getAggregatedInsert(childStreamList);
         Consumer<UniTuple<A>> retract = buildHelper.getAggregatedRetract(childStreamList);
-        Indexer<UniTuple<A>, IfExistsUniWithUniNode.Counter<A>> indexerA = indexerFactory.buildIndexer(true);
-        Indexer<UniTuple<B>, Set<IfExistsUniWithUniNode.Counter<A>>> indexerB = indexerFactory.buildIndexer(false);
-        IfExistsUniWithUniNode<A, B> node = new IfExistsUniWithUniNode<>(
-                shouldExist, mappingA, mappingB, inputStoreIndexA, inputStoreIndexB,
-                insert, retract,
-                indexerA, indexerB);
+        IndexerFactory indexerFactory = new IndexerFactory(joiner);
+        Indexer<UniTuple<A>, Counter<UniTuple<A>>> indexerA = indexerFactory.buildIndexer(true);
+        Indexer<UniTuple<B>, Set<Counter<UniTuple<A>>>> indexerB = indexerFactory.buildIndexer(false);
+        IfExistsUniWithUniNode<A, B> node = new IfExistsUniWithUniNode<>(shouldExist,
+                JoinerUtils.combineLeftMappings(joiner), JoinerUtils.combineRightMappings(joiner),
+                inputStoreIndexA, inputStoreIndexB, insert, retract,
+                indexerA, indexerB, filtering);
         buildHelper.addNode(node);
-        buildHelper.putInsertRetract(this, node::insertA, node::retractA);
-        buildHelper.putInsertRetract(parentBridgeB, node::insertB, node::retractB);
+        buildHelper.putInsertRetract(this, node::insertLeft, node::retractLeft);
+        buildHelper.putInsertRetract(parentBridgeB, node::insertRight, node::retractRight);
     }
 
     // ************************************************************************
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BavetIfExistsUniConstraintStream<?, ?, ?> that = (BavetIfExistsUniConstraintStream<?, ?, ?>) o;
+        /*
+         * Bridge streams do not implement equality because their equals() would have to point back to this stream,
+         * resulting in StackOverflowError.
+         * Therefore we need to check bridge parents to see where this ifExists node comes from.
+         */
+        return shouldExist == that.shouldExist
+                && Objects.equals(parentA, that.parentA)
+                && Objects.equals(parentBridgeB.getParent(), that.parentBridgeB.getParent())
+                && Objects.equals(joiner, that.joiner)
+                && Objects.equals(filtering, that.filtering);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parentA, parentBridgeB.getParent(), shouldExist, joiner, filtering);
+    }
 
     @Override
     public String toString() {
@@ -30,7 +30,6 @@ import org.optaplanner.constraint.streams.bavet.common.BavetAbstractConstraintSt
 import org.optaplanner.constraint.streams.bavet.common.BavetScoringConstraintStream;
 import org.optaplanner.constraint.streams.bavet.common.NodeBuildHelper;
 import org.optaplanner.constraint.streams.common.inliner.AbstractScoreInliner;
-import org.optaplanner.constraint.streams.common.inliner.UndoScoreImpacter;
 import org.optaplanner.constraint.streams.common.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.ConstraintStream;
@@ -124,19 +123,37 @@ public final class BavetScoringUniConstraintStream<Solution_, A>
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's an endpoint.");
         }
         WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraint, constraintWeight);
-        Function<A, UndoScoreImpacter> scoreImpacter;
+        Function<A, Object> scoreImpacter;
         if (intMatchWeigher != null) {
-            scoreImpacter = a -> {
-                int matchWeight = intMatchWeigher.applyAsInt(a);
-                constraint.assertCorrectImpact(matchWeight);
-                return weightedScoreImpacter.impactScore(matchWeight, () -> singletonList(a));
-            };
+            if (weightedScoreImpacter.isUndoFree()) {
+                scoreImpacter = a -> {
+                    int matchWeight = intMatchWeigher.applyAsInt(a);
+                    constraint.assertCorrectImpact(matchWeight);
+                    weightedScoreImpacter.impactScore(matchWeight);
+                    return matchWeight;
+                };
+            } else {
+                scoreImpacter = a -> {
+                    int matchWeight = intMatchWeigher.applyAsInt(a);
+                    constraint.assertCorrectImpact(matchWeight);
+                    return weightedScoreImpacter.impactScore(matchWeight, () -> singletonList(a));
+                };
+            }
         } else if (longMatchWeigher != null) {
-            scoreImpacter = a -> {
-                long matchWeight = longMatchWeigher.applyAsLong(a);
-                constraint.assertCorrectImpact(matchWeight);
-                return weightedScoreImpacter.impactScore(matchWeight, () -> singletonList(a));
-            };
+            if (weightedScoreImpacter.isUndoFree()) {
+                scoreImpacter = a -> {
+                    long matchWeight = longMatchWeigher.applyAsLong(a);
+                    constraint.assertCorrectImpact(matchWeight);
+                    weightedScoreImpacter.impactScore(matchWeight);
+                    return matchWeight;
+                };
+            } else {
+                scoreImpacter = a -> {
+                    long matchWeight = longMatchWeigher.applyAsLong(a);
+                    constraint.assertCorrectImpact(matchWeight);
+                    return weightedScoreImpacter.impactScore(matchWeight, () -> singletonList(a));
+                };
+            }
         } else if (bigDecimalMatchWeigher != null) {
             scoreImpacter = a -> {
                 BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a);
@@ -144,12 +161,20 @@ public final class BavetScoringUniConstraintStream<Solution_, A>
                 return weightedScoreImpacter.impactScore(matchWeight, () -> singletonList(a));
             };
         } else if (noMatchWeigher) {
-            scoreImpacter = a -> weightedScoreImpacter.impactScore(1, () -> singletonList(a));
+            if (weightedScoreImpacter.isUndoFree()) {
+                scoreImpacter = a -> {
+                    weightedScoreImpacter.impactScore(1);
+                    return 1;
+                };
+            } else {
+                scoreImpacter = a -> weightedScoreImpacter.impactScore(1, () -> singletonList(a));
+            }
         } else {
             throw new IllegalStateException("Impossible state: neither of the supported match weighers provided.");
         }
         UniScorer<A> scorer = new UniScorer<>(constraint.getConstraintPackage(), constraint.getConstraintName(),
-                constraintWeight, scoreImpacter, buildHelper.reserveTupleStoreIndex(parent.getTupleSource()));
+                constraintWeight, weightedScoreImpacter, scoreImpacter,
+                buildHelper.reserveTupleStoreIndex(parent.getTupleSource()));
         buildHelper.putInsertRetract(this, scorer::insert, scorer::retract);
     }
 
@@ -62,6 +62,7 @@ public final class ForEachUniNode<A> extends AbstractNode {
             throw new IllegalStateException("The fact (" + a + ") was already inserted, so it cannot insert again.");
         }
         dirtyTupleQueue.add(tuple);
+        markNodeDirty();
     }
 
     public void update(A a) {
@@ -77,6 +78,7 @@ public final class ForEachUniNode<A> extends AbstractNode {
         }
         tuple.state = BavetTupleState.UPDATING;
         dirtyTupleQueue.add(tuple);
+        markNodeDirty();
     }
 
     public void retract(A a) {
@@ -92,6 +94,7 @@ public final class ForEachUniNode<A> extends AbstractNode {
         } else {
             tuple.state = BavetTupleState.DYING;
             dirtyTupleQueue.add(tuple);
+            markNodeDirty();
         }
     }
 
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.uni;
+
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
+
+public final class Group0Mapping1CollectorUniNode<OldA, A, ResultContainer_>
+        extends AbstractGroupUniNode<OldA, UniTuple<A>, Void, ResultContainer_, A> {
+
+    private final int outputStoreSize;
+
+    public Group0Mapping1CollectorUniNode(int groupStoreIndex,
+            UniConstraintCollector<OldA, ResultContainer_, A> collector, Consumer<UniTuple<A>> nextNodesInsert,
+            Consumer<UniTuple<A>> nextNodesRetract, int outputStoreSize) {
+        super(groupStoreIndex, collector, nextNodesInsert, nextNodesRetract);
+        this.outputStoreSize = outputStoreSize;
+    }
+
+    @Override
+    protected Void createGroupKey(UniTuple<OldA> tuple) {
+        return null;
+    }
+
+    @Override
+    protected UniTuple<A> createOutTuple(Void groupKey, A result) {
+        return new UniTuple<>(result, outputStoreSize);
+    }
+
+}
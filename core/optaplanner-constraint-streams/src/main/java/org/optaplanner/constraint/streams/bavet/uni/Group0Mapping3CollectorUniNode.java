@@ -0,0 +1,48 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.uni;
+
+import java.util.function.Consumer;
+
+import org.optaplanner.constraint.streams.bavet.tri.TriTuple;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
+import org.optaplanner.core.impl.util.Triple;
+
+public final class Group0Mapping3CollectorUniNode<OldA, A, B, C, ResultContainer_>
+        extends AbstractGroupUniNode<OldA, TriTuple<A, B, C>, Void, ResultContainer_, Triple<A, B, C>> {
+
+    private final int outputStoreSize;
+
+    public Group0Mapping3CollectorUniNode(int groupStoreIndex,
+            UniConstraintCollector<OldA, ResultContainer_, Triple<A, B, C>> collector,
+            Consumer<TriTuple<A, B, C>> nextNodesInsert, Consumer<TriTuple<A, B, C>> nextNodesRetract,
+            int outputStoreSize) {
+        super(groupStoreIndex, collector, nextNodesInsert, nextNodesRetract);
+        this.outputStoreSize = outputStoreSize;
+    }
+
+    @Override
+    protected Void createGroupKey(UniTuple<OldA> tuple) {
+        return null;
+    }
+
+    @Override
+    protected TriTuple<A, B, C> createOutTuple(Void groupKey, Triple<A, B, C> result) {
+        return new TriTuple<>(result.getA(), result.getB(), result.getC(), outputStoreSize);
+    }
+
+}
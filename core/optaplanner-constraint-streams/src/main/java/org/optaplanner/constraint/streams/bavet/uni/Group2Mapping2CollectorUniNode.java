@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.uni;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.optaplanner.constraint.streams.bavet.quad.QuadTuple;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
+import org.optaplanner.core.impl.util.Pair;
+
+public final class Group2Mapping2CollectorUniNode<OldA, A, B, C, D, ResultContainer_>
+        extends AbstractGroupUniNode<OldA, QuadTuple<A, B, C, D>, Pair<A, B>, ResultContainer_, Pair<C, D>> {
+
+    private final Function<OldA, A> groupKeyAMapping;
+    private final Function<OldA, B> groupKeyBMapping;
+    private final int outputStoreSize;
+
+    public Group2Mapping2CollectorUniNode(Function<OldA, A> groupKeyAMapping, Function<OldA, B> groupKeyBMapping,
+            int groupStoreIndex, UniConstraintCollector<OldA, ResultContainer_, Pair<C, D>> collector,
+            Consumer<QuadTuple<A, B, C, D>> nextNodesInsert, Consumer<QuadTuple<A, B, C, D>> nextNodesRetract,
+            int outputStoreSize) {
+        super(groupStoreIndex, collector, nextNodesInsert, nextNodesRetract);
+        this.groupKeyAMapping = groupKeyAMapping;
+        this.groupKeyBMapping = groupKeyBMapping;
+        this.outputStoreSize = outputStoreSize;
+    }
+
+    @Override
+    protected Pair<A, B> createGroupKey(UniTuple<OldA> tuple) {
+        OldA oldA = tuple.factA;
+        A a = groupKeyAMapping.apply(oldA);
+        B b = groupKeyBMapping.apply(oldA);
+        return Pair.of(a, b);
+    }
+
+    @Override
+    protected QuadTuple<A, B, C, D> createOutTuple(Pair<A, B> groupKey, Pair<C, D> result) {
+        return new QuadTuple<>(groupKey.getKey(), groupKey.getValue(), result.getKey(), result.getValue(),
+                outputStoreSize);
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.uni;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.optaplanner.constraint.streams.bavet.tri.TriTuple;
+import org.optaplanner.core.impl.util.Triple;
+
+public final class Group3Mapping0CollectorUniNode<OldA, A, B, C>
+        extends AbstractGroupUniNode<OldA, TriTuple<A, B, C>, Triple<A, B, C>, Void, Void> {
+
+    private final Function<OldA, A> groupKeyAMapping;
+    private final Function<OldA, B> groupKeyBMapping;
+    private final Function<OldA, C> groupKeyCMapping;
+    private final int outputStoreSize;
+
+    public Group3Mapping0CollectorUniNode(Function<OldA, A> groupKeyAMapping, Function<OldA, B> groupKeyBMapping,
+            Function<OldA, C> groupKeyCMapping, int groupStoreIndex, Consumer<TriTuple<A, B, C>> nextNodesInsert,
+            Consumer<TriTuple<A, B, C>> nextNodesRetract, int outputStoreSize) {
+        super(groupStoreIndex, null, nextNodesInsert, nextNodesRetract);
+        this.groupKeyAMapping = groupKeyAMapping;
+        this.groupKeyBMapping = groupKeyBMapping;
+        this.groupKeyCMapping = groupKeyCMapping;
+        this.outputStoreSize = outputStoreSize;
+    }
+
+    @Override
+    protected Triple<A, B, C> createGroupKey(UniTuple<OldA> tuple) {
+        OldA oldA = tuple.factA;
+        A a = groupKeyAMapping.apply(oldA);
+        B b = groupKeyBMapping.apply(oldA);
+        C c = groupKeyCMapping.apply(oldA);
+        return Triple.of(a, b, c);
+    }
+
+    @Override
+    protected TriTuple<A, B, C> createOutTuple(Triple<A, B, C> groupKey, Void result) {
+        return new TriTuple<>(groupKey.getA(), groupKey.getB(), groupKey.getC(), outputStoreSize);
+    }
+
+}
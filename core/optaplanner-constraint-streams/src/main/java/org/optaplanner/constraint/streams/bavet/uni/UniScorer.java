@@ -19,7 +19,7 @@ package org.optaplanner.constraint.streams.bavet.uni;
 import java.util.function.Function;
 
 import org.optaplanner.constraint.streams.bavet.common.AbstractScorer;
-import org.optaplanner.constraint.streams.common.inliner.UndoScoreImpacter;
+import org.optaplanner.constraint.streams.common.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.api.score.Score;
 
 public final class UniScorer<A> extends AbstractScorer {
@@ -27,12 +27,14 @@ public final class UniScorer<A> extends AbstractScorer {
     private final String constraintPackage;
     private final String constraintName;
     private final Score<?> constraintWeight;
-    private final Function<A, UndoScoreImpacter> scoreImpacter;
+    private final Function<A, Object> scoreImpacter;
     private final int inputStoreIndex;
 
     public UniScorer(String constraintPackage, String constraintName,
-            Score<?> constraintWeight, Function<A, UndoScoreImpacter> scoreImpacter,
+            Score<?> constraintWeight, WeightedScoreImpacter weightedScoreImpacter,
+            Function<A, Object> scoreImpacter,
             int inputStoreIndex) {
+        super(weightedScoreImpacter);
         this.constraintPackage = constraintPackage;
         this.constraintName = constraintName;
         this.constraintWeight = constraintWeight;
@@ -46,15 +48,15 @@ public final class UniScorer<A> extends AbstractScorer {
                     + tupleA.factA
                     + ") was already added in the tupleStore.");
         }
-        UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(tupleA.factA);
-        tupleA.store[inputStoreIndex] = undoScoreImpacter;
+        Object impact = scoreImpacter.apply(tupleA.factA);
+        tupleA.store[inputStoreIndex] = impact;
     }
 
     public void retract(UniTuple<A> tupleA) {
-        UndoScoreImpacter undoScoreImpacter = (UndoScoreImpacter) tupleA.store[inputStoreIndex];
+        Object impact = tupleA.store[inputStoreIndex];
         // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
-        if (undoScoreImpacter != null) {
-            undoScoreImpacter.run();
+        if (impact != null) {
+            undoScoreImpact(impact);
             tupleA.store[inputStoreIndex] = null;
         }
     }
@@ -47,8 +47,11 @@ public final class DefaultBiJoiner<A, B> extends AbstractJoiner<B> implements Bi
         if (joiners.length == 1) {
             return joiners[0];
         }
-        return Arrays.stream(joiners)
-                .reduce(NONE, DefaultBiJoiner::and);
+        DefaultBiJoiner<A, B> mergedJoiner = NONE;
+        for (DefaultBiJoiner<A, B> joiner : joiners) {
+            mergedJoiner = mergedJoiner.and(joiner);
+        }
+        return mergedJoiner;
     }
 
     @Override
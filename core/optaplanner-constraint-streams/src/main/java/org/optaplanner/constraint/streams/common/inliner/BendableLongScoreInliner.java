@@ -49,13 +49,13 @@ public final class BendableLongScoreInliner extends AbstractScoreInliner<Bendabl
             long levelWeight = constraintWeight.getHardOrSoftScore(singleLevel);
             if (singleLevel < constraintWeight.getHardLevelsSize()) {
                 int level = singleLevel;
+                if (!constraintMatchEnabled) {
+                    return WeightedScoreImpacter.of((long matchWeight) -> this.hardScores[level] += levelWeight * matchWeight);
+                }
                 return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
                     long hardImpact = levelWeight * matchWeight;
                     this.hardScores[level] += hardImpact;
                     UndoScoreImpacter undoScoreImpact = () -> this.hardScores[level] -= hardImpact;
-                    if (!constraintMatchEnabled) {
-                        return undoScoreImpact;
-                    }
                     Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                             BendableLongScore.ofHard(hardScores.length, softScores.length, level, hardImpact),
                             justificationsSupplier.get());
@@ -66,13 +66,13 @@ public final class BendableLongScoreInliner extends AbstractScoreInliner<Bendabl
                 });
             } else {
                 int level = singleLevel - constraintWeight.getHardLevelsSize();
+                if (!constraintMatchEnabled) {
+                    return WeightedScoreImpacter.of((long matchWeight) -> this.softScores[level] += levelWeight * matchWeight);
+                }
                 return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
                     long softImpact = levelWeight * matchWeight;
                     this.softScores[level] += softImpact;
                     UndoScoreImpacter undoScoreImpact = () -> this.softScores[level] -= softImpact;
-                    if (!constraintMatchEnabled) {
-                        return undoScoreImpact;
-                    }
                     Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                             BendableLongScore.ofSoft(hardScores.length, softScores.length, level, softImpact),
                             justificationsSupplier.get());
@@ -83,6 +83,16 @@ public final class BendableLongScoreInliner extends AbstractScoreInliner<Bendabl
                 });
             }
         } else {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of((long matchWeight) -> {
+                    for (int i = 0; i < hardScores.length; i++) {
+                        this.hardScores[i] += constraintWeight.getHardScore(i) * matchWeight;
+                    }
+                    for (int i = 0; i < softScores.length; i++) {
+                        this.softScores[i] += constraintWeight.getSoftScore(i) * matchWeight;
+                    }
+                });
+            }
             return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 long[] hardImpacts = new long[hardScores.length];
                 long[] softImpacts = new long[softScores.length];
@@ -102,9 +112,6 @@ public final class BendableLongScoreInliner extends AbstractScoreInliner<Bendabl
                         this.softScores[i] -= softImpacts[i];
                     }
                 };
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         BendableLongScore.of(hardImpacts, softImpacts), justificationsSupplier.get());
                 return () -> {
@@ -50,13 +50,13 @@ final class BendableScoreInliner extends AbstractScoreInliner<BendableScore> {
             int levelWeight = constraintWeight.getHardOrSoftScore(singleLevel);
             if (singleLevel < constraintWeight.getHardLevelsSize()) {
                 int level = singleLevel;
+                if (!constraintMatchEnabled) {
+                    return WeightedScoreImpacter.of((int matchWeight) -> this.hardScores[level] += levelWeight * matchWeight);
+                }
                 return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
                     int hardImpact = levelWeight * matchWeight;
                     this.hardScores[level] += hardImpact;
                     UndoScoreImpacter undoScoreImpact = () -> this.hardScores[level] -= hardImpact;
-                    if (!constraintMatchEnabled) {
-                        return undoScoreImpact;
-                    }
                     Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                             BendableScore.ofHard(hardScores.length, softScores.length, level, hardImpact),
                             justificationsSupplier.get());
@@ -67,13 +67,13 @@ final class BendableScoreInliner extends AbstractScoreInliner<BendableScore> {
                 });
             } else {
                 int level = singleLevel - constraintWeight.getHardLevelsSize();
+                if (!constraintMatchEnabled) {
+                    return WeightedScoreImpacter.of((int matchWeight) -> this.softScores[level] += levelWeight * matchWeight);
+                }
                 return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
                     int softImpact = levelWeight * matchWeight;
                     this.softScores[level] += softImpact;
                     UndoScoreImpacter undoScoreImpact = () -> this.softScores[level] -= softImpact;
-                    if (!constraintMatchEnabled) {
-                        return undoScoreImpact;
-                    }
                     Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                             BendableScore.ofSoft(hardScores.length, softScores.length, level, softImpact),
                             justificationsSupplier.get());
@@ -84,6 +84,16 @@ final class BendableScoreInliner extends AbstractScoreInliner<BendableScore> {
                 });
             }
         } else {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of((int matchWeight) -> {
+                    for (int i = 0; i < hardScores.length; i++) {
+                        this.hardScores[i] += constraintWeight.getHardScore(i) * matchWeight;
+                    }
+                    for (int i = 0; i < softScores.length; i++) {
+                        this.softScores[i] += constraintWeight.getSoftScore(i) * matchWeight;
+                    }
+                });
+            }
             return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 int[] hardImpacts = new int[hardScores.length];
                 int[] softImpacts = new int[softScores.length];
@@ -103,9 +113,6 @@ final class BendableScoreInliner extends AbstractScoreInliner<BendableScore> {
                         this.softScores[i] -= softImpacts[i];
                     }
                 };
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         BendableScore.of(hardImpacts, softImpacts), justificationsSupplier.get());
                 return () -> {
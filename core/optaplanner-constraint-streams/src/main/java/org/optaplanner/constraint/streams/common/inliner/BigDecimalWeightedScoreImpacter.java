@@ -27,6 +27,21 @@ final class BigDecimalWeightedScoreImpacter implements WeightedScoreImpacter {
         this.impactFunction = Objects.requireNonNull(impactFunction);
     }
 
+    @Override
+    public boolean isUndoFree() {
+        return false;
+    }
+
+    @Override
+    public void impactScore(int matchWeight) {
+        throw new UnsupportedOperationException("Impossible state: a BigDecimal impacter is not undo free.");
+    }
+
+    @Override
+    public void impactScore(long matchWeight) {
+        throw new UnsupportedOperationException("Impossible state: a BigDecimal impacter is not undo free.");
+    }
+
     @Override
     public UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier) {
         return impactFunction.impact(BigDecimal.valueOf(matchWeight), justificationsSupplier);
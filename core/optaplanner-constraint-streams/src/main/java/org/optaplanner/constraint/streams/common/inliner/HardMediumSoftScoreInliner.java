@@ -36,13 +36,13 @@ final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSo
         int mediumConstraintWeight = constraintWeight.getMediumScore();
         int softConstraintWeight = constraintWeight.getSoftScore();
         if (mediumConstraintWeight == 0 && softConstraintWeight == 0) {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of((int matchWeight) -> this.hardScore += hardConstraintWeight * matchWeight);
+            }
             return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 int hardImpact = hardConstraintWeight * matchWeight;
                 this.hardScore += hardImpact;
                 UndoScoreImpacter undoScoreImpact = () -> this.hardScore -= hardImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftScore.ofHard(hardImpact), justificationsSupplier.get());
                 return () -> {
@@ -51,13 +51,13 @@ final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSo
                 };
             });
         } else if (hardConstraintWeight == 0 && softConstraintWeight == 0) {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of((int matchWeight) -> this.mediumScore += mediumConstraintWeight * matchWeight);
+            }
             return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 int mediumImpact = mediumConstraintWeight * matchWeight;
                 this.mediumScore += mediumImpact;
                 UndoScoreImpacter undoScoreImpact = () -> this.mediumScore -= mediumImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftScore.ofMedium(mediumImpact), justificationsSupplier.get());
                 return () -> {
@@ -66,13 +66,13 @@ final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSo
                 };
             });
         } else if (hardConstraintWeight == 0 && mediumConstraintWeight == 0) {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of((int matchWeight) -> this.softScore += softConstraintWeight * matchWeight);
+            }
             return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 int softImpact = softConstraintWeight * matchWeight;
                 this.softScore += softImpact;
                 UndoScoreImpacter undoScoreImpact = () -> this.softScore -= softImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftScore.ofSoft(softImpact), justificationsSupplier.get());
                 return () -> {
@@ -81,6 +81,13 @@ final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSo
                 };
             });
         } else {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of((int matchWeight) -> {
+                    this.hardScore += hardConstraintWeight * matchWeight;
+                    this.mediumScore += mediumConstraintWeight * matchWeight;
+                    this.softScore += softConstraintWeight * matchWeight;
+                });
+            }
             return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 int hardImpact = hardConstraintWeight * matchWeight;
                 int mediumImpact = mediumConstraintWeight * matchWeight;
@@ -93,9 +100,6 @@ final class HardMediumSoftScoreInliner extends AbstractScoreInliner<HardMediumSo
                     this.mediumScore -= mediumImpact;
                     this.softScore -= softImpact;
                 };
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftScore.of(hardImpact, mediumImpact, softImpact),
                         justificationsSupplier.get());
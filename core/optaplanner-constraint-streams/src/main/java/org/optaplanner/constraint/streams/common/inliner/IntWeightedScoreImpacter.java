@@ -27,6 +27,21 @@ final class IntWeightedScoreImpacter implements WeightedScoreImpacter {
         this.impactFunction = Objects.requireNonNull(impactFunction);
     }
 
+    @Override
+    public boolean isUndoFree() {
+        return false;
+    }
+
+    @Override
+    public void impactScore(int matchWeight) {
+        throw new UnsupportedOperationException("Impossible state: an int impacter is not undo free.");
+    }
+
+    @Override
+    public void impactScore(long matchWeight) {
+        throw new UnsupportedOperationException("Impossible state: an int impacter is not undo free.");
+    }
+
     @Override
     public UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier) {
         return impactFunction.impact(matchWeight, justificationsSupplier);
@@ -27,6 +27,21 @@ final class LongWeightedScoreImpacter implements WeightedScoreImpacter {
         this.impactFunction = Objects.requireNonNull(impactFunction);
     }
 
+    @Override
+    public boolean isUndoFree() {
+        return false;
+    }
+
+    @Override
+    public void impactScore(int matchWeight) {
+        throw new UnsupportedOperationException("Impossible state: a long impacter is not undo free.");
+    }
+
+    @Override
+    public void impactScore(long matchWeight) {
+        throw new UnsupportedOperationException("Impossible state: a long impacter is not undo free.");
+    }
+
     @Override
     public UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier) {
         return impactFunction.impact(matchWeight, justificationsSupplier); // int can be cast to long
@@ -31,13 +31,13 @@ final class SimpleLongScoreInliner extends AbstractScoreInliner<SimpleLongScore>
     public WeightedScoreImpacter buildWeightedScoreImpacter(Constraint constraint, SimpleLongScore constraintWeight) {
         validateConstraintWeight(constraint, constraintWeight);
         long simpleConstraintWeight = constraintWeight.getScore();
+        if (!constraintMatchEnabled) {
+            return WeightedScoreImpacter.of((long matchWeight) -> this.score += simpleConstraintWeight * matchWeight);
+        }
         return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
             long impact = simpleConstraintWeight * matchWeight;
             this.score += impact;
             UndoScoreImpacter undoScoreImpact = () -> this.score -= impact;
-            if (!constraintMatchEnabled) {
-                return undoScoreImpact;
-            }
             Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight, SimpleLongScore.of(impact),
                     justificationsSupplier.get());
             return () -> {
@@ -31,13 +31,13 @@ final class SimpleScoreInliner extends AbstractScoreInliner<SimpleScore> {
     public WeightedScoreImpacter buildWeightedScoreImpacter(Constraint constraint, SimpleScore constraintWeight) {
         validateConstraintWeight(constraint, constraintWeight);
         int simpleConstraintWeight = constraintWeight.getScore();
+        if (!constraintMatchEnabled) {
+            return WeightedScoreImpacter.of((int matchWeight) -> this.score += simpleConstraintWeight * matchWeight);
+        }
         return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
             int impact = simpleConstraintWeight * matchWeight;
             this.score += impact;
             UndoScoreImpacter undoScoreImpact = () -> this.score -= impact;
-            if (!constraintMatchEnabled) {
-                return undoScoreImpact;
-            }
             Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight, SimpleScore.of(impact),
                     justificationsSupplier.get());
             return () -> {
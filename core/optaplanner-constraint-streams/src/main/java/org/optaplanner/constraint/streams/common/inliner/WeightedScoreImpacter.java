@@ -49,6 +49,48 @@ public interface WeightedScoreImpacter {
         return new BigDecimalWeightedScoreImpacter(impactFunction);
     }
 
+    /**
+     * Only used if constraint matching is disabled.
+     * An impact is then undone by impacting the negated match weight, so it needs no {@link UndoScoreImpacter}.
+     *
+     * @param impactFunction never null
+     * @return never null, {@link #isUndoFree()} returns true
+     */
+    static WeightedScoreImpacter of(IntUndoFreeImpactFunction impactFunction) {
+        return new IntUndoFreeWeightedScoreImpacter(impactFunction);
+    }
+
+    /**
+     * As defined by {@link #of(IntUndoFreeImpactFunction)}.
+     *
+     * @param impactFunction never null
+     * @return never null, {@link #isUndoFree()} returns true
+     */
+    static WeightedScoreImpacter of(LongUndoFreeImpactFunction impactFunction) {
+        return new LongUndoFreeWeightedScoreImpacter(impactFunction);
+    }
+
+    /**
+     * @return true if {@link #impactScore(int)} and {@link #impactScore(long)} are supported,
+     *         which allocate nothing, unlike the methods that return an {@link UndoScoreImpacter}
+     */
+    boolean isUndoFree();
+
+    /**
+     * Only supported if {@link #isUndoFree()}.
+     * To undo, call this method again with the negated match weight.
+     *
+     * @param matchWeight never null
+     */
+    void impactScore(int matchWeight);
+
+    /**
+     * As defined by {@link #impactScore(int)}.
+     *
+     * @param matchWeight never null
+     */
+    void impactScore(long matchWeight);
+
     /**
      * @param matchWeight never null
      * @param justificationsSupplier never null
@@ -91,4 +133,18 @@ public interface WeightedScoreImpacter {
 
     }
 
+    @FunctionalInterface
+    interface IntUndoFreeImpactFunction {
+
+        void impact(int matchWeight);
+
+    }
+
+    @FunctionalInterface
+    interface LongUndoFreeImpactFunction {
+
+        void impact(long matchWeight);
+
+    }
+
 }
@@ -16,7 +16,12 @@
 
 package org.optaplanner.constraint.streams.drools;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.rule.AgendaFilter;
@@ -28,6 +33,8 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.solver.change.ProblemChange;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
@@ -49,6 +56,7 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
     private KieSession session;
     private AgendaFilter agendaFilter;
     private AbstractScoreInliner<Score_> scoreInliner;
+    private Map<Constraint, Score_> constraintWeightMap;
 
     public DroolsConstraintStreamScoreDirector(
             DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
@@ -63,8 +71,31 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
 
     @Override
     public void setWorkingSolution(Solution_ workingSolution) {
+        Solution_ oldWorkingSolution = this.workingSolution;
         super.setWorkingSolution(workingSolution);
-        resetConstraintStreamingSession();
+        if (isConstraintStreamingSessionReusable(oldWorkingSolution)) {
+            replaceConstraintStreamingSessionFacts(oldWorkingSolution);
+        } else {
+            resetConstraintStreamingSession();
+        }
+    }
+
+    /**
+     * If {@link DroolsConstraintStreamScoreDirectorFactory#isSessionReuseEnabled()},
+     * the session survives a replacement of the working solution by another instance,
+     * such as the planning clone of the best solution when a phase starts or a {@link ProblemChange} is done.
+     * Otherwise, and when setting the same instance again, the session is always reset,
+     * because a problem fact might have changed without notifying this score director.
+     */
+    private boolean isConstraintStreamingSessionReusable(Solution_ oldWorkingSolution) {
+        if (!scoreDirectorFactory.isSessionReuseEnabled()) {
+            return false;
+        }
+        if (session == null || oldWorkingSolution == null || oldWorkingSolution == workingSolution) {
+            return false;
+        }
+        // The impacters of the session lock in the constraint weights
+        return constraintWeightMap.equals(scoreDirectorFactory.extractConstraintWeightMap(workingSolution));
     }
 
     private void resetConstraintStreamingSession() {
@@ -76,9 +107,37 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
         session = sessionDescriptor.getSession();
         agendaFilter = sessionDescriptor.getAgendaFilter();
         scoreInliner = sessionDescriptor.getScoreInliner();
+        constraintWeightMap = sessionDescriptor.getConstraintWeightMap();
         getSolutionDescriptor().visitAllFacts(workingSolution, session::insert);
     }
 
+    /**
+     * Only deletes the facts (including entities) that are no longer in the working solution
+     * and only inserts the facts that are new, both by identity.
+     * So the fact handles of problem facts that weren't cloned survive, along with every partial match
+     * that derives from them only, such as a join between 2 problem fact classes.
+     */
+    private void replaceConstraintStreamingSessionFacts(Solution_ oldWorkingSolution) {
+        List<Object> newFactList = new ArrayList<>();
+        Set<Object> newFactSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        getSolutionDescriptor().visitAllFacts(workingSolution, fact -> {
+            newFactList.add(fact);
+            newFactSet.add(fact);
+        });
+        Set<Object> oldFactSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        // Visit the old facts in order, for reproducibility
+        getSolutionDescriptor().visitAllFacts(oldWorkingSolution, fact -> {
+            if (oldFactSet.add(fact) && !newFactSet.contains(fact)) {
+                retract(fact);
+            }
+        });
+        for (Object fact : newFactList) {
+            if (!oldFactSet.contains(fact)) {
+                session.insert(fact);
+            }
+        }
+    }
+
     @Override
     public Score_ calculateScore() {
         variableListenerSupport.assertNotificationQueuesAreEmpty();
@@ -126,6 +185,7 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
             session = null;
             agendaFilter = null;
             scoreInliner = null;
+            constraintWeightMap = null;
         }
     }
 
@@ -213,4 +273,12 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
         session.delete(factHandle);
     }
 
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    public KieSession getSession() {
+        return session;
+    }
+
 }
@@ -61,20 +61,41 @@ public final class DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_
 
     private final KieBaseDescriptor<Solution_> kieBaseDescriptor;
     private final boolean droolsAlphaNetworkCompilationEnabled;
+    private final boolean sessionReuseEnabled;
 
     public DroolsConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintProvider constraintProvider, boolean droolsAlphaNetworkCompilationEnabled) {
+        this(solutionDescriptor, constraintProvider, droolsAlphaNetworkCompilationEnabled, false);
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param constraintProvider never null
+     * @param droolsAlphaNetworkCompilationEnabled true to compile the alpha network
+     * @param sessionReuseEnabled true to keep the session when the working solution is replaced by another instance,
+     *        see {@link DroolsConstraintStreamScoreDirector#setWorkingSolution(Object)}
+     */
+    public DroolsConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, boolean droolsAlphaNetworkCompilationEnabled,
+            boolean sessionReuseEnabled) {
         this(solutionDescriptor,
                 buildKieBase(solutionDescriptor, constraintProvider, droolsAlphaNetworkCompilationEnabled),
-                droolsAlphaNetworkCompilationEnabled);
+                droolsAlphaNetworkCompilationEnabled, sessionReuseEnabled);
     }
 
-    @SuppressWarnings("unchecked")
     public DroolsConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             KieBaseDescriptor<Solution_> kieBaseDescriptor, boolean droolsAlphaNetworkCompilationEnabled) {
+        this(solutionDescriptor, kieBaseDescriptor, droolsAlphaNetworkCompilationEnabled, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    public DroolsConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            KieBaseDescriptor<Solution_> kieBaseDescriptor, boolean droolsAlphaNetworkCompilationEnabled,
+            boolean sessionReuseEnabled) {
         super(solutionDescriptor);
         this.kieBaseDescriptor = Objects.requireNonNull(kieBaseDescriptor);
         this.droolsAlphaNetworkCompilationEnabled = droolsAlphaNetworkCompilationEnabled;
+        this.sessionReuseEnabled = sessionReuseEnabled;
     }
 
     @Override
@@ -114,13 +135,21 @@ public final class DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_
         return kieBase;
     }
 
-    public SessionDescriptor<Score_> newConstraintStreamingSession(boolean constraintMatchEnabled,
-            Solution_ workingSolution) {
-        // Extract constraint weights.
-        Map<DroolsConstraint<Solution_>, Score_> constraintToWeightMap = kieBaseDescriptor.getConstraintToGlobalMap()
+    /**
+     * @param workingSolution never null
+     * @return never null, the weight of every constraint, including those with a zero weight
+     */
+    public Map<Constraint, Score_> extractConstraintWeightMap(Solution_ workingSolution) {
+        return kieBaseDescriptor.getConstraintToGlobalMap()
                 .keySet()
                 .stream()
                 .collect(toMap(Function.identity(), constraint -> constraint.extractConstraintWeight(workingSolution)));
+    }
+
+    public SessionDescriptor<Score_> newConstraintStreamingSession(boolean constraintMatchEnabled,
+            Solution_ workingSolution) {
+        // Extract constraint weights.
+        Map<Constraint, Score_> constraintToWeightMap = extractConstraintWeightMap(workingSolution);
         // Create the session itself.
         KieSession kieSession = buildKieSessionFromKieBase(kieBaseDescriptor.get());
         ((RuleEventManager) kieSession).addEventListener(new OptaPlannerRuleEventListener()); // Enables undo in rules.
@@ -129,9 +158,8 @@ public final class DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_
         AbstractScoreInliner<Score_> scoreInliner = AbstractScoreInliner.buildScoreInliner(scoreDefinition,
                 constraintMatchEnabled);
         Set<String> disabledConstraints = new HashSet<>();
-        for (Map.Entry<DroolsConstraint<Solution_>, Score_> entry : constraintToWeightMap.entrySet()) {
-            DroolsConstraint<Solution_> constraint = entry.getKey();
-            Score_ constraintWeight = entry.getValue();
+        for (DroolsConstraint<Solution_> constraint : kieBaseDescriptor.getConstraintToGlobalMap().keySet()) {
+            Score_ constraintWeight = constraintToWeightMap.get(constraint);
             if (constraintWeight.isZero()) {
                 disabledConstraints.add(constraint.getConstraintId());
             } else {
@@ -142,7 +170,7 @@ public final class DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_
         // Return only the inliner as that holds the work product of the individual impacters.
         AgendaFilter agendaFilter =
                 disabledConstraints.isEmpty() ? null : new ConstraintDisablingAgendaFilter(Set.copyOf(disabledConstraints));
-        return new SessionDescriptor<>(kieSession, scoreInliner, agendaFilter);
+        return new SessionDescriptor<>(kieSession, scoreInliner, agendaFilter, constraintToWeightMap);
     }
 
     private static KieSession buildKieSessionFromKieBase(KieBase kieBase) {
@@ -163,6 +191,10 @@ public final class DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_
         return droolsAlphaNetworkCompilationEnabled;
     }
 
+    public boolean isSessionReuseEnabled() {
+        return sessionReuseEnabled;
+    }
+
     private static final class ConstraintDisablingAgendaFilter implements AgendaFilter {
 
         private final Set<String> disabledConstraintIdSet;
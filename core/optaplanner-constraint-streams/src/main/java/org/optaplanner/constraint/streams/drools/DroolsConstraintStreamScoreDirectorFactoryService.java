@@ -41,13 +41,15 @@ public final class DroolsConstraintStreamScoreDirectorFactoryService<Solution_,
                 ConfigUtils.applyCustomProperties(constraintProvider, "constraintProviderClass",
                         config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
                 boolean isDroolsAlphaNetworkEnabled = config.isDroolsAlphaNetworkCompilationEnabled();
+                boolean sessionReuseEnabled =
+                        Objects.requireNonNullElse(config.getConstraintStreamSessionReuseEnabled(), false);
                 if (config.getGizmoKieBaseSupplier() != null) {
                     return new DroolsConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
                             (KieBaseDescriptor<Solution_>) config.getGizmoKieBaseSupplier(),
-                            isDroolsAlphaNetworkEnabled);
+                            isDroolsAlphaNetworkEnabled, sessionReuseEnabled);
                 }
                 return new DroolsConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider,
-                        isDroolsAlphaNetworkEnabled);
+                        isDroolsAlphaNetworkEnabled, sessionReuseEnabled);
             };
         } else {
             if (config.getConstraintProviderCustomProperties() != null) {
@@ -1,22 +1,27 @@
 package org.optaplanner.constraint.streams.drools;
 
+import java.util.Map;
 import java.util.Objects;
 
 import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.rule.AgendaFilter;
 import org.optaplanner.constraint.streams.common.inliner.AbstractScoreInliner;
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
 
 public final class SessionDescriptor<Score_ extends Score<Score_>> {
 
     private final KieSession session;
     private final AgendaFilter agendaFilter;
     private final AbstractScoreInliner<Score_> scoreInliner;
+    private final Map<Constraint, Score_> constraintWeightMap;
 
-    public SessionDescriptor(KieSession session, AbstractScoreInliner<Score_> scoreInliner, AgendaFilter agendaFilter) {
+    public SessionDescriptor(KieSession session, AbstractScoreInliner<Score_> scoreInliner, AgendaFilter agendaFilter,
+            Map<Constraint, Score_> constraintWeightMap) {
         this.session = Objects.requireNonNull(session);
         this.scoreInliner = Objects.requireNonNull(scoreInliner);
         this.agendaFilter = agendaFilter;
+        this.constraintWeightMap = Objects.requireNonNull(constraintWeightMap);
     }
 
     /**
@@ -47,4 +52,13 @@ public final class SessionDescriptor<Score_ extends Score<Score_>> {
         return agendaFilter;
     }
 
+    /**
+     * The impacters of the session returned by {@link #getSession()} lock in these weights.
+     *
+     * @return never null, the weight of every constraint, including those with a zero weight
+     */
+    public Map<Constraint, Score_> getConstraintWeightMap() {
+        return constraintWeightMap;
+    }
+
 }
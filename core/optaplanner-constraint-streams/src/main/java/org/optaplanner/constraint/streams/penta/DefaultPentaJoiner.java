@@ -27,6 +27,9 @@ import org.optaplanner.core.impl.score.stream.JoinerType;
 
 public final class DefaultPentaJoiner<A, B, C, D, E> extends AbstractJoiner<E> implements PentaJoiner<A, B, C, D, E> {
 
+    private static final DefaultPentaJoiner NONE =
+            new DefaultPentaJoiner(new QuadFunction[0], new JoinerType[0], new Function[0]);
+
     private final QuadFunction<A, B, C, D, ?>[] leftMappings;
 
     public <Property_> DefaultPentaJoiner(QuadFunction<A, B, C, D, Property_> leftMapping, JoinerType joinerType,
@@ -41,6 +44,19 @@ public final class DefaultPentaJoiner<A, B, C, D, E> extends AbstractJoiner<E> i
         this.leftMappings = leftMappings;
     }
 
+    @SafeVarargs
+    public static <A, B, C, D, E> DefaultPentaJoiner<A, B, C, D, E> merge(
+            DefaultPentaJoiner<A, B, C, D, E>... joiners) {
+        if (joiners.length == 1) {
+            return joiners[0];
+        }
+        DefaultPentaJoiner<A, B, C, D, E> mergedJoiner = NONE;
+        for (DefaultPentaJoiner<A, B, C, D, E> joiner : joiners) {
+            mergedJoiner = mergedJoiner.and(joiner);
+        }
+        return mergedJoiner;
+    }
+
     @Override
     public DefaultPentaJoiner<A, B, C, D, E> and(PentaJoiner<A, B, C, D, E> otherJoiner) {
         DefaultPentaJoiner<A, B, C, D, E> castJoiner = (DefaultPentaJoiner<A, B, C, D, E>) otherJoiner;
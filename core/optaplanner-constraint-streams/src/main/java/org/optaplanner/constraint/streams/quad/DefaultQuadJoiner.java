@@ -44,12 +44,16 @@ public final class DefaultQuadJoiner<A, B, C, D> extends AbstractJoiner<D> imple
         this.leftMappings = leftMappings;
     }
 
+    @SafeVarargs
     public static <A, B, C, D> QuadJoiner<A, B, C, D> merge(QuadJoiner<A, B, C, D>... joiners) {
         if (joiners.length == 1) {
             return joiners[0];
         }
-        return Arrays.stream(joiners)
-                .reduce(NONE, QuadJoiner::and);
+        QuadJoiner<A, B, C, D> mergedJoiner = NONE;
+        for (QuadJoiner<A, B, C, D> joiner : joiners) {
+            mergedJoiner = mergedJoiner.and(joiner);
+        }
+        return mergedJoiner;
     }
 
     @Override
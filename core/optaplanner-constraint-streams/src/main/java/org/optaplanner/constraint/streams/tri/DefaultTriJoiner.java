@@ -44,12 +44,16 @@ public final class DefaultTriJoiner<A, B, C> extends AbstractJoiner<C> implement
         this.leftMappings = leftMappings;
     }
 
+    @SafeVarargs
     public static <A, B, C> DefaultTriJoiner<A, B, C> merge(DefaultTriJoiner<A, B, C>... joiners) {
         if (joiners.length == 1) {
             return joiners[0];
         }
-        return Arrays.stream(joiners)
-                .reduce(NONE, DefaultTriJoiner::and);
+        DefaultTriJoiner<A, B, C> mergedJoiner = NONE;
+        for (DefaultTriJoiner<A, B, C> joiner : joiners) {
+            mergedJoiner = mergedJoiner.and(joiner);
+        }
+        return mergedJoiner;
     }
 
     @Override
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.Joiners;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntity;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntityGroup;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishSolution;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishValue;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishValueGroup;
+
+class BavetConstraintStreamScoreDirectorTest {
+
+    private final BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+            new BavetConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                    new TestdataLavishConstraintProvider());
+    private final BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> reuseScoreDirectorFactory =
+            new BavetConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                    new TestdataLavishConstraintProvider(), false, true);
+
+    @Test
+    void setWorkingSolutionWithPlanningCloneReusesSession() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                reuseScoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-(2 * 3) - (7 * 10)));
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> session = scoreDirector.getSession();
+
+        TestdataLavishSolution clone = scoreDirector.cloneSolution(solution);
+        scoreDirector.setWorkingSolution(clone);
+        assertThat(scoreDirector.getSession()).isSameAs(session);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-(2 * 3) - (7 * 10)));
+
+        // The entities of the clone are inserted, so they are tracked incrementally
+        TestdataLavishEntity entity = clone.getFirstEntity();
+        scoreDirector.beforeVariableChanged(entity, TestdataLavishEntity.VALUE_FIELD);
+        entity.setValue(null);
+        scoreDirector.afterVariableChanged(entity, TestdataLavishEntity.VALUE_FIELD);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.ofUninitialized(-1, -(2 * 3) - (6 * 10)));
+    }
+
+    @Test
+    void setWorkingSolutionWithDifferentProblemFacts() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                reuseScoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-(2 * 3) - (7 * 10)));
+
+        TestdataLavishSolution clone = scoreDirector.cloneSolution(solution);
+        // A planning clone shares the problem fact collections, so replace them instead of changing them
+        List<TestdataLavishValueGroup> valueGroupList = new ArrayList<>(clone.getValueGroupList());
+        valueGroupList.remove(0);
+        clone.setValueGroupList(valueGroupList);
+        List<TestdataLavishEntityGroup> entityGroupList = new ArrayList<>(clone.getEntityGroupList());
+        entityGroupList.add(new TestdataLavishEntityGroup("New EntityGroup"));
+        clone.setEntityGroupList(entityGroupList);
+        scoreDirector.setWorkingSolution(clone);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-(1 * 4) - (7 * 10)));
+    }
+
+    @Test
+    void setWorkingSolutionWithChangedSharedProblemFactResetsSession() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-(2 * 3) - (7 * 10)));
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> session = scoreDirector.getSession();
+
+        TestdataLavishSolution clone = scoreDirector.cloneSolution(solution);
+        // The planning clone shares this problem fact collection with the old working solution,
+        // so a fact identity diff between both would miss this change
+        clone.getValueGroupList().add(new TestdataLavishValueGroup("New ValueGroup"));
+        scoreDirector.setWorkingSolution(clone);
+        assertThat(scoreDirector.getSession()).isNotSameAs(session);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-(3 * 3) - (7 * 10)));
+    }
+
+    @Test
+    void setWorkingSolutionWithSameInstanceResetsSession() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-(2 * 3) - (7 * 10)));
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> session = scoreDirector.getSession();
+
+        // Changed without notifying the score director
+        solution.getFirstEntity().setValue(null);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.getSession()).isNotSameAs(session);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.ofUninitialized(-1, -(2 * 3) - (6 * 10)));
+    }
+
+    @Test
+    void parallelBulkCalculation() {
+        BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> parallelScoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        new TestdataLavishConstraintProvider(), true);
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                parallelScoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        // Both constraints share the forEach filter of TestdataLavishEntity, but no node
+        assertThat(scoreDirector.getSession().getSubnetworkList()).hasSize(2);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-(2 * 3) - (7 * 10)));
+
+        TestdataLavishEntity entity = solution.getFirstEntity();
+        scoreDirector.beforeVariableChanged(entity, TestdataLavishEntity.VALUE_FIELD);
+        entity.setValue(null);
+        scoreDirector.afterVariableChanged(entity, TestdataLavishEntity.VALUE_FIELD);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.ofUninitialized(-1, -(2 * 3) - (6 * 10)));
+    }
+
+    @Test
+    void parallelBulkCalculationAfterBulkFactChange() {
+        BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> parallelScoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        new TestdataLavishConstraintProvider(), true);
+        int entityCount = 2 * BavetConstraintSession.BULK_FACT_CHANGE_THRESHOLD;
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(5, entityCount);
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                parallelScoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.getSession().getPendingFactChangeCount())
+                .isGreaterThanOrEqualTo(BavetConstraintSession.BULK_FACT_CHANGE_THRESHOLD);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-(2 * 3) - (entityCount * 10)));
+        assertThat(scoreDirector.getSession().getPendingFactChangeCount()).isZero();
+
+        // Like a batch of problem changes, so the parallel calculation is armed again
+        for (TestdataLavishEntity entity : solution.getEntityList()) {
+            scoreDirector.beforeVariableChanged(entity, TestdataLavishEntity.VALUE_FIELD);
+            entity.setValue(null);
+            scoreDirector.afterVariableChanged(entity, TestdataLavishEntity.VALUE_FIELD);
+        }
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.getSession().getPendingFactChangeCount())
+                .isGreaterThanOrEqualTo(BavetConstraintSession.BULK_FACT_CHANGE_THRESHOLD);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.ofUninitialized(-entityCount, -(2 * 3)));
+
+        // Like a single move, so the calculation stays on this thread
+        TestdataLavishEntity entity = solution.getFirstEntity();
+        scoreDirector.beforeVariableChanged(entity, TestdataLavishEntity.VALUE_FIELD);
+        entity.setValue(solution.getFirstValue());
+        scoreDirector.afterVariableChanged(entity, TestdataLavishEntity.VALUE_FIELD);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.getSession().getPendingFactChangeCount())
+                .isLessThan(BavetConstraintSession.BULK_FACT_CHANGE_THRESHOLD);
+        assertThat(scoreDirector.calculateScore())
+                .isEqualTo(SimpleScore.ofUninitialized(-entityCount + 1, -(2 * 3) - 10));
+    }
+
+    @Test
+    void parallelBulkCalculationWithConstraintMatchEnabled() {
+        BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> parallelScoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        new TestdataLavishConstraintProvider(), true);
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                parallelScoreDirectorFactory.buildScoreDirector(false, true);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.getSession().getSubnetworkList()).hasSize(1);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-(2 * 3) - (7 * 10)));
+        assertThat(scoreDirector.getConstraintMatchTotalMap()).hasSize(2);
+    }
+
+    public static final class TestdataLavishConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    // Only joins problem facts
+                    constraintFactory.forEach(TestdataLavishValueGroup.class)
+                            .join(TestdataLavishEntityGroup.class)
+                            .penalize("Group pair", SimpleScore.ONE),
+                    constraintFactory.forEach(TestdataLavishEntity.class)
+                            .join(TestdataLavishValue.class,
+                                    Joiners.equal(TestdataLavishEntity::getValue, Function.identity()))
+                            .penalize("Entity value", SimpleScore.of(10))
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.constraint.streams.bavet.common.AbstractNode;
+import org.optaplanner.constraint.streams.common.inliner.AbstractScoreInliner;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.score.buildin.SimpleScoreDefinition;
+
+class BavetConstraintSubnetworkTest {
+
+    @Test
+    void calculateScoreOnlyVisitsDirtyNodes() {
+        CountingNode node2 = new CountingNode(null);
+        CountingNode node1 = new CountingNode(node2);
+        CountingNode node0 = new CountingNode(null);
+        BavetConstraintSubnetwork<SimpleScore> subnetwork = buildSubnetwork(node0, node1, node2);
+
+        subnetwork.calculateScore();
+        assertThat(node0.calculateScoreCount).isZero();
+        assertThat(node1.calculateScoreCount).isZero();
+        assertThat(node2.calculateScoreCount).isZero();
+
+        // A dirty node makes its downstream node dirty during the same score calculation
+        node1.insert();
+        subnetwork.calculateScore();
+        assertThat(node0.calculateScoreCount).isZero();
+        assertThat(node1.calculateScoreCount).isOne();
+        assertThat(node2.calculateScoreCount).isOne();
+
+        node0.insert();
+        node0.insert();
+        subnetwork.calculateScore();
+        assertThat(node0.calculateScoreCount).isOne();
+        assertThat(node1.calculateScoreCount).isOne();
+        assertThat(node2.calculateScoreCount).isOne();
+    }
+
+    private static BavetConstraintSubnetwork<SimpleScore> buildSubnetwork(AbstractNode... nodes) {
+        AbstractScoreInliner<SimpleScore> scoreInliner =
+                AbstractScoreInliner.buildScoreInliner(new SimpleScoreDefinition(), false);
+        return new BavetConstraintSubnetwork<>(scoreInliner, Collections.emptyMap(), nodes);
+    }
+
+    private static final class CountingNode extends AbstractNode {
+
+        private final CountingNode downstreamNode;
+        private int calculateScoreCount = 0;
+
+        public CountingNode(CountingNode downstreamNode) {
+            this.downstreamNode = downstreamNode;
+        }
+
+        public void insert() {
+            markNodeDirty();
+        }
+
+        @Override
+        public void calculateScore() {
+            calculateScoreCount++;
+            if (downstreamNode != null) {
+                downstreamNode.insert();
+            }
+        }
+
+    }
+
+}
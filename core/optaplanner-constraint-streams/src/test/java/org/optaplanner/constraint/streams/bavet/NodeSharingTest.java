@@ -19,15 +19,21 @@ package org.optaplanner.constraint.streams.bavet;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.function.TriPredicate;
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+import org.optaplanner.core.api.score.stream.Joiners;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
+import org.optaplanner.core.api.score.stream.bi.BiJoiner;
 import org.optaplanner.core.api.score.stream.tri.TriConstraintStream;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 
 class NodeSharingTest {
 
@@ -79,4 +85,44 @@ class NodeSharingTest {
         assertThat(filteredStream1).isSameAs(filteredStream2);
     }
 
-}
\ No newline at end of file
+    @Test
+    void nodeSharingIfExists() {
+        BavetConstraintFactory<TestdataSolution> constraintFactory =
+                new BavetConstraintFactory<>(TestdataSolution.buildSolutionDescriptor());
+        BiJoiner<TestdataEntity, TestdataValue> joiner = Joiners.equal(TestdataEntity::getValue, value -> value);
+        UniConstraintStream<TestdataEntity> stream1 = constraintFactory.forEach(TestdataEntity.class)
+                .ifExists(TestdataValue.class, joiner);
+        UniConstraintStream<TestdataEntity> stream2 = constraintFactory.forEach(TestdataEntity.class)
+                .ifExists(TestdataValue.class, joiner);
+        assertThat(stream1).isSameAs(stream2);
+
+        UniConstraintStream<TestdataEntity> notExistsStream = constraintFactory.forEach(TestdataEntity.class)
+                .ifNotExists(TestdataValue.class, joiner);
+        assertThat(notExistsStream).isNotSameAs(stream1);
+        UniConstraintStream<TestdataEntity> otherJoinerStream = constraintFactory.forEach(TestdataEntity.class)
+                .ifExists(TestdataValue.class, Joiners.equal(TestdataEntity::getValue, value -> value));
+        assertThat(otherJoinerStream).isNotSameAs(stream1);
+    }
+
+    @Test
+    void nodeSharingGroupBy() {
+        BavetConstraintFactory<TestdataSolution> constraintFactory =
+                new BavetConstraintFactory<>(TestdataSolution.buildSolutionDescriptor());
+        Function<TestdataEntity, TestdataValue> groupKeyMapping = TestdataEntity::getValue;
+        UniConstraintCollector<TestdataEntity, ?, Integer> collector = ConstraintCollectors.count();
+        BiConstraintStream<TestdataValue, Integer> stream1 = constraintFactory.forEach(TestdataEntity.class)
+                .groupBy(groupKeyMapping, collector);
+        BiConstraintStream<TestdataValue, Integer> stream2 = constraintFactory.forEach(TestdataEntity.class)
+                .groupBy(groupKeyMapping, collector);
+        assertThat(stream1).isSameAs(stream2);
+
+        UniConstraintStream<TestdataValue> keyOnlyStream = constraintFactory.forEach(TestdataEntity.class)
+                .groupBy(groupKeyMapping);
+        assertThat(keyOnlyStream).isNotSameAs(stream1);
+        BiConstraintStream<TestdataValue, Integer> otherCollectorStream =
+                constraintFactory.forEach(TestdataEntity.class)
+                        .groupBy(groupKeyMapping, ConstraintCollectors.count());
+        assertThat(otherCollectorStream).isNotSameAs(stream1);
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.core.impl.score.stream.JoinerType;
+
+class ComparisonIndexerTest extends AbstractIndexerTest {
+
+    // Index properties: gender, age, height
+    private Indexer<UniTuple<String>, String> buildIndexer() {
+        return new CompositeEqualsIndexer<>(1,
+                () -> new ComparisonIndexer<>(1, JoinerType.LESS_THAN_OR_EQUAL,
+                        () -> new ComparisonIndexer<>(2, JoinerType.GREATER_THAN, NoneIndexer::new)));
+    }
+
+    @Test
+    void getEmpty() {
+        Indexer<UniTuple<String>, String> indexer = buildIndexer();
+        assertThat(getTupleMap(indexer, "F", 40, 170)).isEmpty();
+        assertThat(indexer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void putTwice() {
+        Indexer<UniTuple<String>, String> indexer = buildIndexer();
+        UniTuple<String> annTuple = newTuple("Ann-F-40-170");
+        indexer.put(new Object[] { "F", 40, 170 }, annTuple, "Ann value");
+        assertThatThrownBy(() -> indexer.put(new Object[] { "F", 40, 170 }, annTuple, "Ann value"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void removeTwice() {
+        Indexer<UniTuple<String>, String> indexer = buildIndexer();
+        UniTuple<String> annTuple = newTuple("Ann-F-40-170");
+        indexer.put(new Object[] { "F", 40, 170 }, annTuple, "Ann value");
+
+        UniTuple<String> ednaTuple = newTuple("Edna-F-40-170");
+        assertThatThrownBy(() -> indexer.remove(new Object[] { "F", 40, 170 }, ednaTuple))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(indexer.remove(new Object[] { "F", 40, 170 }, annTuple))
+                .isEqualTo("Ann value");
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> indexer.remove(new Object[] { "F", 40, 170 }, annTuple))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visit() {
+        Indexer<UniTuple<String>, String> indexer = buildIndexer();
+
+        UniTuple<String> annTuple = newTuple("Ann-F-40-170");
+        indexer.put(new Object[] { "F", 40, 170 }, annTuple, "Ann value");
+        UniTuple<String> bethTuple = newTuple("Beth-F-30-160");
+        indexer.put(new Object[] { "F", 30, 160 }, bethTuple, "Beth value");
+        indexer.put(new Object[] { "M", 40, 180 }, newTuple("Carl-M-40-180"), "Carl value");
+        indexer.put(new Object[] { "M", 30, 170 }, newTuple("Dan-M-30-170"), "Dan value");
+        UniTuple<String> ednaTuple = newTuple("Edna-F-40-180");
+        indexer.put(new Object[] { "F", 40, 180 }, ednaTuple, "Edna value");
+
+        assertThat(getTupleMap(indexer, "F", 40, 150)).containsOnlyKeys(annTuple, bethTuple, ednaTuple);
+        assertThat(indexer.countValues(new Object[] { "F", 40, 150 })).isEqualTo(3);
+
+        assertThat(getTupleMap(indexer, "F", 40, 165)).containsOnlyKeys(annTuple, ednaTuple);
+        assertThat(indexer.countValues(new Object[] { "F", 40, 165 })).isEqualTo(2);
+
+        assertThat(getTupleMap(indexer, "F", 35, 150)).containsOnlyKeys(bethTuple);
+        assertThat(getTupleMap(indexer, "F", 35, 160)).isEmpty();
+        assertThat(getTupleMap(indexer, "F", 20, 150)).isEmpty();
+        assertThat(indexer.countValues(new Object[] { "F", 20, 150 })).isZero();
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTuple<>(factA, 0);
+    }
+
+}
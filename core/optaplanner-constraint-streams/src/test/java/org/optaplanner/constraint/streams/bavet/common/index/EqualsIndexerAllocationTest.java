@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.optaplanner.constraint.streams.bavet.common.Tuple;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the bytes allocated per move (a remove, a put with a changed index property and a visit)
+ * of the equals indexers, compared to the {@link IndexerKey} and {@link LinkedHashMap} based equals indexer
+ * they replace.
+ */
+@EnabledIfSystemProperty(named = "runTurtleTests", matches = "true")
+class EqualsIndexerAllocationTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EqualsIndexerAllocationTest.class);
+
+    private static final int TUPLE_COUNT = 10_000;
+    private static final int DISTINCT_PROPERTY_COUNT = 100;
+    private static final int WARM_UP_MOVE_COUNT = 1_000_000;
+    private static final int MOVE_COUNT = 1_000_000;
+
+    private static final BiConsumer<UniTuple<Integer>, String> NO_OP_VISITOR = (tuple, value) -> {
+    };
+
+    @Test
+    void singleProperty() {
+        double legacyBytesPerMove = measureBytesPerMove(LegacyEqualsIndexer::new, 1);
+        double bytesPerMove = measureBytesPerMove(SingleEqualsIndexer::new, 1);
+        LOGGER.info("Single property: legacy ({} bytes per move), new ({} bytes per move).",
+                legacyBytesPerMove, bytesPerMove);
+        assertThat(bytesPerMove).isLessThan(legacyBytesPerMove);
+    }
+
+    @Test
+    void twoProperties() {
+        double legacyBytesPerMove = measureBytesPerMove(LegacyEqualsIndexer::new, 2);
+        double bytesPerMove = measureBytesPerMove(EqualsIndexer::new, 2);
+        LOGGER.info("Two properties: legacy ({} bytes per move), new ({} bytes per move).",
+                legacyBytesPerMove, bytesPerMove);
+        assertThat(bytesPerMove).isLessThan(legacyBytesPerMove);
+    }
+
+    private static double measureBytesPerMove(Supplier<Indexer<UniTuple<Integer>, String>> indexerSupplier,
+            int propertyCount) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        Indexer<UniTuple<Integer>, String> indexer = indexerSupplier.get();
+        Random random = new Random(37);
+        List<UniTuple<Integer>> tupleList = new ArrayList<>(TUPLE_COUNT);
+        List<Object[]> indexPropertiesList = new ArrayList<>(TUPLE_COUNT);
+        for (int i = 0; i < TUPLE_COUNT; i++) {
+            UniTuple<Integer> tuple = new UniTuple<>(i, 0);
+            Object[] indexProperties = newIndexProperties(random, propertyCount);
+            indexer.put(indexProperties, tuple, "value");
+            tupleList.add(tuple);
+            indexPropertiesList.add(indexProperties);
+        }
+        doMoves(indexer, random, tupleList, indexPropertiesList, WARM_UP_MOVE_COUNT);
+        long threadId = Thread.currentThread().getId();
+        long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        doMoves(indexer, random, tupleList, indexPropertiesList, MOVE_COUNT);
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+        return (double) allocatedBytes / MOVE_COUNT;
+    }
+
+    private static void doMoves(Indexer<UniTuple<Integer>, String> indexer, Random random,
+            List<UniTuple<Integer>> tupleList, List<Object[]> indexPropertiesList, int moveCount) {
+        int propertyCount = indexPropertiesList.get(0).length;
+        for (int i = 0; i < moveCount; i++) {
+            int tupleIndex = random.nextInt(TUPLE_COUNT);
+            UniTuple<Integer> tuple = tupleList.get(tupleIndex);
+            indexer.remove(indexPropertiesList.get(tupleIndex), tuple);
+            // Like the join nodes, an update creates new index properties
+            Object[] indexProperties = newIndexProperties(random, propertyCount);
+            indexer.put(indexProperties, tuple, "value");
+            indexPropertiesList.set(tupleIndex, indexProperties);
+            indexer.visit(indexProperties, NO_OP_VISITOR);
+        }
+    }
+
+    private static Object[] newIndexProperties(Random random, int propertyCount) {
+        Object[] indexProperties = new Object[propertyCount];
+        for (int i = 0; i < propertyCount; i++) {
+            // Within the Integer cache, so no allocation to box them
+            indexProperties[i] = random.nextInt(DISTINCT_PROPERTY_COUNT);
+        }
+        return indexProperties;
+    }
+
+    /**
+     * The equals indexer before the allocation reduction, as a baseline.
+     */
+    private static final class LegacyEqualsIndexer<Tuple_ extends Tuple, Value_> implements Indexer<Tuple_, Value_> {
+
+        private final Map<IndexerKey, Map<Tuple_, Value_>> map = new HashMap<>();
+
+        @Override
+        public void put(Object[] indexProperties, Tuple_ tuple, Value_ value) {
+            map.computeIfAbsent(new IndexerKey(indexProperties), k -> new LinkedHashMap<>()).put(tuple, value);
+        }
+
+        @Override
+        public Value_ remove(Object[] indexProperties, Tuple_ tuple) {
+            IndexerKey oldIndexKey = new IndexerKey(indexProperties);
+            Map<Tuple_, Value_> tupleMap = map.get(oldIndexKey);
+            Value_ value = tupleMap.remove(tuple);
+            if (tupleMap.isEmpty()) {
+                map.remove(oldIndexKey);
+            }
+            return value;
+        }
+
+        @Override
+        public void visit(Object[] indexProperties, BiConsumer<Tuple_, Value_> tupleValueVisitor) {
+            Map<Tuple_, Value_> tupleMap = map.get(new IndexerKey(indexProperties));
+            if (tupleMap != null) {
+                tupleMap.forEach(tupleValueVisitor);
+            }
+        }
+
+        @Override
+        public int countValues(Object[] indexProperties) {
+            Map<Tuple_, Value_> tupleMap = map.get(new IndexerKey(indexProperties));
+            return tupleMap == null ? 0 : tupleMap.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return map.isEmpty();
+        }
+
+    }
+
+}
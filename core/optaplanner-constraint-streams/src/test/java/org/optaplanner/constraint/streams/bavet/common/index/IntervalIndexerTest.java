@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+import org.optaplanner.core.impl.score.stream.JoinerType;
+
+class IntervalIndexerTest extends AbstractIndexerTest {
+
+    // Models Joiners.overlapping(): the stored start is lower than the query end
+    // and the stored end is greater than the query start.
+    // Index properties: start, end for the stored tuples and end, start for the queries.
+    private Indexer<UniTuple<String>, String> buildIndexer() {
+        return new IntervalIndexer<>(0, JoinerType.LESS_THAN, JoinerType.GREATER_THAN, NoneIndexer::new);
+    }
+
+    @Test
+    void getEmpty() {
+        Indexer<UniTuple<String>, String> indexer = buildIndexer();
+        assertThat(getTupleMap(indexer, 10, 0)).isEmpty();
+        assertThat(indexer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void putTwice() {
+        Indexer<UniTuple<String>, String> indexer = buildIndexer();
+        UniTuple<String> annTuple = newTuple("Ann-8-14");
+        indexer.put(new Object[] { 8, 14 }, annTuple, "Ann value");
+        assertThatThrownBy(() -> indexer.put(new Object[] { 8, 14 }, annTuple, "Ann value"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void removeTwice() {
+        Indexer<UniTuple<String>, String> indexer = buildIndexer();
+        UniTuple<String> annTuple = newTuple("Ann-8-14");
+        indexer.put(new Object[] { 8, 14 }, annTuple, "Ann value");
+
+        UniTuple<String> bethTuple = newTuple("Beth-8-14");
+        assertThatThrownBy(() -> indexer.remove(new Object[] { 8, 14 }, bethTuple))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> indexer.remove(new Object[] { 9, 14 }, bethTuple))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(indexer.remove(new Object[] { 8, 14 }, annTuple))
+                .isEqualTo("Ann value");
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> indexer.remove(new Object[] { 8, 14 }, annTuple))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visit() {
+        Indexer<UniTuple<String>, String> indexer = buildIndexer();
+
+        UniTuple<String> annTuple = newTuple("Ann-8-14");
+        indexer.put(new Object[] { 8, 14 }, annTuple, "Ann value");
+        UniTuple<String> bethTuple = newTuple("Beth-12-18");
+        indexer.put(new Object[] { 12, 18 }, bethTuple, "Beth value");
+        UniTuple<String> ericTuple = newTuple("Eric-16-22");
+        indexer.put(new Object[] { 16, 22 }, ericTuple, "Eric value");
+
+        assertThat(getTupleMap(indexer, 14, 8)).containsOnlyKeys(annTuple, bethTuple);
+        assertThat(getTupleMap(indexer, 18, 12)).containsOnlyKeys(annTuple, bethTuple, ericTuple);
+        assertThat(getTupleMap(indexer, 22, 16)).containsOnlyKeys(bethTuple, ericTuple);
+        assertThat(indexer.countValues(new Object[] { 22, 16 })).isEqualTo(2);
+        // Touching intervals do not overlap
+        assertThat(getTupleMap(indexer, 8, 0)).isEmpty();
+        assertThat(getTupleMap(indexer, 30, 22)).isEmpty();
+        assertThat(indexer.countValues(new Object[] { 30, 22 })).isZero();
+    }
+
+    @Test
+    void visitMatchesBruteForce() {
+        Indexer<UniTuple<String>, String> indexer = buildIndexer();
+        Random random = new Random(37);
+        List<Object[]> indexPropertiesList = new ArrayList<>();
+        List<UniTuple<String>> tupleList = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (!tupleList.isEmpty() && random.nextInt(3) == 0) {
+                int index = random.nextInt(tupleList.size());
+                UniTuple<String> tuple = tupleList.remove(index);
+                Object[] indexProperties = indexPropertiesList.remove(index);
+                assertThat(indexer.remove(indexProperties, tuple)).isEqualTo(tuple.factA);
+            } else {
+                int start = random.nextInt(100);
+                int end = start + random.nextInt(20);
+                UniTuple<String> tuple = newTuple("Tuple-" + i + "-" + start + "-" + end);
+                Object[] indexProperties = new Object[] { start, end };
+                indexer.put(indexProperties, tuple, tuple.factA);
+                tupleList.add(tuple);
+                indexPropertiesList.add(indexProperties);
+            }
+            int queryStart = random.nextInt(100);
+            int queryEnd = queryStart + random.nextInt(20);
+            List<UniTuple<String>> expectedTupleList = new ArrayList<>();
+            for (int j = 0; j < tupleList.size(); j++) {
+                Object[] indexProperties = indexPropertiesList.get(j);
+                if ((Integer) indexProperties[0] < queryEnd && (Integer) indexProperties[1] > queryStart) {
+                    expectedTupleList.add(tupleList.get(j));
+                }
+            }
+            assertThat(getTupleMap(indexer, queryEnd, queryStart).keySet())
+                    .containsExactlyInAnyOrderElementsOf(expectedTupleList);
+        }
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTuple<>(factA, 0);
+    }
+
+}
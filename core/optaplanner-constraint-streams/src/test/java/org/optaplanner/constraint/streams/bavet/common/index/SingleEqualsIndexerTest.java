@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+
+class SingleEqualsIndexerTest extends AbstractIndexerTest {
+
+    @Test
+    void getEmpty() {
+        Indexer<UniTuple<String>, String> indexer = new SingleEqualsIndexer<>();
+        assertThat(getTupleMap(indexer, 40)).isEmpty();
+    }
+
+    @Test
+    void putTwice() {
+        Indexer<UniTuple<String>, String> indexer = new SingleEqualsIndexer<>();
+        UniTuple<String> annTuple = newTuple("Ann-40");
+        indexer.put(new Object[] { 40 }, annTuple, "Ann value");
+        assertThatThrownBy(() -> indexer.put(new Object[] { 40 }, annTuple, "Ann value"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void removeTwice() {
+        Indexer<UniTuple<String>, String> indexer = new SingleEqualsIndexer<>();
+        UniTuple<String> annTuple = newTuple("Ann-40");
+        indexer.put(new Object[] { 40 }, annTuple, "Ann value");
+
+        UniTuple<String> ednaTuple = newTuple("Edna-40");
+        assertThatThrownBy(() -> indexer.remove(new Object[] { 40 }, ednaTuple))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(indexer.remove(new Object[] { 40 }, annTuple))
+                .isEqualTo("Ann value");
+        assertThatThrownBy(() -> indexer.remove(new Object[] { 40 }, annTuple))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visit() {
+        Indexer<UniTuple<String>, String> indexer = new SingleEqualsIndexer<>();
+
+        UniTuple<String> annTuple = newTuple("Ann-40");
+        indexer.put(new Object[] { 40 }, annTuple, "Ann value");
+        UniTuple<String> bethTuple = newTuple("Beth-30");
+        indexer.put(new Object[] { 30 }, bethTuple, "Beth value");
+        UniTuple<String> carlTuple = newTuple("Carl-40");
+        indexer.put(new Object[] { 40 }, carlTuple, "Carl value");
+        UniTuple<String> danTuple = newTuple("Dan-30");
+        indexer.put(new Object[] { 30 }, danTuple, "Dan value");
+        UniTuple<String> ednaTuple = newTuple("Edna-40");
+        indexer.put(new Object[] { 40 }, ednaTuple, "Edna value");
+
+        assertThat(getTupleMap(indexer, 40)).containsOnlyKeys(annTuple, carlTuple, ednaTuple);
+        assertThat(indexer.countValues(new Object[] { 40 })).isEqualTo(3);
+
+        assertThat(getTupleMap(indexer, 30)).containsOnlyKeys(bethTuple, danTuple);
+        assertThat(indexer.countValues(new Object[] { 30 })).isEqualTo(2);
+
+        assertThat(getTupleMap(indexer, 20)).isEmpty();
+        assertThat(indexer.countValues(new Object[] { 20 })).isZero();
+    }
+
+    @Test
+    void visitNull() {
+        Indexer<UniTuple<String>, String> indexer = new SingleEqualsIndexer<>();
+        UniTuple<String> annTuple = newTuple("Ann-null");
+        indexer.put(new Object[] { null }, annTuple, "Ann value");
+        indexer.put(new Object[] { 40 }, newTuple("Beth-40"), "Beth value");
+
+        assertThat(getTupleMap(indexer, (Object) null)).containsOnlyKeys(annTuple);
+        assertThat(indexer.remove(new Object[] { null }, annTuple)).isEqualTo("Ann value");
+        assertThat(getTupleMap(indexer, (Object) null)).isEmpty();
+        assertThat(indexer.isEmpty()).isFalse();
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTuple<>(factA, 0);
+    }
+
+}
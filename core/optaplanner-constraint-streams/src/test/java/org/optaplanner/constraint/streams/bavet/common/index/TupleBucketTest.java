@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.constraint.streams.bavet.uni.UniTuple;
+
+class TupleBucketTest {
+
+    @Test
+    void putAndRemove() {
+        TupleBucket<UniTuple<String>, String> bucket = new TupleBucket<>();
+        assertThat(bucket.isEmpty()).isTrue();
+        UniTuple<String> annTuple = newTuple("Ann");
+        UniTuple<String> bethTuple = newTuple("Beth");
+        UniTuple<String> carlTuple = newTuple("Carl");
+        assertThat(bucket.put(annTuple, "Ann value")).isTrue();
+        assertThat(bucket.put(bethTuple, "Beth value")).isTrue();
+        assertThat(bucket.put(carlTuple, "Carl value")).isTrue();
+        assertThat(bucket.put(annTuple, "Ann value")).isFalse();
+        assertThat(bucket.size()).isEqualTo(3);
+        assertThat(toMap(bucket)).containsExactly(
+                Map.entry(annTuple, "Ann value"),
+                Map.entry(bethTuple, "Beth value"),
+                Map.entry(carlTuple, "Carl value"));
+
+        assertThat(bucket.remove(annTuple)).isEqualTo("Ann value");
+        assertThat(bucket.remove(annTuple)).isNull();
+        // The last tuple moves into the hole
+        assertThat(toMap(bucket)).containsExactly(
+                Map.entry(carlTuple, "Carl value"),
+                Map.entry(bethTuple, "Beth value"));
+        assertThat(bucket.remove(bethTuple)).isEqualTo("Beth value");
+        assertThat(bucket.remove(carlTuple)).isEqualTo("Carl value");
+        assertThat(bucket.isEmpty()).isTrue();
+    }
+
+    @Test
+    void putAndRemoveMany() {
+        TupleBucket<UniTuple<String>, String> bucket = new TupleBucket<>();
+        Map<UniTuple<String>, String> expectedMap = new LinkedHashMap<>();
+        List<UniTuple<String>> tupleList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tupleList.add(newTuple("Tuple " + i));
+        }
+        Random random = new Random(37);
+        for (int i = 0; i < 10_000; i++) {
+            UniTuple<String> tuple = tupleList.get(random.nextInt(tupleList.size()));
+            if (random.nextBoolean()) {
+                String value = tuple.factA + " value " + i;
+                boolean added = !expectedMap.containsKey(tuple);
+                assertThat(bucket.put(tuple, value)).isEqualTo(added);
+                if (added) {
+                    expectedMap.put(tuple, value);
+                }
+            } else {
+                assertThat(bucket.remove(tuple)).isEqualTo(expectedMap.remove(tuple));
+            }
+            assertThat(bucket.size()).isEqualTo(expectedMap.size());
+        }
+        assertThat(toMap(bucket)).containsExactlyInAnyOrderEntriesOf(expectedMap);
+    }
+
+    private static Map<UniTuple<String>, String> toMap(TupleBucket<UniTuple<String>, String> bucket) {
+        Map<UniTuple<String>, String> map = new LinkedHashMap<>();
+        bucket.forEach(map::put);
+        return map;
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTuple<>(factA, 0);
+    }
+
+}
@@ -132,6 +132,31 @@ class BendableLongScoreInlinerTest extends AbstractScoreInlinerTest<TestdataBend
                 .isEqualTo(buildScore(0, 0, 0));
     }
 
+    @Test
+    void impactAllUndoFree() {
+        BendableLongScoreInliner scoreInliner = new BendableLongScoreInliner(false, 1, 2);
+
+        BendableLongScore constraintWeight = buildScore(10, 100, 1_000);
+        WeightedScoreImpacter hardImpacter =
+                scoreInliner.buildWeightedScoreImpacter(buildConstraint(constraintWeight), constraintWeight);
+        assertThat(hardImpacter.isUndoFree()).isTrue();
+        hardImpacter.impactScore(10L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(buildScore(100, 1_000, 10_000));
+
+        hardImpacter.impactScore(20L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(buildScore(300, 3_000, 30_000));
+
+        hardImpacter.impactScore(-20L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(buildScore(100, 1_000, 10_000));
+
+        hardImpacter.impactScore(-10L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(buildScore(0, 0, 0));
+    }
+
     @Override
     protected SolutionDescriptor<TestdataBendableLongScoreSolution> buildSolutionDescriptor() {
         return TestdataBendableLongScoreSolution.buildSolutionDescriptor();
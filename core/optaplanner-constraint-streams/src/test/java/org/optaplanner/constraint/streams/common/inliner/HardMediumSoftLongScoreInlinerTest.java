@@ -137,6 +137,32 @@ class HardMediumSoftLongScoreInlinerTest
                 .isEqualTo(HardMediumSoftLongScore.of(0, 0, 0));
     }
 
+    @Test
+    void impactAllUndoFree() {
+        HardMediumSoftLongScoreInliner scoreInliner =
+                new HardMediumSoftLongScoreInliner(false);
+
+        HardMediumSoftLongScore constraintWeight = HardMediumSoftLongScore.of(10, 100, 1_000);
+        WeightedScoreImpacter hardImpacter =
+                scoreInliner.buildWeightedScoreImpacter(buildConstraint(constraintWeight), constraintWeight);
+        assertThat(hardImpacter.isUndoFree()).isTrue();
+        hardImpacter.impactScore(10L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardMediumSoftLongScore.of(100, 1_000, 10_000));
+
+        hardImpacter.impactScore(20L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardMediumSoftLongScore.of(300, 3_000, 30_000));
+
+        hardImpacter.impactScore(-20L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardMediumSoftLongScore.of(100, 1_000, 10_000));
+
+        hardImpacter.impactScore(-10L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardMediumSoftLongScore.of(0, 0, 0));
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardMediumSoftLongScoreSolution> buildSolutionDescriptor() {
         return TestdataHardMediumSoftLongScoreSolution.buildSolutionDescriptor();
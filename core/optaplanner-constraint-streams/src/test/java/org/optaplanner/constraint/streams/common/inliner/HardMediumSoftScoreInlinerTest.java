@@ -137,6 +137,32 @@ class HardMediumSoftScoreInlinerTest
                 .isEqualTo(HardMediumSoftScore.of(0, 0, 0));
     }
 
+    @Test
+    void impactAllUndoFree() {
+        HardMediumSoftScoreInliner scoreInliner =
+                new HardMediumSoftScoreInliner(false);
+
+        HardMediumSoftScore constraintWeight = HardMediumSoftScore.of(10, 100, 1_000);
+        WeightedScoreImpacter hardImpacter =
+                scoreInliner.buildWeightedScoreImpacter(buildConstraint(constraintWeight), constraintWeight);
+        assertThat(hardImpacter.isUndoFree()).isTrue();
+        hardImpacter.impactScore(10);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardMediumSoftScore.of(100, 1_000, 10_000));
+
+        hardImpacter.impactScore(20);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardMediumSoftScore.of(300, 3_000, 30_000));
+
+        hardImpacter.impactScore(-20);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardMediumSoftScore.of(100, 1_000, 10_000));
+
+        hardImpacter.impactScore(-10);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardMediumSoftScore.of(0, 0, 0));
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardMediumSoftScoreSolution> buildSolutionDescriptor() {
         return TestdataHardMediumSoftScoreSolution.buildSolutionDescriptor();
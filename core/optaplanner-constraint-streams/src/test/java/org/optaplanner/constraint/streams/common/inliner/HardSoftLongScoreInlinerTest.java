@@ -111,6 +111,32 @@ class HardSoftLongScoreInlinerTest extends AbstractScoreInlinerTest<TestdataHard
                 .isEqualTo(HardSoftLongScore.of(0, 0));
     }
 
+    @Test
+    void impactAllUndoFree() {
+        HardSoftLongScoreInliner scoreInliner =
+                new HardSoftLongScoreInliner(false);
+
+        HardSoftLongScore constraintWeight = HardSoftLongScore.of(10, 100);
+        WeightedScoreImpacter hardImpacter =
+                scoreInliner.buildWeightedScoreImpacter(buildConstraint(constraintWeight), constraintWeight);
+        assertThat(hardImpacter.isUndoFree()).isTrue();
+        hardImpacter.impactScore(10L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftLongScore.of(100, 1_000));
+
+        hardImpacter.impactScore(20L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftLongScore.of(300, 3_000));
+
+        hardImpacter.impactScore(-20L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftLongScore.of(100, 1_000));
+
+        hardImpacter.impactScore(-10L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftLongScore.of(0, 0));
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardSoftLongScoreSolution> buildSolutionDescriptor() {
         return TestdataHardSoftLongScoreSolution.buildSolutionDescriptor();
@@ -111,6 +111,32 @@ class HardSoftScoreInlinerTest extends AbstractScoreInlinerTest<TestdataHardSoft
                 .isEqualTo(HardSoftScore.of(0, 0));
     }
 
+    @Test
+    void impactAllUndoFree() {
+        HardSoftScoreInliner scoreInliner =
+                new HardSoftScoreInliner(false);
+
+        HardSoftScore constraintWeight = HardSoftScore.of(10, 100);
+        WeightedScoreImpacter hardImpacter =
+                scoreInliner.buildWeightedScoreImpacter(buildConstraint(constraintWeight), constraintWeight);
+        assertThat(hardImpacter.isUndoFree()).isTrue();
+        hardImpacter.impactScore(10);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(100, 1_000));
+
+        hardImpacter.impactScore(20);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(300, 3_000));
+
+        hardImpacter.impactScore(-20);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(100, 1_000));
+
+        hardImpacter.impactScore(-10);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(0, 0));
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardSoftScoreSolution> buildSolutionDescriptor() {
         return TestdataHardSoftScoreSolution.buildSolutionDescriptor();
@@ -61,6 +61,32 @@ class SimpleLongScoreInlinerTest extends AbstractScoreInlinerTest<TestdataSimple
                 .isEqualTo(SimpleLongScore.of(0));
     }
 
+    @Test
+    void impactUndoFree() {
+        SimpleLongScoreInliner scoreInliner =
+                new SimpleLongScoreInliner(false);
+
+        SimpleLongScore constraintWeight = SimpleLongScore.of(10);
+        WeightedScoreImpacter hardImpacter =
+                scoreInliner.buildWeightedScoreImpacter(buildConstraint(constraintWeight), constraintWeight);
+        assertThat(hardImpacter.isUndoFree()).isTrue();
+        hardImpacter.impactScore(10L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(SimpleLongScore.of(100));
+
+        hardImpacter.impactScore(20L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(SimpleLongScore.of(300));
+
+        hardImpacter.impactScore(-20L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(SimpleLongScore.of(100));
+
+        hardImpacter.impactScore(-10L);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(SimpleLongScore.of(0));
+    }
+
     @Override
     protected SolutionDescriptor<TestdataSimpleLongScoreSolution> buildSolutionDescriptor() {
         return TestdataSimpleLongScoreSolution.buildSolutionDescriptor();
@@ -61,6 +61,32 @@ class SimpleScoreInlinerTest extends AbstractScoreInlinerTest<TestdataSolution,
                 .isEqualTo(SimpleScore.of(0));
     }
 
+    @Test
+    void impactUndoFree() {
+        SimpleScoreInliner scoreInliner =
+                new SimpleScoreInliner(false);
+
+        SimpleScore constraintWeight = SimpleScore.of(10);
+        WeightedScoreImpacter hardImpacter =
+                scoreInliner.buildWeightedScoreImpacter(buildConstraint(constraintWeight), constraintWeight);
+        assertThat(hardImpacter.isUndoFree()).isTrue();
+        hardImpacter.impactScore(10);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(SimpleScore.of(100));
+
+        hardImpacter.impactScore(20);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(SimpleScore.of(300));
+
+        hardImpacter.impactScore(-20);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(SimpleScore.of(100));
+
+        hardImpacter.impactScore(-10);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(SimpleScore.of(0));
+    }
+
     @Override
     protected SolutionDescriptor<TestdataSolution> buildSolutionDescriptor() {
         return TestdataSolution.buildSolutionDescriptor();
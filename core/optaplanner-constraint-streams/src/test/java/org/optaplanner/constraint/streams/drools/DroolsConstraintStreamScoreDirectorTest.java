@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.constraint.streams.drools;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.KieSession;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.Joiners;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntity;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntityGroup;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishSolution;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishValue;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishValueGroup;
+
+class DroolsConstraintStreamScoreDirectorTest {
+
+    private final DroolsConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+            new DroolsConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                    new TestdataLavishConstraintProvider(), false);
+    private final DroolsConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> reuseScoreDirectorFactory =
+            new DroolsConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                    new TestdataLavishConstraintProvider(), false, true);
+
+    @Test
+    void setWorkingSolutionWithPlanningCloneReusesSession() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        DroolsConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                reuseScoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-(2 * 3) - (7 * 10)));
+        KieSession session = scoreDirector.getSession();
+
+        TestdataLavishSolution clone = scoreDirector.cloneSolution(solution);
+        scoreDirector.setWorkingSolution(clone);
+        assertThat(scoreDirector.getSession()).isSameAs(session);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-(2 * 3) - (7 * 10)));
+
+        // The entities of the clone are inserted, so they are tracked incrementally
+        TestdataLavishEntity entity = clone.getFirstEntity();
+        scoreDirector.beforeVariableChanged(entity, TestdataLavishEntity.VALUE_FIELD);
+        entity.setValue(null);
+        scoreDirector.afterVariableChanged(entity, TestdataLavishEntity.VALUE_FIELD);
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.ofUninitialized(-1, -(2 * 3) - (6 * 10)));
+    }
+
+    @Test
+    void setWorkingSolutionWithDifferentProblemFacts() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        DroolsConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                reuseScoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-(2 * 3) - (7 * 10)));
+
+        TestdataLavishSolution clone = scoreDirector.cloneSolution(solution);
+        // A planning clone shares the problem fact collections, so replace them instead of changing them
+        List<TestdataLavishValueGroup> valueGroupList = new ArrayList<>(clone.getValueGroupList());
+        valueGroupList.remove(0);
+        clone.setValueGroupList(valueGroupList);
+        scoreDirector.setWorkingSolution(clone);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-(1 * 3) - (7 * 10)));
+    }
+
+    @Test
+    void setWorkingSolutionWithoutReuseResetsSession() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution();
+        DroolsConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-(2 * 3) - (7 * 10)));
+        KieSession session = scoreDirector.getSession();
+
+        TestdataLavishSolution clone = scoreDirector.cloneSolution(solution);
+        clone.getValueGroupList().add(new TestdataLavishValueGroup("New ValueGroup"));
+        scoreDirector.setWorkingSolution(clone);
+        assertThat(scoreDirector.getSession()).isNotSameAs(session);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-(3 * 3) - (7 * 10)));
+    }
+
+    public static final class TestdataLavishConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    // Only joins problem facts
+                    constraintFactory.forEach(TestdataLavishValueGroup.class)
+                            .join(TestdataLavishEntityGroup.class)
+                            .penalize("Group pair", SimpleScore.ONE),
+                    constraintFactory.forEach(TestdataLavishEntity.class)
+                            .join(TestdataLavishValue.class,
+                                    Joiners.equal(TestdataLavishEntity::getValue, Function.identity()))
+                            .penalize("Entity value", SimpleScore.of(10))
+            };
+        }
+
+    }
+
+}
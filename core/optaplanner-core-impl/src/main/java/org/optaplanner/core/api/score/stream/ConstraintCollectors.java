@@ -62,6 +62,7 @@ import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
 import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+import org.optaplanner.core.impl.util.OrderStatisticTree;
 
 /**
  * Creates an {@link UniConstraintCollector}, {@link BiConstraintCollector}, ... instance
@@ -1283,6 +1284,687 @@ public final class ConstraintCollectors {
         });
     }
 
+    // ************************************************************************
+    // percentile
+    // ************************************************************************
+    /**
+     * Returns a collector that finds the value at a percentile in a group of {@link Comparable} elements,
+     * by the nearest-rank method: the least value that is greater than or equal to that percentage of all values.
+     * So the result is always one of the values.
+     * Unlike a {@link #toList()} with a sorting finisher,
+     * every accumulation and its retraction take {@code O(log(n))} time, backed by an order statistic tree.
+     * <p>
+     * Important: The {@link Comparable}'s {@link Comparable#compareTo(Object)} must be <i>consistent with equals</i>,
+     * as defined by {@link #min()}.
+     * <p>
+     * For example, {@code [Ann(age = 20), Beth(age = 25), Cathy(age = 30), David(age = 30), Eric(age = 20)]} with
+     * {@code .groupBy(percentile(Person::getAge, 0.8))} returns {@code 30}.
+     * <p>
+     * The default result of the collector (e.g. when never called) is {@code null}.
+     *
+     * @param <A> type of the matched fact
+     * @param <Mapped> type of the result
+     * @param groupValueMapping never null, maps facts from the matched type to the result type
+     * @param percentile {@code 0.0 <= percentile <= 1.0}, for example {@code 0.9} for the 90th percentile
+     * @return never null
+     */
+    public static <A, Mapped extends Comparable<Mapped>> UniConstraintCollector<A, ?, Mapped> percentile(
+            Function<A, Mapped> groupValueMapping, double percentile) {
+        return percentile(groupValueMapping, Comparator.naturalOrder(), percentile);
+    }
+
+    /**
+     * As defined by {@link #percentile(Function, double)}, only with a custom {@link Comparator}.
+     */
+    public static <A, Mapped> UniConstraintCollector<A, ?, Mapped> percentile(
+            Function<A, Mapped> groupValueMapping, Comparator<Mapped> comparator,
+            double percentile) {
+        return orderStatistic(groupValueMapping, comparator, getPercentileFinisher(percentile));
+    }
+
+    /**
+     * Returns a collector that finds the median value in a group of {@link Comparable} elements.
+     * If the group has an even number of elements, it returns the lower middle element
+     * (the lesser of the 2 middle values) instead of their average, so the result is always one of the values.
+     * For example, {@code [20, 25, 30, 40]} returns {@code 25}.
+     * As defined by {@link #percentile(Function, double)} with a percentile of {@code 0.5}.
+     * <p>
+     * For example, {@code [Ann(age = 20), Beth(age = 25), Cathy(age = 30), David(age = 30), Eric(age = 20)]} with
+     * {@code .groupBy(median(Person::getAge))} returns {@code 25}.
+     * <p>
+     * The default result of the collector (e.g. when never called) is {@code null}.
+     *
+     * @param <A> type of the matched fact
+     * @param <Mapped> type of the result
+     * @param groupValueMapping never null, maps facts from the matched type to the result type
+     * @return never null
+     */
+    public static <A, Mapped extends Comparable<Mapped>> UniConstraintCollector<A, ?, Mapped> median(
+            Function<A, Mapped> groupValueMapping) {
+        return median(groupValueMapping, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #median(Function)}, only with a custom {@link Comparator}.
+     */
+    public static <A, Mapped> UniConstraintCollector<A, ?, Mapped> median(
+            Function<A, Mapped> groupValueMapping, Comparator<Mapped> comparator) {
+        return percentile(groupValueMapping, comparator, 0.5);
+    }
+
+    private static <A, Mapped, Result_> UniConstraintCollector<A, OrderStatisticTree<Mapped>, Result_>
+            orderStatistic(Function<A, Mapped> groupValueMapping, Comparator<Mapped> comparator,
+                    Function<OrderStatisticTree<Mapped>, Result_> finisher) {
+        return new DefaultUniConstraintCollector<>(
+                () -> new OrderStatisticTree<>(comparator),
+                (resultContainer, a) -> {
+                    Mapped mapped = groupValueMapping.apply(a);
+                    resultContainer.add(mapped);
+                    return () -> resultContainer.remove(mapped);
+                },
+                finisher);
+    }
+
+    private static <Mapped> Function<OrderStatisticTree<Mapped>, Mapped> getPercentileFinisher(double percentile) {
+        if (percentile < 0.0 || percentile > 1.0) {
+            throw new IllegalArgumentException("The percentile (" + percentile + ") must be between 0.0 and 1.0.");
+        }
+        // Decimal arithmetic, so for example a percentile of 0.7 of 10 values is the 7th value, not the 8th
+        BigDecimal decimalPercentile = BigDecimal.valueOf(percentile);
+        return resultContainer -> {
+            int size = resultContainer.size();
+            if (size == 0) {
+                return null;
+            }
+            int rank = decimalPercentile.multiply(BigDecimal.valueOf(size))
+                    .setScale(0, RoundingMode.CEILING)
+                    .intValueExact();
+            return resultContainer.get(Math.max(rank - 1, 0));
+        };
+    }
+
+    /**
+     * As defined by {@link #percentile(Function, double)}.
+     */
+    public static <A, B, Mapped extends Comparable<Mapped>> BiConstraintCollector<A, B, ?, Mapped> percentile(
+            BiFunction<A, B, Mapped> groupValueMapping, double percentile) {
+        return percentile(groupValueMapping, Comparator.naturalOrder(), percentile);
+    }
+
+    /**
+     * As defined by {@link #percentile(Function, double)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, Mapped> BiConstraintCollector<A, B, ?, Mapped> percentile(
+            BiFunction<A, B, Mapped> groupValueMapping, Comparator<Mapped> comparator,
+            double percentile) {
+        return orderStatistic(groupValueMapping, comparator, getPercentileFinisher(percentile));
+    }
+
+    /**
+     * As defined by {@link #median(Function)}.
+     */
+    public static <A, B, Mapped extends Comparable<Mapped>> BiConstraintCollector<A, B, ?, Mapped> median(
+            BiFunction<A, B, Mapped> groupValueMapping) {
+        return median(groupValueMapping, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #median(Function)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, Mapped> BiConstraintCollector<A, B, ?, Mapped> median(
+            BiFunction<A, B, Mapped> groupValueMapping, Comparator<Mapped> comparator) {
+        return percentile(groupValueMapping, comparator, 0.5);
+    }
+
+    private static <A, B, Mapped, Result_> BiConstraintCollector<A, B, OrderStatisticTree<Mapped>, Result_>
+            orderStatistic(BiFunction<A, B, Mapped> groupValueMapping, Comparator<Mapped> comparator,
+                    Function<OrderStatisticTree<Mapped>, Result_> finisher) {
+        return new DefaultBiConstraintCollector<>(
+                () -> new OrderStatisticTree<>(comparator),
+                (resultContainer, a, b) -> {
+                    Mapped mapped = groupValueMapping.apply(a, b);
+                    resultContainer.add(mapped);
+                    return () -> resultContainer.remove(mapped);
+                },
+                finisher);
+    }
+
+    /**
+     * As defined by {@link #percentile(Function, double)}.
+     */
+    public static <A, B, C, Mapped extends Comparable<Mapped>> TriConstraintCollector<A, B, C, ?, Mapped> percentile(
+            TriFunction<A, B, C, Mapped> groupValueMapping, double percentile) {
+        return percentile(groupValueMapping, Comparator.naturalOrder(), percentile);
+    }
+
+    /**
+     * As defined by {@link #percentile(Function, double)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, C, Mapped> TriConstraintCollector<A, B, C, ?, Mapped> percentile(
+            TriFunction<A, B, C, Mapped> groupValueMapping, Comparator<Mapped> comparator,
+            double percentile) {
+        return orderStatistic(groupValueMapping, comparator, getPercentileFinisher(percentile));
+    }
+
+    /**
+     * As defined by {@link #median(Function)}.
+     */
+    public static <A, B, C, Mapped extends Comparable<Mapped>> TriConstraintCollector<A, B, C, ?, Mapped> median(
+            TriFunction<A, B, C, Mapped> groupValueMapping) {
+        return median(groupValueMapping, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #median(Function)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, C, Mapped> TriConstraintCollector<A, B, C, ?, Mapped> median(
+            TriFunction<A, B, C, Mapped> groupValueMapping, Comparator<Mapped> comparator) {
+        return percentile(groupValueMapping, comparator, 0.5);
+    }
+
+    private static <A, B, C, Mapped, Result_> TriConstraintCollector<A, B, C, OrderStatisticTree<Mapped>, Result_>
+            orderStatistic(TriFunction<A, B, C, Mapped> groupValueMapping, Comparator<Mapped> comparator,
+                    Function<OrderStatisticTree<Mapped>, Result_> finisher) {
+        return new DefaultTriConstraintCollector<>(
+                () -> new OrderStatisticTree<>(comparator),
+                (resultContainer, a, b, c) -> {
+                    Mapped mapped = groupValueMapping.apply(a, b, c);
+                    resultContainer.add(mapped);
+                    return () -> resultContainer.remove(mapped);
+                },
+                finisher);
+    }
+
+    /**
+     * As defined by {@link #percentile(Function, double)}.
+     */
+    public static <A, B, C, D, Mapped extends Comparable<Mapped>> QuadConstraintCollector<A, B, C, D, ?, Mapped> percentile(
+            QuadFunction<A, B, C, D, Mapped> groupValueMapping, double percentile) {
+        return percentile(groupValueMapping, Comparator.naturalOrder(), percentile);
+    }
+
+    /**
+     * As defined by {@link #percentile(Function, double)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, ?, Mapped> percentile(
+            QuadFunction<A, B, C, D, Mapped> groupValueMapping, Comparator<Mapped> comparator,
+            double percentile) {
+        return orderStatistic(groupValueMapping, comparator, getPercentileFinisher(percentile));
+    }
+
+    /**
+     * As defined by {@link #median(Function)}.
+     */
+    public static <A, B, C, D, Mapped extends Comparable<Mapped>> QuadConstraintCollector<A, B, C, D, ?, Mapped> median(
+            QuadFunction<A, B, C, D, Mapped> groupValueMapping) {
+        return median(groupValueMapping, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #median(Function)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, ?, Mapped> median(
+            QuadFunction<A, B, C, D, Mapped> groupValueMapping, Comparator<Mapped> comparator) {
+        return percentile(groupValueMapping, comparator, 0.5);
+    }
+
+    private static <A, B, C, D, Mapped, Result_> QuadConstraintCollector<A, B, C, D, OrderStatisticTree<Mapped>, Result_>
+            orderStatistic(QuadFunction<A, B, C, D, Mapped> groupValueMapping, Comparator<Mapped> comparator,
+                    Function<OrderStatisticTree<Mapped>, Result_> finisher) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> new OrderStatisticTree<>(comparator),
+                (resultContainer, a, b, c, d) -> {
+                    Mapped mapped = groupValueMapping.apply(a, b, c, d);
+                    resultContainer.add(mapped);
+                    return () -> resultContainer.remove(mapped);
+                },
+                finisher);
+    }
+
+    // ************************************************************************
+    // topK
+    // ************************************************************************
+    /**
+     * Returns a collector that finds the {@code k} greatest values in a group of {@link Comparable} elements,
+     * greatest first.
+     * To find the {@code k} least values instead, use {@link #topK(Function, Comparator, int)}
+     * with a reversed {@link Comparator}.
+     * Every accumulation and its retraction take {@code O(log(n))} time, backed by an order statistic tree,
+     * and the result takes {@code O(k log(n))} time.
+     * <p>
+     * Important: The {@link Comparable}'s {@link Comparable#compareTo(Object)} must be <i>consistent with equals</i>,
+     * as defined by {@link #max()}.
+     * <p>
+     * For example, {@code [Ann(age = 20), Beth(age = 25), Cathy(age = 30), David(age = 30), Eric(age = 20)]} with
+     * {@code .groupBy(topK(Person::getAge, 3))} returns {@code [30, 30, 25]}.
+     * <p>
+     * The default result of the collector (e.g. when never called) is an empty {@link List}.
+     *
+     * @param <A> type of the matched fact
+     * @param <Mapped> type of the elements in the result
+     * @param groupValueMapping never null, maps facts from the matched type to the result type
+     * @param k {@code >= 1}, the maximum size of the result
+     * @return never null
+     */
+    public static <A, Mapped extends Comparable<Mapped>> UniConstraintCollector<A, ?, List<Mapped>> topK(
+            Function<A, Mapped> groupValueMapping, int k) {
+        return topK(groupValueMapping, Comparator.naturalOrder(), k);
+    }
+
+    /**
+     * As defined by {@link #topK(Function, int)}, only with a custom {@link Comparator}.
+     */
+    public static <A, Mapped> UniConstraintCollector<A, ?, List<Mapped>> topK(
+            Function<A, Mapped> groupValueMapping, Comparator<Mapped> comparator, int k) {
+        return orderStatistic(groupValueMapping, comparator, getTopKFinisher(k));
+    }
+
+    private static <Mapped> Function<OrderStatisticTree<Mapped>, List<Mapped>> getTopKFinisher(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("The k (" + k + ") must be at least 1.");
+        }
+        return resultContainer -> {
+            int size = resultContainer.size();
+            int resultSize = Math.min(k, size);
+            List<Mapped> result = new ArrayList<>(resultSize);
+            for (int i = 1; i <= resultSize; i++) {
+                result.add(resultContainer.get(size - i));
+            }
+            return result;
+        };
+    }
+
+    /**
+     * As defined by {@link #topK(Function, int)}.
+     */
+    public static <A, B, Mapped extends Comparable<Mapped>> BiConstraintCollector<A, B, ?, List<Mapped>> topK(
+            BiFunction<A, B, Mapped> groupValueMapping, int k) {
+        return topK(groupValueMapping, Comparator.naturalOrder(), k);
+    }
+
+    /**
+     * As defined by {@link #topK(Function, int)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, Mapped> BiConstraintCollector<A, B, ?, List<Mapped>> topK(
+            BiFunction<A, B, Mapped> groupValueMapping, Comparator<Mapped> comparator, int k) {
+        return orderStatistic(groupValueMapping, comparator, getTopKFinisher(k));
+    }
+
+    /**
+     * As defined by {@link #topK(Function, int)}.
+     */
+    public static <A, B, C, Mapped extends Comparable<Mapped>> TriConstraintCollector<A, B, C, ?, List<Mapped>> topK(
+            TriFunction<A, B, C, Mapped> groupValueMapping, int k) {
+        return topK(groupValueMapping, Comparator.naturalOrder(), k);
+    }
+
+    /**
+     * As defined by {@link #topK(Function, int)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, C, Mapped> TriConstraintCollector<A, B, C, ?, List<Mapped>> topK(
+            TriFunction<A, B, C, Mapped> groupValueMapping, Comparator<Mapped> comparator, int k) {
+        return orderStatistic(groupValueMapping, comparator, getTopKFinisher(k));
+    }
+
+    /**
+     * As defined by {@link #topK(Function, int)}.
+     */
+    public static <A, B, C, D, Mapped extends Comparable<Mapped>> QuadConstraintCollector<A, B, C, D, ?, List<Mapped>> topK(
+            QuadFunction<A, B, C, D, Mapped> groupValueMapping, int k) {
+        return topK(groupValueMapping, Comparator.naturalOrder(), k);
+    }
+
+    /**
+     * As defined by {@link #topK(Function, int)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, ?, List<Mapped>> topK(
+            QuadFunction<A, B, C, D, Mapped> groupValueMapping, Comparator<Mapped> comparator, int k) {
+        return orderStatistic(groupValueMapping, comparator, getTopKFinisher(k));
+    }
+
+    // ************************************************************************
+    // rank
+    // ************************************************************************
+    /**
+     * Returns a collector that ranks the values in a group of {@link Comparable} elements.
+     * The result is a function that returns the number of values in the group that are strictly less than its input,
+     * so the least value has rank {@code 0} and equal values share a rank.
+     * To rank the greatest value first instead, use {@link #rank(Function, Comparator)}
+     * with a reversed {@link Comparator}.
+     * Every accumulation and its retraction take {@code O(log(n))} time, backed by an order statistic tree,
+     * and so does every call of the resulting function.
+     * That function is a snapshot of the group: later accumulations and retractions don't affect it.
+     * Taking the snapshot costs {@code O(1)} time, because the snapshot shares the nodes of the tree, copy-on-write,
+     * so the next accumulation or retraction copies {@code O(log(n))} nodes.
+     * Snapshots of an unchanged group are equal.
+     * <p>
+     * For example, {@code [Ann(age = 20), Beth(age = 25), Cathy(age = 30), David(age = 30), Eric(age = 20)]} with
+     * {@code .groupBy(rank(Person::getAge))} returns a function that maps {@code 20} to {@code 0},
+     * {@code 25} to {@code 2} and {@code 30} to {@code 3}.
+     * <p>
+     * The default result of the collector (e.g. when never called) is a function that always returns {@code 0}.
+     *
+     * @param <A> type of the matched fact
+     * @param <Mapped> type of the ranked values
+     * @param groupValueMapping never null, maps facts from the matched type to the ranked type
+     * @return never null
+     */
+    public static <A, Mapped extends Comparable<Mapped>> UniConstraintCollector<A, ?, ToIntFunction<Mapped>> rank(
+            Function<A, Mapped> groupValueMapping) {
+        return rank(groupValueMapping, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #rank(Function)}, only with a custom {@link Comparator}.
+     */
+    public static <A, Mapped> UniConstraintCollector<A, ?, ToIntFunction<Mapped>> rank(
+            Function<A, Mapped> groupValueMapping, Comparator<Mapped> comparator) {
+        return orderStatistic(groupValueMapping, comparator, getRankFinisher());
+    }
+
+    private static <Mapped> Function<OrderStatisticTree<Mapped>, ToIntFunction<Mapped>> getRankFinisher() {
+        // The result container keeps changing after the result has been handed downstream
+        return resultContainer -> new RankFunction<>(resultContainer.copy());
+    }
+
+    /**
+     * As defined by {@link #rank(Function)}.
+     */
+    public static <A, B, Mapped extends Comparable<Mapped>> BiConstraintCollector<A, B, ?, ToIntFunction<Mapped>> rank(
+            BiFunction<A, B, Mapped> groupValueMapping) {
+        return rank(groupValueMapping, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #rank(Function)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, Mapped> BiConstraintCollector<A, B, ?, ToIntFunction<Mapped>> rank(
+            BiFunction<A, B, Mapped> groupValueMapping, Comparator<Mapped> comparator) {
+        return orderStatistic(groupValueMapping, comparator, getRankFinisher());
+    }
+
+    /**
+     * As defined by {@link #rank(Function)}.
+     */
+    public static <A, B, C, Mapped extends Comparable<Mapped>> TriConstraintCollector<A, B, C, ?, ToIntFunction<Mapped>> rank(
+            TriFunction<A, B, C, Mapped> groupValueMapping) {
+        return rank(groupValueMapping, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #rank(Function)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, C, Mapped> TriConstraintCollector<A, B, C, ?, ToIntFunction<Mapped>> rank(
+            TriFunction<A, B, C, Mapped> groupValueMapping, Comparator<Mapped> comparator) {
+        return orderStatistic(groupValueMapping, comparator, getRankFinisher());
+    }
+
+    /**
+     * As defined by {@link #rank(Function)}.
+     */
+    public static <A, B, C, D, Mapped extends Comparable<Mapped>> QuadConstraintCollector<A, B, C, D, ?, ToIntFunction<Mapped>>
+            rank(QuadFunction<A, B, C, D, Mapped> groupValueMapping) {
+        return rank(groupValueMapping, Comparator.naturalOrder());
+    }
+
+    /**
+     * As defined by {@link #rank(Function)}, only with a custom {@link Comparator}.
+     */
+    public static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, ?, ToIntFunction<Mapped>> rank(
+            QuadFunction<A, B, C, D, Mapped> groupValueMapping, Comparator<Mapped> comparator) {
+        return orderStatistic(groupValueMapping, comparator, getRankFinisher());
+    }
+
+    private static final class RankFunction<Mapped> implements ToIntFunction<Mapped> {
+
+        private final OrderStatisticTree<Mapped> snapshot;
+
+        private RankFunction(OrderStatisticTree<Mapped> snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public int applyAsInt(Mapped value) {
+            return snapshot.countLessThan(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RankFunction)) {
+                return false;
+            }
+            return snapshot.isUnchangedCopyOf(((RankFunction<?>) o).snapshot);
+        }
+
+        @Override
+        public int hashCode() {
+            // Consistent with equals(), because unchanged copies have the same size
+            return snapshot.size();
+        }
+
+    }
+
+    // ************************************************************************
+    // variance
+    // ************************************************************************
+    /**
+     * Returns a collector that calculates the population variance of an {@code int} property
+     * of the elements that are being grouped.
+     * It keeps the count, the sum and the sum of squares of the values,
+     * so every accumulation and its retraction take {@code O(1)} time
+     * and the result doesn't depend on their order.
+     * If the sum of squares overflows a {@code long}, it fails fast with an {@link ArithmeticException}.
+     * <p>
+     * For example, {@code [Ann(age = 20), Beth(age = 25), Cathy(age = 30), David(age = 30), Eric(age = 20)]} with
+     * {@code .groupBy(variance(Person::getAge))} returns {@code 20}.
+     * <p>
+     * The default result of the collector (e.g. when never called) is {@code null}.
+     *
+     * @param <A> type of the matched fact
+     * @param groupValueMapping never null, maps facts from the matched type to the value
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, Double> variance(ToIntFunction<A> groupValueMapping) {
+        return moments(a -> groupValueMapping.applyAsInt(a), VarianceResultContainer::getVariance);
+    }
+
+    /**
+     * As defined by {@link #variance(ToIntFunction)}.
+     */
+    public static <A> UniConstraintCollector<A, ?, Double> varianceLong(ToLongFunction<A> groupValueMapping) {
+        return moments(groupValueMapping, VarianceResultContainer::getVariance);
+    }
+
+    /**
+     * Returns a collector that calculates the population standard deviation of an {@code int} property
+     * of the elements that are being grouped, which is the square root of the {@link #variance(ToIntFunction)}.
+     * <p>
+     * For example, {@code [Ann(age = 20), Beth(age = 25), Cathy(age = 30), David(age = 30), Eric(age = 20)]} with
+     * {@code .groupBy(standardDeviation(Person::getAge))} returns {@code 4.472...}.
+     * <p>
+     * The default result of the collector (e.g. when never called) is {@code null}.
+     *
+     * @param <A> type of the matched fact
+     * @param groupValueMapping never null, maps facts from the matched type to the value
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, Double> standardDeviation(ToIntFunction<A> groupValueMapping) {
+        return moments(a -> groupValueMapping.applyAsInt(a), VarianceResultContainer::getStandardDeviation);
+    }
+
+    /**
+     * As defined by {@link #standardDeviation(ToIntFunction)}.
+     */
+    public static <A> UniConstraintCollector<A, ?, Double> standardDeviationLong(ToLongFunction<A> groupValueMapping) {
+        return moments(groupValueMapping, VarianceResultContainer::getStandardDeviation);
+    }
+
+    private static <A> UniConstraintCollector<A, VarianceResultContainer, Double> moments(
+            ToLongFunction<A> groupValueMapping,
+            Function<VarianceResultContainer, Double> finisher) {
+        return new DefaultUniConstraintCollector<>(
+                VarianceResultContainer::new,
+                (resultContainer, a) -> resultContainer.add(groupValueMapping.applyAsLong(a)),
+                finisher);
+    }
+
+    /**
+     * As defined by {@link #variance(ToIntFunction)}.
+     */
+    public static <A, B> BiConstraintCollector<A, B, ?, Double> variance(ToIntBiFunction<A, B> groupValueMapping) {
+        return moments((a, b) -> groupValueMapping.applyAsInt(a, b), VarianceResultContainer::getVariance);
+    }
+
+    /**
+     * As defined by {@link #variance(ToIntFunction)}.
+     */
+    public static <A, B> BiConstraintCollector<A, B, ?, Double> varianceLong(ToLongBiFunction<A, B> groupValueMapping) {
+        return moments(groupValueMapping, VarianceResultContainer::getVariance);
+    }
+
+    /**
+     * As defined by {@link #standardDeviation(ToIntFunction)}.
+     */
+    public static <A, B> BiConstraintCollector<A, B, ?, Double> standardDeviation(ToIntBiFunction<A, B> groupValueMapping) {
+        return moments((a, b) -> groupValueMapping.applyAsInt(a, b), VarianceResultContainer::getStandardDeviation);
+    }
+
+    /**
+     * As defined by {@link #standardDeviation(ToIntFunction)}.
+     */
+    public static <A, B> BiConstraintCollector<A, B, ?, Double> standardDeviationLong(
+            ToLongBiFunction<A, B> groupValueMapping) {
+        return moments(groupValueMapping, VarianceResultContainer::getStandardDeviation);
+    }
+
+    private static <A, B> BiConstraintCollector<A, B, VarianceResultContainer, Double> moments(
+            ToLongBiFunction<A, B> groupValueMapping,
+            Function<VarianceResultContainer, Double> finisher) {
+        return new DefaultBiConstraintCollector<>(
+                VarianceResultContainer::new,
+                (resultContainer, a, b) -> resultContainer.add(groupValueMapping.applyAsLong(a, b)),
+                finisher);
+    }
+
+    /**
+     * As defined by {@link #variance(ToIntFunction)}.
+     */
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Double> variance(ToIntTriFunction<A, B, C> groupValueMapping) {
+        return moments((a, b, c) -> groupValueMapping.applyAsInt(a, b, c), VarianceResultContainer::getVariance);
+    }
+
+    /**
+     * As defined by {@link #variance(ToIntFunction)}.
+     */
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Double> varianceLong(
+            ToLongTriFunction<A, B, C> groupValueMapping) {
+        return moments(groupValueMapping, VarianceResultContainer::getVariance);
+    }
+
+    /**
+     * As defined by {@link #standardDeviation(ToIntFunction)}.
+     */
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Double> standardDeviation(
+            ToIntTriFunction<A, B, C> groupValueMapping) {
+        return moments((a, b, c) -> groupValueMapping.applyAsInt(a, b, c), VarianceResultContainer::getStandardDeviation);
+    }
+
+    /**
+     * As defined by {@link #standardDeviation(ToIntFunction)}.
+     */
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, Double> standardDeviationLong(
+            ToLongTriFunction<A, B, C> groupValueMapping) {
+        return moments(groupValueMapping, VarianceResultContainer::getStandardDeviation);
+    }
+
+    private static <A, B, C> TriConstraintCollector<A, B, C, VarianceResultContainer, Double> moments(
+            ToLongTriFunction<A, B, C> groupValueMapping,
+            Function<VarianceResultContainer, Double> finisher) {
+        return new DefaultTriConstraintCollector<>(
+                VarianceResultContainer::new,
+                (resultContainer, a, b, c) -> resultContainer.add(groupValueMapping.applyAsLong(a, b, c)),
+                finisher);
+    }
+
+    /**
+     * As defined by {@link #variance(ToIntFunction)}.
+     */
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Double> variance(
+            ToIntQuadFunction<A, B, C, D> groupValueMapping) {
+        return moments((a, b, c, d) -> groupValueMapping.applyAsInt(a, b, c, d), VarianceResultContainer::getVariance);
+    }
+
+    /**
+     * As defined by {@link #variance(ToIntFunction)}.
+     */
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Double> varianceLong(
+            ToLongQuadFunction<A, B, C, D> groupValueMapping) {
+        return moments(groupValueMapping, VarianceResultContainer::getVariance);
+    }
+
+    /**
+     * As defined by {@link #standardDeviation(ToIntFunction)}.
+     */
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Double> standardDeviation(
+            ToIntQuadFunction<A, B, C, D> groupValueMapping) {
+        return moments((a, b, c, d) -> groupValueMapping.applyAsInt(a, b, c, d), VarianceResultContainer::getStandardDeviation);
+    }
+
+    /**
+     * As defined by {@link #standardDeviation(ToIntFunction)}.
+     */
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Double> standardDeviationLong(
+            ToLongQuadFunction<A, B, C, D> groupValueMapping) {
+        return moments(groupValueMapping, VarianceResultContainer::getStandardDeviation);
+    }
+
+    private static <A, B, C, D> QuadConstraintCollector<A, B, C, D, VarianceResultContainer, Double> moments(
+            ToLongQuadFunction<A, B, C, D> groupValueMapping,
+            Function<VarianceResultContainer, Double> finisher) {
+        return new DefaultQuadConstraintCollector<>(
+                VarianceResultContainer::new,
+                (resultContainer, a, b, c, d) -> resultContainer.add(groupValueMapping.applyAsLong(a, b, c, d)),
+                finisher);
+    }
+
+    private static final class VarianceResultContainer {
+
+        private long count = 0L;
+        private long sum = 0L;
+        private long sumOfSquares = 0L;
+
+        public Runnable add(long value) {
+            long square = Math.multiplyExact(value, value);
+            count++;
+            sum = Math.addExact(sum, value);
+            sumOfSquares = Math.addExact(sumOfSquares, square);
+            return () -> {
+                count--;
+                sum -= value;
+                sumOfSquares -= square;
+            };
+        }
+
+        public Double getVariance() {
+            if (count == 0L) {
+                return null;
+            }
+            // The numerator is exact, to avoid the catastrophic cancellation of sumOfSquares / count - mean * mean
+            BigInteger numerator = BigInteger.valueOf(count).multiply(BigInteger.valueOf(sumOfSquares))
+                    .subtract(BigInteger.valueOf(sum).pow(2));
+            return numerator.doubleValue() / ((double) count * count);
+        }
+
+        public Double getStandardDeviation() {
+            Double variance = getVariance();
+            return variance == null ? null : Math.sqrt(variance);
+        }
+
+    }
+
     // ************************************************************************
     // toCollection
     // ************************************************************************
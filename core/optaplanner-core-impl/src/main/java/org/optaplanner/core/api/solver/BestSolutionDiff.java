@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.solver;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+
+/**
+ * A new best solution, delivered by {@link SolverManager#solveAndListenToDiffs(Object, Function, Consumer)},
+ * together with the {@link PlanningEntity planning entities} whose variables changed
+ * since the previous delivered best solution.
+ * <p>
+ * Every variable is compared, both the genuine {@link PlanningVariable planning variables} and the shadow variables.
+ * The entities are matched by their position in the {@link PlanningSolution},
+ * because every delivered best solution is a different planning clone.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class BestSolutionDiff<Solution_> {
+
+    private final Solution_ newBestSolution;
+    private final boolean complete;
+    private final List<Object> changedEntityList;
+    private final Map<Object, Set<String>> changedVariableNamesMap;
+
+    /**
+     * @param newBestSolution never null
+     * @param complete true if every entity is in the changedEntityList
+     * @param changedEntityList never null, entities of the newBestSolution
+     * @param changedVariableNamesMap never null, identity based, a key for every entity in the changedEntityList
+     */
+    public BestSolutionDiff(Solution_ newBestSolution, boolean complete, List<Object> changedEntityList,
+            Map<Object, Set<String>> changedVariableNamesMap) {
+        this.newBestSolution = newBestSolution;
+        this.complete = complete;
+        this.changedEntityList = changedEntityList;
+        this.changedVariableNamesMap = changedVariableNamesMap;
+    }
+
+    /**
+     * @return never null
+     */
+    public Solution_ getNewBestSolution() {
+        return newBestSolution;
+    }
+
+    /**
+     * A diff is complete if there is no previous delivered best solution to compare with,
+     * or if planning entities were added or removed since then, for example by a problem change.
+     *
+     * @return true if {@link #getChangedEntityList()} contains every planning entity of the {@link #getNewBestSolution()}
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @return never null, the planning entities of the {@link #getNewBestSolution()} with at least 1 changed variable,
+     *         in the order of the {@link PlanningSolution}
+     */
+    public List<Object> getChangedEntityList() {
+        return Collections.unmodifiableList(changedEntityList);
+    }
+
+    /**
+     * @param changedEntity never null, an element of {@link #getChangedEntityList()}
+     * @return never null, empty if the entity did not change
+     */
+    public Set<String> getChangedVariableNames(Object changedEntity) {
+        return changedVariableNamesMap.getOrDefault(changedEntity, Collections.emptySet());
+    }
+
+    @Override
+    public String toString() {
+        return "BestSolutionDiff(" + changedEntityList.size() + " changed entities"
+                + (complete ? ", complete" : "") + ")";
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.solver;
+
+import java.util.Objects;
+
+import org.optaplanner.core.config.solver.SolverManagerConfig;
+
+/**
+ * Tells the {@link SolverManager} which solver job to solve first, when there are more solver jobs than
+ * the {@link SolverManagerConfig#getParallelSolverCount() parallelSolverCount}
+ * or the {@link SolverManagerConfig#getCoreBudget() coreBudget} allows.
+ * <p>
+ * A solver job with a higher priority solves first.
+ * Solver jobs with the same priority solve in the order they are submitted.
+ * The solver jobs of the same tenant are limited by the
+ * {@link SolverManagerConfig#getTenantParallelSolverCount() tenantParallelSolverCount}.
+ * <p>
+ * This class is immutable.
+ */
+public final class SolverJobScheduling {
+
+    public static final int DEFAULT_PRIORITY = 0;
+
+    /**
+     * No tenant and the {@link #DEFAULT_PRIORITY}.
+     */
+    public static final SolverJobScheduling DEFAULT = new SolverJobScheduling(null, DEFAULT_PRIORITY);
+
+    /**
+     * @param priority higher solves first
+     * @return never null
+     */
+    public static SolverJobScheduling ofPriority(int priority) {
+        return new SolverJobScheduling(null, priority);
+    }
+
+    /**
+     * @param tenantId never null, an immutable ID, such as {@link Long} or {@link String}
+     * @param priority higher solves first
+     * @return never null
+     */
+    public static SolverJobScheduling of(Object tenantId, int priority) {
+        Objects.requireNonNull(tenantId, "The tenantId (" + tenantId + ") cannot be null.");
+        return new SolverJobScheduling(tenantId, priority);
+    }
+
+    private final Object tenantId;
+    private final int priority;
+
+    private SolverJobScheduling(Object tenantId, int priority) {
+        this.tenantId = tenantId;
+        this.priority = priority;
+    }
+
+    /**
+     * @return null if the solver job does not belong to a tenant, so it is not limited by a tenant quota
+     */
+    public Object getTenantId() {
+        return tenantId;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SolverJobScheduling other = (SolverJobScheduling) o;
+        return priority == other.priority && Objects.equals(tenantId, other.tenantId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tenantId, priority);
+    }
+
+    @Override
+    public String toString() {
+        return "SolverJobScheduling(" + (tenantId == null ? "" : "tenant " + tenantId + ", ")
+                + "priority " + priority + ")";
+    }
+
+}
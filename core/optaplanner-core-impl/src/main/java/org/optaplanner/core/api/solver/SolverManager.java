@@ -291,6 +291,151 @@ public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler);
 
+    /**
+     * Like {@link #solveAndListen(Object, Function, Consumer)},
+     * but each new best solution comes with the planning entities that changed since the previous one,
+     * so only those need to be serialized or sent to the clients.
+     * <p>
+     * The diff is calculated on the consumer {@link Thread}, not on the solver {@link Thread}.
+     * Combine it with {@link SolverManagerConfig#withThrottlingDelay(java.time.Duration) throttling}
+     * to limit the number of diffs.
+     *
+     * @param problemId never null, an ID for each planning problem. This must be unique.
+     *        Use this problemId to {@link #terminateEarly(Object) terminate} the solver early,
+     *        {@link #getSolverStatus(Object) to get the status} or if the problem changes while solving.
+     * @param problemFinder never null, function that returns a {@link PlanningSolution}, usually with uninitialized planning
+     *        variables
+     * @param bestSolutionDiffConsumer never null, called multiple times, on a consumer thread
+     * @return never null
+     */
+    default SolverJob<Solution_, ProblemId_> solveAndListenToDiffs(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super BestSolutionDiff<Solution_>> bestSolutionDiffConsumer) {
+        return solveAndListenToDiffs(problemId, problemFinder, bestSolutionDiffConsumer, null, null);
+    }
+
+    /**
+     * As defined by {@link #solveAndListenToDiffs(Object, Function, Consumer)}.
+     *
+     * @param problemId never null, an ID for each planning problem. This must be unique.
+     *        Use this problemId to {@link #terminateEarly(Object) terminate} the solver early,
+     *        {@link #getSolverStatus(Object) to get the status} or if the problem changes while solving.
+     * @param problemFinder never null, function that returns a {@link PlanningSolution}, usually with uninitialized planning
+     *        variables
+     * @param bestSolutionDiffConsumer never null, called multiple times, on a consumer thread
+     * @param finalBestSolutionConsumer sometimes null, called only once, at the end, on a consumer thread.
+     *        That final best solution is already consumed by the bestSolutionDiffConsumer earlier.
+     * @param exceptionHandler sometimes null, called if an exception or error occurs.
+     *        If null it defaults to logging the exception as an error.
+     * @return never null
+     */
+    default SolverJob<Solution_, ProblemId_> solveAndListenToDiffs(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super BestSolutionDiff<Solution_>> bestSolutionDiffConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+        return solveAndListenToDiffs(problemId, SolverJobScheduling.DEFAULT, problemFinder, bestSolutionDiffConsumer,
+                finalBestSolutionConsumer, exceptionHandler);
+    }
+
+    /**
+     * As defined by {@link #solve(Object, Object)},
+     * but the planning problem waits in line for a solver {@link Thread} according to the {@link SolverJobScheduling},
+     * instead of in the order of submission.
+     *
+     * @param problemId never null, a ID for each planning problem. This must be unique.
+     *        Use this problemId to {@link #terminateEarly(Object) terminate} the solver early,
+     *        {@link #getSolverStatus(Object) to get the status} or if the problem changes while solving.
+     * @param scheduling never null, the priority and tenant of this planning problem
+     * @param problem never null, a {@link PlanningSolution} usually with uninitialized planning variables
+     * @return never null
+     * @see SolverManagerConfig#withTenantParallelSolverCount(Integer)
+     * @see SolverManagerConfig#withCoreBudget(String)
+     * @see SolverManagerConfig#withTimeSlice(java.time.Duration)
+     */
+    default SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId, SolverJobScheduling scheduling,
+            Solution_ problem) {
+        return solve(problemId, scheduling, (problemId_) -> problem, null, null);
+    }
+
+    /**
+     * As defined by {@link #solve(Object, Function, Consumer)},
+     * but the planning problem waits in line for a solver {@link Thread} according to the {@link SolverJobScheduling},
+     * instead of in the order of submission.
+     *
+     * @param problemId never null, a ID for each planning problem. This must be unique.
+     *        Use this problemId to {@link #terminateEarly(Object) terminate} the solver early,
+     *        {@link #getSolverStatus(Object) to get the status} or if the problem changes while solving.
+     * @param scheduling never null, the priority and tenant of this planning problem
+     * @param problemFinder never null, function that returns a {@link PlanningSolution}, usually with uninitialized planning
+     *        variables
+     * @param finalBestSolutionConsumer sometimes null, called only once, at the end, on a consumer thread
+     * @param exceptionHandler sometimes null, called if an exception or error occurs.
+     *        If null it defaults to logging the exception as an error.
+     * @return never null
+     */
+    default SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId, SolverJobScheduling scheduling,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+        throw new UnsupportedOperationException("The solverManager class (" + getClass()
+                + ") doesn't implement the solve() method with a scheduling.");
+    }
+
+    /**
+     * As defined by {@link #solveAndListen(Object, Function, Consumer, Consumer, BiConsumer)},
+     * but the planning problem waits in line for a solver {@link Thread} according to the {@link SolverJobScheduling},
+     * instead of in the order of submission.
+     *
+     * @param problemId never null, an ID for each planning problem. This must be unique.
+     *        Use this problemId to {@link #terminateEarly(Object) terminate} the solver early,
+     *        {@link #getSolverStatus(Object) to get the status} or if the problem changes while solving.
+     * @param scheduling never null, the priority and tenant of this planning problem
+     * @param problemFinder never null, function that returns a {@link PlanningSolution}, usually with uninitialized planning
+     *        variables
+     * @param bestSolutionConsumer never null, called multiple times, on a consumer thread
+     * @param finalBestSolutionConsumer sometimes null, called only once, at the end, on a consumer thread.
+     *        That final best solution is already consumed by the bestSolutionConsumer earlier.
+     * @param exceptionHandler sometimes null, called if an exception or error occurs.
+     *        If null it defaults to logging the exception as an error.
+     * @return never null
+     */
+    default SolverJob<Solution_, ProblemId_> solveAndListen(ProblemId_ problemId, SolverJobScheduling scheduling,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+        throw new UnsupportedOperationException("The solverManager class (" + getClass()
+                + ") doesn't implement the solveAndListen() method with a scheduling.");
+    }
+
+    /**
+     * As defined by {@link #solveAndListenToDiffs(Object, Function, Consumer, Consumer, BiConsumer)},
+     * but the planning problem waits in line for a solver {@link Thread} according to the {@link SolverJobScheduling},
+     * instead of in the order of submission.
+     *
+     * @param problemId never null, an ID for each planning problem. This must be unique.
+     *        Use this problemId to {@link #terminateEarly(Object) terminate} the solver early,
+     *        {@link #getSolverStatus(Object) to get the status} or if the problem changes while solving.
+     * @param scheduling never null, the priority and tenant of this planning problem
+     * @param problemFinder never null, function that returns a {@link PlanningSolution}, usually with uninitialized planning
+     *        variables
+     * @param bestSolutionDiffConsumer never null, called multiple times, on a consumer thread
+     * @param finalBestSolutionConsumer sometimes null, called only once, at the end, on a consumer thread.
+     *        That final best solution is already consumed by the bestSolutionDiffConsumer earlier.
+     * @param exceptionHandler sometimes null, called if an exception or error occurs.
+     *        If null it defaults to logging the exception as an error.
+     * @return never null
+     */
+    default SolverJob<Solution_, ProblemId_> solveAndListenToDiffs(ProblemId_ problemId, SolverJobScheduling scheduling,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super BestSolutionDiff<Solution_>> bestSolutionDiffConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+        throw new UnsupportedOperationException("The solverManager class (" + getClass()
+                + ") doesn't implement the solveAndListenToDiffs() method.");
+    }
+
     /**
      * Returns if the {@link Solver} is scheduled to solve, actively solving or not.
      * <p>
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.solver.change;
+
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.solver.Solver;
+
+/**
+ * A {@link ProblemChange} that overwrites the entire state of a single problem fact (or planning entity),
+ * so it makes any earlier waiting change of that same object redundant.
+ * <p>
+ * When such a change is submitted while an earlier {@link MergeableProblemChange}
+ * of the same {@link #getProblemFact() problem fact} is still waiting to be processed,
+ * the {@link Solver} replaces the earlier one. The problem facts are matched by their class and {@link PlanningId}.
+ * The later change takes the place of the replaced change in the queue,
+ * so it is still applied in the same order relative to the other problem changes,
+ * and it keeps the submission time of the replaced change,
+ * so merging never delays a change beyond the maximum wait of the problem change batching.
+ * <p>
+ * Problem facts without a {@link PlanningId} are never merged.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public interface MergeableProblemChange<Solution_> extends ProblemChange<Solution_> {
+
+    /**
+     * @return never null; the problem fact (or planning entity) which state this change overwrites,
+     *         from the problem, the working solution or any other instance with the same {@link PlanningId}
+     */
+    Object getProblemFact();
+
+}
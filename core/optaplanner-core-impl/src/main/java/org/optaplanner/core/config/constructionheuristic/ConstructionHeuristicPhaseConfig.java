@@ -51,7 +51,10 @@ import org.optaplanner.core.config.util.ConfigUtils;
         "valueSorterManner",
         "entityPlacerConfig",
         "moveSelectorConfigList",
-        "foragerConfig"
+        "foragerConfig",
+        "parallelPlacementCount",
+        "lazyInsertionEnabled",
+        "insertionRegretK"
 })
 public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHeuristicPhaseConfig> {
 
@@ -95,6 +98,19 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
     @XmlElement(name = "forager")
     protected ConstructionHeuristicForagerConfig foragerConfig = null;
 
+    /**
+     * Requires a moveThreadCount. Only supported with a queued entity placer, without chained variables.
+     */
+    protected Integer parallelPlacementCount = null;
+    /**
+     * Only supported with a pooled entity placer, without chained or shadow variables and without a moveThreadCount.
+     */
+    protected Boolean lazyInsertionEnabled = null;
+    /**
+     * Requires {@link #lazyInsertionEnabled}.
+     */
+    protected Integer insertionRegretK = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -147,6 +163,38 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         this.foragerConfig = foragerConfig;
     }
 
+    public Integer getParallelPlacementCount() {
+        return parallelPlacementCount;
+    }
+
+    public void setParallelPlacementCount(Integer parallelPlacementCount) {
+        this.parallelPlacementCount = parallelPlacementCount;
+    }
+
+    /**
+     * @return null if not configured, true to cache the score of every (entity, value) pair
+     *         and only evaluate the pairs that the last step affected again
+     */
+    public Boolean getLazyInsertionEnabled() {
+        return lazyInsertionEnabled;
+    }
+
+    public void setLazyInsertionEnabled(Boolean lazyInsertionEnabled) {
+        this.lazyInsertionEnabled = lazyInsertionEnabled;
+    }
+
+    /**
+     * @return null if not configured, defaults to 1 (cheapest insertion),
+     *         at least 2 to insert the entity that loses the most by not getting its best value first
+     */
+    public Integer getInsertionRegretK() {
+        return insertionRegretK;
+    }
+
+    public void setInsertionRegretK(Integer insertionRegretK) {
+        this.insertionRegretK = insertionRegretK;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -182,6 +230,21 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         return this;
     }
 
+    public ConstructionHeuristicPhaseConfig withParallelPlacementCount(Integer parallelPlacementCount) {
+        this.parallelPlacementCount = parallelPlacementCount;
+        return this;
+    }
+
+    public ConstructionHeuristicPhaseConfig withLazyInsertionEnabled(Boolean lazyInsertionEnabled) {
+        this.lazyInsertionEnabled = lazyInsertionEnabled;
+        return this;
+    }
+
+    public ConstructionHeuristicPhaseConfig withInsertionRegretK(Integer insertionRegretK) {
+        this.insertionRegretK = insertionRegretK;
+        return this;
+    }
+
     @Override
     public ConstructionHeuristicPhaseConfig inherit(ConstructionHeuristicPhaseConfig inheritedConfig) {
         super.inherit(inheritedConfig);
@@ -196,6 +259,12 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         moveSelectorConfigList = ConfigUtils.inheritMergeableListConfig(
                 moveSelectorConfigList, inheritedConfig.getMoveSelectorConfigList());
         foragerConfig = ConfigUtils.inheritConfig(foragerConfig, inheritedConfig.getForagerConfig());
+        parallelPlacementCount = ConfigUtils.inheritOverwritableProperty(parallelPlacementCount,
+                inheritedConfig.getParallelPlacementCount());
+        lazyInsertionEnabled = ConfigUtils.inheritOverwritableProperty(lazyInsertionEnabled,
+                inheritedConfig.getLazyInsertionEnabled());
+        insertionRegretK = ConfigUtils.inheritOverwritableProperty(insertionRegretK,
+                inheritedConfig.getInsertionRegretK());
         return this;
     }
 
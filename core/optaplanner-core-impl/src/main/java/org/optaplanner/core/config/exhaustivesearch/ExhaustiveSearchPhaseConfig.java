@@ -46,7 +46,8 @@ import org.optaplanner.core.config.util.ConfigUtils;
         "entitySorterManner",
         "valueSorterManner",
         "entitySelectorConfig",
-        "moveSelectorConfig"
+        "moveSelectorConfig",
+        "branchAndBoundThreadCount"
 })
 public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPhaseConfig> {
 
@@ -83,6 +84,8 @@ public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPha
     })
     protected MoveSelectorConfig moveSelectorConfig = null;
 
+    protected Integer branchAndBoundThreadCount = null;
+
     public ExhaustiveSearchType getExhaustiveSearchType() {
         return exhaustiveSearchType;
     }
@@ -131,6 +134,18 @@ public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPha
         this.moveSelectorConfig = moveSelectorConfig;
     }
 
+    /**
+     * @return null if the branch and bound runs on the solver thread only,
+     *         otherwise the number of threads that expand nodes in parallel
+     */
+    public Integer getBranchAndBoundThreadCount() {
+        return branchAndBoundThreadCount;
+    }
+
+    public void setBranchAndBoundThreadCount(Integer branchAndBoundThreadCount) {
+        this.branchAndBoundThreadCount = branchAndBoundThreadCount;
+    }
+
     @Override
     public ExhaustiveSearchPhaseConfig inherit(ExhaustiveSearchPhaseConfig inheritedConfig) {
         super.inherit(inheritedConfig);
@@ -144,6 +159,8 @@ public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPha
                 inheritedConfig.getValueSorterManner());
         entitySelectorConfig = ConfigUtils.inheritConfig(entitySelectorConfig, inheritedConfig.getEntitySelectorConfig());
         moveSelectorConfig = ConfigUtils.inheritConfig(moveSelectorConfig, inheritedConfig.getMoveSelectorConfig());
+        branchAndBoundThreadCount = ConfigUtils.inheritOverwritableProperty(branchAndBoundThreadCount,
+                inheritedConfig.getBranchAndBoundThreadCount());
         return this;
     }
 
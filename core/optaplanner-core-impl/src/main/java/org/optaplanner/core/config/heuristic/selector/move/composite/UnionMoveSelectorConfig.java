@@ -39,7 +39,8 @@ import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionPr
 
 @XmlType(propOrder = {
         "moveSelectorConfigList",
-        "selectorProbabilityWeightFactoryClass"
+        "selectorProbabilityWeightFactoryClass",
+        "adaptiveSelectorProbabilityWeight"
 })
 public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelectorConfig> {
 
@@ -66,6 +67,7 @@ public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelecto
     private List<MoveSelectorConfig> moveSelectorConfigList = null;
 
     private Class<? extends SelectionProbabilityWeightFactory> selectorProbabilityWeightFactoryClass = null;
+    private Boolean adaptiveSelectorProbabilityWeight = null;
 
     // ************************************************************************
     // Constructors and simple getters/setters
@@ -113,6 +115,24 @@ public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelecto
         this.selectorProbabilityWeightFactoryClass = selectorProbabilityWeightFactoryClass;
     }
 
+    /**
+     * If true, the probabilityWeight of every child move selector is learned during the Local Search phase,
+     * starting from its {@link MoveSelectorConfig#getFixedProbabilityWeight() fixedProbabilityWeight}.
+     * A child move selector that picks more improving steps per selected move gets selected more often.
+     * <p>
+     * Requires random selection.
+     * Defaults to false.
+     *
+     * @return sometimes null
+     */
+    public Boolean getAdaptiveSelectorProbabilityWeight() {
+        return adaptiveSelectorProbabilityWeight;
+    }
+
+    public void setAdaptiveSelectorProbabilityWeight(Boolean adaptiveSelectorProbabilityWeight) {
+        this.adaptiveSelectorProbabilityWeight = adaptiveSelectorProbabilityWeight;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -133,6 +153,11 @@ public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelecto
         return this;
     }
 
+    public UnionMoveSelectorConfig withAdaptiveSelectorProbabilityWeight(Boolean adaptiveSelectorProbabilityWeight) {
+        this.adaptiveSelectorProbabilityWeight = adaptiveSelectorProbabilityWeight;
+        return this;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -151,6 +176,8 @@ public class UnionMoveSelectorConfig extends MoveSelectorConfig<UnionMoveSelecto
                 ConfigUtils.inheritMergeableListConfig(moveSelectorConfigList, inheritedConfig.getMoveSelectorList());
         selectorProbabilityWeightFactoryClass = ConfigUtils.inheritOverwritableProperty(
                 selectorProbabilityWeightFactoryClass, inheritedConfig.getSelectorProbabilityWeightFactoryClass());
+        adaptiveSelectorProbabilityWeight = ConfigUtils.inheritOverwritableProperty(
+                adaptiveSelectorProbabilityWeight, inheritedConfig.getAdaptiveSelectorProbabilityWeight());
         return this;
     }
 
@@ -43,7 +43,8 @@ import org.optaplanner.core.config.util.ConfigUtils;
         "localSearchType",
         "moveSelectorConfig",
         "acceptorConfig",
-        "foragerConfig"
+        "foragerConfig",
+        "moveScoreMemoEnabled"
 })
 public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig> {
 
@@ -78,6 +79,8 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
     @XmlElement(name = "forager")
     private LocalSearchForagerConfig foragerConfig = null;
 
+    private Boolean moveScoreMemoEnabled = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -114,6 +117,33 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         this.foragerConfig = foragerConfig;
     }
 
+    /**
+     * If true, a move that was evaluated in an earlier step reuses its score difference,
+     * as long as its planning entities, its planning values and the planning values of those entities didn't change.
+     * Only useful if the move selector selects the same moves every step, such as with selectionOrder ORIGINAL.
+     * <p>
+     * Hard precondition: the score difference of a move only depends on the planning entities it changes
+     * and the other planning entities that share a planning value with them.
+     * Constraints that combine planning entities across planning values break it,
+     * such as a fairness or load balancing constraint over all planning values,
+     * or a constraint on the number of used planning values.
+     * If it doesn't hold, a memoized score can be stale and then wrongly reject a move.
+     * That never corrupts the score, because a move is evaluated again before it's accepted,
+     * but the solver silently misses that move, which can make the result worse.
+     * Only the environment modes {@code FAST_ASSERT} and {@code FULL_ASSERT} detect a stale memoized score.
+     * <p>
+     * Defaults to false.
+     *
+     * @return sometimes null
+     */
+    public Boolean getMoveScoreMemoEnabled() {
+        return moveScoreMemoEnabled;
+    }
+
+    public void setMoveScoreMemoEnabled(Boolean moveScoreMemoEnabled) {
+        this.moveScoreMemoEnabled = moveScoreMemoEnabled;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -138,6 +168,11 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
         return this;
     }
 
+    public LocalSearchPhaseConfig withMoveScoreMemoEnabled(Boolean moveScoreMemoEnabled) {
+        this.moveScoreMemoEnabled = moveScoreMemoEnabled;
+        return this;
+    }
+
     @Override
     public LocalSearchPhaseConfig inherit(LocalSearchPhaseConfig inheritedConfig) {
         super.inherit(inheritedConfig);
@@ -147,6 +182,8 @@ public class LocalSearchPhaseConfig extends PhaseConfig<LocalSearchPhaseConfig>
                 getMoveSelectorConfig(), inheritedConfig.getMoveSelectorConfig()));
         acceptorConfig = ConfigUtils.inheritConfig(acceptorConfig, inheritedConfig.getAcceptorConfig());
         foragerConfig = ConfigUtils.inheritConfig(foragerConfig, inheritedConfig.getForagerConfig());
+        moveScoreMemoEnabled = ConfigUtils.inheritOverwritableProperty(moveScoreMemoEnabled,
+                inheritedConfig.getMoveScoreMemoEnabled());
         return this;
     }
 
@@ -41,6 +41,7 @@ import org.optaplanner.core.impl.partitionedsearch.partitioner.SolutionPartition
         "solutionPartitionerClass",
         "solutionPartitionerCustomProperties",
         "runnablePartThreadLimit",
+        "dynamicRepartitioning",
         "phaseConfigList"
 })
 public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchPhaseConfig> {
@@ -58,6 +59,8 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
 
     protected String runnablePartThreadLimit = null;
 
+    protected Boolean dynamicRepartitioning = null;
+
     @XmlElements({
             @XmlElement(name = ConstructionHeuristicPhaseConfig.XML_ELEMENT_NAME,
                     type = ConstructionHeuristicPhaseConfig.class),
@@ -118,6 +121,29 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
         this.runnablePartThreadLimit = runnablePartThreadLimit;
     }
 
+    /**
+     * If a part converges (because its phases end on their own, for example by an unimproved termination),
+     * its thread is handed over to the biggest part that is still running:
+     * that part is stopped, its best solution is split again by the {@link SolutionPartitioner}
+     * and the new parts continue on part threads of their own.
+     * At most as many parts as the initial split are added this way.
+     * <p/>
+     * This requires that the {@link SolutionPartitioner} is thread-safe,
+     * because the parts are split again on the part threads.
+     * The result is not reproducible.
+     * <p/>
+     * Defaults to false.
+     *
+     * @return sometimes null
+     */
+    public Boolean getDynamicRepartitioning() {
+        return dynamicRepartitioning;
+    }
+
+    public void setDynamicRepartitioning(Boolean dynamicRepartitioning) {
+        this.dynamicRepartitioning = dynamicRepartitioning;
+    }
+
     public List<PhaseConfig> getPhaseConfigList() {
         return phaseConfigList;
     }
@@ -135,6 +161,8 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
                 solutionPartitionerCustomProperties, inheritedConfig.getSolutionPartitionerCustomProperties());
         runnablePartThreadLimit = ConfigUtils.inheritOverwritableProperty(runnablePartThreadLimit,
                 inheritedConfig.getRunnablePartThreadLimit());
+        dynamicRepartitioning = ConfigUtils.inheritOverwritableProperty(dynamicRepartitioning,
+                inheritedConfig.getDynamicRepartitioning());
         phaseConfigList = ConfigUtils.inheritMergeableListConfig(
                 phaseConfigList, inheritedConfig.getPhaseConfigList());
         return this;
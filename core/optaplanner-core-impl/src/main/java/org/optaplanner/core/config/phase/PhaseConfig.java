@@ -26,6 +26,7 @@ import org.optaplanner.core.config.exhaustivesearch.ExhaustiveSearchPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
 import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
+import org.optaplanner.core.config.portfoliosearch.PortfolioSearchPhaseConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
 
@@ -35,7 +36,8 @@ import org.optaplanner.core.config.util.ConfigUtils;
         ExhaustiveSearchPhaseConfig.class,
         LocalSearchPhaseConfig.class,
         NoChangePhaseConfig.class,
-        PartitionedSearchPhaseConfig.class
+        PartitionedSearchPhaseConfig.class,
+        PortfolioSearchPhaseConfig.class
 })
 @XmlType(propOrder = {
         "terminationConfig"
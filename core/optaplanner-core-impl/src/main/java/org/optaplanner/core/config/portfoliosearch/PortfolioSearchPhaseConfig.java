@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.portfoliosearch;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.phase.PhaseConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+
+@XmlType(propOrder = {
+        "exchangeStepCountLimit",
+        "localSearchPhaseConfigList"
+})
+public class PortfolioSearchPhaseConfig extends PhaseConfig<PortfolioSearchPhaseConfig> {
+
+    public static final String XML_ELEMENT_NAME = "portfolioSearch";
+
+    // Warning: all fields are null (and not defaulted) because they can be inherited
+    // and also because the input config file should match the output config file
+
+    protected Integer exchangeStepCountLimit = null;
+
+    @XmlElement(name = LocalSearchPhaseConfig.XML_ELEMENT_NAME)
+    protected List<LocalSearchPhaseConfig> localSearchPhaseConfigList = null;
+
+    // ************************************************************************
+    // Constructors and simple getters/setters
+    // ************************************************************************
+
+    /**
+     * The number of steps every replica takes before the replicas exchange their best solutions
+     * and all restart from the best one.
+     * A higher number reduces the synchronization overhead, a lower number spreads a new best solution faster.
+     * <p/>
+     * Defaults to 1000.
+     *
+     * @return sometimes null
+     */
+    public Integer getExchangeStepCountLimit() {
+        return exchangeStepCountLimit;
+    }
+
+    public void setExchangeStepCountLimit(Integer exchangeStepCountLimit) {
+        this.exchangeStepCountLimit = exchangeStepCountLimit;
+    }
+
+    /**
+     * Every {@link LocalSearchPhaseConfig} is a replica that runs on a thread of its own,
+     * for example with a different acceptor.
+     *
+     * @return sometimes null
+     */
+    public List<LocalSearchPhaseConfig> getLocalSearchPhaseConfigList() {
+        return localSearchPhaseConfigList;
+    }
+
+    public void setLocalSearchPhaseConfigList(List<LocalSearchPhaseConfig> localSearchPhaseConfigList) {
+        this.localSearchPhaseConfigList = localSearchPhaseConfigList;
+    }
+
+    // ************************************************************************
+    // With methods
+    // ************************************************************************
+
+    public PortfolioSearchPhaseConfig withExchangeStepCountLimit(Integer exchangeStepCountLimit) {
+        this.exchangeStepCountLimit = exchangeStepCountLimit;
+        return this;
+    }
+
+    public PortfolioSearchPhaseConfig withLocalSearchPhaseList(List<LocalSearchPhaseConfig> localSearchPhaseConfigList) {
+        this.localSearchPhaseConfigList = localSearchPhaseConfigList;
+        return this;
+    }
+
+    public PortfolioSearchPhaseConfig withLocalSearchPhases(LocalSearchPhaseConfig... localSearchPhaseConfigs) {
+        this.localSearchPhaseConfigList = Arrays.asList(localSearchPhaseConfigs);
+        return this;
+    }
+
+    @Override
+    public PortfolioSearchPhaseConfig inherit(PortfolioSearchPhaseConfig inheritedConfig) {
+        super.inherit(inheritedConfig);
+        exchangeStepCountLimit = ConfigUtils.inheritOverwritableProperty(exchangeStepCountLimit,
+                inheritedConfig.getExchangeStepCountLimit());
+        localSearchPhaseConfigList = ConfigUtils.inheritMergeableListConfig(
+                localSearchPhaseConfigList, inheritedConfig.getLocalSearchPhaseConfigList());
+        return this;
+    }
+
+    @Override
+    public PortfolioSearchPhaseConfig copyConfig() {
+        return new PortfolioSearchPhaseConfig().inherit(this);
+    }
+
+    @Override
+    public void visitReferencedClasses(Consumer<Class<?>> classVisitor) {
+        if (getTerminationConfig() != null) {
+            getTerminationConfig().visitReferencedClasses(classVisitor);
+        }
+        if (localSearchPhaseConfigList != null) {
+            localSearchPhaseConfigList.forEach(localSearchPhaseConfig -> localSearchPhaseConfig
+                    .visitReferencedClasses(classVisitor));
+        }
+    }
+
+}
@@ -44,6 +44,8 @@ import org.optaplanner.core.impl.io.jaxb.adapter.JaxbCustomPropertiesAdapter;
         "constraintProviderClass",
         "constraintProviderCustomProperties",
         "constraintStreamImplType",
+        "constraintStreamSessionReuseEnabled",
+        "constraintStreamParallelBulkCalculationEnabled",
         "incrementalScoreCalculatorClass",
         "incrementalScoreCalculatorCustomProperties",
         "scoreDrlList",
@@ -65,6 +67,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     @XmlJavaTypeAdapter(JaxbCustomPropertiesAdapter.class)
     protected Map<String, String> constraintProviderCustomProperties = null;
     protected ConstraintStreamImplType constraintStreamImplType;
+    protected Boolean constraintStreamSessionReuseEnabled = null;
+    protected Boolean constraintStreamParallelBulkCalculationEnabled = null;
 
     protected Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass = null;
 
@@ -132,6 +136,38 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.constraintStreamImplType = constraintStreamImplType;
     }
 
+    /**
+     * Supported by both {@link ConstraintStreamImplType#DROOLS} and {@link ConstraintStreamImplType#BAVET}.
+     * Only safe if every change of a problem fact is done through a
+     * {@link org.optaplanner.core.api.solver.change.ProblemChange} or notifies the score director.
+     *
+     * @return null means false, true to keep the node state of the problem facts when the working solution
+     *         is replaced by another instance that shares those problem facts, such as a planning clone
+     */
+    public Boolean getConstraintStreamSessionReuseEnabled() {
+        return constraintStreamSessionReuseEnabled;
+    }
+
+    public void setConstraintStreamSessionReuseEnabled(Boolean constraintStreamSessionReuseEnabled) {
+        this.constraintStreamSessionReuseEnabled = constraintStreamSessionReuseEnabled;
+    }
+
+    /**
+     * Experimental: for very large working solutions on a machine with many cores.
+     * Costs more memory, because every subnetwork holds its own tuple of each fact it uses.
+     * Only for {@link ConstraintStreamImplType#BAVET}. Has no effect if constraint matching is enabled.
+     *
+     * @return null means false, true to split the node network into subnetworks that share no node state
+     *         and calculate those in parallel after a bulk change, such as a new working solution or a batch of problem changes
+     */
+    public Boolean getConstraintStreamParallelBulkCalculationEnabled() {
+        return constraintStreamParallelBulkCalculationEnabled;
+    }
+
+    public void setConstraintStreamParallelBulkCalculationEnabled(Boolean constraintStreamParallelBulkCalculationEnabled) {
+        this.constraintStreamParallelBulkCalculationEnabled = constraintStreamParallelBulkCalculationEnabled;
+    }
+
     public Class<? extends IncrementalScoreCalculator> getIncrementalScoreCalculatorClass() {
         return incrementalScoreCalculatorClass;
     }
@@ -243,6 +279,17 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         return this;
     }
 
+    public ScoreDirectorFactoryConfig withConstraintStreamSessionReuseEnabled(Boolean constraintStreamSessionReuseEnabled) {
+        this.constraintStreamSessionReuseEnabled = constraintStreamSessionReuseEnabled;
+        return this;
+    }
+
+    public ScoreDirectorFactoryConfig
+            withConstraintStreamParallelBulkCalculationEnabled(Boolean constraintStreamParallelBulkCalculationEnabled) {
+        this.constraintStreamParallelBulkCalculationEnabled = constraintStreamParallelBulkCalculationEnabled;
+        return this;
+    }
+
     public ScoreDirectorFactoryConfig
             withIncrementalScoreCalculatorClass(Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass) {
         this.incrementalScoreCalculatorClass = incrementalScoreCalculatorClass;
@@ -312,6 +359,11 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 constraintProviderCustomProperties, inheritedConfig.getConstraintProviderCustomProperties());
         constraintStreamImplType = ConfigUtils.inheritOverwritableProperty(
                 constraintStreamImplType, inheritedConfig.getConstraintStreamImplType());
+        constraintStreamSessionReuseEnabled = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamSessionReuseEnabled, inheritedConfig.getConstraintStreamSessionReuseEnabled());
+        constraintStreamParallelBulkCalculationEnabled = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamParallelBulkCalculationEnabled,
+                inheritedConfig.getConstraintStreamParallelBulkCalculationEnabled());
         incrementalScoreCalculatorClass = ConfigUtils.inheritOverwritableProperty(
                 incrementalScoreCalculatorClass, inheritedConfig.getIncrementalScoreCalculatorClass());
         incrementalScoreCalculatorCustomProperties = ConfigUtils.inheritMergeableMapProperty(
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.solver;
+
+import javax.xml.bind.annotation.XmlEnum;
+
+/**
+ * Defines how the solver thread hands off moves to the move threads, and how it gets the results back,
+ * when multithreaded incremental solving is enabled with {@link SolverConfig#getMoveThreadCount()}.
+ * Both are reproducible.
+ */
+@XmlEnum
+public enum MoveThreadHandOff {
+    /**
+     * This is the default.
+     * Every selected move goes through a blocking queue shared by all move threads.
+     */
+    QUEUE,
+    /**
+     * Selected moves go in chunks through a lock-free ring buffer per move thread.
+     * An idle move thread steals chunks from the other move threads.
+     * There is no lock contention between the move threads,
+     * so this scales better when moves are cheap to evaluate.
+     * <p>
+     * Only supported by Local Search. Other phases fall back to {@link #QUEUE}.
+     */
+    BATCHED;
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.config.solver;
+
+import java.util.function.Consumer;
+
+import javax.xml.bind.annotation.XmlType;
+
+import org.optaplanner.core.config.AbstractConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+
+/**
+ * Trades off the reaction time of the {@link org.optaplanner.core.api.solver.Solver}
+ * to {@link org.optaplanner.core.api.solver.change.ProblemChange}s against its throughput,
+ * by restarting it only once per batch of waiting problem changes.
+ */
+@XmlType(propOrder = {
+        "waitMillisecondsLimit",
+        "batchSizeLimit",
+})
+public class ProblemChangeBatchingConfig extends AbstractConfig<ProblemChangeBatchingConfig> {
+
+    protected Long waitMillisecondsLimit = null;
+    protected Integer batchSizeLimit = null;
+
+    // ************************************************************************
+    // Constructors and simple getters/setters
+    // ************************************************************************
+
+    /**
+     * @return null means 0, the maximum time a problem change waits for other problem changes
+     *         before the solver restarts to process them
+     */
+    public Long getWaitMillisecondsLimit() {
+        return waitMillisecondsLimit;
+    }
+
+    public void setWaitMillisecondsLimit(Long waitMillisecondsLimit) {
+        this.waitMillisecondsLimit = waitMillisecondsLimit;
+    }
+
+    /**
+     * @return null means unlimited, the maximum number of problem changes processed by a single solver restart;
+     *         also restarts the solver as soon as that many problem changes are waiting
+     */
+    public Integer getBatchSizeLimit() {
+        return batchSizeLimit;
+    }
+
+    public void setBatchSizeLimit(Integer batchSizeLimit) {
+        this.batchSizeLimit = batchSizeLimit;
+    }
+
+    // ************************************************************************
+    // With methods
+    // ************************************************************************
+
+    public ProblemChangeBatchingConfig withWaitMillisecondsLimit(Long waitMillisecondsLimit) {
+        this.waitMillisecondsLimit = waitMillisecondsLimit;
+        return this;
+    }
+
+    public ProblemChangeBatchingConfig withBatchSizeLimit(Integer batchSizeLimit) {
+        this.batchSizeLimit = batchSizeLimit;
+        return this;
+    }
+
+    @Override
+    public ProblemChangeBatchingConfig inherit(ProblemChangeBatchingConfig inheritedConfig) {
+        waitMillisecondsLimit = ConfigUtils.inheritOverwritableProperty(waitMillisecondsLimit,
+                inheritedConfig.getWaitMillisecondsLimit());
+        batchSizeLimit = ConfigUtils.inheritOverwritableProperty(batchSizeLimit, inheritedConfig.getBatchSizeLimit());
+        return this;
+    }
+
+    @Override
+    public ProblemChangeBatchingConfig copyConfig() {
+        return new ProblemChangeBatchingConfig().inherit(this);
+    }
+
+    @Override
+    public void visitReferencedClasses(Consumer<Class<?>> classVisitor) {
+        // No referenced classes
+    }
+
+}
@@ -53,6 +53,7 @@ import org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfi
 import org.optaplanner.core.config.phase.NoChangePhaseConfig;
 import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
+import org.optaplanner.core.config.portfoliosearch.PortfolioSearchPhaseConfig;
 import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.config.solver.monitoring.MonitoringConfig;
 import org.optaplanner.core.config.solver.monitoring.SolverMetric;
@@ -72,11 +73,15 @@ import org.optaplanner.core.impl.solver.random.RandomFactory;
 @XmlType(name = SolverConfig.XML_TYPE_NAME, propOrder = {
         "environmentMode",
         "daemon",
+        "inPlaceProblemChangeEnabled",
+        "problemChangeBatchingConfig",
+        "lazyBestSolutionCloningEnabled",
         "randomType",
         "randomSeed",
         "randomFactoryClass",
         "moveThreadCount",
         "moveThreadBufferSize",
+        "moveThreadHandOff",
         "threadFactoryClass",
         "monitoringConfig",
         "solutionClass",
@@ -231,11 +236,16 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
 
     protected EnvironmentMode environmentMode = null;
     protected Boolean daemon = null;
+    protected Boolean inPlaceProblemChangeEnabled = null;
+    @XmlElement(name = "problemChangeBatching")
+    protected ProblemChangeBatchingConfig problemChangeBatchingConfig = null;
+    protected Boolean lazyBestSolutionCloningEnabled = null;
     protected RandomType randomType = null;
     protected Long randomSeed = null;
     protected Class<? extends RandomFactory> randomFactoryClass = null;
     protected String moveThreadCount = null;
     protected Integer moveThreadBufferSize = null;
+    protected MoveThreadHandOff moveThreadHandOff = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
 
     protected Class<?> solutionClass = null;
@@ -261,7 +271,8 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
             @XmlElement(name = ExhaustiveSearchPhaseConfig.XML_ELEMENT_NAME, type = ExhaustiveSearchPhaseConfig.class),
             @XmlElement(name = LocalSearchPhaseConfig.XML_ELEMENT_NAME, type = LocalSearchPhaseConfig.class),
             @XmlElement(name = NoChangePhaseConfig.XML_ELEMENT_NAME, type = NoChangePhaseConfig.class),
-            @XmlElement(name = PartitionedSearchPhaseConfig.XML_ELEMENT_NAME, type = PartitionedSearchPhaseConfig.class)
+            @XmlElement(name = PartitionedSearchPhaseConfig.XML_ELEMENT_NAME, type = PartitionedSearchPhaseConfig.class),
+            @XmlElement(name = PortfolioSearchPhaseConfig.XML_ELEMENT_NAME, type = PortfolioSearchPhaseConfig.class)
     })
     protected List<PhaseConfig> phaseConfigList = null;
 
@@ -321,6 +332,46 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.daemon = daemon;
     }
 
+    /**
+     * @return null means false, true to apply the {@link org.optaplanner.core.api.solver.change.ProblemChange}s
+     *         on the current working solution,
+     *         instead of on a planning clone of the best solution
+     */
+    public Boolean getInPlaceProblemChangeEnabled() {
+        return inPlaceProblemChangeEnabled;
+    }
+
+    public void setInPlaceProblemChangeEnabled(Boolean inPlaceProblemChangeEnabled) {
+        this.inPlaceProblemChangeEnabled = inPlaceProblemChangeEnabled;
+    }
+
+    /**
+     * @return null means every waiting {@link org.optaplanner.core.api.solver.change.ProblemChange}
+     *         restarts the solver immediately
+     */
+    public ProblemChangeBatchingConfig getProblemChangeBatchingConfig() {
+        return problemChangeBatchingConfig;
+    }
+
+    public void setProblemChangeBatchingConfig(ProblemChangeBatchingConfig problemChangeBatchingConfig) {
+        this.problemChangeBatchingConfig = problemChangeBatchingConfig;
+    }
+
+    /**
+     * @return null means false, true to only record the planning variable values of a new best solution
+     *         found by a step or a move, and to planning clone it only when it is needed,
+     *         such as when a {@link org.optaplanner.core.api.solver.event.BestSolutionChangedEvent} listener
+     *         asks for it or when the phase ends.
+     *         Not supported for a solution with a custom solution cloner or a chained or list variable.
+     */
+    public Boolean getLazyBestSolutionCloningEnabled() {
+        return lazyBestSolutionCloningEnabled;
+    }
+
+    public void setLazyBestSolutionCloningEnabled(Boolean lazyBestSolutionCloningEnabled) {
+        this.lazyBestSolutionCloningEnabled = lazyBestSolutionCloningEnabled;
+    }
+
     public RandomType getRandomType() {
         return randomType;
     }
@@ -361,6 +412,14 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.moveThreadBufferSize = moveThreadBufferSize;
     }
 
+    public MoveThreadHandOff getMoveThreadHandOff() {
+        return moveThreadHandOff;
+    }
+
+    public void setMoveThreadHandOff(MoveThreadHandOff moveThreadHandOff) {
+        this.moveThreadHandOff = moveThreadHandOff;
+    }
+
     public Class<? extends ThreadFactory> getThreadFactoryClass() {
         return threadFactoryClass;
     }
@@ -455,6 +514,21 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withInPlaceProblemChangeEnabled(Boolean inPlaceProblemChangeEnabled) {
+        this.inPlaceProblemChangeEnabled = inPlaceProblemChangeEnabled;
+        return this;
+    }
+
+    public SolverConfig withProblemChangeBatchingConfig(ProblemChangeBatchingConfig problemChangeBatchingConfig) {
+        this.problemChangeBatchingConfig = problemChangeBatchingConfig;
+        return this;
+    }
+
+    public SolverConfig withLazyBestSolutionCloningEnabled(Boolean lazyBestSolutionCloningEnabled) {
+        this.lazyBestSolutionCloningEnabled = lazyBestSolutionCloningEnabled;
+        return this;
+    }
+
     public SolverConfig withRandomType(RandomType randomType) {
         this.randomType = randomType;
         return this;
@@ -480,6 +554,11 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withMoveThreadHandOff(MoveThreadHandOff moveThreadHandOff) {
+        this.moveThreadHandOff = moveThreadHandOff;
+        return this;
+    }
+
     public SolverConfig withThreadFactoryClass(Class<? extends ThreadFactory> threadFactoryClass) {
         this.threadFactoryClass = threadFactoryClass;
         return this;
@@ -623,6 +702,12 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         classLoader = ConfigUtils.inheritOverwritableProperty(classLoader, inheritedConfig.getClassLoader());
         environmentMode = ConfigUtils.inheritOverwritableProperty(environmentMode, inheritedConfig.getEnvironmentMode());
         daemon = ConfigUtils.inheritOverwritableProperty(daemon, inheritedConfig.getDaemon());
+        inPlaceProblemChangeEnabled = ConfigUtils.inheritOverwritableProperty(inPlaceProblemChangeEnabled,
+                inheritedConfig.getInPlaceProblemChangeEnabled());
+        problemChangeBatchingConfig = ConfigUtils.inheritConfig(problemChangeBatchingConfig,
+                inheritedConfig.getProblemChangeBatchingConfig());
+        lazyBestSolutionCloningEnabled = ConfigUtils.inheritOverwritableProperty(lazyBestSolutionCloningEnabled,
+                inheritedConfig.getLazyBestSolutionCloningEnabled());
         randomType = ConfigUtils.inheritOverwritableProperty(randomType, inheritedConfig.getRandomType());
         randomSeed = ConfigUtils.inheritOverwritableProperty(randomSeed, inheritedConfig.getRandomSeed());
         randomFactoryClass = ConfigUtils.inheritOverwritableProperty(randomFactoryClass,
@@ -631,6 +716,8 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
                 inheritedConfig.getMoveThreadCount());
         moveThreadBufferSize = ConfigUtils.inheritOverwritableProperty(moveThreadBufferSize,
                 inheritedConfig.getMoveThreadBufferSize());
+        moveThreadHandOff = ConfigUtils.inheritOverwritableProperty(moveThreadHandOff,
+                inheritedConfig.getMoveThreadHandOff());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
         solutionClass = ConfigUtils.inheritOverwritableProperty(solutionClass, inheritedConfig.getSolutionClass());
@@ -16,31 +16,44 @@
 
 package org.optaplanner.core.config.solver;
 
+import java.time.Duration;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import org.optaplanner.core.config.AbstractConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.io.jaxb.adapter.JaxbDurationAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @XmlType(propOrder = {
         "parallelSolverCount",
-        "threadFactoryClass"
+        "threadFactoryClass",
+        "throttlingDelay",
+        "coreBudget",
+        "tenantParallelSolverCount",
+        "timeSlice"
 })
 public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
     public static final String PARALLEL_SOLVER_COUNT_AUTO = "AUTO";
+    public static final String CORE_BUDGET_AUTO = "AUTO";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SolverManagerConfig.class);
 
     protected String parallelSolverCount = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    protected Duration throttlingDelay = null;
+    protected String coreBudget = null;
+    protected Integer tenantParallelSolverCount = null;
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    protected Duration timeSlice = null;
 
     // Future features:
-    // throttlingDelay
     // congestionStrategy
 
     // ************************************************************************
@@ -66,6 +79,56 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    /**
+     * @return null means no throttling, otherwise the minimal time between 2 intermediate best solutions
+     *         passed to the bestSolutionConsumer of a solver job.
+     *         The best solutions found in between are skipped, but the latest one is always delivered eventually.
+     */
+    public Duration getThrottlingDelay() {
+        return throttlingDelay;
+    }
+
+    public void setThrottlingDelay(Duration throttlingDelay) {
+        this.throttlingDelay = throttlingDelay;
+    }
+
+    /**
+     * @return null means no limit, otherwise the maximum number of threads of all solving solver jobs together,
+     *         each solver job counting its solver thread and its move threads.
+     *         Use {@link #CORE_BUDGET_AUTO} for the number of available processors.
+     */
+    public String getCoreBudget() {
+        return coreBudget;
+    }
+
+    public void setCoreBudget(String coreBudget) {
+        this.coreBudget = coreBudget;
+    }
+
+    /**
+     * @return null means no limit, otherwise the maximum number of solver jobs of the same tenant
+     *         that solve at the same time
+     */
+    public Integer getTenantParallelSolverCount() {
+        return tenantParallelSolverCount;
+    }
+
+    public void setTenantParallelSolverCount(Integer tenantParallelSolverCount) {
+        this.tenantParallelSolverCount = tenantParallelSolverCount;
+    }
+
+    /**
+     * @return null means no time slicing, otherwise the time a solver job solves before it pauses at the end of a step
+     *         in favor of a waiting solver job with the same or a higher priority
+     */
+    public Duration getTimeSlice() {
+        return timeSlice;
+    }
+
+    public void setTimeSlice(Duration timeSlice) {
+        this.timeSlice = timeSlice;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -80,6 +143,26 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return this;
     }
 
+    public SolverManagerConfig withThrottlingDelay(Duration throttlingDelay) {
+        this.throttlingDelay = throttlingDelay;
+        return this;
+    }
+
+    public SolverManagerConfig withCoreBudget(String coreBudget) {
+        this.coreBudget = coreBudget;
+        return this;
+    }
+
+    public SolverManagerConfig withTenantParallelSolverCount(Integer tenantParallelSolverCount) {
+        this.tenantParallelSolverCount = tenantParallelSolverCount;
+        return this;
+    }
+
+    public SolverManagerConfig withTimeSlice(Duration timeSlice) {
+        this.timeSlice = timeSlice;
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -107,6 +190,63 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return resolvedParallelSolverCount;
     }
 
+    /**
+     * @return {@code >= 0}, 0 means no throttling
+     */
+    public long resolveThrottlingDelayMillis() {
+        if (throttlingDelay == null) {
+            return 0L;
+        }
+        if (throttlingDelay.isNegative()) {
+            throw new IllegalArgumentException("The throttlingDelay (" + throttlingDelay + ") cannot be negative.");
+        }
+        return throttlingDelay.toMillis();
+    }
+
+    /**
+     * @return null means no limit, otherwise {@code >= 1}
+     */
+    public Integer resolveCoreBudget() {
+        if (coreBudget == null) {
+            return null;
+        }
+        int resolvedCoreBudget;
+        if (coreBudget.equals(CORE_BUDGET_AUTO)) {
+            resolvedCoreBudget = getAvailableProcessors();
+        } else {
+            resolvedCoreBudget = ConfigUtils.resolvePoolSize("coreBudget", coreBudget, CORE_BUDGET_AUTO);
+        }
+        if (resolvedCoreBudget < 1) {
+            throw new IllegalArgumentException("The coreBudget (" + coreBudget
+                    + ") resulted in a resolvedCoreBudget (" + resolvedCoreBudget + ") that is lower than 1.");
+        }
+        return resolvedCoreBudget;
+    }
+
+    /**
+     * @return null means no limit, otherwise {@code >= 1}
+     */
+    public Integer resolveTenantParallelSolverCount() {
+        if (tenantParallelSolverCount != null && tenantParallelSolverCount < 1) {
+            throw new IllegalArgumentException("The tenantParallelSolverCount (" + tenantParallelSolverCount
+                    + ") cannot be lower than 1.");
+        }
+        return tenantParallelSolverCount;
+    }
+
+    /**
+     * @return {@code >= 0}, 0 means no time slicing
+     */
+    public long resolveTimeSliceMillis() {
+        if (timeSlice == null) {
+            return 0L;
+        }
+        if (timeSlice.isNegative() || timeSlice.isZero()) {
+            throw new IllegalArgumentException("The timeSlice (" + timeSlice + ") must be positive.");
+        }
+        return Math.max(timeSlice.toMillis(), 1L);
+    }
+
     protected int getAvailableProcessors() {
         return Runtime.getRuntime().availableProcessors();
     }
@@ -126,6 +266,14 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
                 inheritedConfig.getParallelSolverCount());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        throttlingDelay = ConfigUtils.inheritOverwritableProperty(throttlingDelay,
+                inheritedConfig.getThrottlingDelay());
+        coreBudget = ConfigUtils.inheritOverwritableProperty(coreBudget,
+                inheritedConfig.getCoreBudget());
+        tenantParallelSolverCount = ConfigUtils.inheritOverwritableProperty(tenantParallelSolverCount,
+                inheritedConfig.getTenantParallelSolverCount());
+        timeSlice = ConfigUtils.inheritOverwritableProperty(timeSlice,
+                inheritedConfig.getTimeSlice());
         return this;
     }
 
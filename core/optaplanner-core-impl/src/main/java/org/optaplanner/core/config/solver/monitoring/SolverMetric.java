@@ -52,7 +52,9 @@ public enum SolverMetric {
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF("optaplanner.solver.move.type.best.score.diff", new PickedMoveBestScoreDiffStatistic<>(),
             true),
     PICKED_MOVE_TYPE_STEP_SCORE_DIFF("optaplanner.solver.move.type.step.score.diff", new PickedMoveStepScoreDiffStatistic<>(),
-            false);
+            false),
+    PROBLEM_CHANGE_QUEUE_SIZE("optaplanner.solver.problem.change.queue.size", false),
+    PROBLEM_CHANGE_LATENCY("optaplanner.solver.problem.change.latency", false);
 
     String meterId;
     @SuppressWarnings("rawtypes")
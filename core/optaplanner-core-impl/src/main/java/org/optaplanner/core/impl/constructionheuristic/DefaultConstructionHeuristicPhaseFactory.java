@@ -40,14 +40,19 @@ import org.optaplanner.core.config.heuristic.selector.value.ValueSorterManner;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.constructionheuristic.decider.ConstructionHeuristicDecider;
+import org.optaplanner.core.impl.constructionheuristic.decider.LazyInsertionConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.decider.MultiThreadedConstructionHeuristicDecider;
+import org.optaplanner.core.impl.constructionheuristic.decider.ParallelPlacementConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForagerFactory;
 import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacerFactory;
+import org.optaplanner.core.impl.constructionheuristic.placer.PooledEntityPlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.PooledEntityPlacerFactory;
+import org.optaplanner.core.impl.constructionheuristic.placer.QueuedEntityPlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.QueuedEntityPlacerFactory;
 import org.optaplanner.core.impl.constructionheuristic.placer.QueuedValuePlacerFactory;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
@@ -93,7 +98,7 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
                 solverConfigPolicy.getLogIndentation(),
                 phaseTermination,
                 entityPlacer,
-                buildDecider(phaseConfigPolicy, phaseTermination));
+                buildDecider(phaseConfigPolicy, phaseTermination, entityPlacer));
 
         EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
         if (environmentMode.isNonIntrusiveFullAsserted()) {
@@ -188,7 +193,7 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
     }
 
     private ConstructionHeuristicDecider<Solution_> buildDecider(HeuristicConfigPolicy<Solution_> configPolicy,
-            Termination<Solution_> termination) {
+            Termination<Solution_> termination, EntityPlacer<Solution_> entityPlacer) {
         ConstructionHeuristicForagerConfig foragerConfig_ =
                 Objects.requireNonNullElseGet(phaseConfig.getForagerConfig(), ConstructionHeuristicForagerConfig::new);
         ConstructionHeuristicForager<Solution_> forager =
@@ -196,7 +201,22 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         EnvironmentMode environmentMode = configPolicy.getEnvironmentMode();
         ConstructionHeuristicDecider<Solution_> decider;
         Integer moveThreadCount = configPolicy.getMoveThreadCount();
-        if (moveThreadCount == null) {
+        Integer parallelPlacementCount = phaseConfig.getParallelPlacementCount();
+        boolean lazyInsertionEnabled = Objects.requireNonNullElse(phaseConfig.getLazyInsertionEnabled(), false);
+        if (!lazyInsertionEnabled && phaseConfig.getInsertionRegretK() != null) {
+            throw new IllegalArgumentException("The insertionRegretK (" + phaseConfig.getInsertionRegretK()
+                    + ") requires lazyInsertionEnabled (" + phaseConfig.getLazyInsertionEnabled() + ").");
+        }
+        if (lazyInsertionEnabled) {
+            validateLazyInsertion(configPolicy, entityPlacer, moveThreadCount);
+            int insertionRegretK = Objects.requireNonNullElse(phaseConfig.getInsertionRegretK(), 1);
+            decider = new LazyInsertionConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination,
+                    forager, insertionRegretK);
+        } else if (moveThreadCount == null) {
+            if (parallelPlacementCount != null) {
+                throw new IllegalArgumentException("The parallelPlacementCount (" + parallelPlacementCount
+                        + ") requires a moveThreadCount (" + moveThreadCount + ").");
+            }
             decider = new ConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager);
         } else {
             Integer moveThreadBufferSize = configPolicy.getMoveThreadBufferSize();
@@ -208,9 +228,16 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
             }
             ThreadFactory threadFactory = configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD);
             int selectedMoveBufferSize = moveThreadCount * moveThreadBufferSize;
-            MultiThreadedConstructionHeuristicDecider<Solution_> multiThreadedDecider =
-                    new MultiThreadedConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager,
-                            threadFactory, moveThreadCount, selectedMoveBufferSize);
+            MultiThreadedConstructionHeuristicDecider<Solution_> multiThreadedDecider;
+            if (parallelPlacementCount == null) {
+                multiThreadedDecider = new MultiThreadedConstructionHeuristicDecider<>(configPolicy.getLogIndentation(),
+                        termination, forager, threadFactory, moveThreadCount, selectedMoveBufferSize);
+            } else {
+                validateParallelPlacement(configPolicy, entityPlacer, parallelPlacementCount);
+                multiThreadedDecider = new ParallelPlacementConstructionHeuristicDecider<>(
+                        configPolicy.getLogIndentation(), termination, forager, threadFactory, moveThreadCount,
+                        selectedMoveBufferSize, parallelPlacementCount);
+            }
             if (environmentMode.isNonIntrusiveFullAsserted()) {
                 multiThreadedDecider.setAssertStepScoreFromScratch(true);
             }
@@ -229,6 +256,64 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         return decider;
     }
 
+    private void validateParallelPlacement(HeuristicConfigPolicy<Solution_> configPolicy,
+            EntityPlacer<Solution_> entityPlacer, int parallelPlacementCount) {
+        if (parallelPlacementCount < 1) {
+            throw new IllegalArgumentException("The parallelPlacementCount (" + parallelPlacementCount
+                    + ") must be at least 1.");
+        }
+        if (!(entityPlacer instanceof QueuedEntityPlacer)) {
+            throw new IllegalArgumentException("The parallelPlacementCount (" + parallelPlacementCount
+                    + ") is only supported with a " + QueuedEntityPlacer.class.getSimpleName()
+                    + ", not with the entityPlacer (" + entityPlacer + ").");
+        }
+        // The value range of a chained variable depends on which entities are already initialized
+        if (configPolicy.getSolutionDescriptor().getGenuineEntityDescriptors().stream()
+                .anyMatch(EntityDescriptor::hasAnyChainedGenuineVariables)) {
+            throw new IllegalArgumentException("The parallelPlacementCount (" + parallelPlacementCount
+                    + ") is not supported with chained variables.");
+        }
+    }
+
+    private void validateLazyInsertion(HeuristicConfigPolicy<Solution_> configPolicy,
+            EntityPlacer<Solution_> entityPlacer, Integer moveThreadCount) {
+        Integer insertionRegretK = phaseConfig.getInsertionRegretK();
+        if (insertionRegretK != null && insertionRegretK < 1) {
+            throw new IllegalArgumentException("The insertionRegretK (" + insertionRegretK
+                    + ") must be at least 1.");
+        }
+        if (!(entityPlacer instanceof PooledEntityPlacer)) {
+            throw new IllegalArgumentException("The lazyInsertionEnabled (" + phaseConfig.getLazyInsertionEnabled()
+                    + ") is only supported with a " + PooledEntityPlacer.class.getSimpleName()
+                    + ", not with the entityPlacer (" + entityPlacer + ").\n"
+                    + "Maybe use the constructionHeuristicType (" + ConstructionHeuristicType.CHEAPEST_INSERTION
+                    + ").");
+        }
+        if (moveThreadCount != null) {
+            throw new IllegalArgumentException("The lazyInsertionEnabled (" + phaseConfig.getLazyInsertionEnabled()
+                    + ") does not support a moveThreadCount (" + moveThreadCount + ").");
+        }
+        if (phaseConfig.getForagerConfig() != null) {
+            throw new IllegalArgumentException("The lazyInsertionEnabled (" + phaseConfig.getLazyInsertionEnabled()
+                    + ") does not support a foragerConfig (" + phaseConfig.getForagerConfig() + "),"
+                    + " because the insertionRegretK decides which move to pick.");
+        }
+        for (EntityDescriptor<Solution_> entityDescriptor : configPolicy.getSolutionDescriptor()
+                .getGenuineEntityDescriptors()) {
+            // The value range of a chained variable depends on which entities are already initialized
+            if (entityDescriptor.hasAnyChainedGenuineVariables()) {
+                throw new IllegalArgumentException("The lazyInsertionEnabled (" + phaseConfig.getLazyInsertionEnabled()
+                        + ") is not supported with chained variables.");
+            }
+            if (!entityDescriptor.getShadowVariableDescriptors().isEmpty()) {
+                throw new IllegalArgumentException("The lazyInsertionEnabled (" + phaseConfig.getLazyInsertionEnabled()
+                        + ") does not support the shadow variables of the entity class ("
+                        + entityDescriptor.getEntityClass() + "),"
+                        + " because a move can change a shadow variable of another planning entity.");
+            }
+        }
+    }
+
     private EntityPlacerConfig buildUnfoldedEntityPlacerConfig(HeuristicConfigPolicy<Solution_> phaseConfigPolicy,
             ConstructionHeuristicType constructionHeuristicType) {
         switch (constructionHeuristicType) {
@@ -16,9 +16,12 @@
 
 package org.optaplanner.core.impl.constructionheuristic.decider;
 
+import java.util.Iterator;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
+import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
@@ -91,6 +94,16 @@ public class ConstructionHeuristicDecider<Solution_> {
         forager.solvingEnded(solverScope);
     }
 
+    /**
+     * Called after {@link #phaseStarted(ConstructionHeuristicPhaseScope)}.
+     *
+     * @param entityPlacer never null
+     * @return never null, the {@link Placement}s to pass to {@link #decideNextStep}, one per step
+     */
+    public Iterator<Placement<Solution_>> placementIterator(EntityPlacer<Solution_> entityPlacer) {
+        return entityPlacer.iterator();
+    }
+
     public void decideNextStep(ConstructionHeuristicStepScope<Solution_> stepScope, Placement<Solution_> placement) {
         int moveIndex = 0;
         for (Move<Solution_> move : placement) {
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.constructionheuristic.decider;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.heuristic.move.Move;
+
+/**
+ * Caches the score difference of every (entity, value) pair of a pooled placement,
+ * ordered by which entity to insert first.
+ * <p>
+ * With a regretK of 1, that's the entity with the best insertion (cheapest insertion).
+ * With a higher regretK, that's the entity with the highest regret:
+ * the sum of the differences between its best insertion and its next {@code regretK - 1} best insertions.
+ * An entity with fewer than regretK insertions comes first.
+ * <p>
+ * Each entity is only queued again when one of its insertions changes,
+ * so outdated queue entries are skipped when they reach the head of the queue.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+final class InsertionPriorityQueue<Solution_> {
+
+    private final int regretK;
+
+    private final Map<Object, EntityInsertions<Solution_>> entityInsertionsMap = new IdentityHashMap<>();
+    private final Map<Object, List<Insertion<Solution_>>> planningValueInsertionListMap = new IdentityHashMap<>();
+    // Insertion ordered, for reproducibility
+    private final Set<EntityInsertions<Solution_>> dirtyEntityInsertionsSet = new LinkedHashSet<>();
+    private final PriorityQueue<QueueEntry<Solution_>> queue = new PriorityQueue<>();
+    private int addedEntityCount = 0;
+
+    InsertionPriorityQueue(int regretK) {
+        this.regretK = regretK;
+    }
+
+    boolean isEmpty() {
+        return entityInsertionsMap.isEmpty();
+    }
+
+    /**
+     * @param move never null, must have exactly 1 {@link Move#getPlanningEntities() planning entity}
+     * @param scoreDifference never null, the score of the move minus the score before the move
+     * @param stepIndex at which the move was evaluated
+     */
+    void add(Move<Solution_> move, Score scoreDifference, int stepIndex) {
+        Collection<?> planningEntities = move.getPlanningEntities();
+        if (planningEntities.size() != 1) {
+            throw new IllegalStateException("The move (" + move + ") has planning entities (" + planningEntities
+                    + "), but lazy insertion requires exactly 1 planning entity per move.\n"
+                    + "Maybe use a pooledEntityPlacer with only changeMoveSelectors"
+                    + " or a cartesianProductMoveSelector of them.");
+        }
+        Object entity = planningEntities.iterator().next();
+        EntityInsertions<Solution_> entityInsertions = entityInsertionsMap.computeIfAbsent(entity,
+                k -> new EntityInsertions<>(entity, addedEntityCount++));
+        Insertion<Solution_> insertion = new Insertion<>(entityInsertions, move);
+        insertion.scoreDifference = scoreDifference;
+        insertion.evaluatedStepIndex = stepIndex;
+        entityInsertions.insertionList.add(insertion);
+        for (Object planningValue : move.getPlanningValues()) {
+            if (planningValue != null) {
+                planningValueInsertionListMap.computeIfAbsent(planningValue, k -> new ArrayList<>()).add(insertion);
+            }
+        }
+        dirtyEntityInsertionsSet.add(entityInsertions);
+    }
+
+    void update(Insertion<Solution_> insertion, Score scoreDifference, int stepIndex) {
+        insertion.scoreDifference = scoreDifference;
+        insertion.evaluatedStepIndex = stepIndex;
+        dirtyEntityInsertionsSet.add(insertion.entityInsertions);
+    }
+
+    /**
+     * @return null if there are no entities left to insert
+     */
+    Insertion<Solution_> peekBest() {
+        for (EntityInsertions<Solution_> entityInsertions : dirtyEntityInsertionsSet) {
+            if (!entityInsertions.removed) {
+                queue.add(entityInsertions.refresh(regretK));
+            }
+        }
+        dirtyEntityInsertionsSet.clear();
+        while (!queue.isEmpty()) {
+            QueueEntry<Solution_> queueEntry = queue.peek();
+            EntityInsertions<Solution_> entityInsertions = queueEntry.entityInsertions;
+            if (!entityInsertions.removed && queueEntry.revision == entityInsertions.revision) {
+                return entityInsertions.bestInsertion;
+            }
+            queue.poll();
+        }
+        return null;
+    }
+
+    /**
+     * Removes the insertions of the entities that the step inserted.
+     *
+     * @param step never null
+     * @return never null, the remaining insertions that share a planning value with the step,
+     *         which need to be evaluated again
+     */
+    List<Insertion<Solution_>> removeStep(Move<Solution_> step) {
+        for (Object entity : step.getPlanningEntities()) {
+            EntityInsertions<Solution_> entityInsertions = entityInsertionsMap.remove(entity);
+            if (entityInsertions != null) {
+                entityInsertions.removed = true;
+            }
+        }
+        List<Insertion<Solution_>> affectedInsertionList = new ArrayList<>();
+        for (Object planningValue : step.getPlanningValues()) {
+            List<Insertion<Solution_>> insertionList = planningValueInsertionListMap.get(planningValue);
+            if (insertionList == null) {
+                continue;
+            }
+            insertionList.removeIf(insertion -> insertion.entityInsertions.removed);
+            for (Insertion<Solution_> insertion : insertionList) {
+                // A move can have the same planning value more than once
+                if (insertion.affectedStepMove != step) {
+                    insertion.affectedStepMove = step;
+                    affectedInsertionList.add(insertion);
+                }
+            }
+        }
+        return affectedInsertionList;
+    }
+
+    static final class Insertion<Solution_> {
+
+        private final EntityInsertions<Solution_> entityInsertions;
+        private final Move<Solution_> move;
+
+        private Score scoreDifference;
+        private int evaluatedStepIndex;
+        private Move<Solution_> affectedStepMove = null;
+
+        private Insertion(EntityInsertions<Solution_> entityInsertions, Move<Solution_> move) {
+            this.entityInsertions = entityInsertions;
+            this.move = move;
+        }
+
+        Move<Solution_> getMove() {
+            return move;
+        }
+
+        Score getScoreDifference() {
+            return scoreDifference;
+        }
+
+        int getEvaluatedStepIndex() {
+            return evaluatedStepIndex;
+        }
+
+        boolean isRemoved() {
+            return entityInsertions.removed;
+        }
+
+        @Override
+        public String toString() {
+            return move + " (" + scoreDifference + ")";
+        }
+
+    }
+
+    private static final class EntityInsertions<Solution_> {
+
+        private final Object entity;
+        private final int entityOrder;
+        private final List<Insertion<Solution_>> insertionList = new ArrayList<>();
+
+        private boolean removed = false;
+        private int revision = 0;
+        private Insertion<Solution_> bestInsertion = null;
+
+        private EntityInsertions(Object entity, int entityOrder) {
+            this.entity = entity;
+            this.entityOrder = entityOrder;
+        }
+
+        private QueueEntry<Solution_> refresh(int regretK) {
+            revision++;
+            // Only the best regretK insertions matter, in descending order of score difference
+            List<Score> bestScoreDifferenceList = new ArrayList<>(regretK + 1);
+            bestInsertion = null;
+            for (Insertion<Solution_> insertion : insertionList) {
+                Score scoreDifference = insertion.scoreDifference;
+                int index = bestScoreDifferenceList.size();
+                while (index > 0 && scoreDifference.compareTo(bestScoreDifferenceList.get(index - 1)) > 0) {
+                    index--;
+                }
+                if (index == 0) {
+                    // Ties keep the first insertion, for reproducibility
+                    bestInsertion = insertion;
+                }
+                if (index < regretK) {
+                    bestScoreDifferenceList.add(index, scoreDifference);
+                    if (bestScoreDifferenceList.size() > regretK) {
+                        bestScoreDifferenceList.remove(regretK);
+                    }
+                }
+            }
+            Score bestScoreDifference = bestScoreDifferenceList.get(0);
+            Score regret = bestScoreDifference.zero();
+            for (int i = 1; i < bestScoreDifferenceList.size(); i++) {
+                regret = regret.add(bestScoreDifference.subtract(bestScoreDifferenceList.get(i)));
+            }
+            boolean fewerThanRegretK = bestScoreDifferenceList.size() < regretK;
+            return new QueueEntry<>(this, revision, fewerThanRegretK, regret, bestScoreDifference);
+        }
+
+        @Override
+        public String toString() {
+            return entity + " (" + insertionList.size() + " insertions)";
+        }
+
+    }
+
+    private static final class QueueEntry<Solution_> implements Comparable<QueueEntry<Solution_>> {
+
+        private final EntityInsertions<Solution_> entityInsertions;
+        private final int revision;
+        private final boolean fewerThanRegretK;
+        private final Score regret;
+        private final Score bestScoreDifference;
+
+        private QueueEntry(EntityInsertions<Solution_> entityInsertions, int revision, boolean fewerThanRegretK,
+                Score regret, Score bestScoreDifference) {
+            this.entityInsertions = entityInsertions;
+            this.revision = revision;
+            this.fewerThanRegretK = fewerThanRegretK;
+            this.regret = regret;
+            this.bestScoreDifference = bestScoreDifference;
+        }
+
+        /**
+         * The head of the queue is the entity to insert first.
+         */
+        @Override
+        public int compareTo(QueueEntry<Solution_> other) {
+            if (fewerThanRegretK != other.fewerThanRegretK) {
+                return fewerThanRegretK ? -1 : 1;
+            }
+            int comparison = other.regret.compareTo(regret);
+            if (comparison != 0) {
+                return comparison;
+            }
+            comparison = other.bestScoreDifference.compareTo(bestScoreDifference);
+            if (comparison != 0) {
+                return comparison;
+            }
+            return Integer.compare(entityInsertions.entityOrder, other.entityInsertions.entityOrder);
+        }
+
+    }
+
+}
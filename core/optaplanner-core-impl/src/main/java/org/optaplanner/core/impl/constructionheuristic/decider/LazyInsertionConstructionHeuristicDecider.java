@@ -0,0 +1,178 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.constructionheuristic.decider;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.constructionheuristic.decider.InsertionPriorityQueue.Insertion;
+import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
+import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacer;
+import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
+import org.optaplanner.core.impl.constructionheuristic.placer.PooledEntityPlacer;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.termination.Termination;
+
+/**
+ * Evaluates every (entity, value) pair of a {@link PooledEntityPlacer} only once,
+ * instead of at every step, and caches its score difference in an {@link InsertionPriorityQueue}.
+ * After a step, only the pairs that share a planning value with that step are evaluated again.
+ * So this presumes that the score difference of a pair only depends on the entities that share its planning value.
+ * <p>
+ * To keep the step score exact, the picked pair is evaluated again if it was evaluated in an earlier step.
+ * If its score difference changed, the pair is requeued and another pair might be picked instead.
+ * Either way, the outcome only depends on the working solution, so it's reproducible.
+ * <p>
+ * The {@link ConstructionHeuristicForager} is not used to pick the step,
+ * because the insertion order is decided by the regretK of the {@link InsertionPriorityQueue}.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class LazyInsertionConstructionHeuristicDecider<Solution_> extends ConstructionHeuristicDecider<Solution_> {
+
+    protected final int insertionRegretK;
+
+    private InsertionPriorityQueue<Solution_> insertionQueue;
+    private boolean poolEvaluated;
+    private List<Insertion<Solution_>> affectedInsertionList;
+
+    public LazyInsertionConstructionHeuristicDecider(String logIndentation, Termination<Solution_> termination,
+            ConstructionHeuristicForager<Solution_> forager, int insertionRegretK) {
+        super(logIndentation, termination, forager);
+        this.insertionRegretK = insertionRegretK;
+    }
+
+    @Override
+    public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        insertionQueue = new InsertionPriorityQueue<>(insertionRegretK);
+        poolEvaluated = false;
+        affectedInsertionList = Collections.emptyList();
+    }
+
+    @Override
+    public void stepEnded(ConstructionHeuristicStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        affectedInsertionList = insertionQueue.removeStep(stepScope.getStep());
+    }
+
+    @Override
+    public void phaseEnded(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        insertionQueue = null;
+        affectedInsertionList = null;
+    }
+
+    /**
+     * Only the first {@link Placement} of the {@link EntityPlacer} is used, because it contains every pair of the pool.
+     * Every next placement is empty, as long as there are entities left to insert.
+     */
+    @Override
+    public Iterator<Placement<Solution_>> placementIterator(EntityPlacer<Solution_> entityPlacer) {
+        Iterator<Placement<Solution_>> entityPlacerIterator = entityPlacer.iterator();
+        return new UpcomingSelectionIterator<>() {
+            @Override
+            protected Placement<Solution_> createUpcomingSelection() {
+                if (!poolEvaluated) {
+                    poolEvaluated = true;
+                    return entityPlacerIterator.hasNext() ? entityPlacerIterator.next() : noUpcomingSelection();
+                }
+                return insertionQueue.isEmpty() ? noUpcomingSelection() : new Placement<>(Collections.emptyIterator());
+            }
+        };
+    }
+
+    @Override
+    public void decideNextStep(ConstructionHeuristicStepScope<Solution_> stepScope, Placement<Solution_> placement) {
+        int stepIndex = stepScope.getStepIndex();
+        Score stepStartingScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        int moveIndex = 0;
+        for (Move<Solution_> move : placement) {
+            ConstructionHeuristicMoveScope<Solution_> moveScope =
+                    new ConstructionHeuristicMoveScope<>(stepScope, moveIndex, move);
+            moveIndex++;
+            evaluateMove(moveScope);
+            insertionQueue.add(move, moveScope.getScore().subtract(stepStartingScore), stepIndex);
+            stepScope.getPhaseScope().getSolverScope().checkYielding();
+            if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+                break;
+            }
+        }
+        for (Insertion<Solution_> insertion : affectedInsertionList) {
+            if (insertion.isRemoved()) {
+                continue;
+            }
+            ConstructionHeuristicMoveScope<Solution_> moveScope =
+                    new ConstructionHeuristicMoveScope<>(stepScope, moveIndex, insertion.getMove());
+            moveIndex++;
+            evaluateMove(moveScope);
+            insertionQueue.update(insertion, moveScope.getScore().subtract(stepStartingScore), stepIndex);
+            stepScope.getPhaseScope().getSolverScope().checkYielding();
+            if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+                break;
+            }
+        }
+        affectedInsertionList = Collections.emptyList();
+        Insertion<Solution_> pickedInsertion = insertionQueue.peekBest();
+        while (pickedInsertion != null && pickedInsertion.getEvaluatedStepIndex() != stepIndex) {
+            ConstructionHeuristicMoveScope<Solution_> moveScope =
+                    new ConstructionHeuristicMoveScope<>(stepScope, moveIndex, pickedInsertion.getMove());
+            moveIndex++;
+            evaluateMove(moveScope);
+            Score scoreDifference = moveScope.getScore().subtract(stepStartingScore);
+            if (!scoreDifference.equals(pickedInsertion.getScoreDifference())) {
+                logger.trace("{}        Move index ({}), score difference ({}) instead of the cached ({}),"
+                        + " because an earlier step interacts with it, move ({}).",
+                        logIndentation,
+                        moveScope.getMoveIndex(), scoreDifference, pickedInsertion.getScoreDifference(),
+                        moveScope.getMove());
+            }
+            insertionQueue.update(pickedInsertion, scoreDifference, stepIndex);
+            pickedInsertion = insertionQueue.peekBest();
+        }
+        stepScope.setSelectedMoveCount((long) moveIndex);
+        if (pickedInsertion != null) {
+            Move<Solution_> step = pickedInsertion.getMove();
+            stepScope.setStep(step);
+            if (logger.isDebugEnabled()) {
+                stepScope.setStepString(step.toString());
+            }
+            stepScope.setScore(stepStartingScore.add(pickedInsertion.getScoreDifference()));
+        }
+    }
+
+    private <Score_ extends Score<Score_>> void evaluateMove(ConstructionHeuristicMoveScope<Solution_> moveScope) {
+        InnerScoreDirector<Solution_, Score_> scoreDirector = moveScope.getScoreDirector();
+        moveScope.setScore(scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch));
+        if (assertExpectedUndoMoveScore) {
+            scoreDirector.assertExpectedUndoMoveScore(moveScope.getMove(),
+                    (Score_) moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore());
+        }
+        logger.trace("{}        Move index ({}), score ({}), move ({}).",
+                logIndentation,
+                moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getMove());
+    }
+
+}
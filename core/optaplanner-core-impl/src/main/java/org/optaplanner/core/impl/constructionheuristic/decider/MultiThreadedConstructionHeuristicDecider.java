@@ -170,7 +170,18 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         // Do not evaluate the remaining selected moves for this step that haven't started evaluation yet
         operationQueue.clear();
         pickMove(stepScope);
-        // Start doing the step on every move thread. Don't wait for the stepEnded() event.
+        applyStepOnMoveThreads(stepScope, true);
+    }
+
+    /**
+     * Start doing the step on every move thread. Don't wait for the stepEnded() event.
+     *
+     * @param stepScope never null
+     * @param wakeUpMoveThreads false if the move threads can apply the step when they receive their next move instead
+     */
+    protected void applyStepOnMoveThreads(ConstructionHeuristicStepScope<Solution_> stepScope,
+            boolean wakeUpMoveThreads) {
+        int stepIndex = stepScope.getStepIndex();
         if (stepScope.getStep() != null) {
             InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
             if (scoreDirector.requiresFlushing() && stepIndex % 100 == 99) {
@@ -181,8 +192,14 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
             // Increase stepIndex by 1, because it's a preliminary action
             ApplyStepOperation<Solution_, ?> stepOperation = new ApplyStepOperation<>(stepIndex + 1,
                     stepScope.getStep(), (Score) stepScope.getScore());
-            for (int i = 0; i < moveThreadCount; i++) {
-                operationQueue.add(stepOperation);
+            for (MoveThreadRunner<Solution_, ?> moveThreadRunner : moveThreadRunnerList) {
+                moveThreadRunner.addStepOperation(stepOperation);
+            }
+            if (wakeUpMoveThreads) {
+                // Wake up every move thread, so it applies the step while the solver thread selects the next moves
+                for (int i = 0; i < moveThreadCount; i++) {
+                    operationQueue.add(stepOperation);
+                }
             }
         }
     }
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.constructionheuristic.decider;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
+import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacer;
+import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
+import org.optaplanner.core.impl.constructionheuristic.placer.QueuedEntityPlacer;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.thread.MoveEvaluationOperation;
+import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.termination.Termination;
+
+/**
+ * Evaluates the moves of several upcoming {@link Placement}s at the same time,
+ * all on the working solution of the first of those placements.
+ * <p>
+ * The scores of a later placement are shifted by the score difference of the steps done in between.
+ * That's exact if those steps don't interact with the entity of that placement.
+ * To check that, the solver thread recalculates the score of the picked move.
+ * If it differs, that move gets its recalculated score and the placement is foraged again.
+ * After too many of those recalculations, the upcoming placements are evaluated again on the current working solution.
+ * If the steps in between can only worsen the scores of a later placement, the picked move is the same as without
+ * parallel placement. Otherwise, it might not be.
+ * Either way, the outcome only depends on the working solution, so it's reproducible.
+ * <p>
+ * Only supports a {@link QueuedEntityPlacer} without chained variables,
+ * because the moves of the upcoming placements are selected before the steps in between are done.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class ParallelPlacementConstructionHeuristicDecider<Solution_>
+        extends MultiThreadedConstructionHeuristicDecider<Solution_> {
+
+    protected final int parallelPlacementCount;
+
+    private Iterator<Placement<Solution_>> entityPlacerIterator;
+    private Deque<UpcomingPlacement<Solution_>> upcomingPlacementDeque;
+
+    public ParallelPlacementConstructionHeuristicDecider(String logIndentation, Termination<Solution_> termination,
+            ConstructionHeuristicForager<Solution_> forager, ThreadFactory threadFactory, int moveThreadCount,
+            int selectedMoveBufferSize, int parallelPlacementCount) {
+        super(logIndentation, termination, forager, threadFactory, moveThreadCount, selectedMoveBufferSize);
+        this.parallelPlacementCount = parallelPlacementCount;
+    }
+
+    @Override
+    public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        upcomingPlacementDeque = new ArrayDeque<>(parallelPlacementCount);
+    }
+
+    @Override
+    public void phaseEnded(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        entityPlacerIterator = null;
+        upcomingPlacementDeque = null;
+    }
+
+    @Override
+    public Iterator<Placement<Solution_>> placementIterator(EntityPlacer<Solution_> entityPlacer) {
+        entityPlacerIterator = entityPlacer.iterator();
+        return new UpcomingPlacementIterator();
+    }
+
+    private void selectUpcomingPlacement() {
+        Placement<Solution_> placement = entityPlacerIterator.next();
+        // Select every move before the next placement is selected, because that changes the entity of those moves
+        List<Move<Solution_>> moveList = new ArrayList<>();
+        placement.iterator().forEachRemaining(moveList::add);
+        upcomingPlacementDeque.addLast(new UpcomingPlacement<>(placement, moveList));
+    }
+
+    @Override
+    public void decideNextStep(ConstructionHeuristicStepScope<Solution_> stepScope, Placement<Solution_> placement) {
+        UpcomingPlacement<Solution_> upcomingPlacement = upcomingPlacementDeque.pollFirst();
+        if (upcomingPlacement == null || upcomingPlacement.placement != placement) {
+            throw new IllegalStateException("Impossible state: the placement (" + placement
+                    + ") is not the first upcoming placement (" + upcomingPlacement + ").");
+        }
+        if (upcomingPlacement.scores == null) {
+            evaluateUpcomingPlacements(stepScope, upcomingPlacement);
+        }
+        Score[] moveScores = shiftScores(stepScope, upcomingPlacement);
+        // Already evaluated on the current working solution
+        boolean[] moveScoreExacts = new boolean[moveScores.length];
+        Arrays.fill(moveScoreExacts, upcomingPlacement.evaluatedStepIndex == stepScope.getStepIndex());
+        // Beyond this, recalculating the moves one by one costs more than evaluating them again in parallel
+        int maximumRecalculationCount = Math.max(1, moveScores.length / moveThreadCount);
+        int recalculationCount = 0;
+        while (true) {
+            ConstructionHeuristicMoveScope<Solution_> pickedMoveScope = forageUpcomingPlacement(stepScope,
+                    upcomingPlacement, moveScores);
+            if (pickedMoveScope == null || moveScoreExacts[pickedMoveScope.getMoveIndex()]) {
+                break;
+            }
+            InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
+            Score score = scoreDirector.doAndProcessMove(pickedMoveScope.getMove(), assertMoveScoreFromScratch);
+            if (score.equals(pickedMoveScope.getScore())) {
+                break;
+            }
+            logger.trace("{}        Move index ({}), score ({}) instead of the shifted score ({}),"
+                    + " because an earlier step interacts with it, move ({}).",
+                    logIndentation,
+                    pickedMoveScope.getMoveIndex(), score, pickedMoveScope.getScore(), pickedMoveScope.getMove());
+            forager.stepStarted(stepScope);
+            recalculationCount++;
+            if (recalculationCount < maximumRecalculationCount) {
+                moveScores[pickedMoveScope.getMoveIndex()] = score;
+                moveScoreExacts[pickedMoveScope.getMoveIndex()] = true;
+            } else {
+                evaluateUpcomingPlacements(stepScope, upcomingPlacement);
+                moveScores = upcomingPlacement.scores;
+                Arrays.fill(moveScoreExacts, true);
+            }
+        }
+        pickMove(stepScope);
+        UpcomingPlacement<Solution_> nextUpcomingPlacement = upcomingPlacementDeque.peekFirst();
+        // If the next placement is already evaluated, the move threads apply the step before the next evaluation
+        applyStepOnMoveThreads(stepScope, nextUpcomingPlacement == null || nextUpcomingPlacement.scores == null);
+    }
+
+    /**
+     * Evaluates the given placement and the next upcoming placements on the current working solution.
+     * Every move of those placements is evaluated, even if the forager quits early.
+     * This discards the scores of every upcoming placement that was evaluated earlier.
+     */
+    private void evaluateUpcomingPlacements(ConstructionHeuristicStepScope<Solution_> stepScope,
+            UpcomingPlacement<Solution_> firstUpcomingPlacement) {
+        while (upcomingPlacementDeque.size() + 1 < parallelPlacementCount && entityPlacerIterator.hasNext()) {
+            selectUpcomingPlacement();
+        }
+        List<UpcomingPlacement<Solution_>> upcomingPlacementList = new ArrayList<>(upcomingPlacementDeque.size() + 1);
+        upcomingPlacementList.add(firstUpcomingPlacement);
+        upcomingPlacementList.addAll(upcomingPlacementDeque);
+        List<Move<Solution_>> moveList = new ArrayList<>();
+        for (UpcomingPlacement<Solution_> upcomingPlacement : upcomingPlacementList) {
+            moveList.addAll(upcomingPlacement.moveList);
+        }
+        int stepIndex = stepScope.getStepIndex();
+        resultQueue.startNextStep(stepIndex);
+        Score[] scores = new Score[moveList.size()];
+        int selectingMoveIndex = 0;
+        int foragingMoveIndex = 0;
+        while (foragingMoveIndex < scores.length) {
+            // First fill the buffer so move evaluation can run freely in parallel
+            if (selectingMoveIndex < scores.length
+                    && selectingMoveIndex - foragingMoveIndex < selectedMoveBufferSize) {
+                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectingMoveIndex,
+                        moveList.get(selectingMoveIndex)));
+                selectingMoveIndex++;
+            } else {
+                Score score = takeScore(stepIndex);
+                if (score == null) {
+                    // Interrupted: the remaining scores stay null
+                    operationQueue.clear();
+                    break;
+                }
+                scores[foragingMoveIndex] = score;
+                foragingMoveIndex++;
+            }
+        }
+        Score baseScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        int fromMoveIndex = 0;
+        for (UpcomingPlacement<Solution_> upcomingPlacement : upcomingPlacementList) {
+            int toMoveIndex = fromMoveIndex + upcomingPlacement.moveList.size();
+            upcomingPlacement.evaluatedStepIndex = stepIndex;
+            upcomingPlacement.baseScore = baseScore;
+            upcomingPlacement.scores = Arrays.copyOfRange(scores, fromMoveIndex, toMoveIndex);
+            fromMoveIndex = toMoveIndex;
+        }
+    }
+
+    private Score takeScore(int stepIndex) {
+        OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
+        try {
+            result = resultQueue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        if (stepIndex != result.getStepIndex()) {
+            throw new IllegalStateException("Impossible situation: the solverThread's stepIndex (" + stepIndex
+                    + ") differs from the result's stepIndex (" + result.getStepIndex() + ").");
+        }
+        if (!result.isMoveDoable()) {
+            throw new IllegalStateException("Impossible situation: Construction Heuristics move is not doable.");
+        }
+        return result.getScore();
+    }
+
+    /**
+     * @return the scores of the moves, as if they were evaluated on the current working solution
+     */
+    private Score[] shiftScores(ConstructionHeuristicStepScope<Solution_> stepScope,
+            UpcomingPlacement<Solution_> upcomingPlacement) {
+        if (upcomingPlacement.evaluatedStepIndex == stepScope.getStepIndex()) {
+            return upcomingPlacement.scores;
+        }
+        Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        Score scoreDifference = lastStepScore.subtract(upcomingPlacement.baseScore);
+        Score[] moveScores = new Score[upcomingPlacement.scores.length];
+        for (int moveIndex = 0; moveIndex < moveScores.length; moveIndex++) {
+            Score score = upcomingPlacement.scores[moveIndex];
+            moveScores[moveIndex] = score == null ? null : score.add(scoreDifference);
+        }
+        return moveScores;
+    }
+
+    private ConstructionHeuristicMoveScope<Solution_> forageUpcomingPlacement(
+            ConstructionHeuristicStepScope<Solution_> stepScope, UpcomingPlacement<Solution_> upcomingPlacement,
+            Score[] moveScores) {
+        for (int moveIndex = 0; moveIndex < moveScores.length; moveIndex++) {
+            Score score = moveScores[moveIndex];
+            if (score == null) {
+                // Interrupted during the evaluation
+                break;
+            }
+            ConstructionHeuristicMoveScope<Solution_> moveScope = new ConstructionHeuristicMoveScope<>(stepScope, moveIndex,
+                    upcomingPlacement.moveList.get(moveIndex));
+            moveScope.setScore(score);
+            logger.trace("{}        Move index ({}), score ({}), move ({}).",
+                    logIndentation,
+                    moveIndex, moveScope.getScore(), moveScope.getMove());
+            forager.addMove(moveScope);
+            if (forager.isQuitEarly()) {
+                break;
+            }
+            stepScope.getPhaseScope().getSolverScope().checkYielding();
+            if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+                break;
+            }
+        }
+        return forager.pickMove(stepScope);
+    }
+
+    private class UpcomingPlacementIterator implements Iterator<Placement<Solution_>> {
+
+        @Override
+        public boolean hasNext() {
+            return !upcomingPlacementDeque.isEmpty() || entityPlacerIterator.hasNext();
+        }
+
+        @Override
+        public Placement<Solution_> next() {
+            if (upcomingPlacementDeque.isEmpty()) {
+                selectUpcomingPlacement();
+            }
+            return upcomingPlacementDeque.peekFirst().placement;
+        }
+
+    }
+
+    private static final class UpcomingPlacement<Solution_> {
+
+        private final Placement<Solution_> placement;
+        private final List<Move<Solution_>> moveList;
+
+        private int evaluatedStepIndex = -1;
+        private Score baseScore = null;
+        private Score[] scores = null;
+
+        private UpcomingPlacement(Placement<Solution_> placement, List<Move<Solution_>> moveList) {
+            this.placement = placement;
+            this.moveList = moveList;
+        }
+
+        @Override
+        public String toString() {
+            return placement + " (" + moveList.size() + " moves)";
+        }
+
+    }
+
+}
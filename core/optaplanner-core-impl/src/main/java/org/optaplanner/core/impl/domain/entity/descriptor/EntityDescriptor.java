@@ -536,7 +536,7 @@ public class EntityDescriptor<Solution_> {
 
     public boolean hasAnyChainedGenuineVariables() {
         for (GenuineVariableDescriptor<Solution_> variableDescriptor : effectiveGenuineVariableDescriptorList) {
-            if (!variableDescriptor.isChained()) {
+            if (variableDescriptor.isChained()) {
                 return true;
             }
         }
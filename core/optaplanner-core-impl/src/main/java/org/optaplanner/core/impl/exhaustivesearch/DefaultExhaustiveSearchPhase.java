@@ -26,6 +26,7 @@ import java.util.TreeSet;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.exhaustivesearch.decider.ExhaustiveSearchDecider;
+import org.optaplanner.core.impl.exhaustivesearch.decider.ParallelBranchAndBoundDecider;
 import org.optaplanner.core.impl.exhaustivesearch.node.ExhaustiveSearchLayer;
 import org.optaplanner.core.impl.exhaustivesearch.node.ExhaustiveSearchNode;
 import org.optaplanner.core.impl.exhaustivesearch.node.bounder.ScoreBounder;
@@ -79,20 +80,51 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         phaseScope.setExpandableNodeQueue(expandableNodeQueue);
         phaseStarted(phaseScope);
 
-        while (!expandableNodeQueue.isEmpty() && !phaseTermination.isPhaseTerminated(phaseScope)) {
-            ExhaustiveSearchStepScope<Solution_> stepScope = new ExhaustiveSearchStepScope<>(phaseScope);
-            ExhaustiveSearchNode node = expandableNodeQueue.last();
-            expandableNodeQueue.remove(node);
-            stepScope.setExpandingNode(node);
-            stepStarted(stepScope);
-            restoreWorkingSolution(stepScope);
-            decider.expandNode(stepScope);
-            stepEnded(stepScope);
-            phaseScope.setLastCompletedStepScope(stepScope);
+        if (decider instanceof ParallelBranchAndBoundDecider) {
+            solveInParallel(phaseScope, (ParallelBranchAndBoundDecider<Solution_>) decider);
+        } else {
+            while (!expandableNodeQueue.isEmpty() && !phaseTermination.isPhaseTerminated(phaseScope)) {
+                ExhaustiveSearchStepScope<Solution_> stepScope = new ExhaustiveSearchStepScope<>(phaseScope);
+                ExhaustiveSearchNode node = expandableNodeQueue.last();
+                expandableNodeQueue.remove(node);
+                stepScope.setExpandingNode(node);
+                stepStarted(stepScope);
+                restoreWorkingSolution(stepScope);
+                decider.expandNode(stepScope);
+                stepEnded(stepScope);
+                phaseScope.setLastCompletedStepScope(stepScope);
+            }
         }
         phaseEnded(phaseScope);
     }
 
+    /**
+     * The branch and bound threads expand every node, including the start node,
+     * so every step just adopts the new best solution they found, if any.
+     */
+    private void solveInParallel(ExhaustiveSearchPhaseScope<Solution_> phaseScope,
+            ParallelBranchAndBoundDecider<Solution_> parallelDecider) {
+        SortedSet<ExhaustiveSearchNode> expandableNodeQueue = phaseScope.getExpandableNodeQueue();
+        if (expandableNodeQueue.isEmpty()) {
+            return;
+        }
+        ExhaustiveSearchNode startNode = expandableNodeQueue.last();
+        expandableNodeQueue.remove(startNode);
+        try {
+            parallelDecider.startSearch(phaseScope, startNode);
+            while (!parallelDecider.isSearchEnded() && !phaseTermination.isPhaseTerminated(phaseScope)) {
+                ExhaustiveSearchStepScope<Solution_> stepScope = new ExhaustiveSearchStepScope<>(phaseScope);
+                stepScope.setExpandingNode(startNode);
+                stepStarted(stepScope);
+                parallelDecider.awaitSearchStep(stepScope);
+                stepEnded(stepScope);
+                phaseScope.setLastCompletedStepScope(stepScope);
+            }
+        } finally {
+            parallelDecider.endSearch(phaseScope);
+        }
+    }
+
     @Override
     public void solvingStarted(SolverScope<Solution_> solverScope) {
         super.solvingStarted(solverScope);
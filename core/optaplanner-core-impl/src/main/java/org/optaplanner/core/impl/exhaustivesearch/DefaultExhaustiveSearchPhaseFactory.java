@@ -38,6 +38,7 @@ import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.exhaustivesearch.decider.ExhaustiveSearchDecider;
+import org.optaplanner.core.impl.exhaustivesearch.decider.ParallelBranchAndBoundDecider;
 import org.optaplanner.core.impl.exhaustivesearch.node.bounder.ScoreBounder;
 import org.optaplanner.core.impl.exhaustivesearch.node.bounder.TrendBasedScoreBounder;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
@@ -49,6 +50,7 @@ import org.optaplanner.core.impl.heuristic.selector.move.MoveSelectorFactory;
 import org.optaplanner.core.impl.phase.AbstractPhaseFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 
 public class DefaultExhaustiveSearchPhaseFactory<Solution_>
         extends AbstractPhaseFactory<Solution_, ExhaustiveSearchPhaseConfig> {
@@ -102,7 +104,8 @@ public class DefaultExhaustiveSearchPhaseFactory<Solution_>
                 phaseTermination,
                 nodeExplorationType_.buildNodeComparator(scoreBounderEnabled),
                 entitySelector,
-                buildDecider(phaseConfigPolicy, entitySelector, bestSolutionRecaller, phaseTermination, scoreBounderEnabled));
+                buildDecider(phaseConfigPolicy, entitySelector, bestSolutionRecaller, phaseTermination, scoreBounderEnabled,
+                        exhaustiveSearchType_, nodeExplorationType_));
 
         EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
         if (environmentMode.isNonIntrusiveFullAsserted()) {
@@ -154,7 +157,8 @@ public class DefaultExhaustiveSearchPhaseFactory<Solution_>
 
     private ExhaustiveSearchDecider<Solution_> buildDecider(HeuristicConfigPolicy<Solution_> configPolicy,
             EntitySelector<Solution_> sourceEntitySelector, BestSolutionRecaller<Solution_> bestSolutionRecaller,
-            Termination<Solution_> termination, boolean scoreBounderEnabled) {
+            Termination<Solution_> termination, boolean scoreBounderEnabled,
+            ExhaustiveSearchType exhaustiveSearchType_, NodeExplorationType nodeExplorationType_) {
         ManualEntityMimicRecorder<Solution_> manualEntityMimicRecorder =
                 new ManualEntityMimicRecorder<>(sourceEntitySelector);
         String mimicSelectorId = sourceEntitySelector.getEntityDescriptor().getEntityClass().getName(); // TODO mimicSelectorId must be a field
@@ -166,9 +170,19 @@ public class DefaultExhaustiveSearchPhaseFactory<Solution_>
         ScoreBounder scoreBounder = scoreBounderEnabled
                 ? new TrendBasedScoreBounder(configPolicy.getScoreDirectorFactory())
                 : null;
-        ExhaustiveSearchDecider<Solution_> decider = new ExhaustiveSearchDecider<>(configPolicy.getLogIndentation(),
-                bestSolutionRecaller, termination,
-                manualEntityMimicRecorder, moveSelector, scoreBounderEnabled, scoreBounder);
+        ExhaustiveSearchDecider<Solution_> decider;
+        Integer branchAndBoundThreadCount = phaseConfig.getBranchAndBoundThreadCount();
+        if (branchAndBoundThreadCount == null) {
+            decider = new ExhaustiveSearchDecider<>(configPolicy.getLogIndentation(),
+                    bestSolutionRecaller, termination,
+                    manualEntityMimicRecorder, moveSelector, scoreBounderEnabled, scoreBounder);
+        } else {
+            validateParallelBranchAndBound(configPolicy, branchAndBoundThreadCount,
+                    exhaustiveSearchType_, nodeExplorationType_);
+            decider = new ParallelBranchAndBoundDecider<>(configPolicy.getLogIndentation(),
+                    bestSolutionRecaller, termination, manualEntityMimicRecorder, moveSelector, scoreBounder,
+                    configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD), branchAndBoundThreadCount);
+        }
         EnvironmentMode environmentMode = configPolicy.getEnvironmentMode();
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             decider.setAssertMoveScoreFromScratch(true);
@@ -179,6 +193,34 @@ public class DefaultExhaustiveSearchPhaseFactory<Solution_>
         return decider;
     }
 
+    private void validateParallelBranchAndBound(HeuristicConfigPolicy<Solution_> configPolicy,
+            int branchAndBoundThreadCount,
+            ExhaustiveSearchType exhaustiveSearchType_, NodeExplorationType nodeExplorationType_) {
+        if (branchAndBoundThreadCount < 1) {
+            throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                    + ") has a branchAndBoundThreadCount (" + branchAndBoundThreadCount
+                    + ") which must be at least 1.");
+        }
+        if (exhaustiveSearchType_ != ExhaustiveSearchType.BRANCH_AND_BOUND) {
+            throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                    + ") has a branchAndBoundThreadCount (" + branchAndBoundThreadCount
+                    + ") which is not compatible with its exhaustiveSearchType (" + exhaustiveSearchType_ + ").");
+        }
+        if (nodeExplorationType_ != NodeExplorationType.DEPTH_FIRST) {
+            // Every branch and bound thread explores its own subtrees depth first
+            throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                    + ") has a branchAndBoundThreadCount (" + branchAndBoundThreadCount
+                    + ") which is not compatible with its nodeExplorationType (" + nodeExplorationType_ + ").");
+        }
+        // The moves of a layer are selected once, but the value range of a chained variable depends on the other layers
+        if (configPolicy.getSolutionDescriptor().getGenuineEntityDescriptors().stream()
+                .anyMatch(EntityDescriptor::hasAnyChainedGenuineVariables)) {
+            throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                    + ") has a branchAndBoundThreadCount (" + branchAndBoundThreadCount
+                    + ") which does not support chained variables.");
+        }
+    }
+
     private MoveSelectorConfig<?> buildMoveSelectorConfig(HeuristicConfigPolicy<Solution_> configPolicy,
             EntitySelector<Solution_> entitySelector, String mimicSelectorId) {
         MoveSelectorConfig<?> moveSelectorConfig_;
@@ -0,0 +1,464 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.exhaustivesearch.decider;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.exhaustivesearch.node.ExhaustiveSearchLayer;
+import org.optaplanner.core.impl.exhaustivesearch.node.ExhaustiveSearchNode;
+import org.optaplanner.core.impl.exhaustivesearch.node.bounder.ScoreBounder;
+import org.optaplanner.core.impl.exhaustivesearch.scope.ExhaustiveSearchPhaseScope;
+import org.optaplanner.core.impl.exhaustivesearch.scope.ExhaustiveSearchStepScope;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.entity.mimic.ManualEntityMimicRecorder;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
+import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+import org.optaplanner.core.impl.solver.thread.ThreadUtils;
+
+/**
+ * Depth first branch and bound on multiple threads.
+ * Every branch and bound thread has its own child thread score director
+ * and takes the nodes to expand from its own deque, or steals the shallowest node from another thread's deque
+ * when its own deque is empty.
+ * The best pessimistic bound is shared between all threads, so a node pruned by one thread is pruned for all.
+ * <p>
+ * The moves of every layer are selected once on the solver thread and rebased to every child thread score director,
+ * so a node is just a path of move indexes that every thread can restore.
+ * The solver thread doesn't expand nodes: every step it waits for a new best solution of the branch and bound threads.
+ *
+ * @param <Solution_> the solution type, the class with the {@link org.optaplanner.core.api.domain.solution.PlanningSolution}
+ *        annotation
+ */
+public class ParallelBranchAndBoundDecider<Solution_> extends ExhaustiveSearchDecider<Solution_> {
+
+    private static final long STEP_TIMEOUT_MILLIS = 50L;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+
+    protected final ThreadFactory threadFactory;
+    protected final int branchAndBoundThreadCount;
+
+    /**
+     * Indexed by the depth of the expanded node.
+     */
+    protected List<List<Move<Solution_>>> layerMoveListList;
+    protected List<BranchAndBoundThread> branchAndBoundThreadList;
+    protected ExecutorService executor;
+    protected List<Future<?>> futureList;
+
+    protected AtomicInteger pendingNodeCount;
+    protected AtomicInteger runningThreadCount;
+    protected AtomicLong selectedMoveCount;
+    protected AtomicReference<Score> bestPessimisticBound;
+    protected AtomicReference<Score> bestLeafScore;
+    protected BlockingQueue<LeafSolution<Solution_>> leafSolutionQueue;
+    protected volatile boolean searchTerminated;
+    protected boolean searchEnded;
+
+    public ParallelBranchAndBoundDecider(String logIndentation, BestSolutionRecaller<Solution_> bestSolutionRecaller,
+            Termination<Solution_> termination, ManualEntityMimicRecorder<Solution_> manualEntityMimicRecorder,
+            MoveSelector<Solution_> moveSelector, ScoreBounder scoreBounder,
+            ThreadFactory threadFactory, int branchAndBoundThreadCount) {
+        super(logIndentation, bestSolutionRecaller, termination, manualEntityMimicRecorder, moveSelector,
+                true, scoreBounder);
+        this.threadFactory = threadFactory;
+        this.branchAndBoundThreadCount = branchAndBoundThreadCount;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * Starts the branch and bound threads on the subtree of the start node.
+     *
+     * @param phaseScope never null
+     * @param startNode never null, its state is the working solution
+     */
+    public void startSearch(ExhaustiveSearchPhaseScope<Solution_> phaseScope, ExhaustiveSearchNode startNode) {
+        fillLayerMoveListList(phaseScope);
+        pendingNodeCount = new AtomicInteger(0);
+        runningThreadCount = new AtomicInteger(branchAndBoundThreadCount);
+        selectedMoveCount = new AtomicLong(0L);
+        bestPessimisticBound = new AtomicReference<>(phaseScope.getBestPessimisticBound());
+        bestLeafScore = new AtomicReference<>(phaseScope.getBestScore());
+        leafSolutionQueue = new LinkedBlockingQueue<>();
+        searchTerminated = false;
+        searchEnded = false;
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        branchAndBoundThreadList = new ArrayList<>(branchAndBoundThreadCount);
+        for (int threadIndex = 0; threadIndex < branchAndBoundThreadCount; threadIndex++) {
+            // Build and rebase on the solver thread, while nothing changes the working solution
+            branchAndBoundThreadList.add(new BranchAndBoundThread(threadIndex,
+                    scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD)));
+        }
+        BranchNode rootNode = new BranchNode(null, startNode.getDepth(), -1,
+                startNode.getScore(), startNode.getOptimisticBound());
+        pendingNodeCount.incrementAndGet();
+        branchAndBoundThreadList.get(0).nodeDeque.addLast(rootNode);
+        executor = Executors.newFixedThreadPool(branchAndBoundThreadCount, threadFactory);
+        futureList = new ArrayList<>(branchAndBoundThreadCount);
+        for (BranchAndBoundThread branchAndBoundThread : branchAndBoundThreadList) {
+            futureList.add(executor.submit(branchAndBoundThread::run));
+        }
+    }
+
+    private void fillLayerMoveListList(ExhaustiveSearchPhaseScope<Solution_> phaseScope) {
+        List<ExhaustiveSearchLayer> layerList = phaseScope.getLayerList();
+        layerMoveListList = new ArrayList<>(layerList.size() - 1);
+        ExhaustiveSearchStepScope<Solution_> stepScope = new ExhaustiveSearchStepScope<>(phaseScope);
+        moveSelector.stepStarted(stepScope);
+        for (ExhaustiveSearchLayer layer : layerList) {
+            if (layer.isLastLayer()) {
+                break;
+            }
+            manualEntityMimicRecorder.setRecordedEntity(layer.getEntity());
+            List<Move<Solution_>> moveList = new ArrayList<>();
+            for (Move<Solution_> move : moveSelector) {
+                moveList.add(move);
+            }
+            layerMoveListList.add(moveList);
+        }
+        moveSelector.stepEnded(stepScope);
+    }
+
+    /**
+     * Waits until a branch and bound thread finds a new best solution, the search ends or a timeout elapses,
+     * so the phase termination is checked regularly.
+     *
+     * @param stepScope never null
+     */
+    public void awaitSearchStep(ExhaustiveSearchStepScope<Solution_> stepScope) {
+        stepScope.setBestScoreImproved(false);
+        List<LeafSolution<Solution_>> leafSolutionList = new ArrayList<>();
+        try {
+            LeafSolution<Solution_> leafSolution = leafSolutionQueue.poll(STEP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            if (leafSolution != null) {
+                leafSolutionList.add(leafSolution);
+                leafSolutionQueue.drainTo(leafSolutionList);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Solver thread was interrupted in Exhaustive Search.", e);
+        }
+        LeafSolution<Solution_> bestLeafSolution = null;
+        for (LeafSolution<Solution_> leafSolution : leafSolutionList) {
+            if (leafSolution.solution == null) {
+                searchEnded = true;
+            } else if (bestLeafSolution == null || leafSolution.score.compareTo(bestLeafSolution.score) > 0) {
+                bestLeafSolution = leafSolution;
+            }
+        }
+        stepScope.setSelectedMoveCount(selectedMoveCount.getAndSet(0L));
+        if (bestLeafSolution != null) {
+            // The solution is a planning clone that no branch and bound thread uses anymore
+            InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
+            scoreDirector.setWorkingSolution(bestLeafSolution.solution);
+            Score score = scoreDirector.calculateScore();
+            bestSolutionRecaller.processWorkingSolutionDuringMove(score, stepScope);
+        }
+        stepScope.getPhaseScope().getSolverScope().checkYielding();
+    }
+
+    public boolean isSearchEnded() {
+        return searchEnded;
+    }
+
+    /**
+     * Stops the branch and bound threads and relays their exception, if any.
+     *
+     * @param phaseScope never null
+     */
+    public void endSearch(ExhaustiveSearchPhaseScope<Solution_> phaseScope) {
+        searchTerminated = true;
+        if (executor == null) {
+            return;
+        }
+        ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Exhaustive Search");
+        executor = null;
+        for (BranchAndBoundThread branchAndBoundThread : branchAndBoundThreadList) {
+            phaseScope.addChildThreadsScoreCalculationCount(branchAndBoundThread.scoreDirector.getCalculationCount());
+            branchAndBoundThread.scoreDirector.close();
+        }
+        branchAndBoundThreadList = null;
+        layerMoveListList = null;
+        for (int threadIndex = 0; threadIndex < futureList.size(); threadIndex++) {
+            Future<?> future = futureList.get(threadIndex);
+            if (!future.isDone()) {
+                // Killed by the shutdown, after the termination flag was ignored
+                continue;
+            }
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Solver thread was interrupted in Exhaustive Search.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("The branch and bound thread with threadIndex (" + threadIndex
+                        + ") has thrown an exception. Relayed here in the parent thread.", e.getCause());
+            }
+        }
+        futureList = null;
+    }
+
+    protected void registerPessimisticBound(Score pessimisticBound) {
+        bestPessimisticBound.accumulateAndGet(pessimisticBound,
+                (oldBound, newBound) -> newBound.compareTo(oldBound) > 0 ? newBound : oldBound);
+    }
+
+    protected boolean improveBestLeafScore(Score score) {
+        Score oldScore;
+        do {
+            oldScore = bestLeafScore.get();
+            if (score.compareTo(oldScore) <= 0) {
+                return false;
+            }
+        } while (!bestLeafScore.compareAndSet(oldScore, score));
+        return true;
+    }
+
+    /**
+     * A node that doesn't depend on a score director: its state is the path of move indexes from the root node.
+     */
+    protected static final class BranchNode {
+
+        private final BranchNode parent;
+        private final int depth;
+        private final int moveIndex;
+        private final Score score;
+        private final Score optimisticBound;
+
+        private BranchNode(BranchNode parent, int depth, int moveIndex, Score score, Score optimisticBound) {
+            this.parent = parent;
+            this.depth = depth;
+            this.moveIndex = moveIndex;
+            this.score = score;
+            this.optimisticBound = optimisticBound;
+        }
+
+        /**
+         * Keep in sync with {@link org.optaplanner.core.impl.exhaustivesearch.node.comparator.DepthFirstNodeComparator}.
+         */
+        private static int compareSiblings(BranchNode a, BranchNode b) {
+            // Investigate better score first (ignore initScore as that's already done by investigate deeper first)
+            int scoreComparison = a.score.withInitScore(0).compareTo(b.score.withInitScore(0));
+            if (scoreComparison != 0) {
+                return scoreComparison;
+            }
+            // Investigate better optimistic bound first
+            int optimisticBoundComparison = a.optimisticBound.compareTo(b.optimisticBound);
+            if (optimisticBoundComparison != 0) {
+                return optimisticBoundComparison;
+            }
+            // Investigate lower move index first (to respect ValueSortingManner)
+            return Integer.compare(b.moveIndex, a.moveIndex);
+        }
+
+    }
+
+    protected static final class LeafSolution<Solution_> {
+
+        private final Score score;
+        /**
+         * Null signals that every branch and bound thread has ended.
+         */
+        private final Solution_ solution;
+
+        private LeafSolution(Score score, Solution_ solution) {
+            this.score = score;
+            this.solution = solution;
+        }
+
+    }
+
+    protected final class BranchAndBoundThread {
+
+        private final int threadIndex;
+        private final InnerScoreDirector<Solution_, ?> scoreDirector;
+        private final List<List<Move<Solution_>>> rebasedLayerMoveListList;
+        private final Deque<BranchNode> nodeDeque = new ConcurrentLinkedDeque<>();
+
+        /**
+         * The node of which the state is the working solution of the {@link #scoreDirector}.
+         */
+        private BranchNode restoredNode = null;
+        /**
+         * The undo moves from the root node to the {@link #restoredNode}.
+         */
+        private final Deque<Move<Solution_>> undoMoveStack = new ArrayDeque<>();
+
+        private BranchAndBoundThread(int threadIndex, InnerScoreDirector<Solution_, ?> scoreDirector) {
+            this.threadIndex = threadIndex;
+            this.scoreDirector = scoreDirector;
+            rebasedLayerMoveListList = new ArrayList<>(layerMoveListList.size());
+            for (List<Move<Solution_>> moveList : layerMoveListList) {
+                List<Move<Solution_>> rebasedMoveList = new ArrayList<>(moveList.size());
+                for (Move<Solution_> move : moveList) {
+                    rebasedMoveList.add(move.rebase(scoreDirector));
+                }
+                rebasedLayerMoveListList.add(rebasedMoveList);
+            }
+        }
+
+        private void run() {
+            try {
+                while (!searchTerminated) {
+                    BranchNode node = nodeDeque.pollLast();
+                    if (node == null) {
+                        node = stealNode();
+                    }
+                    if (node == null) {
+                        if (pendingNodeCount.get() == 0) {
+                            break;
+                        }
+                        LockSupport.parkNanos(IDLE_PARK_NANOS);
+                        continue;
+                    }
+                    // Pitfall: don't prune on an equal bound, because the node itself might have registered that bound
+                    if (node.optimisticBound.compareTo(bestPessimisticBound.get()) >= 0) {
+                        expandNode(node);
+                    }
+                    pendingNodeCount.decrementAndGet();
+                }
+            } catch (RuntimeException | Error e) {
+                // Stop the other branch and bound threads too, the exception is relayed by endSearch()
+                searchTerminated = true;
+                throw e;
+            } finally {
+                if (runningThreadCount.decrementAndGet() == 0) {
+                    leafSolutionQueue.add(new LeafSolution<>(null, null));
+                }
+            }
+        }
+
+        private BranchNode stealNode() {
+            for (int i = 1; i < branchAndBoundThreadCount; i++) {
+                BranchAndBoundThread victim = branchAndBoundThreadList.get((threadIndex + i) % branchAndBoundThreadCount);
+                // Steal the shallowest node, which is likely the biggest subtree
+                BranchNode node = victim.nodeDeque.pollFirst();
+                if (node != null) {
+                    return node;
+                }
+            }
+            return null;
+        }
+
+        private void expandNode(BranchNode node) {
+            restoreWorkingSolution(node);
+            List<Move<Solution_>> moveList = rebasedLayerMoveListList.get(node.depth);
+            boolean childLastLayer = node.depth + 1 == rebasedLayerMoveListList.size();
+            List<BranchNode> childList = new ArrayList<>(moveList.size());
+            int moveIndex = 0;
+            for (; moveIndex < moveList.size(); moveIndex++) {
+                if (searchTerminated) {
+                    break;
+                }
+                BranchNode childNode = doMove(node, moveIndex, moveList.get(moveIndex), childLastLayer);
+                if (childNode != null) {
+                    childList.add(childNode);
+                }
+            }
+            selectedMoveCount.addAndGet(moveIndex);
+            // Push the best child last, so this thread pops it first
+            childList.sort(BranchNode::compareSiblings);
+            pendingNodeCount.addAndGet(childList.size());
+            for (BranchNode childNode : childList) {
+                nodeDeque.addLast(childNode);
+            }
+        }
+
+        private <Score_ extends Score<Score_>> BranchNode doMove(BranchNode node, int moveIndex, Move<Solution_> move,
+                boolean childLastLayer) {
+            InnerScoreDirector<Solution_, Score_> castScoreDirector = (InnerScoreDirector<Solution_, Score_>) scoreDirector;
+            // Do not filter out pointless moves, because the original value of the entity(s) is irrelevant.
+            Move<Solution_> undoMove = move.doMove(castScoreDirector);
+            Score_ score = castScoreDirector.calculateScore();
+            if (assertMoveScoreFromScratch) {
+                castScoreDirector.assertWorkingScoreFromScratch(score, move);
+            }
+            BranchNode childNode = null;
+            if (childLastLayer) {
+                // There is no point in bounding a fully initialized score
+                registerPessimisticBound(score);
+                if (improveBestLeafScore(score)) {
+                    leafSolutionQueue.add(new LeafSolution<>(score, castScoreDirector.cloneWorkingSolution()));
+                }
+            } else {
+                Score_ optimisticBound = (Score_) scoreBounder.calculateOptimisticBound(castScoreDirector, score);
+                if (optimisticBound.compareTo((Score_) bestPessimisticBound.get()) > 0) {
+                    // It's still worth investigating this node further (no need to prune it)
+                    childNode = new BranchNode(node, node.depth + 1, moveIndex, score, optimisticBound);
+                    registerPessimisticBound(scoreBounder.calculatePessimisticBound(castScoreDirector, score));
+                }
+            }
+            undoMove.doMoveOnly(castScoreDirector);
+            if (assertExpectedUndoMoveScore && node.score != null) {
+                castScoreDirector.assertExpectedUndoMoveScore(move, (Score_) node.score);
+            }
+            return childNode;
+        }
+
+        private void restoreWorkingSolution(BranchNode node) {
+            if (restoredNode == null) {
+                // The working solution of a new child thread score director is the state of the root node
+                BranchNode rootNode = node;
+                while (rootNode.parent != null) {
+                    rootNode = rootNode.parent;
+                }
+                restoredNode = rootNode;
+            }
+            BranchNode oldNode = restoredNode;
+            BranchNode newNode = node;
+            Deque<BranchNode> redoNodeStack = new ArrayDeque<>();
+            while (oldNode != newNode) {
+                if (oldNode.depth < newNode.depth) {
+                    redoNodeStack.push(newNode);
+                    newNode = newNode.parent;
+                } else {
+                    undoMoveStack.pop().doMoveOnly(scoreDirector);
+                    oldNode = oldNode.parent;
+                }
+            }
+            for (BranchNode redoNode : redoNodeStack) {
+                Move<Solution_> move = rebasedLayerMoveListList.get(redoNode.depth - 1).get(redoNode.moveIndex);
+                undoMoveStack.push(move.doMove(scoreDirector));
+            }
+            restoredNode = node;
+        }
+
+    }
+
+}
@@ -23,6 +23,7 @@ import java.util.concurrent.ThreadFactory;
 import org.optaplanner.core.config.heuristic.selector.entity.EntitySorterManner;
 import org.optaplanner.core.config.heuristic.selector.value.ValueSorterManner;
 import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.MoveThreadHandOff;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
@@ -40,6 +41,7 @@ public class HeuristicConfigPolicy<Solution_> {
     private final String logIndentation;
     private final Integer moveThreadCount;
     private final Integer moveThreadBufferSize;
+    private final MoveThreadHandOff moveThreadHandOff;
     private final Class<? extends ThreadFactory> threadFactoryClass;
     private final InnerScoreDirectorFactory<Solution_, ?> scoreDirectorFactory;
 
@@ -57,6 +59,7 @@ public class HeuristicConfigPolicy<Solution_> {
         this.logIndentation = builder.logIndentation;
         this.moveThreadCount = builder.moveThreadCount;
         this.moveThreadBufferSize = builder.moveThreadBufferSize;
+        this.moveThreadHandOff = builder.moveThreadHandOff;
         this.threadFactoryClass = builder.threadFactoryClass;
         this.scoreDirectorFactory = builder.scoreDirectorFactory;
         this.entitySorterManner = builder.entitySorterManner;
@@ -81,6 +84,10 @@ public class HeuristicConfigPolicy<Solution_> {
         return moveThreadBufferSize;
     }
 
+    public MoveThreadHandOff getMoveThreadHandOff() {
+        return moveThreadHandOff;
+    }
+
     public SolutionDescriptor<Solution_> getSolutionDescriptor() {
         return scoreDirectorFactory.getSolutionDescriptor();
     }
@@ -115,6 +122,7 @@ public class HeuristicConfigPolicy<Solution_> {
 
     public Builder<Solution_> cloneBuilder() {
         return new Builder<>(environmentMode, moveThreadCount, moveThreadBufferSize, threadFactoryClass, scoreDirectorFactory)
+                .withMoveThreadHandOff(moveThreadHandOff)
                 .withLogIndentation(logIndentation);
     }
 
@@ -188,6 +196,7 @@ public class HeuristicConfigPolicy<Solution_> {
         private final Class<? extends ThreadFactory> threadFactoryClass;
         private final InnerScoreDirectorFactory<Solution_, ?> scoreDirectorFactory;
 
+        private MoveThreadHandOff moveThreadHandOff = null;
         private String logIndentation = "";
 
         private EntitySorterManner entitySorterManner = EntitySorterManner.NONE;
@@ -206,6 +215,11 @@ public class HeuristicConfigPolicy<Solution_> {
             this.scoreDirectorFactory = scoreDirectorFactory;
         }
 
+        public Builder<Solution_> withMoveThreadHandOff(MoveThreadHandOff moveThreadHandOff) {
+            this.moveThreadHandOff = moveThreadHandOff;
+            return this;
+        }
+
         public Builder<Solution_> withLogIndentation(String logIndentation) {
             this.logIndentation = logIndentation;
             return this;
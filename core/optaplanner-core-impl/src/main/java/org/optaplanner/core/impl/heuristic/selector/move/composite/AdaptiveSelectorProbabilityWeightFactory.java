@@ -0,0 +1,217 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.composite;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+
+/**
+ * Learns the probabilityWeight of every child {@link MoveSelector} of a {@link UnionMoveSelector}
+ * from the Local Search steps it picks, similar to Adaptive Large Neighborhood Search.
+ * <p>
+ * Every step rewards the child selectors that select moves of the picked step's move class:
+ * more if the step improved the best score, less if it only improved the step score.
+ * Every {@link #SEGMENT_STEP_COUNT} steps, each probabilityWeight moves towards the reward per selected move
+ * of its child selector, but never below a floor, so every child selector keeps getting selected.
+ * <p>
+ * The move class identifies the child selector, instead of the move instance,
+ * because multithreaded solving rebases the picked step.
+ * This is the same granularity as the {@code PICKED_MOVE_TYPE_*} statistics.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class AdaptiveSelectorProbabilityWeightFactory<Solution_>
+        implements SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> {
+
+    protected static final int SEGMENT_STEP_COUNT = 100;
+    protected static final double REACTION_FACTOR = 0.2;
+    protected static final double MINIMUM_PROBABILITY_WEIGHT_RATIO = 0.1;
+
+    protected static final double BEST_SCORE_IMPROVED_REWARD = 10.0;
+    protected static final double STEP_SCORE_IMPROVED_REWARD = 4.0;
+    protected static final double PICKED_REWARD = 1.0;
+
+    private final Map<MoveSelector<Solution_>, ChildStatistic> childStatisticMap;
+    // In the order of the child selectors, so the floating point arithmetic is reproducible
+    private final List<ChildStatistic> childStatisticList;
+    private final double initialProbabilityWeightTotal;
+
+    private int segmentStepCount = 0;
+
+    /**
+     * @param initialProbabilityWeightMap never null, iterated in a reproducible order
+     */
+    public AdaptiveSelectorProbabilityWeightFactory(Map<MoveSelector<Solution_>, Double> initialProbabilityWeightMap) {
+        childStatisticMap = new IdentityHashMap<>(initialProbabilityWeightMap.size());
+        childStatisticList = new ArrayList<>(initialProbabilityWeightMap.size());
+        double probabilityWeightTotal = 0.0;
+        for (Map.Entry<MoveSelector<Solution_>, Double> entry : initialProbabilityWeightMap.entrySet()) {
+            ChildStatistic childStatistic = new ChildStatistic(entry.getValue());
+            childStatisticMap.put(entry.getKey(), childStatistic);
+            childStatisticList.add(childStatistic);
+            probabilityWeightTotal += entry.getValue();
+        }
+        initialProbabilityWeightTotal = probabilityWeightTotal;
+    }
+
+    @Override
+    public double createProbabilityWeight(ScoreDirector<Solution_> scoreDirector, MoveSelector<Solution_> selector) {
+        return childStatisticMap.get(selector).probabilityWeight;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * Starts over from the initial probabilityWeights, because the best weights differ per phase.
+     */
+    public void phaseStarted() {
+        for (ChildStatistic childStatistic : childStatisticList) {
+            childStatistic.probabilityWeight = childStatistic.initialProbabilityWeight;
+            childStatistic.resetSegment();
+        }
+        segmentStepCount = 0;
+    }
+
+    public void moveSelected(MoveSelector<Solution_> childMoveSelector, Move<Solution_> move) {
+        ChildStatistic childStatistic = childStatisticMap.get(childMoveSelector);
+        childStatistic.selectedCount++;
+        Class<?> moveClass = move.getClass();
+        if (moveClass != childStatistic.lastMoveClass) {
+            childStatistic.moveClassSet.add(moveClass);
+            childStatistic.lastMoveClass = moveClass;
+        }
+    }
+
+    public <Score_ extends Score<Score_>> void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        if (!(stepScope instanceof LocalSearchStepScope)) {
+            return;
+        }
+        Move<Solution_> step = ((LocalSearchStepScope<Solution_>) stepScope).getStep();
+        if (step != null) {
+            double reward;
+            if (stepScope.getBestScoreImproved()) {
+                reward = BEST_SCORE_IMPROVED_REWARD;
+            } else if (((Score_) stepScope.getScore()).compareTo(
+                    (Score_) stepScope.getPhaseScope().getLastCompletedStepScope().getScore()) > 0) {
+                reward = STEP_SCORE_IMPROVED_REWARD;
+            } else {
+                reward = PICKED_REWARD;
+            }
+            rewardChildren(step.getClass(), reward);
+        }
+        segmentStepCount++;
+        if (segmentStepCount >= SEGMENT_STEP_COUNT) {
+            updateProbabilityWeights();
+            segmentStepCount = 0;
+        }
+    }
+
+    private void rewardChildren(Class<?> stepClass, double reward) {
+        int rewardedCount = 0;
+        for (ChildStatistic childStatistic : childStatisticList) {
+            if (childStatistic.moveClassSet.contains(stepClass)) {
+                rewardedCount++;
+            }
+        }
+        if (rewardedCount == 0) {
+            return;
+        }
+        // If several child selectors select the same move class, they share the reward
+        double sharedReward = reward / rewardedCount;
+        for (ChildStatistic childStatistic : childStatisticList) {
+            if (childStatistic.moveClassSet.contains(stepClass)) {
+                childStatistic.reward += sharedReward;
+            }
+        }
+    }
+
+    private void updateProbabilityWeights() {
+        double performanceTotal = 0.0;
+        int adaptiveChildCount = 0;
+        for (ChildStatistic childStatistic : childStatisticList) {
+            if (childStatistic.isAdaptive()) {
+                performanceTotal += childStatistic.calculatePerformance();
+                adaptiveChildCount++;
+            }
+        }
+        if (performanceTotal > 0.0) {
+            double minimumProbabilityWeight =
+                    MINIMUM_PROBABILITY_WEIGHT_RATIO * initialProbabilityWeightTotal / adaptiveChildCount;
+            for (ChildStatistic childStatistic : childStatisticList) {
+                if (childStatistic.isAdaptive()) {
+                    double targetProbabilityWeight =
+                            initialProbabilityWeightTotal * childStatistic.calculatePerformance() / performanceTotal;
+                    double probabilityWeight = (1.0 - REACTION_FACTOR) * childStatistic.probabilityWeight
+                            + REACTION_FACTOR * targetProbabilityWeight;
+                    childStatistic.probabilityWeight = Math.max(probabilityWeight, minimumProbabilityWeight);
+                }
+            }
+        }
+        for (ChildStatistic childStatistic : childStatisticList) {
+            childStatistic.resetSegment();
+        }
+    }
+
+    private static final class ChildStatistic {
+
+        private final double initialProbabilityWeight;
+        private final Set<Class<?>> moveClassSet = new LinkedHashSet<>();
+        private Class<?> lastMoveClass = null;
+
+        private double probabilityWeight;
+        private long selectedCount = 0L;
+        private double reward = 0.0;
+
+        private ChildStatistic(double initialProbabilityWeight) {
+            this.initialProbabilityWeight = initialProbabilityWeight;
+            probabilityWeight = initialProbabilityWeight;
+        }
+
+        /**
+         * A child selector with a fixedProbabilityWeight of zero stays disabled.
+         */
+        private boolean isAdaptive() {
+            return initialProbabilityWeight > 0.0;
+        }
+
+        private double calculatePerformance() {
+            return selectedCount == 0L ? 0.0 : reward / selectedCount;
+        }
+
+        private void resetSegment() {
+            selectedCount = 0L;
+            reward = 0.0;
+        }
+
+    }
+
+}
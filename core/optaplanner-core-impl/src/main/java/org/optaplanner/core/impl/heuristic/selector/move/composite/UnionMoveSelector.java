@@ -30,6 +30,7 @@ import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.SelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.solver.random.RandomUtils;
 
@@ -45,6 +46,10 @@ import org.optaplanner.core.impl.solver.random.RandomUtils;
 public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution_> {
 
     protected final SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory;
+    /**
+     * Null unless the {@link #selectorProbabilityWeightFactory} learns from the selected moves and picked steps.
+     */
+    protected final AdaptiveSelectorProbabilityWeightFactory<Solution_> adaptiveProbabilityWeightFactory;
 
     protected ScoreDirector<Solution_> scoreDirector;
 
@@ -56,6 +61,9 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
             SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory) {
         super(childMoveSelectorList, randomSelection);
         this.selectorProbabilityWeightFactory = selectorProbabilityWeightFactory;
+        adaptiveProbabilityWeightFactory = selectorProbabilityWeightFactory instanceof AdaptiveSelectorProbabilityWeightFactory
+                ? (AdaptiveSelectorProbabilityWeightFactory<Solution_>) selectorProbabilityWeightFactory
+                : null;
         if (!randomSelection) {
             if (selectorProbabilityWeightFactory != null) {
                 throw new IllegalArgumentException("The selector (" + this
@@ -73,6 +81,14 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
         }
     }
 
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        if (adaptiveProbabilityWeightFactory != null) {
+            adaptiveProbabilityWeightFactory.phaseStarted();
+        }
+    }
+
     @Override
     public void stepStarted(AbstractStepScope<Solution_> stepScope) {
         scoreDirector = stepScope.getScoreDirector();
@@ -82,6 +98,9 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
     @Override
     public void stepEnded(AbstractStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
+        if (adaptiveProbabilityWeightFactory != null) {
+            adaptiveProbabilityWeightFactory.stepEnded(stepScope);
+        }
         scoreDirector = null;
     }
 
@@ -178,6 +197,9 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
             // entry is never null because randomOffset < probabilityWeightTotal
             Iterator<Move<Solution_>> moveIterator = entry.getValue();
             Move<Solution_> next = moveIterator.next();
+            if (adaptiveProbabilityWeightFactory != null) {
+                adaptiveProbabilityWeightFactory.moveSelected(probabilityItemMap.get(moveIterator).moveSelector, next);
+            }
             if (!moveIterator.hasNext()) {
                 stale = true;
             }
@@ -16,9 +16,10 @@
 
 package org.optaplanner.core.impl.heuristic.selector.move.composite;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
@@ -43,6 +44,21 @@ public class UnionMoveSelectorFactory<Solution_>
                 configPolicy, minimumCacheType, randomSelection);
 
         SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory;
+        boolean adaptiveSelectorProbabilityWeight =
+                Objects.requireNonNullElse(config.getAdaptiveSelectorProbabilityWeight(), false);
+        if (adaptiveSelectorProbabilityWeight) {
+            if (!randomSelection) {
+                throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                        + ") with adaptiveSelectorProbabilityWeight (" + adaptiveSelectorProbabilityWeight
+                        + ") has non-random randomSelection (" + randomSelection + ").");
+            }
+            if (config.getSelectorProbabilityWeightFactoryClass() != null) {
+                throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                        + ") with adaptiveSelectorProbabilityWeight (" + adaptiveSelectorProbabilityWeight
+                        + ") cannot have a selectorProbabilityWeightFactoryClass ("
+                        + config.getSelectorProbabilityWeightFactoryClass() + ") too.");
+            }
+        }
         if (config.getSelectorProbabilityWeightFactoryClass() != null) {
             if (!randomSelection) {
                 throw new IllegalArgumentException("The moveSelectorConfig (" + config
@@ -54,7 +70,7 @@ public class UnionMoveSelectorFactory<Solution_>
                     "selectorProbabilityWeightFactoryClass", config.getSelectorProbabilityWeightFactoryClass());
         } else if (randomSelection) {
             Map<MoveSelector<Solution_>, Double> fixedProbabilityWeightMap =
-                    new HashMap<>(config.getMoveSelectorList().size());
+                    new LinkedHashMap<>(config.getMoveSelectorList().size());
             for (int i = 0; i < config.getMoveSelectorList().size(); i++) {
                 MoveSelectorConfig<?> innerMoveSelectorConfig = config.getMoveSelectorList().get(i);
                 MoveSelector<Solution_> moveSelector = moveSelectorList.get(i);
@@ -65,7 +81,9 @@ public class UnionMoveSelectorFactory<Solution_>
                 }
                 fixedProbabilityWeightMap.put(moveSelector, fixedProbabilityWeight);
             }
-            selectorProbabilityWeightFactory = new FixedSelectorProbabilityWeightFactory<>(fixedProbabilityWeightMap);
+            selectorProbabilityWeightFactory = adaptiveSelectorProbabilityWeight
+                    ? new AdaptiveSelectorProbabilityWeightFactory<>(fixedProbabilityWeightMap)
+                    : new FixedSelectorProbabilityWeightFactory<>(fixedProbabilityWeightMap);
         } else {
             selectorProbabilityWeightFactory = null;
         }
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Lock-free alternative to {@link MoveThreadRunner}.
+ * Every move thread has its own {@link MoveThreadOperationRingBuffer},
+ * in which it receives the {@link ApplyStepOperation}s in the same order as the {@link MoveChunkEvaluationOperation}s,
+ * so it doesn't need to wait for the other move threads after a step.
+ * When its own ring buffer is empty, it steals chunks of its current step from the other ring buffers.
+ */
+public class BatchedMoveThreadRunner<Solution_, Score_ extends Score<Score_>> implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchedMoveThreadRunner.class);
+
+    private static final int SPIN_COUNT = 1_000;
+
+    private final String logIndentation;
+    private final int moveThreadIndex;
+
+    private final List<MoveThreadOperationRingBuffer<Solution_>> ringBufferList;
+    private final MoveThreadOperationRingBuffer<Solution_> ringBuffer;
+    private final OrderByMoveIndexResultArray<Solution_> resultArray;
+
+    private final boolean assertMoveScoreFromScratch;
+    private final boolean assertExpectedUndoMoveScore;
+    private final boolean assertStepScoreFromScratch;
+    private final boolean assertExpectedStepScore;
+    private final boolean assertShadowVariablesAreNotStaleAfterStep;
+
+    private InnerScoreDirector<Solution_, Score_> scoreDirector = null;
+    private AtomicLong calculationCount = new AtomicLong(-1);
+
+    public BatchedMoveThreadRunner(String logIndentation, int moveThreadIndex,
+            List<MoveThreadOperationRingBuffer<Solution_>> ringBufferList,
+            OrderByMoveIndexResultArray<Solution_> resultArray,
+            boolean assertMoveScoreFromScratch, boolean assertExpectedUndoMoveScore,
+            boolean assertStepScoreFromScratch, boolean assertExpectedStepScore,
+            boolean assertShadowVariablesAreNotStaleAfterStep) {
+        this.logIndentation = logIndentation;
+        this.moveThreadIndex = moveThreadIndex;
+        this.ringBufferList = ringBufferList;
+        this.ringBuffer = ringBufferList.get(moveThreadIndex);
+        this.resultArray = resultArray;
+        this.assertMoveScoreFromScratch = assertMoveScoreFromScratch;
+        this.assertExpectedUndoMoveScore = assertExpectedUndoMoveScore;
+        this.assertStepScoreFromScratch = assertStepScoreFromScratch;
+        this.assertExpectedStepScore = assertExpectedStepScore;
+        this.assertShadowVariablesAreNotStaleAfterStep = assertShadowVariablesAreNotStaleAfterStep;
+    }
+
+    @Override
+    public void run() {
+        try {
+            // No stealing before the setup, because no chunk has a negative stepIndex
+            int stepIndex = -1;
+            Score_ lastStepScore = null;
+            while (true) {
+                MoveThreadOperation<Solution_> operation = takeOperation(stepIndex);
+                if (operation == null) {
+                    // Interrupted
+                    break;
+                }
+
+                if (operation instanceof SetupOperation) {
+                    SetupOperation<Solution_, Score_> setupOperation = (SetupOperation<Solution_, Score_>) operation;
+                    scoreDirector = setupOperation.getScoreDirector()
+                            .createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
+                    stepIndex = 0;
+                    lastStepScore = scoreDirector.calculateScore();
+                    LOGGER.trace("{}            Move thread ({}) setup: step index ({}), score ({}).",
+                            logIndentation, moveThreadIndex, stepIndex, lastStepScore);
+                } else if (operation instanceof DestroyOperation) {
+                    LOGGER.trace("{}            Move thread ({}) destroy: step index ({}).",
+                            logIndentation, moveThreadIndex, stepIndex);
+                    calculationCount.set(scoreDirector.getCalculationCount());
+                    break;
+                } else if (operation instanceof ApplyStepOperation) {
+                    ApplyStepOperation<Solution_, Score_> applyStepOperation =
+                            (ApplyStepOperation<Solution_, Score_>) operation;
+                    if (stepIndex + 1 != applyStepOperation.getStepIndex()) {
+                        throw new IllegalStateException("Impossible situation: the moveThread's stepIndex (" + stepIndex
+                                + ") is not followed by the operation's stepIndex ("
+                                + applyStepOperation.getStepIndex() + ").");
+                    }
+                    stepIndex = applyStepOperation.getStepIndex();
+                    Move<Solution_> step = applyStepOperation.getStep().rebase(scoreDirector);
+                    Score_ score = applyStepOperation.getScore();
+                    step.doMoveOnly(scoreDirector);
+                    predictWorkingStepScore(step, score);
+                    lastStepScore = score;
+                    LOGGER.trace("{}            Move thread ({}) step: step index ({}), score ({}).",
+                            logIndentation, moveThreadIndex, stepIndex, lastStepScore);
+                } else if (operation instanceof MoveChunkEvaluationOperation) {
+                    evaluateChunk((MoveChunkEvaluationOperation<Solution_>) operation, stepIndex, lastStepScore);
+                } else {
+                    throw new IllegalStateException("Unknown operation (" + operation + ").");
+                }
+                // TODO checkYielding();
+            }
+            LOGGER.trace("{}            Move thread ({}) finished.", logIndentation, moveThreadIndex);
+        } catch (RuntimeException | Error throwable) {
+            // Any Exception or even Error that happens here (on a move thread) must be stored
+            // in the resultArray in order to be propagated to the solver thread.
+            LOGGER.trace("{}            Move thread ({}) exception that will be propagated to the solver thread.",
+                    logIndentation, moveThreadIndex, throwable);
+            resultArray.addExceptionThrown(moveThreadIndex, throwable);
+        } finally {
+            if (scoreDirector != null) {
+                scoreDirector.close();
+            }
+        }
+    }
+
+    /**
+     * Spins a while before parking, because moves are usually offered in quick succession.
+     *
+     * @param stepIndex the stepIndex of the last applied step
+     * @return null if interrupted
+     */
+    private MoveThreadOperation<Solution_> takeOperation(int stepIndex) {
+        int spinCount = 0;
+        while (true) {
+            MoveThreadOperation<Solution_> operation = ringBuffer.poll();
+            if (operation != null) {
+                return operation;
+            }
+            operation = steal(stepIndex);
+            if (operation != null) {
+                return operation;
+            }
+            if (spinCount < SPIN_COUNT) {
+                spinCount++;
+                Thread.onSpinWait();
+            } else {
+                ringBuffer.awaitOffer();
+                if (Thread.currentThread().isInterrupted()) {
+                    return null;
+                }
+            }
+        }
+    }
+
+    private MoveChunkEvaluationOperation<Solution_> steal(int stepIndex) {
+        int ringBufferCount = ringBufferList.size();
+        // Start with the next move thread, so not every move thread robs the same victim first
+        for (int i = 1; i < ringBufferCount; i++) {
+            MoveChunkEvaluationOperation<Solution_> operation =
+                    ringBufferList.get((moveThreadIndex + i) % ringBufferCount).steal(stepIndex);
+            if (operation != null) {
+                return operation;
+            }
+        }
+        return null;
+    }
+
+    private void evaluateChunk(MoveChunkEvaluationOperation<Solution_> chunkOperation, int stepIndex,
+            Score_ lastStepScore) {
+        if (chunkOperation.getStepIndex() > stepIndex) {
+            throw new IllegalStateException("Impossible situation: the moveThread's stepIndex ("
+                    + stepIndex + ") is lower than the operation's stepIndex ("
+                    + chunkOperation.getStepIndex() + ") with firstMoveIndex ("
+                    + chunkOperation.getFirstMoveIndex() + ").");
+        }
+        int moveIndex = chunkOperation.getFirstMoveIndex();
+        for (Move<Solution_> selectedMove : chunkOperation.getMoveList()) {
+            if (!resultArray.isEvaluating(chunkOperation.getStepIndex())) {
+                // The solver thread already decided that step (or an earlier step), so skip the remaining moves
+                return;
+            }
+            Move<Solution_> move = selectedMove.rebase(scoreDirector);
+            if (!move.isMoveDoable(scoreDirector)) {
+                LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
+                        logIndentation, moveThreadIndex, stepIndex, moveIndex);
+                resultArray.addUndoableMove(moveThreadIndex, stepIndex, moveIndex, move);
+            } else {
+                Score<?> score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
+                if (assertExpectedUndoMoveScore) {
+                    scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
+                }
+                LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
+                        logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
+                resultArray.addMove(moveThreadIndex, stepIndex, moveIndex, move, score);
+            }
+            moveIndex++;
+        }
+    }
+
+    protected void predictWorkingStepScore(Move<Solution_> step, Score_ score) {
+        // There is no need to recalculate the score, but we still need to set it
+        scoreDirector.getSolutionDescriptor().setScore(scoreDirector.getWorkingSolution(), score);
+        if (assertStepScoreFromScratch) {
+            scoreDirector.assertPredictedScoreFromScratch(score, step);
+        }
+        if (assertExpectedStepScore) {
+            scoreDirector.assertExpectedWorkingScore(score, step);
+        }
+        if (assertShadowVariablesAreNotStaleAfterStep) {
+            scoreDirector.assertShadowVariablesAreNotStale(score, step);
+        }
+    }
+
+    /**
+     * This method is thread-safe.
+     *
+     * @return at least 0
+     */
+    public long getCalculationCount() {
+        long calculationCount = this.calculationCount.get();
+        if (calculationCount == -1L) {
+            LOGGER.info("{}Score calculation speed will be too low"
+                    + " because move thread ({})'s destroy wasn't processed soon enough.", logIndentation, moveThreadIndex);
+            return 0L;
+        }
+        return calculationCount;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "-" + moveThreadIndex;
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import java.util.List;
+
+import org.optaplanner.core.impl.heuristic.move.Move;
+
+/**
+ * Evaluates consecutive selected moves, so the hand-off cost is shared by all of them.
+ */
+public class MoveChunkEvaluationOperation<Solution_> extends MoveThreadOperation<Solution_> {
+
+    private final int stepIndex;
+    private final int firstMoveIndex;
+    private final List<Move<Solution_>> moveList;
+
+    public MoveChunkEvaluationOperation(int stepIndex, int firstMoveIndex, List<Move<Solution_>> moveList) {
+        this.stepIndex = stepIndex;
+        this.firstMoveIndex = firstMoveIndex;
+        this.moveList = moveList;
+    }
+
+    public int getStepIndex() {
+        return stepIndex;
+    }
+
+    /**
+     * @return the moveIndex of the first move of {@link #getMoveList()}, the others follow consecutively
+     */
+    public int getFirstMoveIndex() {
+        return firstMoveIndex;
+    }
+
+    public List<Move<Solution_>> getMoveList() {
+        return moveList;
+    }
+
+}
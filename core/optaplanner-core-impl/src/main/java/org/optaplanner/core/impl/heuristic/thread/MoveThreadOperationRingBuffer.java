@@ -0,0 +1,158 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded, lock-free ring buffer of {@link MoveThreadOperation}s, owned by a single move thread.
+ * Only the solver thread offers operations.
+ * The owning move thread polls every operation in order,
+ * while the other move threads can only steal a {@link MoveChunkEvaluationOperation} at the head.
+ * <p>
+ * This class is thread-safe, except where noted otherwise.
+ */
+public class MoveThreadOperationRingBuffer<Solution_> {
+
+    private final AtomicReferenceArray<MoveThreadOperation<Solution_>> buffer;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(0L);
+    /**
+     * Only written by the solver thread. A volatile write publishes the operation at the previous tail.
+     */
+    private volatile long tail = 0L;
+    /**
+     * The owning move thread, while it's parked because it has nothing to do.
+     */
+    private volatile Thread waitingThread = null;
+
+    /**
+     * @param minimumCapacity at least 1, rounded up to a power of 2
+     */
+    public MoveThreadOperationRingBuffer(int minimumCapacity) {
+        if (minimumCapacity < 1) {
+            throw new IllegalArgumentException("The minimumCapacity (" + minimumCapacity + ") must be at least 1.");
+        }
+        int capacity = Integer.highestOneBit(minimumCapacity);
+        if (capacity < minimumCapacity) {
+            capacity <<= 1;
+        }
+        buffer = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     * Wakes up the owning move thread if it's waiting.
+     *
+     * @param operation never null
+     * @return false if the buffer is full
+     */
+    public boolean offer(MoveThreadOperation<Solution_> operation) {
+        long currentTail = tail;
+        if (currentTail - head.get() >= buffer.length()) {
+            return false;
+        }
+        buffer.set((int) (currentTail & mask), operation);
+        tail = currentTail + 1L;
+        wakeUp();
+        return true;
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the owning move thread.
+     *
+     * @return null if the buffer is empty
+     */
+    public MoveThreadOperation<Solution_> poll() {
+        while (true) {
+            long currentHead = head.get();
+            if (currentHead >= tail) {
+                return null;
+            }
+            MoveThreadOperation<Solution_> operation = buffer.get((int) (currentHead & mask));
+            if (head.compareAndSet(currentHead, currentHead + 1L)) {
+                return operation;
+            }
+            // Another move thread stole it, so retry
+        }
+    }
+
+    /**
+     * Can be called from any move thread other than the owning move thread.
+     * Never steals an operation that the owning move thread must do itself, such as an {@link ApplyStepOperation},
+     * nor any operation queued behind it.
+     *
+     * @param stepIndex the stealing move thread's stepIndex
+     * @return null if there is nothing to steal
+     */
+    public MoveChunkEvaluationOperation<Solution_> steal(int stepIndex) {
+        while (true) {
+            long currentHead = head.get();
+            if (currentHead >= tail) {
+                return null;
+            }
+            MoveThreadOperation<Solution_> operation = buffer.get((int) (currentHead & mask));
+            if (!(operation instanceof MoveChunkEvaluationOperation)) {
+                return null;
+            }
+            MoveChunkEvaluationOperation<Solution_> chunkOperation = (MoveChunkEvaluationOperation<Solution_>) operation;
+            if (chunkOperation.getStepIndex() > stepIndex) {
+                // The stealing move thread hasn't applied that step yet
+                return null;
+            }
+            if (head.compareAndSet(currentHead, currentHead + 1L)) {
+                return chunkOperation;
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return head.get() >= tail;
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the owning move thread.
+     * Parks until an operation is offered, unless there already is one.
+     * Like {@link LockSupport#park(Object)}, it can also return spuriously.
+     */
+    public void awaitOffer() {
+        waitingThread = Thread.currentThread();
+        // Check again after registering, so an offer in between can't be missed
+        if (isEmpty()) {
+            LockSupport.park(this);
+        }
+        waitingThread = null;
+    }
+
+    /**
+     * Wakes up the owning move thread if it's waiting, for example because there might be something to steal.
+     */
+    public void wakeUp() {
+        Thread thread = waitingThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    public int getCapacity() {
+        return buffer.length();
+    }
+
+}
@@ -16,8 +16,10 @@
 
 package org.optaplanner.core.impl.heuristic.thread;
 
+import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -28,6 +30,14 @@ import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Every move thread applies every step, in order, but it doesn't wait for the other move threads to do the same.
+ * The {@link ApplyStepOperation}s in the shared operation queue only wake up a move thread:
+ * the steps themselves come through a step queue per move thread,
+ * so a move thread that takes another move thread's {@link ApplyStepOperation} doesn't skip a step.
+ * So a move thread that finishes applying a step starts evaluating the next step's moves at once,
+ * while the other move threads are still applying that step.
+ */
 public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implements Runnable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MoveThreadRunner.class);
@@ -39,6 +49,7 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
     private final BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
     private final OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
     private final CyclicBarrier moveThreadBarrier;
+    private final Queue<ApplyStepOperation<Solution_, ?>> stepOperationQueue = new ConcurrentLinkedQueue<>();
 
     private final boolean assertMoveScoreFromScratch;
     private final boolean assertExpectedUndoMoveScore;
@@ -48,6 +59,8 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
 
     private InnerScoreDirector<Solution_, Score_> scoreDirector = null;
     private AtomicLong calculationCount = new AtomicLong(-1);
+    private int stepIndex = -1;
+    private Score_ lastStepScore = null;
 
     public MoveThreadRunner(String logIndentation, int moveThreadIndex, boolean evaluateDoable,
             BlockingQueue<MoveThreadOperation<Solution_>> operationQueue,
@@ -72,8 +85,6 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
     @Override
     public void run() {
         try {
-            int stepIndex = -1;
-            Score_ lastStepScore = null;
             while (true) {
                 MoveThreadOperation<Solution_> operation;
                 try {
@@ -104,34 +115,24 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                     calculationCount.set(scoreDirector.getCalculationCount());
                     break;
                 } else if (operation instanceof ApplyStepOperation) {
-                    // TODO Performance gain with specialized 2-phase cyclic barrier:
-                    // As soon as the last move thread has taken its ApplyStepOperation,
-                    // other move threads can already depart from the moveThreadStepBarrier: no need to wait until the step is done.
                     ApplyStepOperation<Solution_, Score_> applyStepOperation =
                             (ApplyStepOperation<Solution_, Score_>) operation;
-                    if (stepIndex + 1 != applyStepOperation.getStepIndex()) {
+                    applyDecidedSteps();
+                    if (stepIndex < applyStepOperation.getStepIndex()) {
                         throw new IllegalStateException("Impossible situation: the moveThread's stepIndex (" + stepIndex
-                                + ") is not followed by the operation's stepIndex ("
-                                + applyStepOperation.getStepIndex() + ").");
-                    }
-                    stepIndex = applyStepOperation.getStepIndex();
-                    Move<Solution_> step = applyStepOperation.getStep().rebase(scoreDirector);
-                    Score_ score = applyStepOperation.getScore();
-                    step.doMoveOnly(scoreDirector);
-                    predictWorkingStepScore(step, score);
-                    lastStepScore = score;
-                    LOGGER.trace("{}            Move thread ({}) step: step index ({}), score ({}).",
-                            logIndentation, moveThreadIndex, stepIndex, lastStepScore);
-                    try {
-                        // Don't consume an MoveEvaluationOperation until every moveThread took this ApplyStepOperation
-                        moveThreadBarrier.await();
-                    } catch (InterruptedException | BrokenBarrierException e) {
-                        Thread.currentThread().interrupt();
-                        break;
+                                + ") is lower than the operation's stepIndex ("
+                                + applyStepOperation.getStepIndex() + ") after applying every decided step.");
                     }
                 } else if (operation instanceof MoveEvaluationOperation) {
                     MoveEvaluationOperation<Solution_> moveEvaluationOperation = (MoveEvaluationOperation<Solution_>) operation;
                     int moveIndex = moveEvaluationOperation.getMoveIndex();
+                    applyDecidedSteps();
+                    if (stepIndex > moveEvaluationOperation.getStepIndex()) {
+                        // Taken before the solver thread decided that step, so its result would be discarded anyway
+                        LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), skipped.",
+                                logIndentation, moveThreadIndex, moveEvaluationOperation.getStepIndex(), moveIndex);
+                        continue;
+                    }
                     if (stepIndex != moveEvaluationOperation.getStepIndex()) {
                         throw new IllegalStateException("Impossible situation: the moveThread's stepIndex ("
                                 + stepIndex + ") differs from the operation's stepIndex ("
@@ -172,6 +173,32 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
         }
     }
 
+    /**
+     * Applies the steps that the solver thread decided since the last time, in order.
+     */
+    private void applyDecidedSteps() {
+        while (true) {
+            ApplyStepOperation<Solution_, Score_> applyStepOperation =
+                    (ApplyStepOperation<Solution_, Score_>) stepOperationQueue.poll();
+            if (applyStepOperation == null) {
+                return;
+            }
+            if (stepIndex + 1 != applyStepOperation.getStepIndex()) {
+                throw new IllegalStateException("Impossible situation: the moveThread's stepIndex (" + stepIndex
+                        + ") is not followed by the operation's stepIndex ("
+                        + applyStepOperation.getStepIndex() + ").");
+            }
+            stepIndex = applyStepOperation.getStepIndex();
+            Move<Solution_> step = applyStepOperation.getStep().rebase(scoreDirector);
+            Score_ score = applyStepOperation.getScore();
+            step.doMoveOnly(scoreDirector);
+            predictWorkingStepScore(step, score);
+            lastStepScore = score;
+            LOGGER.trace("{}            Move thread ({}) step: step index ({}), score ({}).",
+                    logIndentation, moveThreadIndex, stepIndex, lastStepScore);
+        }
+    }
+
     protected void predictWorkingStepScore(Move<Solution_> step, Score_ score) {
         // There is no need to recalculate the score, but we still need to set it
         scoreDirector.getSolutionDescriptor().setScore(scoreDirector.getWorkingSolution(), score);
@@ -186,6 +213,16 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
         }
     }
 
+    /**
+     * This method is thread-safe. It must be called from the solver thread,
+     * before adding the {@link ApplyStepOperation} to the operation queue.
+     *
+     * @param stepOperation never null
+     */
+    public void addStepOperation(ApplyStepOperation<Solution_, ?> stepOperation) {
+        stepOperationQueue.add(stepOperation);
+    }
+
     /**
      * This method is thread-safe.
      *
@@ -185,7 +185,7 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
             this.throwable = throwable;
         }
 
-        private boolean hasThrownException() {
+        boolean hasThrownException() {
             return throwable != null;
         }
 
@@ -213,7 +213,7 @@ public class OrderByMoveIndexBlockingQueue<Solution_> {
             return score;
         }
 
-        private Throwable getThrowable() {
+        Throwable getThrowable() {
             return throwable;
         }
 
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue.MoveResult;
+
+/**
+ * Lock-free alternative to {@link OrderByMoveIndexBlockingQueue}.
+ * Every result goes in the slot of its moveIndex, modulo the capacity,
+ * so the solver thread can take them in order without sorting.
+ * The solver thread must never have more moves in circulation than the capacity.
+ */
+public class OrderByMoveIndexResultArray<Solution_> {
+
+    private static final int SPIN_COUNT = 1_000;
+
+    private final AtomicReferenceArray<MoveResult<Solution_>> resultArray;
+    private final AtomicReference<MoveResult<Solution_>> exceptionResult = new AtomicReference<>(null);
+
+    /**
+     * Only written by the solver thread. Integer.MIN_VALUE in between steps.
+     */
+    private volatile int evaluatingStepIndex = Integer.MIN_VALUE;
+    /**
+     * The solver thread, while it's parked because the next result isn't there yet.
+     */
+    private volatile Thread waitingThread = null;
+
+    private int lastStepIndex = Integer.MIN_VALUE;
+    private int nextMoveIndex = Integer.MIN_VALUE;
+
+    public OrderByMoveIndexResultArray(int capacity) {
+        resultArray = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     *
+     * @param stepIndex at least 0
+     */
+    public void startNextStep(int stepIndex) {
+        if (lastStepIndex >= stepIndex) {
+            throw new IllegalStateException("The old lastStepIndex (" + lastStepIndex
+                    + ") must be less than the stepIndex (" + stepIndex + ")");
+        }
+        checkExceptionThrown();
+        lastStepIndex = stepIndex;
+        evaluatingStepIndex = stepIndex;
+        nextMoveIndex = 0;
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     * The move threads skip the remaining moves of this step that haven't started evaluation yet.
+     */
+    public void endStep() {
+        evaluatingStepIndex = Integer.MIN_VALUE;
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     *
+     * @param stepIndex at least 0
+     * @return true if the moves of that step still need to be evaluated
+     */
+    public boolean isEvaluating(int stepIndex) {
+        return evaluatingStepIndex == stepIndex;
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     *
+     * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
+     * @param stepIndex at least 0
+     * @param moveIndex at least 0
+     * @param move never null
+     */
+    public void addUndoableMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move) {
+        publish(new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, false, null));
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     *
+     * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
+     * @param stepIndex at least 0
+     * @param moveIndex at least 0
+     * @param move never null
+     * @param score never null
+     */
+    public void addMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, Score score) {
+        publish(new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, true, score));
+    }
+
+    private void publish(MoveResult<Solution_> result) {
+        int index = result.getMoveIndex() % resultArray.length();
+        while (true) {
+            if (!isEvaluating(result.getStepIndex())) {
+                // Discard element from previous step
+                return;
+            }
+            MoveResult<Solution_> oldResult = resultArray.get(index);
+            // Without a barrier between the move threads,
+            // a slow move thread could try to overwrite a newer result with a result of a previous step
+            if (oldResult != null && isNewer(oldResult, result)) {
+                return;
+            }
+            if (resultArray.compareAndSet(index, oldResult, result)) {
+                break;
+            }
+        }
+        wakeUp();
+    }
+
+    private static boolean isNewer(MoveResult<?> result, MoveResult<?> otherResult) {
+        if (result.getStepIndex() != otherResult.getStepIndex()) {
+            return result.getStepIndex() > otherResult.getStepIndex();
+        }
+        return result.getMoveIndex() > otherResult.getMoveIndex();
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     * If 2 exceptions are added from different threads concurrently, only the first one is relayed.
+     *
+     * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
+     * @param throwable never null
+     */
+    public void addExceptionThrown(int moveThreadIndex, Throwable throwable) {
+        exceptionResult.compareAndSet(null, new MoveResult<>(moveThreadIndex, throwable));
+        wakeUp();
+    }
+
+    private void wakeUp() {
+        Thread thread = waitingThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     * Spins a while before parking, because a move thread is usually about to deliver the result.
+     *
+     * @return never null
+     * @throws InterruptedException if interrupted
+     */
+    public MoveResult<Solution_> take() throws InterruptedException {
+        int moveIndex = nextMoveIndex;
+        nextMoveIndex++;
+        int index = moveIndex % resultArray.length();
+        int spinCount = 0;
+        while (true) {
+            MoveResult<Solution_> result = resultArray.get(index);
+            if (result != null && result.getStepIndex() == lastStepIndex && result.getMoveIndex() == moveIndex) {
+                return result;
+            }
+            checkExceptionThrown();
+            if (spinCount < SPIN_COUNT) {
+                spinCount++;
+                Thread.onSpinWait();
+            } else {
+                waitingThread = Thread.currentThread();
+                // Check again after registering, so a result in between can't be missed
+                result = resultArray.get(index);
+                if ((result == null || result.getStepIndex() != lastStepIndex || result.getMoveIndex() != moveIndex)
+                        && exceptionResult.get() == null) {
+                    LockSupport.park(this);
+                }
+                waitingThread = null;
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        }
+    }
+
+    private void checkExceptionThrown() {
+        MoveResult<Solution_> result = exceptionResult.get();
+        if (result != null) {
+            throw new IllegalStateException("The move thread with moveThreadIndex ("
+                    + result.getMoveThreadIndex() + ") has thrown an exception."
+                    + " Relayed here in the parent thread.",
+                    result.getThrowable());
+        }
+    }
+
+    /**
+     * This method is thread-safe.
+     *
+     * @return true if a move thread has thrown an exception
+     */
+    public boolean hasExceptionThrown() {
+        return exceptionResult.get() != null;
+    }
+
+}
@@ -32,10 +32,13 @@ import org.optaplanner.core.config.localsearch.decider.acceptor.LocalSearchAccep
 import org.optaplanner.core.config.localsearch.decider.forager.LocalSearchForagerConfig;
 import org.optaplanner.core.config.localsearch.decider.forager.LocalSearchPickEarlyType;
 import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.MoveThreadHandOff;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelectorFactory;
 import org.optaplanner.core.impl.heuristic.selector.move.composite.UnionMoveSelectorFactory;
+import org.optaplanner.core.impl.localsearch.decider.BatchedMultiThreadedLocalSearchDecider;
 import org.optaplanner.core.impl.localsearch.decider.LocalSearchDecider;
 import org.optaplanner.core.impl.localsearch.decider.MultiThreadedLocalSearchDecider;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
@@ -101,17 +104,43 @@ public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFact
             }
             ThreadFactory threadFactory = configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD);
             int selectedMoveBufferSize = moveThreadCount * moveThreadBufferSize;
-            MultiThreadedLocalSearchDecider<Solution_> multiThreadedDecider = new MultiThreadedLocalSearchDecider<>(
-                    configPolicy.getLogIndentation(), termination, moveSelector, acceptor, forager,
-                    threadFactory, moveThreadCount, selectedMoveBufferSize);
-            if (environmentMode.isNonIntrusiveFullAsserted()) {
-                multiThreadedDecider.setAssertStepScoreFromScratch(true);
-            }
-            if (environmentMode.isIntrusiveFastAsserted()) {
-                multiThreadedDecider.setAssertExpectedStepScore(true);
-                multiThreadedDecider.setAssertShadowVariablesAreNotStaleAfterStep(true);
+            MoveThreadHandOff moveThreadHandOff_ =
+                    Objects.requireNonNullElse(configPolicy.getMoveThreadHandOff(), MoveThreadHandOff.QUEUE);
+            switch (moveThreadHandOff_) {
+                case QUEUE:
+                    MultiThreadedLocalSearchDecider<Solution_> multiThreadedDecider =
+                            new MultiThreadedLocalSearchDecider<>(
+                                    configPolicy.getLogIndentation(), termination, moveSelector, acceptor, forager,
+                                    threadFactory, moveThreadCount, selectedMoveBufferSize);
+                    if (environmentMode.isNonIntrusiveFullAsserted()) {
+                        multiThreadedDecider.setAssertStepScoreFromScratch(true);
+                    }
+                    if (environmentMode.isIntrusiveFastAsserted()) {
+                        multiThreadedDecider.setAssertExpectedStepScore(true);
+                        multiThreadedDecider.setAssertShadowVariablesAreNotStaleAfterStep(true);
+                    }
+                    decider = multiThreadedDecider;
+                    break;
+                case BATCHED:
+                    // Half the buffer per chunk, so a move thread can evaluate one chunk while it receives the next
+                    int moveChunkSize = Math.max(1, moveThreadBufferSize / 2);
+                    BatchedMultiThreadedLocalSearchDecider<Solution_> batchedDecider =
+                            new BatchedMultiThreadedLocalSearchDecider<>(
+                                    configPolicy.getLogIndentation(), termination, moveSelector, acceptor, forager,
+                                    threadFactory, moveThreadCount, selectedMoveBufferSize, moveChunkSize);
+                    if (environmentMode.isNonIntrusiveFullAsserted()) {
+                        batchedDecider.setAssertStepScoreFromScratch(true);
+                    }
+                    if (environmentMode.isIntrusiveFastAsserted()) {
+                        batchedDecider.setAssertExpectedStepScore(true);
+                        batchedDecider.setAssertShadowVariablesAreNotStaleAfterStep(true);
+                    }
+                    decider = batchedDecider;
+                    break;
+                default:
+                    throw new IllegalStateException("The moveThreadHandOff (" + moveThreadHandOff_
+                            + ") is not implemented.");
             }
-            decider = multiThreadedDecider;
         }
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             decider.setAssertMoveScoreFromScratch(true);
@@ -119,9 +148,42 @@ public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFact
         if (environmentMode.isIntrusiveFastAsserted()) {
             decider.setAssertExpectedUndoMoveScore(true);
         }
+        if (Objects.requireNonNullElse(phaseConfig.getMoveScoreMemoEnabled(), false)) {
+            assertMoveScoreMemoSupported(configPolicy, moveSelector, moveThreadCount);
+            decider.setMoveScoreMemoEnabled(true);
+            if (environmentMode.isIntrusiveFastAsserted()) {
+                decider.setAssertMoveScoreMemo(true);
+            }
+        }
         return decider;
     }
 
+    private void assertMoveScoreMemoSupported(HeuristicConfigPolicy<Solution_> configPolicy,
+            MoveSelector<Solution_> moveSelector, Integer moveThreadCount) {
+        if (moveThreadCount != null) {
+            throw new IllegalArgumentException("The localSearchPhaseConfig (" + phaseConfig
+                    + ") with moveScoreMemoEnabled (" + phaseConfig.getMoveScoreMemoEnabled()
+                    + ") does not support a moveThreadCount (" + moveThreadCount + ").");
+        }
+        if (moveSelector.isNeverEnding()) {
+            throw new IllegalArgumentException("The localSearchPhaseConfig (" + phaseConfig
+                    + ") with moveScoreMemoEnabled (" + phaseConfig.getMoveScoreMemoEnabled()
+                    + ") has a moveSelector (" + moveSelector + ") that is neverEnding, "
+                    + "so the same moves are rarely selected again.\n"
+                    + "Maybe configure the moveSelector with selectionOrder ORIGINAL.");
+        }
+        for (EntityDescriptor<Solution_> entityDescriptor : configPolicy.getSolutionDescriptor()
+                .getGenuineEntityDescriptors()) {
+            if (!entityDescriptor.getShadowVariableDescriptors().isEmpty()) {
+                throw new IllegalArgumentException("The localSearchPhaseConfig (" + phaseConfig
+                        + ") with moveScoreMemoEnabled (" + phaseConfig.getMoveScoreMemoEnabled()
+                        + ") does not support the shadow variables of the entity class ("
+                        + entityDescriptor.getEntityClass() + "),"
+                        + " because a move can change a shadow variable of another planning entity.");
+            }
+        }
+    }
+
     protected Acceptor<Solution_> buildAcceptor(HeuristicConfigPolicy<Solution_> configPolicy) {
         LocalSearchAcceptorConfig acceptorConfig_;
         if (phaseConfig.getAcceptorConfig() != null) {
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.config.solver.MoveThreadHandOff;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.heuristic.thread.ApplyStepOperation;
+import org.optaplanner.core.impl.heuristic.thread.BatchedMoveThreadRunner;
+import org.optaplanner.core.impl.heuristic.thread.DestroyOperation;
+import org.optaplanner.core.impl.heuristic.thread.MoveChunkEvaluationOperation;
+import org.optaplanner.core.impl.heuristic.thread.MoveThreadOperation;
+import org.optaplanner.core.impl.heuristic.thread.MoveThreadOperationRingBuffer;
+import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
+import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexResultArray;
+import org.optaplanner.core.impl.heuristic.thread.SetupOperation;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
+import org.optaplanner.core.impl.localsearch.decider.forager.LocalSearchForager;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.thread.ThreadUtils;
+
+/**
+ * The {@link MoveThreadHandOff#BATCHED} alternative to {@link MultiThreadedLocalSearchDecider}.
+ * The selected moves are handed off in chunks, round-robin over the {@link MoveThreadOperationRingBuffer}s,
+ * and the results come back through an {@link OrderByMoveIndexResultArray}.
+ * <p>
+ * For reproducibility, the number of selected moves only depends on the number of foraged moves,
+ * never on how fast the move threads are.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class BatchedMultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecider<Solution_> {
+
+    protected final ThreadFactory threadFactory;
+    protected final int moveThreadCount;
+    protected final int selectedMoveBufferSize;
+    protected final int moveChunkSize;
+
+    protected boolean assertStepScoreFromScratch = false;
+    protected boolean assertExpectedStepScore = false;
+    protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
+
+    protected List<MoveThreadOperationRingBuffer<Solution_>> ringBufferList;
+    protected OrderByMoveIndexResultArray<Solution_> resultArray;
+    protected ExecutorService executor;
+    protected List<BatchedMoveThreadRunner<Solution_, ?>> moveThreadRunnerList;
+    protected int nextRingBufferIndex;
+
+    /**
+     * @param selectedMoveBufferSize at least {@code moveChunkSize}, the maximum number of moves in circulation
+     * @param moveChunkSize at least 1
+     */
+    public BatchedMultiThreadedLocalSearchDecider(String logIndentation, Termination<Solution_> termination,
+            MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager,
+            ThreadFactory threadFactory, int moveThreadCount, int selectedMoveBufferSize, int moveChunkSize) {
+        super(logIndentation, termination, moveSelector, acceptor, forager);
+        if (moveChunkSize < 1 || selectedMoveBufferSize < moveChunkSize) {
+            throw new IllegalArgumentException("The moveChunkSize (" + moveChunkSize
+                    + ") must be at least 1 and at most the selectedMoveBufferSize (" + selectedMoveBufferSize + ").");
+        }
+        this.threadFactory = threadFactory;
+        this.moveThreadCount = moveThreadCount;
+        this.selectedMoveBufferSize = selectedMoveBufferSize;
+        this.moveChunkSize = moveChunkSize;
+    }
+
+    public void setAssertStepScoreFromScratch(boolean assertStepScoreFromScratch) {
+        this.assertStepScoreFromScratch = assertStepScoreFromScratch;
+    }
+
+    public void setAssertExpectedStepScore(boolean assertExpectedStepScore) {
+        this.assertExpectedStepScore = assertExpectedStepScore;
+    }
+
+    public void setAssertShadowVariablesAreNotStaleAfterStep(boolean assertShadowVariablesAreNotStaleAfterStep) {
+        this.assertShadowVariablesAreNotStaleAfterStep = assertShadowVariablesAreNotStaleAfterStep;
+    }
+
+    @Override
+    public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        // Capacity: chunks left over from the previous step + step operation + chunks in circulation
+        // + destroy operation. If a move thread falls further behind, the solver thread waits for it.
+        int chunkCount = (selectedMoveBufferSize + moveChunkSize - 1) / moveChunkSize;
+        int ringBufferCapacity = 2 * chunkCount + 2;
+        ringBufferList = new ArrayList<>(moveThreadCount);
+        for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
+            ringBufferList.add(new MoveThreadOperationRingBuffer<>(ringBufferCapacity));
+        }
+        resultArray = new OrderByMoveIndexResultArray<>(selectedMoveBufferSize);
+        nextRingBufferIndex = 0;
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        executor = createThreadPoolExecutor();
+        moveThreadRunnerList = new ArrayList<>(moveThreadCount);
+        for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
+            BatchedMoveThreadRunner<Solution_, ?> moveThreadRunner = new BatchedMoveThreadRunner<>(
+                    logIndentation, moveThreadIndex, ringBufferList, resultArray,
+                    assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
+                    assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
+            moveThreadRunnerList.add(moveThreadRunner);
+            executor.submit(moveThreadRunner);
+            offer(ringBufferList.get(moveThreadIndex), new SetupOperation<>(scoreDirector));
+        }
+    }
+
+    @Override
+    public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        // Tell the move thread runners to stop
+        // There is no need to clear the ring buffers: the remaining chunks are skipped.
+        DestroyOperation<Solution_> destroyOperation = new DestroyOperation<>();
+        for (MoveThreadOperationRingBuffer<Solution_> ringBuffer : ringBufferList) {
+            offer(ringBuffer, destroyOperation);
+        }
+        // TODO This should probably be in a finally that spans at least the entire phase, maybe even the entire solve
+        ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Multithreaded Local Search");
+        long childThreadsScoreCalculationCount = 0;
+        for (BatchedMoveThreadRunner<Solution_, ?> moveThreadRunner : moveThreadRunnerList) {
+            childThreadsScoreCalculationCount += moveThreadRunner.getCalculationCount();
+        }
+        phaseScope.addChildThreadsScoreCalculationCount(childThreadsScoreCalculationCount);
+        ringBufferList = null;
+        resultArray = null;
+        moveThreadRunnerList = null;
+    }
+
+    protected ExecutorService createThreadPoolExecutor() {
+        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(moveThreadCount,
+                threadFactory);
+        if (threadPoolExecutor.getMaximumPoolSize() < moveThreadCount) {
+            throw new IllegalStateException(
+                    "The threadPoolExecutor's maximumPoolSize (" + threadPoolExecutor.getMaximumPoolSize()
+                            + ") is less than the moveThreadCount (" + moveThreadCount + "), this is unsupported.");
+        }
+        return threadPoolExecutor;
+    }
+
+    /**
+     * Waits if the ring buffer is full, which only happens if its move thread is still busy with an old step.
+     */
+    private void offer(MoveThreadOperationRingBuffer<Solution_> ringBuffer, MoveThreadOperation<Solution_> operation) {
+        while (!ringBuffer.offer(operation)) {
+            if (resultArray.hasExceptionThrown() || Thread.currentThread().isInterrupted()) {
+                // The move thread won't consume it, but the exception is relayed anyway
+                return;
+            }
+            Thread.yield();
+        }
+    }
+
+    @Override
+    public void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
+        int stepIndex = stepScope.getStepIndex();
+        resultArray.startNextStep(stepIndex);
+
+        int selectedMoveCount = 0;
+        int foragedMoveCount = 0;
+        Iterator<Move<Solution_>> moveIterator = moveSelector.iterator();
+        boolean moveIteratorEmpty = !moveIterator.hasNext();
+        while (true) {
+            // Keep the buffer filled with whole chunks, so move evaluation can run freely in parallel
+            // For reproducibility, this doesn't depend on which moves the move threads already evaluated
+            while (!moveIteratorEmpty && selectedMoveCount + moveChunkSize <= foragedMoveCount + selectedMoveBufferSize) {
+                List<Move<Solution_>> moveList = new ArrayList<>(moveChunkSize);
+                while (moveList.size() < moveChunkSize && moveIterator.hasNext()) {
+                    moveList.add(moveIterator.next());
+                }
+                moveIteratorEmpty = !moveIterator.hasNext();
+                offerChunk(new MoveChunkEvaluationOperation<>(stepIndex, selectedMoveCount, moveList));
+                selectedMoveCount += moveList.size();
+            }
+            if (foragedMoveCount >= selectedMoveCount) {
+                break;
+            }
+            if (forageResult(stepScope, stepIndex)) {
+                break;
+            }
+            foragedMoveCount++;
+        }
+
+        // Do not evaluate the remaining selected moves for this step that haven't started evaluation yet
+        resultArray.endStep();
+        pickMove(stepScope);
+        // Start doing the step on every move thread. Don't wait for the stepEnded() event.
+        if (stepScope.getStep() != null) {
+            InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
+            if (scoreDirector.requiresFlushing() && stepIndex % 100 == 99) {
+                // Calculate score to process changes; otherwise they become a memory leak.
+                // We only do it occasionally, as score calculation is a performance cost we do not need to incur here.
+                scoreDirector.calculateScore();
+            }
+            // Increase stepIndex by 1, because it's a preliminary action
+            ApplyStepOperation<Solution_, ?> stepOperation =
+                    new ApplyStepOperation<>(stepIndex + 1, stepScope.getStep(), (Score) stepScope.getScore());
+            for (MoveThreadOperationRingBuffer<Solution_> ringBuffer : ringBufferList) {
+                offer(ringBuffer, stepOperation);
+            }
+        }
+    }
+
+    private void offerChunk(MoveChunkEvaluationOperation<Solution_> chunkOperation) {
+        offer(ringBufferList.get(nextRingBufferIndex), chunkOperation);
+        nextRingBufferIndex = (nextRingBufferIndex + 1) % moveThreadCount;
+        // Idle move threads might steal it
+        for (MoveThreadOperationRingBuffer<Solution_> ringBuffer : ringBufferList) {
+            ringBuffer.wakeUp();
+        }
+    }
+
+    private boolean forageResult(LocalSearchStepScope<Solution_> stepScope, int stepIndex) {
+        OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
+        try {
+            result = resultArray.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+        if (stepIndex != result.getStepIndex()) {
+            throw new IllegalStateException("Impossible situation: the solverThread's stepIndex (" + stepIndex
+                    + ") differs from the result's stepIndex (" + result.getStepIndex() + ").");
+        }
+        Move<Solution_> foragingMove = result.getMove().rebase(stepScope.getScoreDirector());
+        int foragingMoveIndex = result.getMoveIndex();
+        LocalSearchMoveScope<Solution_> moveScope = new LocalSearchMoveScope<>(stepScope, foragingMoveIndex, foragingMove);
+        if (!result.isMoveDoable()) {
+            logger.trace("{}        Move index ({}) not doable, ignoring move ({}).",
+                    logIndentation, foragingMoveIndex, foragingMove);
+        } else {
+            moveScope.setScore(result.getScore());
+            boolean accepted = acceptor.isAccepted(moveScope);
+            moveScope.setAccepted(accepted);
+            logger.trace("{}        Move index ({}), score ({}), accepted ({}), move ({}).",
+                    logIndentation,
+                    foragingMoveIndex, moveScope.getScore(), moveScope.getAccepted(),
+                    foragingMove);
+            forager.addMove(moveScope);
+            if (forager.isQuitEarly()) {
+                return true;
+            }
+        }
+        stepScope.getPhaseScope().getSolverScope().checkYielding();
+        if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+            return true;
+        }
+        return false;
+    }
+
+}
@@ -46,6 +46,9 @@ public class LocalSearchDecider<Solution_> {
 
     protected boolean assertMoveScoreFromScratch = false;
     protected boolean assertExpectedUndoMoveScore = false;
+    protected boolean assertMoveScoreMemo = false;
+
+    private MoveScoreMemo<Solution_> moveScoreMemo = null;
 
     public LocalSearchDecider(String logIndentation, Termination<Solution_> termination,
             MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager) {
@@ -80,6 +83,18 @@ public class LocalSearchDecider<Solution_> {
         this.assertExpectedUndoMoveScore = assertExpectedUndoMoveScore;
     }
 
+    public void setAssertMoveScoreMemo(boolean assertMoveScoreMemo) {
+        this.assertMoveScoreMemo = assertMoveScoreMemo;
+    }
+
+    /**
+     * @param moveScoreMemoEnabled true to reuse the score of a move evaluated in an earlier step
+     *        if none of its planning entities and planning values changed since
+     */
+    public void setMoveScoreMemoEnabled(boolean moveScoreMemoEnabled) {
+        moveScoreMemo = moveScoreMemoEnabled ? new MoveScoreMemo<>() : null;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -91,6 +106,9 @@ public class LocalSearchDecider<Solution_> {
     }
 
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        if (moveScoreMemo != null) {
+            moveScoreMemo.phaseStarted(phaseScope.getSolutionDescriptor());
+        }
         moveSelector.phaseStarted(phaseScope);
         acceptor.phaseStarted(phaseScope);
         forager.phaseStarted(phaseScope);
@@ -114,7 +132,11 @@ public class LocalSearchDecider<Solution_> {
                 logger.trace("{}        Move index ({}) not doable, ignoring move ({}).",
                         logIndentation, moveScope.getMoveIndex(), move);
             } else {
-                doMove(moveScope);
+                if (moveScoreMemo == null) {
+                    doMove(moveScope);
+                } else {
+                    doMemoizedMove(moveScope);
+                }
                 if (forager.isQuitEarly()) {
                     break;
                 }
@@ -128,6 +150,56 @@ public class LocalSearchDecider<Solution_> {
         pickMove(stepScope);
     }
 
+    private <Score_ extends Score<Score_>> void doMemoizedMove(LocalSearchMoveScope<Solution_> moveScope) {
+        Move<Solution_> move = moveScope.getMove();
+        Score_ stepStartingScore = (Score_) moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
+        Score_ memoizedScore = moveScoreMemo.findScore(move, stepStartingScore);
+        if (memoizedScore == null) {
+            doMove(moveScope);
+            moveScoreMemo.putScore(move, stepStartingScore, (Score_) moveScope.getScore());
+            return;
+        }
+        if (assertMoveScoreMemo) {
+            InnerScoreDirector<Solution_, Score_> scoreDirector = moveScope.getScoreDirector();
+            scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch, score -> {
+                if (!score.equals(memoizedScore)) {
+                    throw new IllegalStateException("The move (" + move
+                            + ") has a memoized score (" + memoizedScore
+                            + ") that differs from its actual score (" + score + ").\n"
+                            + "Maybe the score difference of that move depends on planning entities or values"
+                            + " that aren't returned by its getPlanningEntities() or getPlanningValues()"
+                            + " or planning values of those entities.\n"
+                            + "Maybe disable the moveScoreMemoEnabled for this planning problem.");
+                }
+            });
+        }
+        moveScope.setScore(memoizedScore);
+        if (acceptor.isAccepted(moveScope)) {
+            // Never accept a move on its memoized score, so the acceptor and forager only accept exact scores
+            doMove(moveScope);
+            moveScoreMemo.putScore(move, stepStartingScore, (Score_) moveScope.getScore());
+            return;
+        }
+        moveScope.setAccepted(false);
+        forager.addMove(moveScope);
+        logger.trace("{}        Move index ({}), memoized score ({}), accepted ({}), move ({}).",
+                logIndentation,
+                moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getAccepted(),
+                moveScope.getMove());
+    }
+
+    /**
+     * An accepted move always has an exact score, but if no move is accepted,
+     * the forager can pick a rejected move of which the score is memoized.
+     * The step score is never memoized, so the working score stays exact
+     * even if the score difference of a memoized move depends on more than its inputs.
+     */
+    private <Score_ extends Score<Score_>> void recalculatePickedMoveScore(
+            LocalSearchMoveScope<Solution_> pickedMoveScope) {
+        InnerScoreDirector<Solution_, Score_> scoreDirector = pickedMoveScope.getScoreDirector();
+        pickedMoveScope.setScore(scoreDirector.doAndProcessMove(pickedMoveScope.getMove(), false));
+    }
+
     protected <Score_ extends Score<Score_>> void doMove(LocalSearchMoveScope<Solution_> moveScope) {
         InnerScoreDirector<Solution_, Score_> scoreDirector = moveScope.getScoreDirector();
         scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, score -> {
@@ -149,6 +221,9 @@ public class LocalSearchDecider<Solution_> {
     protected void pickMove(LocalSearchStepScope<Solution_> stepScope) {
         LocalSearchMoveScope<Solution_> pickedMoveScope = forager.pickMove(stepScope);
         if (pickedMoveScope != null) {
+            if (moveScoreMemo != null && !pickedMoveScope.getAccepted()) {
+                recalculatePickedMoveScore(pickedMoveScope);
+            }
             Move<Solution_> step = pickedMoveScope.getMove();
             stepScope.setStep(step);
             if (logger.isDebugEnabled()) {
@@ -159,6 +234,9 @@ public class LocalSearchDecider<Solution_> {
     }
 
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
+        if (moveScoreMemo != null) {
+            moveScoreMemo.stepEnded(stepScope);
+        }
         moveSelector.stepEnded(stepScope);
         acceptor.stepEnded(stepScope);
         forager.stepEnded(stepScope);
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+
+/**
+ * Remembers the score difference of every evaluated move,
+ * so a move can skip its evaluation in a later step, as long as none of its inputs changed in the meantime.
+ * <p>
+ * The inputs of a move are its {@link Move#getPlanningEntities() planning entities},
+ * its {@link Move#getPlanningValues() planning values}
+ * and the current planning values of those entities.
+ * A step changes its own planning entities and every planning value those entities had or have.
+ * So this presumes that the score difference of a move only depends on the entities it changes
+ * and the other entities that share a planning value with them.
+ * <p>
+ * A move is found back by {@link Object#equals(Object)},
+ * so it also works if the move selector creates new move instances every step, if the move implements it.
+ * <p>
+ * A memoized score is only kept for the next step if its move was selected again during the current step,
+ * so the memory is bounded by the number of moves that 2 consecutive steps select.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+final class MoveScoreMemo<Solution_> {
+
+    private Map<Move<Solution_>, MemoEntry> memoEntryMap = new HashMap<>();
+    private Map<Move<Solution_>, MemoEntry> previousStepMemoEntryMap = new HashMap<>();
+    private final Map<Object, Long> changedRevisionMap = new IdentityHashMap<>();
+    private long revision = 0L;
+
+    private SolutionDescriptor<Solution_> solutionDescriptor;
+
+    void phaseStarted(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this.solutionDescriptor = solutionDescriptor;
+        clear();
+    }
+
+    /**
+     * @param move never null
+     * @param stepStartingScore never null, the score of the working solution before the move
+     * @return null if the move has not been evaluated since one of its inputs changed
+     */
+    <Score_ extends Score<Score_>> Score_ findScore(Move<Solution_> move, Score_ stepStartingScore) {
+        MemoEntry memoEntry = memoEntryMap.get(move);
+        if (memoEntry == null) {
+            memoEntry = previousStepMemoEntryMap.remove(move);
+            if (memoEntry == null || !isUnchangedSince(move, memoEntry.revision)) {
+                return null;
+            }
+            memoEntryMap.put(move, memoEntry);
+        } else if (!isUnchangedSince(move, memoEntry.revision)) {
+            return null;
+        }
+        return stepStartingScore.add((Score_) memoEntry.scoreDifference);
+    }
+
+    <Score_ extends Score<Score_>> void putScore(Move<Solution_> move, Score_ stepStartingScore, Score_ moveScore) {
+        memoEntryMap.put(move, new MemoEntry(revision, moveScore.subtract(stepStartingScore)));
+    }
+
+    void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
+        Move<Solution_> step = stepScope.getStep();
+        if (step == null) {
+            return;
+        }
+        // Drop the moves that weren't selected during this step
+        Map<Move<Solution_>, MemoEntry> recycledMap = previousStepMemoEntryMap;
+        recycledMap.clear();
+        previousStepMemoEntryMap = memoEntryMap;
+        memoEntryMap = recycledMap;
+        revision++;
+        try {
+            for (Object entity : step.getPlanningEntities()) {
+                markChanged(entity);
+                // The new planning values of the entity
+                markPlanningValuesChanged(entity);
+            }
+            // The old planning values of the entities
+            markChanged(stepScope.getUndoStep().getPlanningValues());
+        } catch (UnsupportedOperationException e) {
+            // A custom move that doesn't say what it changed
+            clear();
+        }
+    }
+
+    private boolean isUnchangedSince(Move<Solution_> move, long memoRevision) {
+        Collection<?> planningEntities;
+        Collection<?> planningValues;
+        try {
+            planningEntities = move.getPlanningEntities();
+            planningValues = move.getPlanningValues();
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+        for (Object entity : planningEntities) {
+            if (isChangedSince(entity, memoRevision)) {
+                return false;
+            }
+            EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptorList()) {
+                if (isChangedSince(variableDescriptor.getValue(entity), memoRevision)) {
+                    return false;
+                }
+            }
+        }
+        for (Object value : planningValues) {
+            if (isChangedSince(value, memoRevision)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isChangedSince(Object planningEntityOrValue, long memoRevision) {
+        if (planningEntityOrValue == null) {
+            return false;
+        }
+        Long changedRevision = changedRevisionMap.get(planningEntityOrValue);
+        return changedRevision != null && changedRevision > memoRevision;
+    }
+
+    private void markPlanningValuesChanged(Object entity) {
+        EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+        for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                .getGenuineVariableDescriptorList()) {
+            markChanged(variableDescriptor.getValue(entity));
+        }
+    }
+
+    private void markChanged(Collection<?> planningEntitiesOrValues) {
+        for (Object planningEntityOrValue : planningEntitiesOrValues) {
+            markChanged(planningEntityOrValue);
+        }
+    }
+
+    private void markChanged(Object planningEntityOrValue) {
+        if (planningEntityOrValue != null) {
+            changedRevisionMap.put(planningEntityOrValue, revision);
+        }
+    }
+
+    private void clear() {
+        memoEntryMap.clear();
+        previousStepMemoEntryMap.clear();
+        changedRevisionMap.clear();
+        revision = 0L;
+    }
+
+    int size() {
+        return memoEntryMap.size() + previousStepMemoEntryMap.size();
+    }
+
+    private static final class MemoEntry {
+
+        private final long revision;
+        private final Score<?> scoreDifference;
+
+        private MemoEntry(long revision, Score<?> scoreDifference) {
+            this.revision = revision;
+            this.scoreDifference = scoreDifference;
+        }
+
+    }
+
+}
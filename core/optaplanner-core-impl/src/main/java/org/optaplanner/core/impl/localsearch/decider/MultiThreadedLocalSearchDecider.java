@@ -183,6 +183,10 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             // Increase stepIndex by 1, because it's a preliminary action
             ApplyStepOperation<Solution_, ?> stepOperation =
                     new ApplyStepOperation<>(stepIndex + 1, stepScope.getStep(), (Score) stepScope.getScore());
+            for (MoveThreadRunner<Solution_, ?> moveThreadRunner : moveThreadRunnerList) {
+                moveThreadRunner.addStepOperation(stepOperation);
+            }
+            // Wake up every move thread, so it applies the step while the solver thread selects the next moves
             for (int i = 0; i < moveThreadCount; i++) {
                 operationQueue.add(stepOperation);
             }
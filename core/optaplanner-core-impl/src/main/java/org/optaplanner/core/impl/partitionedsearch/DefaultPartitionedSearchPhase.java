@@ -38,7 +38,6 @@ import org.optaplanner.core.impl.partitionedsearch.scope.PartitionedSearchStepSc
 import org.optaplanner.core.impl.phase.AbstractPhase;
 import org.optaplanner.core.impl.phase.Phase;
 import org.optaplanner.core.impl.phase.PhaseFactory;
-import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecallerFactory;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
@@ -59,6 +58,7 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
     protected final SolutionPartitioner<Solution_> solutionPartitioner;
     protected final ThreadFactory threadFactory;
     protected final Integer runnablePartThreadLimit;
+    protected final boolean dynamicRepartitioning;
 
     protected final List<PhaseConfig> phaseConfigList;
     protected final HeuristicConfigPolicy<Solution_> configPolicy;
@@ -68,6 +68,7 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
         solutionPartitioner = builder.solutionPartitioner;
         threadFactory = builder.threadFactory;
         runnablePartThreadLimit = builder.runnablePartThreadLimit;
+        dynamicRepartitioning = builder.dynamicRepartitioning;
         phaseConfigList = builder.phaseConfigList;
         configPolicy = builder.configPolicy;
     }
@@ -89,39 +90,22 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
         int partCount = partList.size();
         phaseScope.setPartCount(partCount);
         phaseStarted(phaseScope);
-        ExecutorService executor = createThreadPoolExecutor(partCount);
+        // Repartitioning adds at most as many parts as the initial split, to bound the number of part threads
+        int maximumPartCount = dynamicRepartitioning ? partCount * 2 : partCount;
+        ExecutorService executor = createThreadPoolExecutor(maximumPartCount);
         ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination =
                 new ChildThreadPlumbingTermination<>();
-        PartitionQueue<Solution_> partitionQueue = new PartitionQueue<>(partCount);
+        PartitionQueue<Solution_> partitionQueue = new PartitionQueue<>(partCount, maximumPartCount);
         Semaphore runnablePartThreadSemaphore = runnablePartThreadLimit == null ? null
                 : new Semaphore(runnablePartThreadLimit, true);
+        PartitionScheduler<Solution_> partitionScheduler = new PartitionScheduler<>(this, solverScope, executor,
+                partitionQueue, childThreadPlumbingTermination, runnablePartThreadSemaphore, dynamicRepartitioning,
+                logIndentation);
         try {
             for (ListIterator<Solution_> it = partList.listIterator(); it.hasNext();) {
                 int partIndex = it.nextIndex();
                 Solution_ part = it.next();
-                PartitionSolver<Solution_> partitionSolver = buildPartitionSolver(
-                        childThreadPlumbingTermination, runnablePartThreadSemaphore, solverScope);
-                partitionSolver.addEventListener(event -> {
-                    InnerScoreDirector<Solution_, ?> childScoreDirector =
-                            partitionSolver.solverScope.getScoreDirector();
-                    PartitionChangeMove<Solution_> move = PartitionChangeMove.createMove(childScoreDirector, partIndex);
-                    InnerScoreDirector<Solution_, ?> parentScoreDirector = solverScope.getScoreDirector();
-                    move = move.rebase(parentScoreDirector);
-                    partitionQueue.addMove(partIndex, move);
-                });
-                executor.submit(() -> {
-                    try {
-                        partitionSolver.solve(part);
-                        long partCalculationCount = partitionSolver.getScoreCalculationCount();
-                        partitionQueue.addFinish(partIndex, partCalculationCount);
-                    } catch (Throwable throwable) {
-                        // Any Exception or even Error that happens here (on a partition thread) must be stored
-                        // in the partitionQueue in order to be propagated to the solver thread.
-                        logger.trace("{}            Part thread ({}) exception that will be propagated to the solver thread.",
-                                logIndentation, partIndex, throwable);
-                        partitionQueue.addExceptionThrown(partIndex, throwable);
-                    }
-                });
+                partitionScheduler.submitPart(partIndex, part);
             }
             for (PartitionChangeMove<Solution_> step : partitionQueue) {
                 PartitionedSearchStepScope<Solution_> stepScope = new PartitionedSearchStepScope<>(phaseScope);
@@ -135,6 +119,7 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
                 phaseScope.setLastCompletedStepScope(stepScope);
             }
             phaseScope.addChildThreadsScoreCalculationCount(partitionQueue.getPartsCalculationCount());
+            phaseScope.setPartCount(partitionQueue.getPartCount());
         } finally {
             // In case one of the partition threads threw an Exception, it is propagated here
             // but the other partition threads are not aware of the failure and may continue solving for a long time,
@@ -161,10 +146,27 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
     public PartitionSolver<Solution_> buildPartitionSolver(
             ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination,
             Semaphore runnablePartThreadSemaphore, SolverScope<Solution_> solverScope) {
+        return buildPartitionSolver(childThreadPlumbingTermination, null, runnablePartThreadSemaphore, solverScope);
+    }
+
+    /**
+     * @param childThreadPlumbingTermination never null, stops every part
+     * @param repartitionTermination sometimes null, stops only this part, so it can be split again
+     * @param runnablePartThreadSemaphore sometimes null
+     * @param solverScope never null
+     * @return never null
+     */
+    public PartitionSolver<Solution_> buildPartitionSolver(
+            ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination,
+            ChildThreadPlumbingTermination<Solution_> repartitionTermination,
+            Semaphore runnablePartThreadSemaphore, SolverScope<Solution_> solverScope) {
         BestSolutionRecaller<Solution_> bestSolutionRecaller =
                 BestSolutionRecallerFactory.create().buildBestSolutionRecaller(configPolicy.getEnvironmentMode());
         Termination<Solution_> partTermination = new OrCompositeTermination<>(childThreadPlumbingTermination,
                 phaseTermination.createChildThreadTermination(solverScope, ChildThreadType.PART_THREAD));
+        if (repartitionTermination != null) {
+            partTermination = new OrCompositeTermination<>(partTermination, repartitionTermination);
+        }
         List<Phase<Solution_>> phaseList = new ArrayList<>(phaseConfigList.size());
         int partPhaseIndex = 0;
         for (PhaseConfig phaseConfig : phaseConfigList) {
@@ -237,6 +239,8 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
         private final List<PhaseConfig> phaseConfigList;
         private final HeuristicConfigPolicy<Solution_> configPolicy;
 
+        private boolean dynamicRepartitioning = false;
+
         public Builder(int phaseIndex, String logIndentation, Termination<Solution_> phaseTermination,
                 SolutionPartitioner<Solution_> solutionPartitioner, ThreadFactory threadFactory,
                 Integer runnablePartThreadLimit, List<PhaseConfig> phaseConfigList,
@@ -249,6 +253,10 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
             this.configPolicy = configPolicy;
         }
 
+        public void setDynamicRepartitioning(boolean dynamicRepartitioning) {
+            this.dynamicRepartitioning = dynamicRepartitioning;
+        }
+
         @Override
         public DefaultPartitionedSearchPhase<Solution_> build() {
             return new DefaultPartitionedSearchPhase<>(this);
@@ -21,6 +21,7 @@ import static org.optaplanner.core.config.partitionedsearch.PartitionedSearchPha
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.ThreadFactory;
 
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
@@ -69,6 +70,7 @@ public class DefaultPartitionedSearchPhaseFactory<Solution_>
                 resolvedActiveThreadCount,
                 phaseConfigList_,
                 phaseConfigPolicy.createChildThreadConfigPolicy(ChildThreadType.PART_THREAD));
+        builder.setDynamicRepartitioning(Objects.requireNonNullElse(phaseConfig.getDynamicRepartitioning(), false));
 
         EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
         if (environmentMode.isNonIntrusiveFullAsserted()) {
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.partitionedsearch.partitioner.SolutionPartitioner;
+import org.optaplanner.core.impl.partitionedsearch.queue.PartitionQueue;
+import org.optaplanner.core.impl.partitionedsearch.scope.PartitionChangeMove;
+import org.optaplanner.core.impl.partitionedsearch.scope.PartitionChangeRecorder;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.termination.ChildThreadPlumbingTermination;
+import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Solves every part on a part thread of its own and reports its best solutions to the {@link PartitionQueue}.
+ * <p>
+ * With dynamic repartitioning, a part that converges (because its phases end on their own)
+ * hands its thread over to the biggest part that is still running:
+ * that part is stopped, its best solution is split again by the {@link SolutionPartitioner}
+ * and every new part is solved on a part thread of its own.
+ * The total number of parts is limited by {@link PartitionQueue#getMaximumPartCount()}.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+final class PartitionScheduler<Solution_> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionScheduler.class);
+
+    private final DefaultPartitionedSearchPhase<Solution_> phase;
+    private final SolverScope<Solution_> solverScope;
+    private final ExecutorService executor;
+    private final PartitionQueue<Solution_> partitionQueue;
+    private final ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination;
+    private final Semaphore runnablePartThreadSemaphore;
+    private final boolean dynamicRepartitioning;
+    private final String logIndentation;
+
+    // Guarded by this
+    private final Map<Integer, PartRunner> runningPartRunnerMap = new LinkedHashMap<>(); // Key is partIndex
+    private int reservedPartCount = 0;
+
+    PartitionScheduler(DefaultPartitionedSearchPhase<Solution_> phase, SolverScope<Solution_> solverScope,
+            ExecutorService executor, PartitionQueue<Solution_> partitionQueue,
+            ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination,
+            Semaphore runnablePartThreadSemaphore, boolean dynamicRepartitioning, String logIndentation) {
+        this.phase = phase;
+        this.solverScope = solverScope;
+        this.executor = executor;
+        this.partitionQueue = partitionQueue;
+        this.childThreadPlumbingTermination = childThreadPlumbingTermination;
+        this.runnablePartThreadSemaphore = runnablePartThreadSemaphore;
+        this.dynamicRepartitioning = dynamicRepartitioning;
+        this.logIndentation = logIndentation;
+    }
+
+    /**
+     * @param partIndex {@code 0 <= partIndex < partitionQueue.getPartCount()}
+     * @param part never null
+     */
+    synchronized void submitPart(int partIndex, Solution_ part) {
+        ChildThreadPlumbingTermination<Solution_> repartitionTermination = dynamicRepartitioning
+                ? new ChildThreadPlumbingTermination<>()
+                : null;
+        PartitionSolver<Solution_> partitionSolver = phase.buildPartitionSolver(childThreadPlumbingTermination,
+                repartitionTermination, runnablePartThreadSemaphore, solverScope);
+        PartitionChangeRecorder<Solution_> changeRecorder = new PartitionChangeRecorder<>(
+                phase.configPolicy.getSolutionDescriptor(), part, partIndex);
+        partitionSolver.addEventListener(event -> {
+            InnerScoreDirector<Solution_, ?> childScoreDirector =
+                    partitionSolver.solverScope.getScoreDirector();
+            PartitionChangeMove<Solution_> move = changeRecorder.createMove(childScoreDirector,
+                    solverScope.getScoreDirector());
+            partitionQueue.addMove(partIndex, move);
+        });
+        PartRunner partRunner = new PartRunner(partIndex, part, partitionSolver, repartitionTermination);
+        if (dynamicRepartitioning) {
+            runningPartRunnerMap.put(partIndex, partRunner);
+        }
+        executor.submit(partRunner);
+    }
+
+    private void partEnded(PartRunner partRunner, Solution_ bestPart) {
+        boolean repartitionRequested;
+        synchronized (this) {
+            runningPartRunnerMap.remove(partRunner.partIndex);
+            repartitionRequested = partRunner.repartitionRequested;
+            if (!repartitionRequested && partRunner.partitionSolver.isConverged()) {
+                requestRepartitioning(partRunner);
+            }
+        }
+        if (repartitionRequested) {
+            repartition(partRunner, bestPart);
+        }
+    }
+
+    // Guarded by this
+    private void requestRepartitioning(PartRunner convergedPartRunner) {
+        if (partitionQueue.getPartCount() + reservedPartCount >= partitionQueue.getMaximumPartCount()) {
+            return;
+        }
+        PartRunner biggestPartRunner = null;
+        for (PartRunner partRunner : runningPartRunnerMap.values()) {
+            if (!partRunner.repartitionRequested && partRunner.entityCount > 1
+                    && (biggestPartRunner == null || partRunner.entityCount > biggestPartRunner.entityCount)) {
+                biggestPartRunner = partRunner;
+            }
+        }
+        if (biggestPartRunner == null) {
+            return;
+        }
+        LOGGER.debug("{}            Part thread ({}) converged, so part ({}) with entityCount ({}) will be split again.",
+                logIndentation, convergedPartRunner.partIndex,
+                biggestPartRunner.partIndex, biggestPartRunner.entityCount);
+        biggestPartRunner.repartitionRequested = true;
+        // Keep a partIndex free for the stopped part, so it can always continue, even if it can't be split
+        reservedPartCount++;
+        biggestPartRunner.repartitionTermination.terminateChildren();
+    }
+
+    private void repartition(PartRunner partRunner, Solution_ bestPart) {
+        List<Solution_> subPartList = splitPart(bestPart);
+        synchronized (this) {
+            reservedPartCount--;
+            int freePartCount = partitionQueue.getMaximumPartCount() - partitionQueue.getPartCount() - reservedPartCount;
+            if (subPartList.size() > freePartCount) {
+                LOGGER.debug("{}            Part ({}) was split into ({}) parts, but only ({}) can be added,"
+                        + " so it continues unsplit.",
+                        logIndentation, partRunner.partIndex, subPartList.size(), freePartCount);
+                subPartList = Collections.singletonList(bestPart);
+            }
+            // Before the finish of the stopped part, so the partitionQueue never runs out of open parts in between
+            for (Solution_ subPart : subPartList) {
+                submitPart(partitionQueue.addPart(), subPart);
+            }
+        }
+    }
+
+    private List<Solution_> splitPart(Solution_ bestPart) {
+        try (InnerScoreDirector<Solution_, ?> partScoreDirector =
+                solverScope.getScoreDirector().createChildThreadScoreDirector(ChildThreadType.PART_THREAD)) {
+            partScoreDirector.setWorkingSolution(bestPart);
+            return phase.solutionPartitioner.splitWorkingSolution(partScoreDirector, phase.runnablePartThreadLimit);
+        }
+    }
+
+    private final class PartRunner implements Runnable {
+
+        private final int partIndex;
+        private final Solution_ part;
+        private final PartitionSolver<Solution_> partitionSolver;
+        private final ChildThreadPlumbingTermination<Solution_> repartitionTermination;
+        private final int entityCount;
+
+        // Guarded by PartitionScheduler.this
+        private boolean repartitionRequested = false;
+
+        private PartRunner(int partIndex, Solution_ part, PartitionSolver<Solution_> partitionSolver,
+                ChildThreadPlumbingTermination<Solution_> repartitionTermination) {
+            this.partIndex = partIndex;
+            this.part = part;
+            this.partitionSolver = partitionSolver;
+            this.repartitionTermination = repartitionTermination;
+            entityCount = dynamicRepartitioning ? phase.configPolicy.getSolutionDescriptor().getEntityCount(part) : -1;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Solution_ bestPart = partitionSolver.solve(part);
+                if (dynamicRepartitioning) {
+                    partEnded(this, bestPart);
+                }
+                long partCalculationCount = partitionSolver.getScoreCalculationCount();
+                partitionQueue.addFinish(partIndex, partCalculationCount);
+            } catch (Throwable throwable) {
+                // Any Exception or even Error that happens here (on a partition thread) must be stored
+                // in the partitionQueue in order to be propagated to the solver thread.
+                LOGGER.trace("{}            Part thread ({}) exception that will be propagated to the solver thread.",
+                        logIndentation, partIndex, throwable);
+                partitionQueue.addExceptionThrown(partIndex, throwable);
+            }
+        }
+
+    }
+
+}
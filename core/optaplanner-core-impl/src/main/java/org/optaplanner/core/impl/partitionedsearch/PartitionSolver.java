@@ -34,6 +34,8 @@ public class PartitionSolver<Solution_> extends AbstractSolver<Solution_> {
 
     protected final SolverScope<Solution_> solverScope;
 
+    private boolean converged = false;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -104,6 +106,8 @@ public class PartitionSolver<Solution_> extends AbstractSolver<Solution_> {
             solverScope.setBestSolution(problem);
             solvingStarted(solverScope);
             runPhases(solverScope);
+            // Before solvingEnded(), because some terminations still need the score director
+            converged = !solverTermination.isSolverTerminated(solverScope);
             solvingEnded(solverScope);
             return solverScope.getBestSolution();
         } finally {
@@ -128,4 +132,12 @@ public class PartitionSolver<Solution_> extends AbstractSolver<Solution_> {
         return solverScope.getScoreCalculationCount();
     }
 
+    /**
+     * @return true if the last {@link #solve(Object)} ended because its phases ended on their own,
+     *         false if it ended because of its {@link Termination}
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
 }
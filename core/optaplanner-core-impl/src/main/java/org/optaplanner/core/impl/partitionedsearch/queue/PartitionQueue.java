@@ -16,14 +16,12 @@
 
 package org.optaplanner.core.impl.partitionedsearch.queue;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
@@ -32,6 +30,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Multiple producers (the part threads), single consumer (the solver thread), without locks.
+ * <p>
+ * The moves of the same part coalesce: only the latest move of each part is kept,
+ * so a part thread never waits on the solver thread, no matter how fast it improves its best solution.
+ * Therefore at most 1 move trigger and 1 finish or exception per part can be pending at the same time,
+ * which bounds the ring buffer by the {@link #getMaximumPartCount() maximumPartCount}.
+ * <p>
  * This class is thread-safe.
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
@@ -40,33 +45,60 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PartitionQueue.class);
 
-    private BlockingQueue<PartitionChangedEvent<Solution_>> queue;
-    private Map<Integer, PartitionChangedEvent<Solution_>> moveEventMap; // Key is partIndex
-
-    // Only used by producers
-    private final Map<Integer, AtomicLong> nextEventIndexMap;
+    private final int maximumPartCount;
+    // Index is partIndex, the latest move event that the consumer hasn't taken yet
+    private final AtomicReferenceArray<PartitionChangedEvent<Solution_>> moveEventArray;
+    // Index is partIndex
+    private final AtomicLongArray nextEventIndexArray;
+    private final AtomicReferenceArray<PartitionChangedEvent<Solution_>> triggerEventRing;
+    private final AtomicLong triggerEventTail;
+    private final AtomicInteger partCount;
+    private final AtomicInteger openPartCount;
+    private volatile Thread parkedConsumerThread = null;
 
     // Only used by consumer
-    private int openPartCount;
+    private long triggerEventHead;
     private long partsCalculationCount;
-    private final Map<Integer, Long> processedEventIndexMap; // Key is partIndex
 
     public PartitionQueue(int partCount) {
-        // TODO partCount * 100 is pulled from thin air
-        queue = new ArrayBlockingQueue<>(partCount * 100);
-        moveEventMap = new ConcurrentHashMap<>(partCount);
-        Map<Integer, AtomicLong> nextEventIndexMap = new HashMap<>(partCount);
-        for (int i = 0; i < partCount; i++) {
-            nextEventIndexMap.put(i, new AtomicLong(0));
+        this(partCount, partCount);
+    }
+
+    /**
+     * @param partCount at least 1, the number of parts that are known upfront
+     * @param maximumPartCount at least partCount, the number of parts that can be {@link #addPart() added} in total
+     */
+    public PartitionQueue(int partCount, int maximumPartCount) {
+        if (maximumPartCount < partCount) {
+            throw new IllegalArgumentException("The maximumPartCount (" + maximumPartCount
+                    + ") cannot be less than the partCount (" + partCount + ").");
         }
-        this.nextEventIndexMap = Collections.unmodifiableMap(nextEventIndexMap);
-        openPartCount = partCount;
+        this.maximumPartCount = maximumPartCount;
+        moveEventArray = new AtomicReferenceArray<>(maximumPartCount);
+        nextEventIndexArray = new AtomicLongArray(maximumPartCount);
+        triggerEventRing = new AtomicReferenceArray<>(maximumPartCount * 2);
+        triggerEventTail = new AtomicLong(0L);
+        this.partCount = new AtomicInteger(partCount);
+        openPartCount = new AtomicInteger(partCount);
+        triggerEventHead = 0L;
         partsCalculationCount = 0L;
-        // HashMap because only the consumer thread uses it
-        processedEventIndexMap = new HashMap<>(partCount);
-        for (int i = 0; i < partCount; i++) {
-            processedEventIndexMap.put(i, -1L);
+    }
+
+    /**
+     * This method is thread-safe.
+     * Registers a new part, for example because another part was split again.
+     * To keep the iteration going, it must be called before the part that adds it, adds its own finish.
+     *
+     * @return the partIndex of the new part
+     */
+    public int addPart() {
+        int partIndex = partCount.getAndIncrement();
+        if (partIndex >= maximumPartCount) {
+            throw new IllegalStateException("Impossible state: the partIndex (" + partIndex
+                    + ") must be less than the maximumPartCount (" + maximumPartCount + ").");
         }
+        openPartCount.incrementAndGet();
+        return partIndex;
     }
 
     /**
@@ -75,14 +107,18 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
      *
      * @param partIndex {@code 0 <= partIndex < partCount}
      * @param move never null
-     * @see BlockingQueue#add(Object)
      */
     public void addMove(int partIndex, PartitionChangeMove<Solution_> move) {
-        long eventIndex = nextEventIndexMap.get(partIndex).getAndIncrement();
+        long eventIndex = nextEventIndexArray.getAndIncrement(partIndex);
         PartitionChangedEvent<Solution_> event = new PartitionChangedEvent<>(
                 partIndex, eventIndex, move);
-        moveEventMap.put(event.getPartIndex(), event);
-        queue.add(event);
+        PartitionChangedEvent<Solution_> skippedEvent = moveEventArray.getAndSet(partIndex, event);
+        if (skippedEvent == null) {
+            // The consumer has taken the previous move of this part, so it needs a new trigger
+            addTriggerEvent(event);
+        } else {
+            LOGGER.trace("    Skipped event of partIndex ({}).", partIndex);
+        }
     }
 
     /**
@@ -91,13 +127,12 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
      *
      * @param partIndex {@code 0 <= partIndex < partCount}
      * @param partCalculationCount at least 0
-     * @see BlockingQueue#add(Object)
      */
     public void addFinish(int partIndex, long partCalculationCount) {
-        long eventIndex = nextEventIndexMap.get(partIndex).getAndIncrement();
+        long eventIndex = nextEventIndexArray.getAndIncrement(partIndex);
         PartitionChangedEvent<Solution_> event = new PartitionChangedEvent<>(
                 partIndex, eventIndex, partCalculationCount);
-        queue.add(event);
+        addTriggerEvent(event);
     }
 
     /**
@@ -107,13 +142,25 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
      *
      * @param partIndex {@code 0 <= partIndex < partCount}
      * @param throwable never null
-     * @see BlockingQueue#add(Object)
      */
     public void addExceptionThrown(int partIndex, Throwable throwable) {
-        long eventIndex = nextEventIndexMap.get(partIndex).getAndIncrement();
+        long eventIndex = nextEventIndexArray.getAndIncrement(partIndex);
         PartitionChangedEvent<Solution_> event = new PartitionChangedEvent<>(
                 partIndex, eventIndex, throwable);
-        queue.add(event);
+        addTriggerEvent(event);
+    }
+
+    private void addTriggerEvent(PartitionChangedEvent<Solution_> event) {
+        int slot = (int) (triggerEventTail.getAndIncrement() % triggerEventRing.length());
+        if (!triggerEventRing.compareAndSet(slot, null, event)) {
+            throw new IllegalStateException("Impossible state: the trigger event slot (" + slot
+                    + ") is still taken, so more than " + triggerEventRing.length()
+                    + " events are pending for maximumPartCount (" + maximumPartCount + ").");
+        }
+        Thread consumerThread = parkedConsumerThread;
+        if (consumerThread != null) {
+            LockSupport.unpark(consumerThread);
+        }
     }
 
     @Override
@@ -127,29 +174,19 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
         @Override
         protected PartitionChangeMove<Solution_> createUpcomingSelection() {
             while (true) {
-                PartitionChangedEvent<Solution_> triggerEvent;
-                try {
-                    triggerEvent = queue.take();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new IllegalStateException("Solver thread was interrupted in Partitioned Search.", e);
-                }
+                PartitionChangedEvent<Solution_> triggerEvent = takeTriggerEvent();
                 switch (triggerEvent.getType()) {
                     case MOVE:
                         int partIndex = triggerEvent.getPartIndex();
-                        long processedEventIndex = processedEventIndexMap.get(partIndex);
-                        if (triggerEvent.getEventIndex() <= processedEventIndex) {
-                            // Skip this one because it or a better version was already processed
-                            LOGGER.trace("    Skipped event of partIndex ({}).", partIndex);
-                            continue;
+                        PartitionChangedEvent<Solution_> latestMoveEvent = moveEventArray.getAndSet(partIndex, null);
+                        if (latestMoveEvent == null) {
+                            throw new IllegalStateException("Impossible state: the move trigger of partIndex ("
+                                    + partIndex + ") has no pending move.");
                         }
-                        PartitionChangedEvent<Solution_> latestMoveEvent = moveEventMap.get(partIndex);
-                        processedEventIndexMap.put(partIndex, latestMoveEvent.getEventIndex());
                         return latestMoveEvent.getMove();
                     case FINISHED:
-                        openPartCount--;
                         partsCalculationCount += triggerEvent.getPartCalculationCount();
-                        if (openPartCount <= 0) {
+                        if (openPartCount.decrementAndGet() <= 0) {
                             return noUpcomingSelection();
                         } else {
                             continue;
@@ -166,6 +203,35 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
             }
         }
 
+        private PartitionChangedEvent<Solution_> takeTriggerEvent() {
+            int slot = (int) (triggerEventHead % triggerEventRing.length());
+            while (true) {
+                PartitionChangedEvent<Solution_> triggerEvent = triggerEventRing.getAndSet(slot, null);
+                if (triggerEvent != null) {
+                    triggerEventHead++;
+                    return triggerEvent;
+                }
+                parkedConsumerThread = Thread.currentThread();
+                // Check again after announcing the park, so an event added in between can't be missed
+                if (triggerEventRing.get(slot) == null) {
+                    LockSupport.park(this);
+                }
+                parkedConsumerThread = null;
+                if (Thread.currentThread().isInterrupted()) {
+                    // Keep the interrupted flag
+                    throw new IllegalStateException("Solver thread was interrupted in Partitioned Search.");
+                }
+            }
+        }
+
+    }
+
+    public int getPartCount() {
+        return partCount.get();
+    }
+
+    public int getMaximumPartCount() {
+        return maximumPartCount;
     }
 
     public long getPartsCalculationCount() {
@@ -16,8 +16,10 @@
 
 package org.optaplanner.core.impl.partitionedsearch.scope;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +36,10 @@ import org.optaplanner.core.impl.util.Pair;
 
 /**
  * Applies a new best solution from a partition child solver into the global working solution of the parent solver.
+ * <p>
+ * If it's created by a {@link PartitionChangeRecorder}, it only contains the changes since the previous move of its part,
+ * so it also applies the previous moves that haven't been done yet,
+ * because the {@link org.optaplanner.core.impl.partitionedsearch.queue.PartitionQueue} skips those.
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
@@ -70,15 +76,40 @@ public final class PartitionChangeMove<Solution_> extends AbstractMove<Solution_
     private final Map<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> changeMap;
     private final int partIndex;
 
+    // Only used by the solver thread after the move is published, except for the initialization
+    private PartitionChangeMove<Solution_> previousMove = null;
+    private boolean done = false;
+
     public PartitionChangeMove(Map<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> changeMap,
             int partIndex) {
         this.changeMap = changeMap;
         this.partIndex = partIndex;
     }
 
+    /**
+     * @param previousMove sometimes null, the move of the same part that precedes this one
+     */
+    void setPreviousMove(PartitionChangeMove<Solution_> previousMove) {
+        this.previousMove = previousMove;
+    }
+
     @Override
     protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
+        Deque<PartitionChangeMove<Solution_>> undoneMoveDeque = new ArrayDeque<>();
+        for (PartitionChangeMove<Solution_> move = this; move != null && !move.done; move = move.previousMove) {
+            undoneMoveDeque.push(move);
+        }
+        // Oldest first
+        for (PartitionChangeMove<Solution_> move : undoneMoveDeque) {
+            move.doChanges(innerScoreDirector);
+            move.done = true;
+            // Let the garbage collector reclaim the moves that are done
+            move.previousMove = null;
+        }
+    }
+
+    private void doChanges(InnerScoreDirector<Solution_, ?> innerScoreDirector) {
         for (Map.Entry<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> entry : changeMap.entrySet()) {
             GenuineVariableDescriptor<Solution_> variableDescriptor = entry.getKey();
             for (Pair<Object, Object> pair : entry.getValue()) {
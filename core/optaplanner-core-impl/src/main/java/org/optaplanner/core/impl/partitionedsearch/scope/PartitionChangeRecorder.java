@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.scope;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.util.MutableInt;
+import org.optaplanner.core.impl.util.Pair;
+
+/**
+ * Creates the {@link PartitionChangeMove}s of 1 part, each with only the genuine variables
+ * that changed since the previous one, instead of every genuine variable of the part.
+ * <p>
+ * The entities are matched by the order of {@link SolutionDescriptor#visitAllEntities(Object, java.util.function.Consumer)},
+ * because a planning clone keeps that order, even though it replaces every entity instance.
+ * <p>
+ * This class is not thread-safe: it's only used by the part thread.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class PartitionChangeRecorder<Solution_> {
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final int partIndex;
+    /**
+     * The genuine variable values of every entity, as the last created move leaves them,
+     * in the order of the entities and their {@link EntityDescriptor#getGenuineVariableDescriptorList()}.
+     */
+    private final Object[] recordedValues;
+
+    private PartitionChangeMove<Solution_> lastMove = null;
+
+    /**
+     * @param solutionDescriptor never null
+     * @param part never null, with the same genuine variable values as the working solution of the solver thread
+     * @param partIndex {@code >= 0}
+     */
+    public PartitionChangeRecorder(SolutionDescriptor<Solution_> solutionDescriptor, Solution_ part, int partIndex) {
+        this.solutionDescriptor = solutionDescriptor;
+        this.partIndex = partIndex;
+        List<Object> valueList = new ArrayList<>();
+        solutionDescriptor.visitAllEntities(part, entity -> {
+            EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(
+                    entity.getClass());
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptorList()) {
+                valueList.add(variableDescriptor.getValue(entity));
+            }
+        });
+        recordedValues = valueList.toArray();
+    }
+
+    /**
+     * @param scoreDirector never null, the score director of the part thread
+     * @param destinationScoreDirector never null, the score director of the solver thread
+     * @return never null, already {@link PartitionChangeMove#rebase(ScoreDirector) rebased}
+     *         to the destinationScoreDirector
+     */
+    public PartitionChangeMove<Solution_> createMove(InnerScoreDirector<Solution_, ?> scoreDirector,
+            ScoreDirector<Solution_> destinationScoreDirector) {
+        Map<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> changeMap = new LinkedHashMap<>();
+        MutableInt valueIndex = new MutableInt();
+        solutionDescriptor.visitAllEntities(scoreDirector.getWorkingSolution(), entity -> {
+            EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(
+                    entity.getClass());
+            boolean movable = entityDescriptor.isMovable(scoreDirector, entity);
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptorList()) {
+                int index = valueIndex.intValue();
+                valueIndex.increment();
+                if (index >= recordedValues.length) {
+                    // Fail fast below, after counting them all
+                    continue;
+                }
+                Object value = variableDescriptor.getValue(entity);
+                // Identity, because the planning values aren't planning cloned
+                if (movable && value != recordedValues[index]) {
+                    changeMap.computeIfAbsent(variableDescriptor, k -> new ArrayList<>())
+                            .add(Pair.of(entity, value));
+                    recordedValues[index] = value;
+                }
+            }
+        });
+        if (valueIndex.intValue() != recordedValues.length) {
+            throw new IllegalStateException("Impossible state: the part (" + partIndex
+                    + ") has a working solution with (" + valueIndex.intValue()
+                    + ") genuine variables, but it started with (" + recordedValues.length + ") genuine variables.");
+        }
+        PartitionChangeMove<Solution_> move = new PartitionChangeMove<>(changeMap, partIndex)
+                .rebase(destinationScoreDirector);
+        move.setPreviousMove(lastMove);
+        lastMove = move;
+        return move;
+    }
+
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.portfoliosearch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.localsearch.DefaultLocalSearchPhaseFactory;
+import org.optaplanner.core.impl.partitionedsearch.PartitionSolver;
+import org.optaplanner.core.impl.phase.AbstractPhase;
+import org.optaplanner.core.impl.phase.Phase;
+import org.optaplanner.core.impl.portfoliosearch.event.PortfolioSearchPhaseLifecycleListener;
+import org.optaplanner.core.impl.portfoliosearch.scope.PortfolioSearchPhaseScope;
+import org.optaplanner.core.impl.portfoliosearch.scope.PortfolioSearchStepScope;
+import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
+import org.optaplanner.core.impl.solver.recaller.BestSolutionRecallerFactory;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.termination.ChildThreadPlumbingTermination;
+import org.optaplanner.core.impl.solver.termination.OrCompositeTermination;
+import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+import org.optaplanner.core.impl.solver.thread.ThreadUtils;
+
+/**
+ * Default implementation of {@link PortfolioSearchPhase}.
+ * <p>
+ * Every step is an exchange round: every replica solves a planning clone of the best solution
+ * on a thread of its own for a fixed number of steps, without any synchronization with the other replicas.
+ * Afterwards, the working solution becomes the best solution of the best replica
+ * and the next round restarts every replica from the (possibly new) best solution.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class DefaultPortfolioSearchPhase<Solution_> extends AbstractPhase<Solution_>
+        implements PortfolioSearchPhase<Solution_>, PortfolioSearchPhaseLifecycleListener<Solution_> {
+
+    /**
+     * Unlike the {@link #phaseTermination}, which is only checked between steps,
+     * the solver termination also stops the replicas during a step.
+     */
+    protected final Termination<Solution_> solverTermination;
+    protected final ThreadFactory threadFactory;
+    protected final List<LocalSearchPhaseConfig> replicaPhaseConfigList;
+    protected final HeuristicConfigPolicy<Solution_> configPolicy;
+
+    private DefaultPortfolioSearchPhase(Builder<Solution_> builder) {
+        super(builder);
+        solverTermination = builder.solverTermination;
+        threadFactory = builder.threadFactory;
+        replicaPhaseConfigList = builder.replicaPhaseConfigList;
+        configPolicy = builder.configPolicy;
+    }
+
+    @Override
+    public String getPhaseTypeString() {
+        return "Portfolio Search";
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void solve(SolverScope<Solution_> solverScope) {
+        PortfolioSearchPhaseScope<Solution_> phaseScope = new PortfolioSearchPhaseScope<>(solverScope);
+        int replicaCount = replicaPhaseConfigList.size();
+        phaseScope.setReplicaCount(replicaCount);
+        phaseStarted(phaseScope);
+        ExecutorService executor = Executors.newFixedThreadPool(replicaCount, threadFactory);
+        ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination =
+                new ChildThreadPlumbingTermination<>();
+        try {
+            while (!phaseTermination.isPhaseTerminated(phaseScope)) {
+                PortfolioSearchStepScope<Solution_> stepScope = new PortfolioSearchStepScope<>(phaseScope);
+                stepStarted(stepScope);
+                doStep(stepScope, executor, childThreadPlumbingTermination);
+                stepEnded(stepScope);
+                phaseScope.setLastCompletedStepScope(stepScope);
+            }
+        } finally {
+            // In case one of the replica threads threw an Exception, it is propagated here
+            // but the other replica threads are not aware of the failure and may continue solving for a long time,
+            // so we need to ask them to terminate. In case no exception was thrown, this does nothing.
+            childThreadPlumbingTermination.terminateChildren();
+            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Portfolio Search");
+        }
+        phaseEnded(phaseScope);
+    }
+
+    protected <Score_ extends Score<Score_>> void doStep(PortfolioSearchStepScope<Solution_> stepScope,
+            ExecutorService executor, ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination) {
+        PortfolioSearchPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
+        SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
+        Solution_ startingSolution = solverScope.getBestSolution();
+        // Build every replica on the solver thread, so the replica's working random seeds are reproducible
+        List<PartitionSolver<Solution_>> replicaSolverList = new ArrayList<>(replicaPhaseConfigList.size());
+        for (LocalSearchPhaseConfig replicaPhaseConfig : replicaPhaseConfigList) {
+            replicaSolverList.add(buildReplicaSolver(replicaPhaseConfig, childThreadPlumbingTermination, solverScope));
+        }
+        List<Future<Solution_>> futureList = new ArrayList<>(replicaSolverList.size());
+        for (PartitionSolver<Solution_> replicaSolver : replicaSolverList) {
+            // Every replica planning clones the startingSolution, which is not modified during this step
+            futureList.add(executor.submit(() -> replicaSolver.solve(startingSolution)));
+        }
+        int adoptedReplicaIndex = -1;
+        Solution_ adoptedSolution = null;
+        Score_ adoptedScore = null;
+        for (int replicaIndex = 0; replicaIndex < futureList.size(); replicaIndex++) {
+            Solution_ replicaBestSolution = awaitReplica(futureList.get(replicaIndex), replicaIndex);
+            PartitionSolver<Solution_> replicaSolver = replicaSolverList.get(replicaIndex);
+            phaseScope.addChildThreadsScoreCalculationCount(replicaSolver.getScoreCalculationCount());
+            Score_ replicaBestScore = (Score_) phaseScope.getSolutionDescriptor().getScore(replicaBestSolution);
+            // On a tie, the lowest replicaIndex wins, for reproducibility
+            if (adoptedScore == null || replicaBestScore.compareTo(adoptedScore) > 0) {
+                adoptedReplicaIndex = replicaIndex;
+                adoptedSolution = replicaBestSolution;
+                adoptedScore = replicaBestScore;
+            }
+        }
+        stepScope.setAdoptedReplicaIndex(adoptedReplicaIndex);
+        // The adopted solution is a planning clone that no replica uses anymore
+        stepScope.getScoreDirector().setWorkingSolution(adoptedSolution);
+        calculateWorkingStepScore(stepScope, "replica (" + adoptedReplicaIndex + ")");
+        solver.getBestSolutionRecaller().processWorkingSolutionDuringStep(stepScope);
+    }
+
+    private Solution_ awaitReplica(Future<Solution_> future, int replicaIndex) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Solver thread was interrupted in Portfolio Search.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("The replica thread with replicaIndex (" + replicaIndex
+                    + ") has thrown an exception. Relayed here in the parent thread.", e.getCause());
+        }
+    }
+
+    /**
+     * @param replicaPhaseConfig never null
+     * @param childThreadPlumbingTermination never null, stops every replica
+     * @param solverScope never null
+     * @return never null
+     */
+    public PartitionSolver<Solution_> buildReplicaSolver(LocalSearchPhaseConfig replicaPhaseConfig,
+            ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination, SolverScope<Solution_> solverScope) {
+        BestSolutionRecaller<Solution_> bestSolutionRecaller =
+                BestSolutionRecallerFactory.create().buildBestSolutionRecaller(configPolicy.getEnvironmentMode());
+        Termination<Solution_> replicaTermination = new OrCompositeTermination<>(childThreadPlumbingTermination,
+                solverTermination.createChildThreadTermination(solverScope, ChildThreadType.PART_THREAD));
+        Phase<Solution_> phase = new DefaultLocalSearchPhaseFactory<Solution_>(replicaPhaseConfig)
+                .buildPhase(0, configPolicy, bestSolutionRecaller, replicaTermination);
+        SolverScope<Solution_> replicaSolverScope = solverScope.createChildThreadSolverScope(ChildThreadType.PART_THREAD);
+        return new PartitionSolver<>(bestSolutionRecaller, replicaTermination, List.of(phase), replicaSolverScope);
+    }
+
+    @Override
+    public void phaseStarted(PortfolioSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        assertWorkingSolutionInitialized(phaseScope);
+    }
+
+    @Override
+    public void stepStarted(PortfolioSearchStepScope<Solution_> stepScope) {
+        super.stepStarted(stepScope);
+    }
+
+    @Override
+    public void stepEnded(PortfolioSearchStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        PortfolioSearchPhaseScope<Solution_> phaseScope = stepScope.getPhaseScope();
+        if (logger.isDebugEnabled()) {
+            logger.debug("{}    PFS step ({}), time spent ({}), score ({}), {} best score ({}), adopted replica ({}).",
+                    logIndentation,
+                    stepScope.getStepIndex(),
+                    phaseScope.calculateSolverTimeMillisSpentUpToNow(),
+                    stepScope.getScore(),
+                    (stepScope.getBestScoreImproved() ? "new" : "   "), phaseScope.getBestScore(),
+                    stepScope.getAdoptedReplicaIndex());
+        }
+    }
+
+    @Override
+    public void phaseEnded(PortfolioSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        phaseScope.endingNow();
+        logger.info("{}Portfolio Search phase ({}) ended: time spent ({}), best score ({}),"
+                + " score calculation speed ({}/sec), step total ({}), replicaCount ({}).",
+                logIndentation,
+                phaseIndex,
+                phaseScope.calculateSolverTimeMillisSpentUpToNow(),
+                phaseScope.getBestScore(),
+                phaseScope.getPhaseScoreCalculationSpeed(),
+                phaseScope.getNextStepIndex(),
+                phaseScope.getReplicaCount());
+    }
+
+    public static class Builder<Solution_> extends AbstractPhase.Builder<Solution_> {
+
+        private final Termination<Solution_> solverTermination;
+        private final ThreadFactory threadFactory;
+        private final List<LocalSearchPhaseConfig> replicaPhaseConfigList;
+        private final HeuristicConfigPolicy<Solution_> configPolicy;
+
+        /**
+         * @param replicaPhaseConfigList never null, every element already includes the termination
+         *        that ends a replica at the end of a step
+         */
+        public Builder(int phaseIndex, String logIndentation, Termination<Solution_> phaseTermination,
+                Termination<Solution_> solverTermination, ThreadFactory threadFactory,
+                List<LocalSearchPhaseConfig> replicaPhaseConfigList, HeuristicConfigPolicy<Solution_> configPolicy) {
+            super(phaseIndex, logIndentation, phaseTermination);
+            this.solverTermination = solverTermination;
+            this.threadFactory = threadFactory;
+            this.replicaPhaseConfigList = List.copyOf(replicaPhaseConfigList);
+            this.configPolicy = configPolicy;
+        }
+
+        @Override
+        public DefaultPortfolioSearchPhase<Solution_> build() {
+            return new DefaultPortfolioSearchPhase<>(this);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.portfoliosearch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.portfoliosearch.PortfolioSearchPhaseConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.phase.AbstractPhaseFactory;
+import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
+import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+
+public class DefaultPortfolioSearchPhaseFactory<Solution_>
+        extends AbstractPhaseFactory<Solution_, PortfolioSearchPhaseConfig> {
+
+    public DefaultPortfolioSearchPhaseFactory(PortfolioSearchPhaseConfig phaseConfig) {
+        super(phaseConfig);
+    }
+
+    @Override
+    public PortfolioSearchPhase<Solution_> buildPhase(int phaseIndex,
+            HeuristicConfigPolicy<Solution_> solverConfigPolicy, BestSolutionRecaller<Solution_> bestSolutionRecaller,
+            Termination<Solution_> solverTermination) {
+        HeuristicConfigPolicy<Solution_> phaseConfigPolicy = solverConfigPolicy.createPhaseConfigPolicy();
+        ThreadFactory threadFactory = solverConfigPolicy.buildThreadFactory(ChildThreadType.PART_THREAD);
+        Termination<Solution_> phaseTermination = buildPhaseTermination(phaseConfigPolicy, solverTermination);
+        int exchangeStepCountLimit = Objects.requireNonNullElse(phaseConfig.getExchangeStepCountLimit(), 1000);
+        if (exchangeStepCountLimit < 1) {
+            throw new IllegalArgumentException("The exchangeStepCountLimit (" + exchangeStepCountLimit
+                    + ") cannot be negative or zero.");
+        }
+        List<LocalSearchPhaseConfig> localSearchPhaseConfigList_ = phaseConfig.getLocalSearchPhaseConfigList();
+        if (ConfigUtils.isEmptyCollection(localSearchPhaseConfigList_)) {
+            // Leave one for the Operating System and 1 for the solver thread, take the rest
+            int replicaCount = Math.max(1, getAvailableProcessors() - 2);
+            localSearchPhaseConfigList_ = Collections.nCopies(replicaCount, new LocalSearchPhaseConfig());
+        }
+        List<LocalSearchPhaseConfig> replicaPhaseConfigList = new ArrayList<>(localSearchPhaseConfigList_.size());
+        for (LocalSearchPhaseConfig localSearchPhaseConfig : localSearchPhaseConfigList_) {
+            replicaPhaseConfigList.add(buildReplicaPhaseConfig(localSearchPhaseConfig, exchangeStepCountLimit));
+        }
+
+        DefaultPortfolioSearchPhase.Builder<Solution_> builder = new DefaultPortfolioSearchPhase.Builder<>(
+                phaseIndex,
+                solverConfigPolicy.getLogIndentation(),
+                phaseTermination,
+                solverTermination,
+                threadFactory,
+                replicaPhaseConfigList,
+                phaseConfigPolicy.createChildThreadConfigPolicy(ChildThreadType.PART_THREAD));
+
+        EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
+        if (environmentMode.isNonIntrusiveFullAsserted()) {
+            builder.setAssertStepScoreFromScratch(true);
+        }
+        if (environmentMode.isIntrusiveFastAsserted()) {
+            builder.setAssertExpectedStepScore(true);
+            builder.setAssertShadowVariablesAreNotStaleAfterStep(true);
+        }
+        return builder.build();
+    }
+
+    /**
+     * A replica ends after exchangeStepCountLimit steps, or sooner if its own termination says so.
+     */
+    private LocalSearchPhaseConfig buildReplicaPhaseConfig(LocalSearchPhaseConfig localSearchPhaseConfig,
+            int exchangeStepCountLimit) {
+        LocalSearchPhaseConfig replicaPhaseConfig = localSearchPhaseConfig.copyConfig();
+        TerminationConfig replicaTerminationConfig = new TerminationConfig().withStepCountLimit(exchangeStepCountLimit);
+        if (replicaPhaseConfig.getTerminationConfig() != null) {
+            replicaTerminationConfig = new TerminationConfig().withTerminationConfigList(
+                    List.of(replicaTerminationConfig, replicaPhaseConfig.getTerminationConfig()));
+        }
+        replicaPhaseConfig.setTerminationConfig(replicaTerminationConfig);
+        return replicaPhaseConfig;
+    }
+
+    protected int getAvailableProcessors() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.portfoliosearch;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.phase.AbstractPhase;
+import org.optaplanner.core.impl.phase.Phase;
+
+/**
+ * A {@link PortfolioSearchPhase} is a {@link Phase} which uses a Portfolio Search algorithm.
+ * It solves the {@link PlanningSolution} with several Local Search replicas in parallel,
+ * which periodically all restart from the best solution of any of them.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @see Phase
+ * @see AbstractPhase
+ * @see DefaultPortfolioSearchPhase
+ */
+public interface PortfolioSearchPhase<Solution_> extends Phase<Solution_> {
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.portfoliosearch.scope;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+
+/**
+ * Every step is an exchange: it restarts every replica from the best solution and adopts the best replica result.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class PortfolioSearchStepScope<Solution_> extends AbstractStepScope<Solution_> {
+
+    private final PortfolioSearchPhaseScope<Solution_> phaseScope;
+
+    private Integer adoptedReplicaIndex = null;
+
+    public PortfolioSearchStepScope(PortfolioSearchPhaseScope<Solution_> phaseScope) {
+        this(phaseScope, phaseScope.getNextStepIndex());
+    }
+
+    public PortfolioSearchStepScope(PortfolioSearchPhaseScope<Solution_> phaseScope, int stepIndex) {
+        super(stepIndex);
+        this.phaseScope = phaseScope;
+    }
+
+    @Override
+    public PortfolioSearchPhaseScope<Solution_> getPhaseScope() {
+        return phaseScope;
+    }
+
+    /**
+     * @return null if no replica improved the best solution during this step
+     */
+    public Integer getAdoptedReplicaIndex() {
+        return adoptedReplicaIndex;
+    }
+
+    public void setAdoptedReplicaIndex(Integer adoptedReplicaIndex) {
+        this.adoptedReplicaIndex = adoptedReplicaIndex;
+    }
+
+    // ************************************************************************
+    // Calculated methods
+    // ************************************************************************
+
+}
@@ -77,7 +77,7 @@ public abstract class AbstractSolver<Solution_> implements Solver<Solution_> {
     // ************************************************************************
 
     public void solvingStarted(SolverScope<Solution_> solverScope) {
-        solverScope.setWorkingSolutionFromBestSolution();
+        initWorkingSolution(solverScope);
         bestSolutionRecaller.solvingStarted(solverScope);
         solverTermination.solvingStarted(solverScope);
         phaseLifecycleSupport.fireSolvingStarted(solverScope);
@@ -86,6 +86,10 @@ public abstract class AbstractSolver<Solution_> implements Solver<Solution_> {
         }
     }
 
+    protected void initWorkingSolution(SolverScope<Solution_> solverScope) {
+        solverScope.setWorkingSolutionFromBestSolution();
+    }
+
     protected void runPhases(SolverScope<Solution_> solverScope) {
         if (!solverScope.getSolutionDescriptor().hasMovableEntities(solverScope.getScoreDirector())) {
             logger.info("Skipped all phases ({}): out of {} planning entities, none are movable (non-pinned).",
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.solver.BestSolutionDiff;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+
+/**
+ * Creates a {@link BestSolutionDiff} for each delivered best solution,
+ * by comparing its variables with those recorded from the previous delivered best solution.
+ * <p>
+ * A reference to another entity is recorded as the position of that entity,
+ * because each best solution is a different planning clone.
+ * The previous best solution itself is not kept, because its consumer might change it.
+ * <p>
+ * This class is not thread-safe: it's only used by the consumer thread.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+final class BestSolutionDiffRecorder<Solution_> {
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    /**
+     * The class of every entity of the previous best solution, in the order of {@link #visitAllEntities(Object)}.
+     * Null before the first best solution.
+     */
+    private List<Class<?>> recordedEntityClassList = null;
+    /**
+     * In the order of the entities and their {@link EntityDescriptor#getVariableDescriptors()}.
+     */
+    private List<Object> recordedValueList = null;
+
+    BestSolutionDiffRecorder(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this.solutionDescriptor = solutionDescriptor;
+    }
+
+    BestSolutionDiff<Solution_> diff(Solution_ newBestSolution) {
+        List<Object> entityList = visitAllEntities(newBestSolution);
+        Map<Object, Integer> entityIndexMap = new IdentityHashMap<>(entityList.size());
+        List<Class<?>> entityClassList = new ArrayList<>(entityList.size());
+        for (Object entity : entityList) {
+            entityIndexMap.put(entity, entityIndexMap.size());
+            entityClassList.add(entity.getClass());
+        }
+        boolean complete = !entityClassList.equals(recordedEntityClassList);
+        List<Object> valueList = new ArrayList<>(complete ? entityList.size() : recordedValueList.size());
+        List<Object> changedEntityList = new ArrayList<>();
+        Map<Object, Set<String>> changedVariableNamesMap = new IdentityHashMap<>();
+        for (Object entity : entityList) {
+            EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+            Set<String> changedVariableNames = null;
+            for (VariableDescriptor<Solution_> variableDescriptor : entityDescriptor.getVariableDescriptors()) {
+                Object value = toRecordedValue(variableDescriptor.getValue(entity), entityIndexMap);
+                if (complete || !Objects.equals(value, recordedValueList.get(valueList.size()))) {
+                    if (changedVariableNames == null) {
+                        changedVariableNames = new LinkedHashSet<>();
+                        changedEntityList.add(entity);
+                        changedVariableNamesMap.put(entity, changedVariableNames);
+                    }
+                    changedVariableNames.add(variableDescriptor.getVariableName());
+                }
+                valueList.add(value);
+            }
+        }
+        recordedEntityClassList = entityClassList;
+        recordedValueList = valueList;
+        return new BestSolutionDiff<>(newBestSolution, complete, changedEntityList, changedVariableNamesMap);
+    }
+
+    private List<Object> visitAllEntities(Solution_ solution) {
+        List<Object> entityList = new ArrayList<>();
+        Set<Object> entitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+        // Includes the entities that are only in a problem fact collection, such as the values of a list variable
+        solutionDescriptor.visitAllFacts(solution, fact -> {
+            if (solutionDescriptor.hasEntityDescriptor(fact.getClass()) && entitySet.add(fact)) {
+                entityList.add(fact);
+            }
+        });
+        return entityList;
+    }
+
+    private static Object toRecordedValue(Object value, Map<Object, Integer> entityIndexMap) {
+        if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            List<Object> recordedCollection = new ArrayList<>(collection.size());
+            for (Object element : collection) {
+                recordedCollection.add(toRecordedValue(element, entityIndexMap));
+            }
+            return recordedCollection;
+        }
+        Integer entityIndex = entityIndexMap.get(value);
+        return entityIndex == null ? value : new EntityReference(entityIndex);
+    }
+
+    private static final class EntityReference {
+
+        private final int entityIndex;
+
+        private EntityReference(int entityIndex) {
+            this.entityIndex = entityIndex;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return entityIndex == ((EntityReference) o).entityIndex;
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(entityIndex);
+        }
+
+    }
+
+}
@@ -32,22 +32,75 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
     private final BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler;
     private final Semaphore activeConsumption = new Semaphore(1);
     private final BestSolutionHolder<Solution_> bestSolutionHolder;
+    private final long throttlingDelayMillis;
     private ExecutorService consumerExecutor = Executors.newSingleThreadExecutor();
 
+    // Only used on the Solver thread.
+    private long nextIntermediateBestSolutionMillis = Long.MIN_VALUE;
+    private boolean intermediateBestSolutionSkipped = false;
+
     public ConsumerSupport(ProblemId_ problemId, Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
             BestSolutionHolder<Solution_> bestSolutionHolder) {
+        this(problemId, bestSolutionConsumer, finalBestSolutionConsumer, exceptionHandler, bestSolutionHolder, 0L);
+    }
+
+    /**
+     * @param throttlingDelayMillis {@code >= 0}, the minimal time between 2 intermediate best solutions,
+     *        0 means no throttling
+     */
+    public ConsumerSupport(ProblemId_ problemId, Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            BestSolutionHolder<Solution_> bestSolutionHolder, long throttlingDelayMillis) {
         this.problemId = problemId;
         this.bestSolutionConsumer = bestSolutionConsumer;
         this.finalBestSolutionConsumer = finalBestSolutionConsumer == null ? finalBestSolution -> {
         } : finalBestSolutionConsumer;
         this.exceptionHandler = exceptionHandler;
         this.bestSolutionHolder = bestSolutionHolder;
+        this.throttlingDelayMillis = throttlingDelayMillis;
+    }
+
+    boolean isThrottled() {
+        return throttlingDelayMillis > 0L;
+    }
+
+    /**
+     * Called on the Solver thread, before the new best solution is retrieved,
+     * so a skipped best solution is never planning cloned if the best solution is cloned lazily.
+     *
+     * @return true if the new best solution must not be consumed yet,
+     *         in which case {@link #isSkippedIntermediateBestSolutionDue(boolean)} tells when to catch up
+     */
+    boolean skipThrottledIntermediateBestSolution() {
+        if (throttlingDelayMillis > 0L && System.currentTimeMillis() < nextIntermediateBestSolutionMillis) {
+            intermediateBestSolutionSkipped = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Called on the Solver thread, for example at the end of a step,
+     * so the latest best solution is delivered even if no newer best solution follows.
+     *
+     * @param ignoreThrottling true if the delay since the previous intermediate best solution doesn't matter
+     * @return true if the latest best solution was skipped and must now be passed to
+     *         {@link #consumeIntermediateBestSolution(Object, BooleanSupplier)}
+     */
+    boolean isSkippedIntermediateBestSolutionDue(boolean ignoreThrottling) {
+        return intermediateBestSolutionSkipped
+                && (ignoreThrottling || System.currentTimeMillis() >= nextIntermediateBestSolutionMillis);
     }
 
     // Called on the Solver thread.
     void consumeIntermediateBestSolution(Solution_ bestSolution, BooleanSupplier isEveryProblemChangeProcessed) {
+        if (throttlingDelayMillis > 0L) {
+            nextIntermediateBestSolutionMillis = System.currentTimeMillis() + throttlingDelayMillis;
+            intermediateBestSolutionSkipped = false;
+        }
         /*
          * If the bestSolutionConsumer is not provided, the best solution is still set for the purpose of recording
          * problem changes.
@@ -16,11 +16,16 @@
 
 package org.optaplanner.core.impl.solver;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -28,24 +33,31 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.ProblemFactChange;
 import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.change.MergeableProblemChange;
 import org.optaplanner.core.api.solver.change.ProblemChange;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.monitoring.SolverMetric;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.phase.Phase;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
 import org.optaplanner.core.impl.solver.change.ProblemChangeAdapter;
+import org.optaplanner.core.impl.solver.change.QueuedProblemChange;
 import org.optaplanner.core.impl.solver.random.RandomFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.termination.BasicPlumbingTermination;
 import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.util.Pair;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 
 /**
  * Default implementation for {@link Solver}.
@@ -66,6 +78,18 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
     protected final SolverScope<Solution_> solverScope;
 
     private final String moveThreadCountDescription;
+    private final boolean inPlaceProblemChangeEnabled;
+    /**
+     * True if the problem changes were done in place on the workingSolution,
+     * after which the bestSolution was cloned from it, so the restarted solver can keep the workingSolution as is.
+     */
+    private boolean workingSolutionRestored = false;
+    /**
+     * Written by the threads that add a {@link MergeableProblemChange}, so it must be thread-safe.
+     * An empty value caches that the class has no planning ID.
+     */
+    private final ConcurrentMap<Class<?>, Optional<MemberAccessor>> planningIdAccessorCacheMap =
+            new ConcurrentHashMap<>();
 
     // ************************************************************************
     // Constructors and simple getters/setters
@@ -74,13 +98,15 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
     public DefaultSolver(EnvironmentMode environmentMode, RandomFactory randomFactory,
             BestSolutionRecaller<Solution_> bestSolutionRecaller,
             BasicPlumbingTermination<Solution_> basicPlumbingTermination, Termination<Solution_> termination,
-            List<Phase<Solution_>> phaseList, SolverScope<Solution_> solverScope, String moveThreadCountDescription) {
+            List<Phase<Solution_>> phaseList, SolverScope<Solution_> solverScope, String moveThreadCountDescription,
+            boolean inPlaceProblemChangeEnabled) {
         super(bestSolutionRecaller, termination, phaseList);
         this.environmentMode = environmentMode;
         this.randomFactory = randomFactory;
         this.basicPlumbingTermination = basicPlumbingTermination;
         this.solverScope = solverScope;
         this.moveThreadCountDescription = moveThreadCountDescription;
+        this.inPlaceProblemChangeEnabled = inPlaceProblemChangeEnabled;
     }
 
     public EnvironmentMode getEnvironmentMode() {
@@ -153,7 +179,29 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
 
     @Override
     public void addProblemChange(ProblemChange<Solution_> problemChange) {
-        basicPlumbingTermination.addProblemChange(ProblemChangeAdapter.create(problemChange));
+        basicPlumbingTermination.addProblemChange(ProblemChangeAdapter.create(problemChange),
+                extractMergeKey(problemChange));
+    }
+
+    private Object extractMergeKey(ProblemChange<Solution_> problemChange) {
+        if (!(problemChange instanceof MergeableProblemChange)) {
+            return null;
+        }
+        Object problemFact = ((MergeableProblemChange<Solution_>) problemChange).getProblemFact();
+        if (problemFact == null) {
+            throw new IllegalArgumentException("The problemChange (" + problemChange
+                    + ") has a problemFact (" + problemFact + ") which must not be null.");
+        }
+        Class<?> problemFactClass = problemFact.getClass();
+        SolutionDescriptor<Solution_> solutionDescriptor = solverScope.getSolutionDescriptor();
+        Optional<MemberAccessor> planningIdAccessor = planningIdAccessorCacheMap.computeIfAbsent(problemFactClass,
+                key -> Optional.ofNullable(ConfigUtils.findPlanningIdMemberAccessor(key,
+                        solutionDescriptor.getDomainAccessType(), solutionDescriptor.getGeneratedMemberAccessorMap())));
+        if (planningIdAccessor.isEmpty()) {
+            return null;
+        }
+        Object planningId = planningIdAccessor.get().executeGetter(problemFact);
+        return planningId == null ? null : Pair.of(problemFactClass, planningId);
     }
 
     @Override
@@ -198,29 +246,48 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         Metrics.gauge(SolverMetric.SCORE_CALCULATION_COUNT.getMeterId(), solverScope.getMonitoringTags(),
                 solverScope, SolverScope::getScoreCalculationCount);
         solverScope.getSolverMetricSet().forEach(solverMetric -> solverMetric.register(this));
+        // Problem changes are measured over all restarts
+        if (solverScope.isMetricEnabled(SolverMetric.PROBLEM_CHANGE_QUEUE_SIZE)) {
+            Metrics.gauge(SolverMetric.PROBLEM_CHANGE_QUEUE_SIZE.getMeterId(), solverScope.getMonitoringTags(),
+                    basicPlumbingTermination, BasicPlumbingTermination::getProblemChangeQueueSize);
+        }
+        Timer problemChangeLatencyTimer = solverScope.isMetricEnabled(SolverMetric.PROBLEM_CHANGE_LATENCY)
+                ? Metrics.timer(SolverMetric.PROBLEM_CHANGE_LATENCY.getMeterId(), solverScope.getMonitoringTags())
+                : null;
 
         solverScope.setBestSolution(problem);
         outerSolvingStarted(solverScope);
         boolean restartSolver = true;
-        while (restartSolver) {
-            LongTaskTimer.Sample sample = solveLengthTimer.start();
-            try {
-                solvingStarted(solverScope);
-                runPhases(solverScope);
-                solvingEnded(solverScope);
-            } catch (Exception e) {
-                errorCounter.increment();
-                throw e;
-            } finally {
-                sample.stop();
-                Metrics.globalRegistry.remove(new Meter.Id(SolverMetric.SCORE_CALCULATION_COUNT.getMeterId(),
-                        solverScope.getMonitoringTags(),
-                        null,
-                        null,
-                        Meter.Type.GAUGE));
-                solverScope.getSolverMetricSet().forEach(solverMetric -> solverMetric.unregister(this));
+        try {
+            while (restartSolver) {
+                LongTaskTimer.Sample sample = solveLengthTimer.start();
+                try {
+                    solvingStarted(solverScope);
+                    runPhases(solverScope);
+                    solvingEnded(solverScope);
+                } catch (Exception e) {
+                    errorCounter.increment();
+                    throw e;
+                } finally {
+                    sample.stop();
+                    Metrics.globalRegistry.remove(new Meter.Id(SolverMetric.SCORE_CALCULATION_COUNT.getMeterId(),
+                            solverScope.getMonitoringTags(),
+                            null,
+                            null,
+                            Meter.Type.GAUGE));
+                    solverScope.getSolverMetricSet().forEach(solverMetric -> solverMetric.unregister(this));
+                }
+                restartSolver = checkProblemFactChanges(problemChangeLatencyTimer);
+            }
+        } finally {
+            Metrics.globalRegistry.remove(new Meter.Id(SolverMetric.PROBLEM_CHANGE_QUEUE_SIZE.getMeterId(),
+                    solverScope.getMonitoringTags(),
+                    null,
+                    null,
+                    Meter.Type.GAUGE));
+            if (problemChangeLatencyTimer != null) {
+                Metrics.globalRegistry.remove(problemChangeLatencyTimer);
             }
-            restartSolver = checkProblemFactChanges();
         }
         outerSolvingEnded(solverScope);
         return solverScope.getBestSolution();
@@ -250,6 +317,15 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
                 (randomFactory != null ? randomFactory : "not fixed"));
     }
 
+    @Override
+    protected void initWorkingSolution(SolverScope<Solution_> solverScope) {
+        if (workingSolutionRestored) {
+            workingSolutionRestored = false;
+        } else {
+            super.initWorkingSolution(solverScope);
+        }
+    }
+
     @Override
     public void solvingEnded(SolverScope<Solution_> solverScope) {
         super.solvingEnded(solverScope);
@@ -270,22 +346,34 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         solving.set(false);
     }
 
-    private boolean checkProblemFactChanges() {
+    /**
+     * @param problemChangeLatencyTimer null if {@link SolverMetric#PROBLEM_CHANGE_LATENCY} is disabled
+     * @return true if the solver needs to be restarted
+     */
+    private boolean checkProblemFactChanges(Timer problemChangeLatencyTimer) {
         boolean restartSolver = basicPlumbingTermination.waitForRestartSolverDecision();
         if (!restartSolver) {
             return false;
         } else {
-            BlockingQueue<ProblemChangeAdapter<Solution_>> problemFactChangeQueue = basicPlumbingTermination
+            BlockingQueue<QueuedProblemChange<Solution_>> problemFactChangeQueue = basicPlumbingTermination
                     .startProblemFactChangesProcessing();
-            solverScope.setWorkingSolutionFromBestSolution();
+            if (inPlaceProblemChangeEnabled) {
+                solverScope.restoreWorkingSolutionFromBestSolution();
+            } else {
+                solverScope.setWorkingSolutionFromBestSolution();
+            }
 
+            // The problem changes beyond the batch size limit are left for the next restart
+            int batchSizeLimit = basicPlumbingTermination.getBatchSizeLimit();
+            List<QueuedProblemChange<Solution_>> processedProblemChangeList = new ArrayList<>();
             int stepIndex = 0;
-            ProblemChangeAdapter<Solution_> problemChangeAdapter = problemFactChangeQueue.poll();
-            while (problemChangeAdapter != null) {
-                problemChangeAdapter.doProblemChange(solverScope);
+            QueuedProblemChange<Solution_> queuedProblemChange = problemFactChangeQueue.poll();
+            while (queuedProblemChange != null) {
+                queuedProblemChange.doProblemChange(solverScope);
                 logger.debug("    Real-time problem change applied; step index ({}).", stepIndex);
+                processedProblemChangeList.add(queuedProblemChange);
                 stepIndex++;
-                problemChangeAdapter = problemFactChangeQueue.poll();
+                queuedProblemChange = stepIndex < batchSizeLimit ? problemFactChangeQueue.poll() : null;
             }
             // All PFCs are processed, fail fast if any of the new facts have null planning IDs.
             InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
@@ -294,6 +382,14 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
             Score<?> score = scoreDirector.calculateScore();
             basicPlumbingTermination.endProblemFactChangesProcessing();
             bestSolutionRecaller.updateBestSolutionWithoutFiring(solverScope);
+            workingSolutionRestored = inPlaceProblemChangeEnabled;
+            if (problemChangeLatencyTimer != null) {
+                long bestSolutionNanos = System.nanoTime();
+                for (QueuedProblemChange<Solution_> processedProblemChange : processedProblemChangeList) {
+                    problemChangeLatencyTimer.record(bestSolutionNanos - processedProblemChange.getSubmissionNanos(),
+                            TimeUnit.NANOSECONDS);
+                }
+            }
             logger.info("Real-time problem fact changes done: step total ({}), new best score ({}).",
                     stepIndex, score);
             return true;
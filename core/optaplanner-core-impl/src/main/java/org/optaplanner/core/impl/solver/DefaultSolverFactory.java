@@ -36,6 +36,7 @@ import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.ProblemChangeBatchingConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.monitoring.MonitoringConfig;
 import org.optaplanner.core.config.solver.monitoring.SolverMetric;
@@ -95,6 +96,14 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         return (InnerScoreDirectorFactory<Solution_, Score_>) scoreDirectorFactory;
     }
 
+    /**
+     * @return {@code >= 1}, the solver thread and the move threads of every {@link Solver} built by this factory
+     */
+    public int resolveSolverThreadCount() {
+        Integer moveThreadCount_ = new MoveThreadCountResolver().resolveMoveThreadCount(solverConfig.getMoveThreadCount());
+        return 1 + Objects.requireNonNullElse(moveThreadCount_, 0);
+    }
+
     @Override
     public Solver<Solution_> buildSolver() {
         boolean daemon_ = Objects.requireNonNullElse(solverConfig.getDaemon(), false);
@@ -126,12 +135,24 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         Integer moveThreadCount_ = new MoveThreadCountResolver().resolveMoveThreadCount(solverConfig.getMoveThreadCount());
         BestSolutionRecaller<Solution_> bestSolutionRecaller =
                 BestSolutionRecallerFactory.create().buildBestSolutionRecaller(environmentMode_);
+        boolean lazyBestSolutionCloningEnabled_ =
+                Objects.requireNonNullElse(solverConfig.getLazyBestSolutionCloningEnabled(), false);
+        if (lazyBestSolutionCloningEnabled_ && !SolverScope.isPlanningCloneTranslatable(solutionDescriptor)) {
+            throw new IllegalArgumentException("The solver configuration enables lazyBestSolutionCloningEnabled ("
+                    + lazyBestSolutionCloningEnabled_ + "), but the solutionClass ("
+                    + solutionDescriptor.getSolutionClass() + ") has a custom solutionCloner"
+                    + " or an entity with a chained or list variable.\n"
+                    + "Maybe disable lazyBestSolutionCloningEnabled in the solver configuration.");
+        }
+        bestSolutionRecaller.setLazyBestSolutionCloningEnabled(lazyBestSolutionCloningEnabled_);
         HeuristicConfigPolicy<Solution_> configPolicy = new HeuristicConfigPolicy.Builder<>(environmentMode_,
                 moveThreadCount_, solverConfig.getMoveThreadBufferSize(), solverConfig.getThreadFactoryClass(),
-                scoreDirectorFactory).build();
+                scoreDirectorFactory)
+                .withMoveThreadHandOff(solverConfig.getMoveThreadHandOff())
+                .build();
         TerminationConfig terminationConfig_ =
                 Objects.requireNonNullElseGet(solverConfig.getTerminationConfig(), TerminationConfig::new);
-        BasicPlumbingTermination<Solution_> basicPlumbingTermination = new BasicPlumbingTermination<>(daemon_);
+        BasicPlumbingTermination<Solution_> basicPlumbingTermination = buildBasicPlumbingTermination(daemon_);
         Termination<Solution_> termination = TerminationFactory.<Solution_> create(terminationConfig_)
                 .buildTermination(configPolicy, basicPlumbingTermination);
         List<Phase<Solution_>> phaseList = buildPhaseList(configPolicy, bestSolutionRecaller, termination);
@@ -139,7 +160,26 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         RandomFactory randomFactory = buildRandomFactory(environmentMode_);
         return new DefaultSolver<>(environmentMode_, randomFactory, bestSolutionRecaller, basicPlumbingTermination,
                 termination, phaseList, solverScope,
-                moveThreadCount_ == null ? SolverConfig.MOVE_THREAD_COUNT_NONE : Integer.toString(moveThreadCount_));
+                moveThreadCount_ == null ? SolverConfig.MOVE_THREAD_COUNT_NONE : Integer.toString(moveThreadCount_),
+                Objects.requireNonNullElse(solverConfig.getInPlaceProblemChangeEnabled(), false));
+    }
+
+    private BasicPlumbingTermination<Solution_> buildBasicPlumbingTermination(boolean daemon_) {
+        ProblemChangeBatchingConfig batchingConfig = solverConfig.getProblemChangeBatchingConfig();
+        if (batchingConfig == null) {
+            return new BasicPlumbingTermination<>(daemon_);
+        }
+        long waitMillisecondsLimit_ = Objects.requireNonNullElse(batchingConfig.getWaitMillisecondsLimit(), 0L);
+        if (waitMillisecondsLimit_ < 0L) {
+            throw new IllegalArgumentException("The problemChangeBatching's waitMillisecondsLimit ("
+                    + waitMillisecondsLimit_ + ") cannot be negative.");
+        }
+        int batchSizeLimit_ = Objects.requireNonNullElse(batchingConfig.getBatchSizeLimit(), Integer.MAX_VALUE);
+        if (batchSizeLimit_ < 1) {
+            throw new IllegalArgumentException("The problemChangeBatching's batchSizeLimit ("
+                    + batchSizeLimit_ + ") must be at least 1.");
+        }
+        return new BasicPlumbingTermination<>(daemon_, waitMillisecondsLimit_, batchSizeLimit_);
     }
 
     private SolutionDescriptor<Solution_> buildSolutionDescriptor() {
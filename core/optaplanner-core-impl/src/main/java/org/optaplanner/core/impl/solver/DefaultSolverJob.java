@@ -38,6 +38,8 @@ import org.optaplanner.core.api.solver.SolverStatus;
 import org.optaplanner.core.api.solver.change.ProblemChange;
 import org.optaplanner.core.api.solver.event.BestSolutionChangedEvent;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,6 +59,7 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     private final Consumer<? super Solution_> bestSolutionConsumer;
     private final Consumer<? super Solution_> finalBestSolutionConsumer;
     private final BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler;
+    private final long throttlingDelayMillis;
 
     private volatile SolverStatus solverStatus;
     private final CountDownLatch terminatedLatch;
@@ -72,7 +75,8 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
-            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            long throttlingDelayMillis) {
         this.solverManager = solverManager;
         this.problemId = problemId;
         if (!(solver instanceof DefaultSolver)) {
@@ -84,6 +88,7 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         this.bestSolutionConsumer = bestSolutionConsumer;
         this.finalBestSolutionConsumer = finalBestSolutionConsumer;
         this.exceptionHandler = exceptionHandler;
+        this.throttlingDelayMillis = throttlingDelayMillis;
         solverStatus = SolverStatus.SOLVING_SCHEDULED;
         terminatedLatch = new CountDownLatch(1);
         solverStatusModifyingLock = new ReentrantLock();
@@ -116,12 +121,15 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             solverStatus = SolverStatus.SOLVING_ACTIVE;
             // Create the consumer thread pool only when this solver job is active.
             consumerSupport = new ConsumerSupport<>(getProblemId(), bestSolutionConsumer, finalBestSolutionConsumer,
-                    exceptionHandler, bestSolutionHolder);
+                    exceptionHandler, bestSolutionHolder, throttlingDelayMillis);
 
             Solution_ problem = problemFinder.apply(problemId);
             // add a phase lifecycle listener that unlock the solver status lock when solving started
             solver.addPhaseLifecycleListener(new UnlockLockPhaseLifecycleListener());
             solver.addEventListener(this::onBestSolutionChangedEvent);
+            if (consumerSupport.isThrottled()) {
+                solver.addPhaseLifecycleListener(new SkippedBestSolutionPhaseLifecycleListener());
+            }
             final Solution_ finalBestSolution = solver.solve(problem);
             consumerSupport.consumeFinalBestSolution(finalBestSolution);
             return finalBestSolution;
@@ -144,6 +152,10 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     }
 
     private void onBestSolutionChangedEvent(BestSolutionChangedEvent<Solution_> bestSolutionChangedEvent) {
+        if (consumerSupport.skipThrottledIntermediateBestSolution()) {
+            // Don't retrieve the new best solution, so it isn't planning cloned if that happens lazily
+            return;
+        }
         consumerSupport.consumeIntermediateBestSolution(bestSolutionChangedEvent.getNewBestSolution(),
                 () -> bestSolutionChangedEvent.isEveryProblemChangeProcessed());
     }
@@ -185,6 +197,8 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
                     // Indirectly triggers solvingTerminated()
                     // No need to cancel the finalBestSolutionFuture as it will finish normally.
                     solver.terminateEarly();
+                    // Wakes it up if it's paused by time slicing
+                    solverManager.signalTerminatedEarly();
                     break;
                 case NOT_SOLVING:
                     // Do nothing, solvingTerminated() already called
@@ -273,4 +287,30 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             }
         }
     }
+
+    /**
+     * Delivers the latest best solution that was skipped by the throttling,
+     * once the throttling delay is over (at the end of a step) or when a phase ends,
+     * even if the solver doesn't find a newer best solution.
+     */
+    private final class SkippedBestSolutionPhaseLifecycleListener extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            consumeSkippedBestSolution(stepScope.getPhaseScope().getSolverScope(), false);
+        }
+
+        @Override
+        public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+            consumeSkippedBestSolution(phaseScope.getSolverScope(), true);
+        }
+
+        private void consumeSkippedBestSolution(SolverScope<Solution_> solverScope, boolean ignoreThrottling) {
+            if (consumerSupport.isSkippedIntermediateBestSolutionDue(ignoreThrottling)) {
+                consumerSupport.consumeIntermediateBestSolution(solverScope.getBestSolution(),
+                        solver::isEveryProblemChangeProcessed);
+            }
+        }
+
+    }
 }
@@ -21,21 +21,22 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.solver.BestSolutionDiff;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.api.solver.SolverJob;
+import org.optaplanner.core.api.solver.SolverJobScheduling;
 import org.optaplanner.core.api.solver.SolverManager;
 import org.optaplanner.core.api.solver.SolverStatus;
 import org.optaplanner.core.api.solver.change.ProblemChange;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,7 +50,9 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
 
     private final BiConsumer<ProblemId_, Throwable> defaultExceptionHandler;
     private final SolverFactory<Solution_> solverFactory;
-    private final ExecutorService solverThreadPool;
+    private final SolverJobScheduler solverJobScheduler;
+    private final int solverThreadCount;
+    private final long throttlingDelayMillis;
     private final ConcurrentMap<Object, DefaultSolverJob<Solution_, ProblemId_>> problemIdToSolverJobMap;
 
     public DefaultSolverManager(SolverFactory<Solution_> solverFactory,
@@ -59,7 +62,12 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         this.solverFactory = solverFactory;
         validateSolverFactory();
         int parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
-        solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount);
+        Integer coreBudget = solverManagerConfig.resolveCoreBudget();
+        solverJobScheduler = new SolverJobScheduler(parallelSolverCount, coreBudget,
+                solverManagerConfig.resolveTenantParallelSolverCount(), solverManagerConfig.resolveTimeSliceMillis());
+        solverThreadCount = (coreBudget == null) ? 1
+                : ((DefaultSolverFactory<Solution_>) solverFactory).resolveSolverThreadCount();
+        throttlingDelayMillis = solverManagerConfig.resolveThrottlingDelayMillis();
         problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
     }
 
@@ -78,6 +86,13 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         throw new NullPointerException("Invalid problemId (null) given to SolverManager.");
     }
 
+    private SolverJobScheduling getSchedulingOrThrow(SolverJobScheduling scheduling) {
+        if (scheduling != null) {
+            return scheduling;
+        }
+        throw new NullPointerException("Invalid scheduling (null) given to SolverManager.");
+    }
+
     private DefaultSolverJob<Solution_, ProblemId_> getSolverJob(ProblemId_ problemId) {
         return problemIdToSolverJobMap.get(getProblemIdOrThrow(problemId));
     }
@@ -87,7 +102,17 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
-        return solve(getProblemIdOrThrow(problemId), problemFinder, null, finalBestSolutionConsumer, exceptionHandler);
+        return solve(getProblemIdOrThrow(problemId), SolverJobScheduling.DEFAULT, problemFinder, null,
+                finalBestSolutionConsumer, exceptionHandler);
+    }
+
+    @Override
+    public SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId, SolverJobScheduling scheduling,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+        return solve(getProblemIdOrThrow(problemId), getSchedulingOrThrow(scheduling), problemFinder, null,
+                finalBestSolutionConsumer, exceptionHandler);
     }
 
     @Override
@@ -96,11 +121,37 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
-        return solve(getProblemIdOrThrow(problemId), problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
-                exceptionHandler);
+        return solve(getProblemIdOrThrow(problemId), SolverJobScheduling.DEFAULT, problemFinder, bestSolutionConsumer,
+                finalBestSolutionConsumer, exceptionHandler);
     }
 
-    protected SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
+    @Override
+    public SolverJob<Solution_, ProblemId_> solveAndListen(ProblemId_ problemId, SolverJobScheduling scheduling,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+        return solve(getProblemIdOrThrow(problemId), getSchedulingOrThrow(scheduling), problemFinder, bestSolutionConsumer,
+                finalBestSolutionConsumer, exceptionHandler);
+    }
+
+    @Override
+    public SolverJob<Solution_, ProblemId_> solveAndListenToDiffs(ProblemId_ problemId, SolverJobScheduling scheduling,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super BestSolutionDiff<Solution_>> bestSolutionDiffConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+        SolutionDescriptor<Solution_> solutionDescriptor =
+                ((DefaultSolverFactory<Solution_>) solverFactory).getSolutionDescriptor();
+        // Only called on the consumer thread of this solver job
+        BestSolutionDiffRecorder<Solution_> diffRecorder = new BestSolutionDiffRecorder<>(solutionDescriptor);
+        Consumer<Solution_> bestSolutionConsumer =
+                bestSolution -> bestSolutionDiffConsumer.accept(diffRecorder.diff(bestSolution));
+        return solve(getProblemIdOrThrow(problemId), getSchedulingOrThrow(scheduling), problemFinder, bestSolutionConsumer,
+                finalBestSolutionConsumer, exceptionHandler);
+    }
+
+    protected SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId, SolverJobScheduling scheduling,
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
@@ -117,11 +168,19 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
                         throw new IllegalStateException("The problemId (" + problemId + ") is already solving.");
                     } else {
                         return new DefaultSolverJob<>(this, solver, problemId, problemFinder,
-                                bestSolutionConsumer, finalBestSolutionConsumer, finalExceptionHandler);
+                                bestSolutionConsumer, finalBestSolutionConsumer, finalExceptionHandler,
+                                throttlingDelayMillis);
                     }
                 });
-        Future<Solution_> future = solverThreadPool.submit(solverJob);
+        FutureTask<Solution_> future = new FutureTask<>(solverJob);
         solverJob.setFinalBestSolutionFuture(future);
+        SolverJobScheduler.ScheduledSolverJob scheduledSolverJob = solverJobScheduler.createScheduledSolverJob(future,
+                scheduling, solverThreadCount, solverJob::isTerminatedEarly);
+        if (solverJobScheduler.isTimeSlicing()) {
+            ((DefaultSolver<Solution_>) solver).addPhaseLifecycleListener(
+                    solverJobScheduler.new TimeSlicingPhaseLifecycleListener<>(scheduledSolverJob));
+        }
+        solverJobScheduler.schedule(scheduledSolverJob);
         return solverJob;
     }
 
@@ -171,7 +230,7 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
 
     @Override
     public void close() {
-        solverThreadPool.shutdownNow();
+        solverJobScheduler.shutdownNow();
         problemIdToSolverJobMap.values().forEach(DefaultSolverJob::close);
     }
 
@@ -179,4 +238,8 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         problemIdToSolverJobMap.remove(getProblemIdOrThrow(problemId));
     }
 
+    void signalTerminatedEarly() {
+        solverJobScheduler.signalTerminatedEarly();
+    }
+
 }
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+import org.optaplanner.core.api.solver.SolverJobScheduling;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+
+/**
+ * Decides which solver jobs solve, instead of a FIFO {@link ExecutorService} with a fixed number of threads.
+ * <p>
+ * A waiting solver job starts (or resumes) if it's the first waiting one in the order of
+ * {@link SolverJobScheduling#getPriority()} and submission, if there is a free solver slot
+ * and if there are enough free cores for its solver thread and move threads.
+ * A solver job of a tenant that already uses its tenant quota is passed over,
+ * so it doesn't hold up the solver jobs of other tenants.
+ * Other solver jobs never pass over the first waiting one, so a big solver job doesn't starve.
+ * <p>
+ * With time slicing, a solver job that solved for a time slice pauses at the end of its next step,
+ * if that lets a waiting solver job with the same or a higher priority start or resume.
+ * The paused solver job keeps its solver thread and waits in line again, behind the solver jobs with the same priority.
+ * <p>
+ * Once {@link #shutdownNow() shut down}, no solver job starts or resumes anymore,
+ * not even when a solving one finishes afterwards.
+ */
+final class SolverJobScheduler {
+
+    private static final Comparator<ScheduledSolverJob> WAITING_ORDER =
+            Comparator.comparingInt((ScheduledSolverJob job) -> job.scheduling.getPriority()).reversed()
+                    .thenComparingLong(job -> job.sequence);
+
+    private final int parallelSolverCount;
+    private final Integer coreBudget;
+    private final Integer tenantParallelSolverCount;
+    private final long timeSliceMillis;
+    private final ExecutorService solverThreadPool;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition resumedCondition = lock.newCondition();
+    private final PriorityQueue<ScheduledSolverJob> waitingQueue = new PriorityQueue<>(WAITING_ORDER);
+    private final Map<Object, Integer> tenantSolvingCountMap = new HashMap<>();
+    private long nextSequence = 0L;
+    private int solvingCount = 0;
+    private int usedCoreCount = 0;
+    private boolean closed = false;
+
+    /**
+     * @param parallelSolverCount {@code >= 1}
+     * @param coreBudget null means no limit
+     * @param tenantParallelSolverCount null means no limit
+     * @param timeSliceMillis {@code >= 0}, 0 means no time slicing
+     */
+    SolverJobScheduler(int parallelSolverCount, Integer coreBudget, Integer tenantParallelSolverCount,
+            long timeSliceMillis) {
+        this.parallelSolverCount = parallelSolverCount;
+        this.coreBudget = coreBudget;
+        this.tenantParallelSolverCount = tenantParallelSolverCount;
+        this.timeSliceMillis = timeSliceMillis;
+        if (timeSliceMillis > 0L || coreBudget != null || tenantParallelSolverCount != null) {
+            // Paused solver jobs keep their thread and the scheduler decides how many solve
+            solverThreadPool = Executors.newCachedThreadPool();
+        } else {
+            solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount);
+        }
+    }
+
+    boolean isTimeSlicing() {
+        return timeSliceMillis > 0L;
+    }
+
+    /**
+     * @param task never null, not yet started
+     * @param scheduling never null
+     * @param coreCount {@code >= 1}, the solver thread and the move threads
+     * @param terminatedEarly never null, tells if a paused solver job must stop waiting to finish
+     * @return never null
+     */
+    ScheduledSolverJob createScheduledSolverJob(RunnableFuture<?> task, SolverJobScheduling scheduling, int coreCount,
+            BooleanSupplier terminatedEarly) {
+        return new ScheduledSolverJob(task, scheduling, coreCount, terminatedEarly);
+    }
+
+    void schedule(ScheduledSolverJob job) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new RejectedExecutionException("The solverManager is already closed.");
+            }
+            job.sequence = nextSequence++;
+            waitingQueue.add(job);
+            startOrResumeWaitingSolverJobs();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Called on the solver thread at the end of every step, if {@link #isTimeSlicing()}.
+     * Might block until the solver job is resumed.
+     */
+    void pauseIfTimeSliceIsUsedUp(ScheduledSolverJob job) {
+        if (System.currentTimeMillis() - job.solvingSinceMillis < timeSliceMillis) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (closed || !job.solving || !isPassedOverBySomeWaitingSolverJob(job)) {
+                job.solvingSinceMillis = System.currentTimeMillis();
+                return;
+            }
+            release(job);
+            job.sequence = nextSequence++;
+            waitingQueue.add(job);
+            startOrResumeWaitingSolverJobs();
+            while (!job.solving) {
+                if (closed || job.terminatedEarly.getAsBoolean()) {
+                    stopWaiting(job);
+                    return;
+                }
+                resumedCondition.await();
+            }
+        } catch (InterruptedException e) {
+            // The solver terminates early on the interrupted flag, just like when the solver thread pool shuts down
+            Thread.currentThread().interrupt();
+            if (!job.solving) {
+                stopWaiting(job);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The paused solver job finishes without holding a solver slot, it only takes a step.
+     * Because it holds no solver slot, its {@link #finished(ScheduledSolverJob)} releases nothing.
+     */
+    private void stopWaiting(ScheduledSolverJob job) {
+        waitingQueue.remove(job);
+        // It might have held up the solver jobs behind it
+        startOrResumeWaitingSolverJobs();
+    }
+
+    /**
+     * Wakes up the paused solver jobs, so those that are terminated early can finish.
+     */
+    void signalTerminatedEarly() {
+        lock.lock();
+        try {
+            resumedCondition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cancels the waiting solver jobs that haven't started yet
+     * and wakes up the paused ones, so they finish without a solver slot.
+     */
+    void shutdownNow() {
+        lock.lock();
+        try {
+            closed = true;
+            for (ScheduledSolverJob job : waitingQueue) {
+                if (!job.started) {
+                    job.task.cancel(false);
+                }
+            }
+            waitingQueue.clear();
+            resumedCondition.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        solverThreadPool.shutdownNow();
+    }
+
+    private boolean isPassedOverBySomeWaitingSolverJob(ScheduledSolverJob job) {
+        for (ScheduledSolverJob waitingJob : waitingQueue) {
+            if (waitingJob.scheduling.getPriority() < job.scheduling.getPriority() || isCancelled(waitingJob)) {
+                continue;
+            }
+            Object tenantId = waitingJob.scheduling.getTenantId();
+            boolean sameTenant = tenantId != null && tenantId.equals(job.scheduling.getTenantId());
+            if (tenantParallelSolverCount == null || getTenantSolvingCount(tenantId) - (sameTenant ? 1 : 0)
+                    < tenantParallelSolverCount) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void startOrResumeWaitingSolverJobs() {
+        if (closed) {
+            // The solver thread pool rejects new solver jobs
+            return;
+        }
+        List<ScheduledSolverJob> passedOverJobList = new ArrayList<>();
+        while (!waitingQueue.isEmpty()) {
+            ScheduledSolverJob job = waitingQueue.peek();
+            if (isCancelled(job)) {
+                waitingQueue.poll();
+                continue;
+            }
+            if (isTenantQuotaUsedUp(job)) {
+                passedOverJobList.add(waitingQueue.poll());
+                continue;
+            }
+            if (!hasCapacity(job)) {
+                break;
+            }
+            waitingQueue.poll();
+            startOrResume(job);
+        }
+        waitingQueue.addAll(passedOverJobList);
+    }
+
+    private boolean isCancelled(ScheduledSolverJob job) {
+        // A solver job that is terminated early before it started never needs a solver slot
+        return !job.started && job.task.isDone();
+    }
+
+    private boolean isTenantQuotaUsedUp(ScheduledSolverJob job) {
+        Object tenantId = job.scheduling.getTenantId();
+        return tenantParallelSolverCount != null && tenantId != null
+                && getTenantSolvingCount(tenantId) >= tenantParallelSolverCount;
+    }
+
+    private int getTenantSolvingCount(Object tenantId) {
+        return tenantId == null ? 0 : tenantSolvingCountMap.getOrDefault(tenantId, 0);
+    }
+
+    private boolean hasCapacity(ScheduledSolverJob job) {
+        if (solvingCount >= parallelSolverCount) {
+            return false;
+        }
+        // A solver job that needs more cores than the budget can still solve alone
+        return coreBudget == null || solvingCount == 0 || usedCoreCount + job.coreCount <= coreBudget;
+    }
+
+    private void startOrResume(ScheduledSolverJob job) {
+        job.solving = true;
+        job.solvingSinceMillis = System.currentTimeMillis();
+        solvingCount++;
+        usedCoreCount += job.coreCount;
+        Object tenantId = job.scheduling.getTenantId();
+        if (tenantId != null) {
+            tenantSolvingCountMap.merge(tenantId, 1, Integer::sum);
+        }
+        if (job.started) {
+            resumedCondition.signalAll();
+        } else {
+            job.started = true;
+            solverThreadPool.execute(() -> {
+                try {
+                    job.task.run();
+                } finally {
+                    finished(job);
+                }
+            });
+        }
+    }
+
+    private void finished(ScheduledSolverJob job) {
+        lock.lock();
+        try {
+            release(job);
+            startOrResumeWaitingSolverJobs();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(ScheduledSolverJob job) {
+        if (!job.solving) {
+            return;
+        }
+        job.solving = false;
+        solvingCount--;
+        usedCoreCount -= job.coreCount;
+        Object tenantId = job.scheduling.getTenantId();
+        if (tenantId != null) {
+            tenantSolvingCountMap.computeIfPresent(tenantId, (key, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    /**
+     * The scheduler state of 1 solver job, guarded by the lock of the {@link SolverJobScheduler}.
+     */
+    static final class ScheduledSolverJob {
+
+        private final RunnableFuture<?> task;
+        private final SolverJobScheduling scheduling;
+        private final int coreCount;
+        private final BooleanSupplier terminatedEarly;
+
+        private long sequence;
+        private boolean started = false;
+        private boolean solving = false;
+        // Read without the lock on the solver thread, which is the only thread that changes it while solving
+        private volatile long solvingSinceMillis;
+
+        private ScheduledSolverJob(RunnableFuture<?> task, SolverJobScheduling scheduling, int coreCount,
+                BooleanSupplier terminatedEarly) {
+            this.task = task;
+            this.scheduling = scheduling;
+            this.coreCount = coreCount;
+            this.terminatedEarly = terminatedEarly;
+        }
+
+    }
+
+    /**
+     * Pauses its solver job at the end of a step, once it used up its time slice.
+     */
+    final class TimeSlicingPhaseLifecycleListener<Solution_> extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private final ScheduledSolverJob job;
+
+        TimeSlicingPhaseLifecycleListener(ScheduledSolverJob job) {
+            this.job = job;
+        }
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            pauseIfTimeSliceIsUsedUp(job);
+        }
+
+    }
+
+}
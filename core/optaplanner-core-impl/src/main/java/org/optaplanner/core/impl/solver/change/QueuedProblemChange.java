@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.change;
+
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+/**
+ * A {@link ProblemChangeAdapter} waiting in the queue of the solver,
+ * with the metadata to batch and merge it.
+ * <p>
+ * Concurrency notes:
+ * a merge replaces the {@link ProblemChangeAdapter} on a submitting thread,
+ * while the solver thread polls this from the queue without holding a lock,
+ * so both threads synchronize on this instance.
+ */
+public final class QueuedProblemChange<Solution_> implements ProblemChangeAdapter<Solution_> {
+
+    private ProblemChangeAdapter<Solution_> problemChangeAdapter;
+    private final Object mergeKey;
+    private final long submissionNanos;
+    private boolean started = false;
+
+    /**
+     * @param problemChangeAdapter never null
+     * @param mergeKey sometimes null, a change with an equal merge key replaces this change in its place in the queue
+     * @param submissionNanos as returned by {@link System#nanoTime()}
+     */
+    public QueuedProblemChange(ProblemChangeAdapter<Solution_> problemChangeAdapter, Object mergeKey,
+            long submissionNanos) {
+        this.problemChangeAdapter = problemChangeAdapter;
+        this.mergeKey = mergeKey;
+        this.submissionNanos = submissionNanos;
+    }
+
+    /**
+     * Keeps the place in the queue and the {@link #getSubmissionNanos() submission time} of this change.
+     *
+     * @param problemChangeAdapter never null, has an equal merge key
+     * @return false if the solver thread already started this change, so it can't be replaced anymore
+     */
+    public synchronized boolean replace(ProblemChangeAdapter<Solution_> problemChangeAdapter) {
+        if (started) {
+            return false;
+        }
+        this.problemChangeAdapter = problemChangeAdapter;
+        return true;
+    }
+
+    @Override
+    public void doProblemChange(SolverScope<Solution_> solverScope) {
+        ProblemChangeAdapter<Solution_> startedProblemChangeAdapter;
+        synchronized (this) {
+            started = true;
+            startedProblemChangeAdapter = problemChangeAdapter;
+        }
+        startedProblemChangeAdapter.doProblemChange(solverScope);
+    }
+
+    public Object getMergeKey() {
+        return mergeKey;
+    }
+
+    public long getSubmissionNanos() {
+        return submissionNanos;
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.event;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.event.BestSolutionChangedEvent;
+import org.optaplanner.core.api.solver.event.SolverEventListener;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+/**
+ * Only calls {@link SolverScope#getBestSolution()} when a listener calls {@link #getNewBestSolution()},
+ * which must happen during {@link SolverEventListener#bestSolutionChanged(BestSolutionChangedEvent)}.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+final class LazyBestSolutionChangedEvent<Solution_> extends BestSolutionChangedEvent<Solution_> {
+
+    private final transient SolverScope<Solution_> solverScope;
+    private transient Solution_ newBestSolution = null;
+    private boolean delivering = true;
+
+    LazyBestSolutionChangedEvent(Solver<Solution_> solver, long timeMillisSpent, SolverScope<Solution_> solverScope,
+            Score newBestScore) {
+        super(solver, timeMillisSpent, null, newBestScore);
+        this.solverScope = solverScope;
+    }
+
+    @Override
+    public Solution_ getNewBestSolution() {
+        if (newBestSolution == null) {
+            if (!delivering) {
+                throw new IllegalStateException("The newBestSolution of a "
+                        + BestSolutionChangedEvent.class.getSimpleName()
+                        + " must be retrieved during the bestSolutionChanged() call,"
+                        + " because the best solution is planning cloned lazily.\n"
+                        + "Maybe disable lazyBestSolutionCloningEnabled in the solver config.");
+            }
+            newBestSolution = solverScope.getBestSolution();
+        }
+        return newBestSolution;
+    }
+
+    void endDelivery() {
+        delivering = false;
+    }
+
+}
@@ -51,4 +51,27 @@ public class SolverEventSupport<Solution_> extends AbstractEventSupport<SolverEv
         }
     }
 
+    /**
+     * Like {@link #fireBestSolutionChanged(SolverScope, Object)},
+     * but only calls {@link SolverScope#getBestSolution()} if a listener calls
+     * {@link BestSolutionChangedEvent#getNewBestSolution()}.
+     * That must happen during {@link SolverEventListener#bestSolutionChanged(BestSolutionChangedEvent)},
+     * because the solver thread changes the working solution afterwards.
+     *
+     * @param solverScope never null
+     */
+    public void fireBestSolutionChangedLazily(SolverScope<Solution_> solverScope) {
+        final Iterator<SolverEventListener<Solution_>> it = eventListenerSet.iterator();
+        long timeMillisSpent = solverScope.getBestSolutionTimeMillisSpent();
+        Score bestScore = solverScope.getBestScore();
+        if (it.hasNext()) {
+            final LazyBestSolutionChangedEvent<Solution_> event = new LazyBestSolutionChangedEvent<>(solver,
+                    timeMillisSpent, solverScope, bestScore);
+            do {
+                it.next().bestSolutionChanged(event);
+            } while (it.hasNext());
+            event.endDelivery();
+        }
+    }
+
 }
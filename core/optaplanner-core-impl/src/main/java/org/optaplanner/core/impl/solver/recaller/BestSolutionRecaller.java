@@ -36,6 +36,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     protected boolean assertInitialScoreFromScratch = false;
     protected boolean assertShadowVariablesAreNotStale = false;
     protected boolean assertBestScoreIsUnmodified = false;
+    protected boolean lazyBestSolutionCloningEnabled = false;
 
     protected SolverEventSupport<Solution_> solverEventSupport;
 
@@ -51,6 +52,15 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         this.assertBestScoreIsUnmodified = assertBestScoreIsUnmodified;
     }
 
+    /**
+     * @param lazyBestSolutionCloningEnabled true to only record the variable values of a new best solution
+     *        during a step or move, and postpone its planning clone until the best solution is needed
+     *        or the phase ends
+     */
+    public void setLazyBestSolutionCloningEnabled(boolean lazyBestSolutionCloningEnabled) {
+        this.lazyBestSolutionCloningEnabled = lazyBestSolutionCloningEnabled;
+    }
+
     public void setSolverEventSupport(SolverEventSupport<Solution_> solverEventSupport) {
         this.solverEventSupport = solverEventSupport;
     }
@@ -100,8 +110,12 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         stepScope.setBestScoreImproved(bestScoreImproved);
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            Solution_ newBestSolution = stepScope.createOrGetClonedSolution();
-            updateBestSolutionAndFire(solverScope, score, newBestSolution);
+            if (lazyBestSolutionCloningEnabled) {
+                updateBestSolutionLazilyAndFire(solverScope, score);
+            } else {
+                Solution_ newBestSolution = stepScope.createOrGetClonedSolution();
+                updateBestSolutionAndFire(solverScope, score, newBestSolution);
+            }
         } else if (assertBestScoreIsUnmodified) {
             solverScope.assertScoreFromScratch(solverScope.getBestSolution());
         }
@@ -118,8 +132,12 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
-            updateBestSolutionAndFire(solverScope, score, newBestSolution);
+            if (lazyBestSolutionCloningEnabled) {
+                updateBestSolutionLazilyAndFire(solverScope, score);
+            } else {
+                Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+                updateBestSolutionAndFire(solverScope, score, newBestSolution);
+            }
         } else if (assertBestScoreIsUnmodified) {
             solverScope.assertScoreFromScratch(solverScope.getBestSolution());
         }
@@ -152,4 +170,25 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         solverScope.setBestSolutionTimeMillis(System.currentTimeMillis());
     }
 
+    private void updateBestSolutionLazilyAndFire(SolverScope<Solution_> solverScope, Score bestScore) {
+        if (bestScore.isSolutionInitialized()) {
+            if (!solverScope.isBestSolutionInitialized()) {
+                solverScope.setStartingInitializedScore(bestScore);
+            }
+        }
+        solverScope.setBestSolutionFromWorkingSolutionLazily(bestScore);
+        solverScope.setBestScore(bestScore);
+        solverScope.setBestSolutionTimeMillis(System.currentTimeMillis());
+        // Only planning clones the best solution if a listener asks for it
+        solverEventSupport.fireBestSolutionChangedLazily(solverScope);
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        if (lazyBestSolutionCloningEnabled) {
+            // The next phase or a problem change might replace the working solution the best solution was recorded on
+            phaseScope.getSolverScope().getBestSolution();
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.recaller;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.cloner.DeepPlanningClone;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.cloner.DeepCloningUtils;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+/**
+ * Records the values of every genuine and shadow variable of the working solution when it becomes the best solution,
+ * so the planning clone of that best solution can be postponed until it is actually needed.
+ * That includes the shadow variables of planning entities that are only in a problem fact collection.
+ * <p>
+ * Recording a new best solution only reads the variables, it does not allocate any planning entities.
+ * A single snapshot is reused for every new best solution, because only the latest one can still be needed.
+ * <p>
+ * The entities of the working solution must not be added or removed between {@link #record(Object, Score)}
+ * and {@link #createBestSolution(InnerScoreDirector)}, because the values are matched to the entities by position.
+ * Their variables can change freely in between and the working solution can even be replaced by a planning clone.
+ * <p>
+ * Only the planning entities are translated to their planning clone,
+ * so a planning value that the planning clone doesn't share with the working solution,
+ * such as a {@link DeepPlanningClone deep planning cloned} value, cannot be recorded.
+ * Use it only if {@link SolverScope#isPlanningCloneTranslatable(SolutionDescriptor)} is true.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class BestSolutionSnapshot<Solution_> {
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final DeepCloningUtils deepCloningUtils;
+    /**
+     * The values in the order of {@link #visitAllEntities(Object, Consumer)}
+     * and {@link EntityDescriptor#getVariableDescriptors()}.
+     * A collection value, such as a list variable, is a copy.
+     */
+    private final List<Object> valueList = new ArrayList<>();
+    /**
+     * The variable of each value in {@link #valueList}.
+     */
+    private final List<VariableDescriptor<Solution_>> valueVariableDescriptorList = new ArrayList<>();
+    private final List<Object> entityList = new ArrayList<>();
+    private final Set<Object> entitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+    private Score<?> score = null;
+
+    public BestSolutionSnapshot(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this.solutionDescriptor = solutionDescriptor;
+        this.deepCloningUtils = new DeepCloningUtils(solutionDescriptor);
+    }
+
+    /**
+     * @param workingSolution never null
+     * @param score never null, the score of the workingSolution
+     * @return false if a planning value of the workingSolution would not be shared with its planning clone,
+     *         in which case {@link #createBestSolution(InnerScoreDirector)} must not be called until the next record
+     */
+    public boolean record(Solution_ workingSolution, Score<?> score) {
+        valueList.clear();
+        entityList.clear();
+        valueVariableDescriptorList.clear();
+        entitySet.clear();
+        visitAllEntities(workingSolution, entity -> {
+            EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+            for (VariableDescriptor<Solution_> variableDescriptor : entityDescriptor.getVariableDescriptors()) {
+                Object value = variableDescriptor.getValue(entity);
+                // The working collection keeps changing
+                valueList.add(value instanceof Collection ? new ArrayList<>((Collection<?>) value) : value);
+                valueVariableDescriptorList.add(variableDescriptor);
+            }
+            entityList.add(entity);
+            entitySet.add(entity);
+        });
+        this.score = score;
+        // Only the entities are translated to their planning clone, every other value must be shared with it
+        for (int i = 0; i < valueList.size(); i++) {
+            Object value = valueList.get(i);
+            VariableDescriptor<Solution_> variableDescriptor = valueVariableDescriptorList.get(i);
+            if (value instanceof Collection) {
+                for (Object element : (Collection<?>) value) {
+                    if (!isShared(variableDescriptor, element)) {
+                        return false;
+                    }
+                }
+            } else if (!isShared(variableDescriptor, value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isShared(VariableDescriptor<Solution_> variableDescriptor, Object value) {
+        return value == null || entitySet.contains(value)
+                || !SolverScope.isDeepPlanningCloned(deepCloningUtils, variableDescriptor, value);
+    }
+
+    /**
+     * Planning clones the working solution and then overwrites its variables with the recorded values.
+     *
+     * @param scoreDirector never null
+     * @return never null, a planning clone in the state of the last {@link #record(Object, Score)}
+     */
+    public Solution_ createBestSolution(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        Solution_ workingSolution = scoreDirector.getWorkingSolution();
+        Solution_ bestSolution = scoreDirector.cloneWorkingSolution();
+        List<Object> workingEntityList = new ArrayList<>(entityList.size());
+        visitAllEntities(workingSolution, workingEntityList::add);
+        List<Object> bestEntityList = new ArrayList<>(entityList.size());
+        visitAllEntities(bestSolution, bestEntityList::add);
+        if (bestEntityList.size() != entityList.size()) {
+            throw new IllegalStateException("Impossible state: the recorded best solution has " + entityList.size()
+                    + " entities, but the workingSolution has " + bestEntityList.size() + " entities.");
+        }
+        // A planning value that is an entity has a different instance in the planning clone
+        Map<Object, Object> recordedToBestEntityMap = new IdentityHashMap<>(entityList.size());
+        for (int i = 0; i < entityList.size(); i++) {
+            Object recordedEntity = entityList.get(i);
+            Object bestEntity = bestEntityList.get(i);
+            if (recordedEntity.getClass() != bestEntity.getClass()) {
+                throw new IllegalStateException("Impossible state: the recordedEntity (" + recordedEntity
+                        + ") has a different class than the bestEntity (" + bestEntity + ") at the same position.");
+            }
+            recordedToBestEntityMap.put(recordedEntity, bestEntity);
+        }
+        int valueIndex = 0;
+        for (int i = 0; i < entityList.size(); i++) {
+            Object workingEntity = workingEntityList.get(i);
+            Object bestEntity = bestEntityList.get(i);
+            EntityDescriptor<Solution_> entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(
+                    bestEntity.getClass());
+            for (VariableDescriptor<Solution_> variableDescriptor : entityDescriptor.getVariableDescriptors()) {
+                Object value = valueList.get(valueIndex);
+                valueIndex++;
+                if (value instanceof Collection) {
+                    restoreCollection(variableDescriptor, workingEntity, bestEntity, (Collection<?>) value,
+                            recordedToBestEntityMap);
+                } else {
+                    variableDescriptor.setValue(bestEntity, recordedToBestEntityMap.getOrDefault(value, value));
+                }
+            }
+        }
+        solutionDescriptor.setScore(bestSolution, score);
+        return bestSolution;
+    }
+
+    private void visitAllEntities(Solution_ solution, Consumer<Object> visitor) {
+        solutionDescriptor.visitAllFacts(solution, fact -> {
+            if (solutionDescriptor.hasEntityDescriptor(fact.getClass())) {
+                visitor.accept(fact);
+            }
+        });
+    }
+
+    private void restoreCollection(VariableDescriptor<Solution_> variableDescriptor, Object workingEntity,
+            Object bestEntity, Collection<?> recordedCollection, Map<Object, Object> recordedToBestEntityMap) {
+        Collection<Object> bestCollection = (Collection<Object>) variableDescriptor.getValue(bestEntity);
+        if (bestCollection == null || bestCollection == variableDescriptor.getValue(workingEntity)) {
+            // Never change the collection of the working solution
+            bestCollection = bestCollection instanceof Set ? new LinkedHashSet<>() : new ArrayList<>();
+            variableDescriptor.setValue(bestEntity, bestCollection);
+        } else {
+            bestCollection.clear();
+        }
+        for (Object value : recordedCollection) {
+            bestCollection.add(recordedToBestEntityMap.getOrDefault(value, value));
+        }
+    }
+
+}
@@ -16,9 +16,14 @@
 
 package org.optaplanner.core.impl.solver.scope;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -26,14 +31,22 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.cloner.DeepPlanningClone;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.config.solver.monitoring.SolverMetric;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.cloner.DeepCloningUtils;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.change.DefaultProblemChangeDirector;
+import org.optaplanner.core.impl.solver.recaller.BestSolutionSnapshot;
 import org.optaplanner.core.impl.solver.termination.Termination;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 
@@ -61,6 +74,17 @@ public class SolverScope<Solution_> {
     protected Score startingInitializedScore;
 
     protected volatile Solution_ bestSolution;
+    /**
+     * Null unless the best solution is recorded lazily.
+     * If {@link #bestSolutionPending} is true, it holds a newer best solution than {@link #bestSolution}.
+     */
+    protected BestSolutionSnapshot<Solution_> bestSolutionSnapshot = null;
+    protected volatile boolean bestSolutionPending = false;
+    /**
+     * The solver thread that recorded the pending best solution,
+     * because only that thread can planning clone the working solution.
+     */
+    protected Thread bestSolutionRecordingThread = null;
     protected volatile Score bestScore;
     protected Long bestSolutionTimeMillis;
     /**
@@ -180,7 +204,24 @@ public class SolverScope<Solution_> {
         return scoreDirector.getCalculationCount() + childThreadsScoreCalculationCount;
     }
 
+    /**
+     * If the best solution was {@link #setBestSolutionFromWorkingSolutionLazily(Score) recorded lazily},
+     * this planning clones it first, which is only allowed on the solver thread that recorded it.
+     *
+     * @return never null after the solver started
+     */
     public Solution_ getBestSolution() {
+        if (bestSolutionPending) {
+            Thread currentThread = Thread.currentThread();
+            if (currentThread != bestSolutionRecordingThread) {
+                throw new IllegalStateException("The best solution was recorded lazily by the solver thread ("
+                        + bestSolutionRecordingThread + "), so it cannot be planning cloned by another thread ("
+                        + currentThread + ") while that solver thread keeps changing the working solution.");
+            }
+            bestSolution = bestSolutionSnapshot.createBestSolution(scoreDirector);
+            // Publish the planning clone before it stops being pending
+            bestSolutionPending = false;
+        }
         return bestSolution;
     }
 
@@ -192,6 +233,31 @@ public class SolverScope<Solution_> {
      */
     public void setBestSolution(Solution_ bestSolution) {
         this.bestSolution = bestSolution;
+        bestSolutionPending = false;
+    }
+
+    /**
+     * Like {@link #setBestSolution(Object)} with a planning clone of the working solution,
+     * but only records the variable values of the working solution
+     * and postpones that planning clone until {@link #getBestSolution()} is called.
+     * <p>
+     * Call {@link #getBestSolution()} before any planning entity is added to or removed from the working solution.
+     * <p>
+     * Falls back to that planning clone right away
+     * if the working solution has a planning value that its planning clone wouldn't share.
+     *
+     * @param bestScore never null, the score of the working solution
+     */
+    public void setBestSolutionFromWorkingSolutionLazily(Score bestScore) {
+        if (bestSolutionSnapshot == null) {
+            bestSolutionSnapshot = new BestSolutionSnapshot<>(getSolutionDescriptor());
+        }
+        if (!bestSolutionSnapshot.record(scoreDirector.getWorkingSolution(), bestScore)) {
+            setBestSolution(scoreDirector.cloneWorkingSolution());
+            return;
+        }
+        bestSolutionRecordingThread = Thread.currentThread();
+        bestSolutionPending = true;
     }
 
     public Score getBestScore() {
@@ -255,7 +321,131 @@ public class SolverScope<Solution_> {
 
     public void setWorkingSolutionFromBestSolution() {
         // The workingSolution must never be the same instance as the bestSolution.
-        scoreDirector.setWorkingSolution(scoreDirector.cloneSolution(bestSolution));
+        scoreDirector.setWorkingSolution(scoreDirector.cloneSolution(getBestSolution()));
+    }
+
+    /**
+     * Like {@link #setWorkingSolutionFromBestSolution()}, but instead of planning cloning the bestSolution
+     * and reloading that clone in the score director,
+     * it only changes the genuine variables of the current workingSolution that differ from the bestSolution.
+     * So if the workingSolution is still in the state of the bestSolution, nothing changes.
+     * <p>
+     * Falls back to {@link #setWorkingSolutionFromBestSolution()} for chained and list variables,
+     * because changing those one variable at a time corrupts the chains and lists in between.
+     * It also falls back if the bestSolution has a planning value that is not shared with the workingSolution,
+     * such as a {@link DeepPlanningClone deep planning cloned} value, or if the solution has a custom cloner,
+     * because only the planning entities can be translated to their workingSolution instance.
+     */
+    public void restoreWorkingSolutionFromBestSolution() {
+        SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
+        if (!isPlanningCloneTranslatable(solutionDescriptor)) {
+            setWorkingSolutionFromBestSolution();
+            return;
+        }
+        List<Object> workingEntityList = new ArrayList<>();
+        solutionDescriptor.visitAllEntities(scoreDirector.getWorkingSolution(), workingEntityList::add);
+        List<Object> bestEntityList = new ArrayList<>(workingEntityList.size());
+        solutionDescriptor.visitAllEntities(getBestSolution(), bestEntityList::add);
+        if (workingEntityList.size() != bestEntityList.size()) {
+            throw new IllegalStateException("Impossible state: the workingSolution has " + workingEntityList.size()
+                    + " entities, but the bestSolution has " + bestEntityList.size() + " entities.");
+        }
+        // A planning clone replaces every entity instance, but keeps the entity order
+        Map<Object, Object> bestToWorkingEntityMap = new IdentityHashMap<>(bestEntityList.size());
+        Map<Class<?>, Optional<MemberAccessor>> planningIdAccessorMap = new HashMap<>();
+        for (int i = 0; i < bestEntityList.size(); i++) {
+            Object workingEntity = workingEntityList.get(i);
+            Object bestEntity = bestEntityList.get(i);
+            assertSameEntity(solutionDescriptor, planningIdAccessorMap, workingEntity, bestEntity);
+            if (bestToWorkingEntityMap.put(bestEntity, workingEntity) != null) {
+                throw new IllegalStateException("Impossible state: the bestEntity (" + bestEntity
+                        + ") is visited twice in the bestSolution.");
+            }
+        }
+        DeepCloningUtils deepCloningUtils = new DeepCloningUtils(solutionDescriptor);
+        // Only change a variable once every planning value is known to be translatable
+        List<Runnable> variableChangeList = new ArrayList<>();
+        for (int i = 0; i < workingEntityList.size(); i++) {
+            Object workingEntity = workingEntityList.get(i);
+            Object bestEntity = bestEntityList.get(i);
+            EntityDescriptor<Solution_> entityDescriptor =
+                    solutionDescriptor.findEntityDescriptorOrFail(workingEntity.getClass());
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptorList()) {
+                Object bestValue = variableDescriptor.getValue(bestEntity);
+                Object workingValue;
+                if (bestValue == null) {
+                    workingValue = null;
+                } else if (bestToWorkingEntityMap.containsKey(bestValue)) {
+                    // A planning value that is an entity has a different instance in the workingSolution
+                    workingValue = bestToWorkingEntityMap.get(bestValue);
+                } else if (isDeepPlanningCloned(deepCloningUtils, variableDescriptor, bestValue)) {
+                    // That planning value is a clone that doesn't exist in the workingSolution
+                    setWorkingSolutionFromBestSolution();
+                    return;
+                } else {
+                    workingValue = bestValue;
+                }
+                if (variableDescriptor.getValue(workingEntity) != workingValue) {
+                    variableChangeList.add(
+                            () -> scoreDirector.changeVariableFacade(variableDescriptor, workingEntity, workingValue));
+                }
+            }
+        }
+        variableChangeList.forEach(Runnable::run);
+        scoreDirector.triggerVariableListeners();
+    }
+
+    /**
+     * The planning values of 2 planning clones of the same solution can be translated into each other
+     * by pairing their planning entities by position,
+     * unless the solution has a custom cloner or a chained or list variable.
+     * A value for which {@link #isDeepPlanningCloned(DeepCloningUtils, VariableDescriptor, Object)} is true
+     * can never be translated.
+     *
+     * @param solutionDescriptor never null
+     * @return true if the planning values of a planning clone can be translated by pairing the planning entities
+     */
+    public static boolean isPlanningCloneTranslatable(SolutionDescriptor<?> solutionDescriptor) {
+        return solutionDescriptor.getGenuineEntityDescriptors().stream()
+                .noneMatch(entityDescriptor -> entityDescriptor.hasAnyChainedGenuineVariables()
+                        || entityDescriptor.hasAnyListGenuineVariables())
+                && solutionDescriptor.getSolutionClass().getAnnotation(PlanningSolution.class)
+                        .solutionCloner() == PlanningSolution.NullSolutionCloner.class;
+    }
+
+    /**
+     * @param deepCloningUtils never null
+     * @param variableDescriptor never null
+     * @param value never null, a value of that variable that is not a planning entity of the solution
+     * @return true if a planning clone has its own clone of that value, instead of sharing it
+     */
+    public static boolean isDeepPlanningCloned(DeepCloningUtils deepCloningUtils,
+            VariableDescriptor<?> variableDescriptor, Object value) {
+        return variableDescriptor.getVariableMemberAccessor().getAnnotation(DeepPlanningClone.class) != null
+                || deepCloningUtils.retrieveDeepCloneDecisionForActualValueClass(variableDescriptor.getVariablePropertyType())
+                || deepCloningUtils.retrieveDeepCloneDecisionForActualValueClass(value.getClass());
+    }
+
+    private void assertSameEntity(SolutionDescriptor<Solution_> solutionDescriptor,
+            Map<Class<?>, Optional<MemberAccessor>> planningIdAccessorMap, Object workingEntity, Object bestEntity) {
+        Class<?> entityClass = workingEntity.getClass();
+        if (entityClass != bestEntity.getClass()) {
+            throw new IllegalStateException("Impossible state: the workingEntity (" + workingEntity
+                    + ") has a different class than the bestEntity (" + bestEntity + ") at the same position.");
+        }
+        Optional<MemberAccessor> planningIdAccessor = planningIdAccessorMap.computeIfAbsent(entityClass,
+                key -> Optional.ofNullable(ConfigUtils.findPlanningIdMemberAccessor(key,
+                        solutionDescriptor.getDomainAccessType(), solutionDescriptor.getGeneratedMemberAccessorMap())));
+        if (planningIdAccessor.isPresent()) {
+            Object workingPlanningId = planningIdAccessor.get().executeGetter(workingEntity);
+            Object bestPlanningId = planningIdAccessor.get().executeGetter(bestEntity);
+            if (!Objects.equals(workingPlanningId, bestPlanningId)) {
+                throw new IllegalStateException("Impossible state: the workingEntity (" + workingEntity
+                        + ") has a different planning id (" + workingPlanningId + ") than the bestEntity ("
+                        + bestEntity + ") with planning id (" + bestPlanningId + ") at the same position.");
+            }
+        }
     }
 
     public SolverScope<Solution_> createChildThreadSolverScope(ChildThreadType childThreadType) {
@@ -271,6 +461,7 @@ public class SolverScope<Solution_> {
         childThreadSolverScope.endingSystemTimeMillis = null;
         childThreadSolverScope.startingInitializedScore = null;
         childThreadSolverScope.bestSolution = null;
+        childThreadSolverScope.bestSolutionPending = false;
         childThreadSolverScope.bestScore = null;
         childThreadSolverScope.bestSolutionTimeMillis = null;
         return childThreadSolverScope;
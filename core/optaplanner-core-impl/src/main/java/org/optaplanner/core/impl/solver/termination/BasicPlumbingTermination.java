@@ -20,28 +20,55 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.solver.change.ProblemChangeAdapter;
+import org.optaplanner.core.impl.solver.change.QueuedProblemChange;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 
 /**
  * Concurrency notes:
- * Condition predicate on ({@link #problemFactChangeQueue} is not empty or {@link #terminatedEarly} is true).
+ * Condition predicate on ({@link #problemFactChangeQueue} holds a ready batch or {@link #terminatedEarly} is true).
+ * <p>
+ * A batch is ready as soon as the oldest waiting problem change has waited {@link #batchWaitNanosLimit}
+ * or {@link #batchSizeLimit} problem changes are waiting.
  */
 public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Solution_> {
 
     protected final boolean daemon;
+    protected final long batchWaitNanosLimit;
+    protected final int batchSizeLimit;
 
     protected boolean terminatedEarly = false;
 
-    protected BlockingQueue<ProblemChangeAdapter<Solution_>> problemFactChangeQueue = new LinkedBlockingQueue<>();
+    protected BlockingQueue<QueuedProblemChange<Solution_>> problemFactChangeQueue = new LinkedBlockingQueue<>();
+    /**
+     * The {@link QueuedProblemChange#getSubmissionNanos()} of the oldest problem change in the queue,
+     * which is not necessarily the head of the queue, because a merged problem change inherits it.
+     */
+    protected long oldestSubmissionNanos = 0L;
 
     protected boolean problemFactChangesBeingProcessed = false;
 
     public BasicPlumbingTermination(boolean daemon) {
+        this(daemon, 0L, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param daemon true if the solver waits for problem changes instead of returning
+     * @param batchWaitMillisLimit {@code >= 0}, 0 to restart the solver as soon as a problem change is waiting
+     * @param batchSizeLimit {@code >= 1}, the maximum number of problem changes processed per solver restart
+     */
+    public BasicPlumbingTermination(boolean daemon, long batchWaitMillisLimit, int batchSizeLimit) {
         this.daemon = daemon;
+        this.batchWaitNanosLimit = TimeUnit.MILLISECONDS.toNanos(batchWaitMillisLimit);
+        this.batchSizeLimit = batchSizeLimit;
+    }
+
+    public int getBatchSizeLimit() {
+        return batchSizeLimit;
     }
 
     // ************************************************************************
@@ -79,7 +106,8 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
     /**
      * If this returns true, then the problemFactChangeQueue is definitely not empty.
      * <p>
-     * Concurrency note: Blocks until {@link #problemFactChangeQueue} is not empty or {@link #terminatedEarly} is true.
+     * Concurrency note: Blocks until {@link #problemFactChangeQueue} holds a ready batch
+     * or {@link #terminatedEarly} is true.
      *
      * @return true if the solver needs to be restarted
      */
@@ -87,9 +115,14 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
         if (!daemon) {
             return !problemFactChangeQueue.isEmpty() && !terminatedEarly;
         } else {
-            while (problemFactChangeQueue.isEmpty() && !terminatedEarly) {
+            while (!isProblemChangeBatchReady() && !terminatedEarly) {
                 try {
-                    wait();
+                    if (problemFactChangeQueue.isEmpty()) {
+                        wait();
+                    } else {
+                        long batchWaitNanos = batchWaitNanosLimit - (System.nanoTime() - oldestSubmissionNanos);
+                        TimeUnit.NANOSECONDS.timedWait(this, batchWaitNanos);
+                    }
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                     throw new IllegalStateException("Solver thread was interrupted during Object.wait().", e);
@@ -106,7 +139,31 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
      * @return as specified by {@link Collection#add}
      */
     public synchronized boolean addProblemChange(ProblemChangeAdapter<Solution_> problemChange) {
-        boolean added = problemFactChangeQueue.add(problemChange);
+        return addProblemChange(problemChange, null);
+    }
+
+    /**
+     * Concurrency note: unblocks {@link #waitForRestartSolverDecision()}.
+     *
+     * @param problemChange never null
+     * @param mergeKey sometimes null, replaces the waiting problem change with an equal merge key, if any,
+     *        in its place in the queue, so it is still applied in order with the other problem changes
+     * @return as specified by {@link Collection#add}
+     */
+    public synchronized boolean addProblemChange(ProblemChangeAdapter<Solution_> problemChange, Object mergeKey) {
+        if (mergeKey != null) {
+            // Merging on every addition guarantees there is at most 1 waiting problem change per merge key
+            for (QueuedProblemChange<Solution_> queuedProblemChange : problemFactChangeQueue) {
+                if (mergeKey.equals(queuedProblemChange.getMergeKey())) {
+                    // Fails if the solver thread already started it, then this one waits at the end of the queue
+                    if (queuedProblemChange.replace(problemChange)) {
+                        return true;
+                    }
+                    break;
+                }
+            }
+        }
+        boolean added = enqueue(new QueuedProblemChange<>(problemChange, mergeKey, System.nanoTime()));
         notifyAll();
         return added;
     }
@@ -118,18 +175,52 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
      * @return as specified by {@link Collection#add}
      */
     public synchronized boolean addProblemChanges(List<ProblemChangeAdapter<Solution_>> problemChangeList) {
-        boolean added = problemFactChangeQueue.addAll(problemChangeList);
+        long submissionNanos = System.nanoTime();
+        boolean added = false;
+        for (ProblemChangeAdapter<Solution_> problemChange : problemChangeList) {
+            added |= enqueue(new QueuedProblemChange<>(problemChange, null, submissionNanos));
+        }
         notifyAll();
         return added;
     }
 
-    public synchronized BlockingQueue<ProblemChangeAdapter<Solution_>> startProblemFactChangesProcessing() {
+    private boolean enqueue(QueuedProblemChange<Solution_> queuedProblemChange) {
+        if (problemFactChangeQueue.isEmpty()
+                || queuedProblemChange.getSubmissionNanos() - oldestSubmissionNanos < 0L) {
+            oldestSubmissionNanos = queuedProblemChange.getSubmissionNanos();
+        }
+        return problemFactChangeQueue.add(queuedProblemChange);
+    }
+
+    /**
+     * The caller polls at most {@link #getBatchSizeLimit()} problem changes from the returned queue.
+     *
+     * @return never null
+     */
+    public synchronized BlockingQueue<QueuedProblemChange<Solution_>> startProblemFactChangesProcessing() {
         problemFactChangesBeingProcessed = true;
         return problemFactChangeQueue;
     }
 
     public synchronized void endProblemFactChangesProcessing() {
         problemFactChangesBeingProcessed = false;
+        // The problem changes left over by the batch size limit keep their submission time
+        boolean first = true;
+        for (QueuedProblemChange<Solution_> queuedProblemChange : problemFactChangeQueue) {
+            if (first || queuedProblemChange.getSubmissionNanos() - oldestSubmissionNanos < 0L) {
+                oldestSubmissionNanos = queuedProblemChange.getSubmissionNanos();
+                first = false;
+            }
+        }
+    }
+
+    /**
+     * This method is thread-safe.
+     *
+     * @return {@code >= 0}
+     */
+    public int getProblemChangeQueueSize() {
+        return problemFactChangeQueue.size();
     }
 
     public synchronized boolean isEveryProblemFactChangeProcessed() {
@@ -152,7 +243,15 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
             logger.info("The solver thread got interrupted, so this solver is terminating early.");
             terminatedEarly = true;
         }
-        return terminatedEarly || !problemFactChangeQueue.isEmpty();
+        return terminatedEarly || isProblemChangeBatchReady();
+    }
+
+    private boolean isProblemChangeBatchReady() {
+        if (problemFactChangeQueue.isEmpty()) {
+            return false;
+        }
+        return problemFactChangeQueue.size() >= batchSizeLimit
+                || System.nanoTime() - oldestSubmissionNanos >= batchWaitNanosLimit;
     }
 
     @Override
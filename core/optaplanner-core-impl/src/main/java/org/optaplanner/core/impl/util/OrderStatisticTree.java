@@ -0,0 +1,295 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.util;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * A sorted multiset which also finds an element by its index in the sort order
+ * and finds the index of an element, both in {@code O(log(n))}.
+ * <p>
+ * It's an AVL tree of which every node also tracks the size of its subtree.
+ * Elements that compare to zero share a node, so they all count towards the {@link #size()},
+ * but only the first one added is returned by {@link #get(int)}.
+ * <p>
+ * A {@link #copy()} takes {@code O(1)} time, because both trees share their nodes, copy-on-write:
+ * a tree only changes the nodes it owns, so it copies a shared node (and thus its path from the root) first.
+ *
+ * @param <Key_> the element type
+ */
+public final class OrderStatisticTree<Key_> {
+
+    private final Comparator<? super Key_> comparator;
+    private Node<Key_> root = null;
+    /**
+     * Every node that isn't owned by this tree is shared with another tree, so it must not change.
+     */
+    private Object owner = new Object();
+
+    public OrderStatisticTree(Comparator<? super Key_> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    /**
+     * @return {@code >= 0}, counts equal elements multiple times
+     */
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public void add(Key_ key) {
+        root = add(root, key);
+    }
+
+    private Node<Key_> add(Node<Key_> node, Key_ key) {
+        if (node == null) {
+            return new Node<>(key, owner);
+        }
+        node = owned(node);
+        int comparison = comparator.compare(key, node.key);
+        if (comparison < 0) {
+            node.left = add(node.left, key);
+        } else if (comparison > 0) {
+            node.right = add(node.right, key);
+        } else {
+            node.count++;
+            node.size++;
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    /**
+     * Removes a single occurrence of the key.
+     *
+     * @param key never null, must have been added before
+     */
+    public void remove(Key_ key) {
+        root = remove(root, key);
+    }
+
+    private Node<Key_> remove(Node<Key_> node, Key_ key) {
+        if (node == null) {
+            throw new IllegalStateException("Impossible state: the key (" + key + ") was never added.");
+        }
+        node = owned(node);
+        int comparison = comparator.compare(key, node.key);
+        if (comparison < 0) {
+            node.left = remove(node.left, key);
+        } else if (comparison > 0) {
+            node.right = remove(node.right, key);
+        } else {
+            if (node.count > 1) {
+                node.count--;
+                node.size--;
+                return node;
+            }
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // Replace the node by its successor
+            Node<Key_> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor = owned(successor);
+            successor.right = removeFirst(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private Node<Key_> removeFirst(Node<Key_> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node = owned(node);
+        node.left = removeFirst(node.left);
+        return rebalance(node);
+    }
+
+    /**
+     * @param index {@code 0 <= index < size()}, equal elements occupy multiple indexes
+     * @return never null, the element at that index in the sort order
+     */
+    public Key_ get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("The index (" + index + ") is not in the range [0, " + size() + ").");
+        }
+        Node<Key_> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index < leftSize + node.count) {
+                return node.key;
+            } else {
+                index -= leftSize + node.count;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * @param key never null, does not need to have been added
+     * @return {@code >= 0}, the number of elements that are strictly less than the key,
+     *         which is the index of the key if it has been added
+     */
+    public int countLessThan(Key_ key) {
+        int count = 0;
+        Node<Key_> node = root;
+        while (node != null) {
+            int comparison = comparator.compare(key, node.key);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                count += size(node.left) + node.count;
+                node = node.right;
+            } else {
+                return count + size(node.left);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Takes {@code O(1)} time. Afterwards, the first change of either tree copies {@code O(log(n))} shared nodes.
+     *
+     * @return never null, an independent tree with the same elements,
+     *         which is not affected by later changes of this tree
+     */
+    public OrderStatisticTree<Key_> copy() {
+        OrderStatisticTree<Key_> copy = new OrderStatisticTree<>(comparator);
+        copy.root = root;
+        // From now on, all nodes are shared
+        owner = new Object();
+        return copy;
+    }
+
+    /**
+     * @param other never null
+     * @return true if neither tree changed since one is a {@link #copy()} of the other,
+     *         so they certainly have the same elements
+     */
+    public boolean isUnchangedCopyOf(OrderStatisticTree<?> other) {
+        return root == other.root;
+    }
+
+    private Node<Key_> owned(Node<Key_> node) {
+        if (node.owner == owner) {
+            return node;
+        }
+        Node<Key_> copy = new Node<>(node.key, owner);
+        copy.left = node.left;
+        copy.right = node.right;
+        copy.count = node.count;
+        copy.size = node.size;
+        copy.height = node.height;
+        return copy;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * @param node never null, owned by this tree
+     */
+    private Node<Key_> rebalance(Node<Key_> node) {
+        node.refresh();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<Key_> rotateRight(Node<Key_> node) {
+        node = owned(node);
+        Node<Key_> left = owned(node.left);
+        node.left = left.right;
+        left.right = node;
+        node.refresh();
+        left.refresh();
+        return left;
+    }
+
+    private Node<Key_> rotateLeft(Node<Key_> node) {
+        node = owned(node);
+        Node<Key_> right = owned(node.right);
+        node.right = right.left;
+        right.left = node;
+        node.refresh();
+        right.refresh();
+        return right;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderStatisticTree(size = " + size() + ")";
+    }
+
+    private static final class Node<Key_> {
+
+        private final Key_ key;
+        private final Object owner;
+        private Node<Key_> left = null;
+        private Node<Key_> right = null;
+        /**
+         * The number of equal keys in this node.
+         */
+        private int count = 1;
+        /**
+         * The sum of the counts of all nodes in this subtree.
+         */
+        private int size = 1;
+        private int height = 1;
+
+        private Node(Key_ key, Object owner) {
+            this.key = key;
+            this.owner = owner;
+        }
+
+        private void refresh() {
+            size = size(left) + count + size(right);
+            height = Math.max(height(left), height(right)) + 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.util;
+
+import java.util.Objects;
+
+/**
+ * An immutable tuple of 4 values, with value-based equality.
+ * Useful as a composite key, for example to group by 4 keys at once.
+ *
+ * @param <A>
+ * @param <B>
+ * @param <C>
+ * @param <D>
+ */
+public final class Quadruple<A, B, C, D> {
+
+    public static <A, B, C, D> Quadruple<A, B, C, D> of(A a, B b, C c, D d) {
+        return new Quadruple<>(a, b, c, d);
+    }
+
+    private final A a;
+    private final B b;
+    private final C c;
+    private final D d;
+
+    private Quadruple(A a, B b, C c, D d) {
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.d = d;
+    }
+
+    public A getA() {
+        return a;
+    }
+
+    public B getB() {
+        return b;
+    }
+
+    public C getC() {
+        return c;
+    }
+
+    public D getD() {
+        return d;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Quadruple<?, ?, ?, ?> that = (Quadruple<?, ?, ?, ?>) o;
+        return Objects.equals(a, that.a) && Objects.equals(b, that.b) && Objects.equals(c, that.c)
+                && Objects.equals(d, that.d);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(a, b, c, d);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + a + ", " + b + ", " + c + ", " + d + ")";
+    }
+}
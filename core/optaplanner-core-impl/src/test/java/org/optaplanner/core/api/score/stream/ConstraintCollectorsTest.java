@@ -49,6 +49,7 @@ import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 import org.apache.commons.lang3.tuple.Triple;
 import org.junit.jupiter.api.Test;
@@ -2476,6 +2477,425 @@ class ConstraintCollectorsTest {
         assertResult(collector, container, null);
     }
 
+    // ************************************************************************
+    // percentile
+    // ************************************************************************
+
+    @Test
+    void percentile() {
+        UniConstraintCollector<Integer, ?, Integer> collector = ConstraintCollectors.percentile(i -> i, 0.8);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, null);
+        // Add first value, which is every percentile.
+        Runnable firstRetractor = accumulate(collector, container, 3);
+        assertResult(collector, container, 3);
+        // Add a lesser value, the 80th percentile of [1, 3] is still 3.
+        Runnable secondRetractor = accumulate(collector, container, 1);
+        assertResult(collector, container, 3);
+        // Add a greater value, the 80th percentile of [1, 3, 4] is 4.
+        Runnable thirdRetractor = accumulate(collector, container, 4);
+        assertResult(collector, container, 4);
+        // Add a duplicate value, the 80th percentile of [1, 1, 3, 4] is still 4.
+        Runnable fourthRetractor = accumulate(collector, container, 1);
+        assertResult(collector, container, 4);
+        // Retract the greatest value, the 80th percentile of [1, 1, 3] is 3.
+        thirdRetractor.run();
+        assertResult(collector, container, 3);
+        // Retract both duplicates.
+        secondRetractor.run();
+        fourthRetractor.run();
+        assertResult(collector, container, 3);
+        // Retract last value; there are no values now.
+        firstRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    void percentileExactDecimal() {
+        UniConstraintCollector<Integer, ?, Integer> collector = ConstraintCollectors.percentile(i -> i, 0.7);
+        Object container = collector.supplier().get();
+        for (int i = 1; i <= 10; i++) {
+            accumulate(collector, container, i);
+        }
+        // 0.7 * 10 is not exactly 7 in floating point arithmetic
+        assertResult(collector, container, 7);
+    }
+
+    @Test
+    void median() {
+        UniConstraintCollector<String, ?, String> collector =
+                ConstraintCollectors.median(Function.identity(), Comparator.<String> naturalOrder());
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, null);
+        Runnable bRetractor = accumulate(collector, container, "b");
+        assertResult(collector, container, "b");
+        // Even number of values, so the lesser middle value.
+        Runnable aRetractor = accumulate(collector, container, "a");
+        assertResult(collector, container, "a");
+        accumulate(collector, container, "c");
+        assertResult(collector, container, "b");
+        accumulate(collector, container, "d");
+        assertResult(collector, container, "b");
+        aRetractor.run();
+        assertResult(collector, container, "c");
+        bRetractor.run();
+        assertResult(collector, container, "c");
+    }
+
+    @Test
+    void percentileBi() {
+        BiConstraintCollector<Integer, Integer, ?, Integer> collector =
+                ConstraintCollectors.percentile((i, i2) -> i + i2, 0.5);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, null);
+        Runnable firstRetractor = accumulate(collector, container, 1, 0);
+        assertResult(collector, container, 1);
+        Runnable secondRetractor = accumulate(collector, container, 2, 0);
+        assertResult(collector, container, 1);
+        Runnable thirdRetractor = accumulate(collector, container, 3, 0);
+        assertResult(collector, container, 2);
+        firstRetractor.run();
+        assertResult(collector, container, 2);
+        secondRetractor.run();
+        assertResult(collector, container, 3);
+        thirdRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    void percentileTri() {
+        TriConstraintCollector<Integer, Integer, Integer, ?, Integer> collector =
+                ConstraintCollectors.percentile((i, i2, i3) -> i + i2 + i3, 0.5);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, null);
+        Runnable firstRetractor = accumulate(collector, container, 1, 0, 0);
+        assertResult(collector, container, 1);
+        Runnable secondRetractor = accumulate(collector, container, 2, 0, 0);
+        assertResult(collector, container, 1);
+        Runnable thirdRetractor = accumulate(collector, container, 3, 0, 0);
+        assertResult(collector, container, 2);
+        firstRetractor.run();
+        assertResult(collector, container, 2);
+        secondRetractor.run();
+        assertResult(collector, container, 3);
+        thirdRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    void percentileQuad() {
+        QuadConstraintCollector<Integer, Integer, Integer, Integer, ?, Integer> collector =
+                ConstraintCollectors.percentile((i, i2, i3, i4) -> i + i2 + i3 + i4, 0.5);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, null);
+        Runnable firstRetractor = accumulate(collector, container, 1, 0, 0, 0);
+        assertResult(collector, container, 1);
+        Runnable secondRetractor = accumulate(collector, container, 2, 0, 0, 0);
+        assertResult(collector, container, 1);
+        Runnable thirdRetractor = accumulate(collector, container, 3, 0, 0, 0);
+        assertResult(collector, container, 2);
+        firstRetractor.run();
+        assertResult(collector, container, 2);
+        secondRetractor.run();
+        assertResult(collector, container, 3);
+        thirdRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    // ************************************************************************
+    // topK
+    // ************************************************************************
+
+    @Test
+    void topK() {
+        UniConstraintCollector<Integer, ?, List<Integer>> collector = ConstraintCollectors.topK(i -> i, 2);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, emptyList());
+        Runnable firstRetractor = accumulate(collector, container, 3);
+        assertResult(collector, container, singletonList(3));
+        Runnable secondRetractor = accumulate(collector, container, 1);
+        assertResult(collector, container, asList(3, 1));
+        Runnable thirdRetractor = accumulate(collector, container, 4);
+        assertResult(collector, container, asList(4, 3));
+        // Duplicates take multiple places.
+        Runnable fourthRetractor = accumulate(collector, container, 4);
+        assertResult(collector, container, asList(4, 4));
+        thirdRetractor.run();
+        assertResult(collector, container, asList(4, 3));
+        firstRetractor.run();
+        assertResult(collector, container, asList(4, 1));
+        fourthRetractor.run();
+        secondRetractor.run();
+        assertResult(collector, container, emptyList());
+    }
+
+    @Test
+    void topKBi() {
+        BiConstraintCollector<Integer, Integer, ?, List<Integer>> collector =
+                ConstraintCollectors.topK((i, i2) -> i + i2, Comparator.<Integer> reverseOrder(), 2);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, emptyList());
+        // A reversed comparator finds the least values.
+        Runnable firstRetractor = accumulate(collector, container, 3, 0);
+        Runnable secondRetractor = accumulate(collector, container, 1, 0);
+        Runnable thirdRetractor = accumulate(collector, container, 2, 0);
+        assertResult(collector, container, asList(1, 2));
+        secondRetractor.run();
+        assertResult(collector, container, asList(2, 3));
+        firstRetractor.run();
+        thirdRetractor.run();
+        assertResult(collector, container, emptyList());
+    }
+
+    @Test
+    void topKTri() {
+        TriConstraintCollector<Integer, Integer, Integer, ?, List<Integer>> collector =
+                ConstraintCollectors.topK((i, i2, i3) -> i + i2 + i3, 2);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, emptyList());
+        Runnable firstRetractor = accumulate(collector, container, 3, 0, 0);
+        Runnable secondRetractor = accumulate(collector, container, 1, 0, 0);
+        Runnable thirdRetractor = accumulate(collector, container, 2, 0, 0);
+        assertResult(collector, container, asList(3, 2));
+        firstRetractor.run();
+        assertResult(collector, container, asList(2, 1));
+        secondRetractor.run();
+        thirdRetractor.run();
+        assertResult(collector, container, emptyList());
+    }
+
+    @Test
+    void topKQuad() {
+        QuadConstraintCollector<Integer, Integer, Integer, Integer, ?, List<Integer>> collector =
+                ConstraintCollectors.topK((i, i2, i3, i4) -> i + i2 + i3 + i4, 2);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, emptyList());
+        Runnable firstRetractor = accumulate(collector, container, 3, 0, 0, 0);
+        Runnable secondRetractor = accumulate(collector, container, 1, 0, 0, 0);
+        Runnable thirdRetractor = accumulate(collector, container, 2, 0, 0, 0);
+        assertResult(collector, container, asList(3, 2));
+        firstRetractor.run();
+        assertResult(collector, container, asList(2, 1));
+        secondRetractor.run();
+        thirdRetractor.run();
+        assertResult(collector, container, emptyList());
+    }
+
+    // ************************************************************************
+    // rank
+    // ************************************************************************
+
+    @Test
+    void rank() {
+        UniConstraintCollector<Integer, ?, ToIntFunction<Integer>> collector = ConstraintCollectors.rank(i -> i);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertThat(finish(collector, container).applyAsInt(5)).isZero();
+        Runnable firstRetractor = accumulate(collector, container, 3);
+        Runnable secondRetractor = accumulate(collector, container, 1);
+        Runnable thirdRetractor = accumulate(collector, container, 3);
+        ToIntFunction<Integer> rank = finish(collector, container);
+        assertThat(rank.applyAsInt(1)).isEqualTo(0);
+        // Equal values share a rank.
+        assertThat(rank.applyAsInt(3)).isEqualTo(1);
+        // Values that aren't in the group get the rank they would have.
+        assertThat(rank.applyAsInt(2)).isEqualTo(1);
+        assertThat(rank.applyAsInt(4)).isEqualTo(3);
+        // The result of an unchanged group is equal.
+        assertThat(finish(collector, container)).isEqualTo(rank);
+        secondRetractor.run();
+        // A previous result is a snapshot.
+        assertThat(rank.applyAsInt(3)).isEqualTo(1);
+        assertThat(finish(collector, container)).isNotEqualTo(rank);
+        rank = finish(collector, container);
+        assertThat(rank.applyAsInt(3)).isEqualTo(0);
+        assertThat(rank.applyAsInt(4)).isEqualTo(2);
+        firstRetractor.run();
+        thirdRetractor.run();
+        assertThat(finish(collector, container).applyAsInt(4)).isZero();
+    }
+
+    @Test
+    void rankBi() {
+        BiConstraintCollector<Integer, Integer, ?, ToIntFunction<Integer>> collector =
+                ConstraintCollectors.rank((i, i2) -> i + i2, Comparator.<Integer> reverseOrder());
+        Object container = collector.supplier().get();
+
+        // A reversed comparator ranks the greatest value first.
+        Runnable firstRetractor = accumulate(collector, container, 3, 0);
+        accumulate(collector, container, 1, 0);
+        ToIntFunction<Integer> rank = finish(collector, container);
+        assertThat(rank.applyAsInt(3)).isEqualTo(0);
+        assertThat(rank.applyAsInt(1)).isEqualTo(1);
+        firstRetractor.run();
+        assertThat(finish(collector, container).applyAsInt(1)).isEqualTo(0);
+    }
+
+    @Test
+    void rankTri() {
+        TriConstraintCollector<Integer, Integer, Integer, ?, ToIntFunction<Integer>> collector =
+                ConstraintCollectors.rank((i, i2, i3) -> i + i2 + i3);
+        Object container = collector.supplier().get();
+
+        Runnable firstRetractor = accumulate(collector, container, 1, 0, 0);
+        accumulate(collector, container, 3, 0, 0);
+        ToIntFunction<Integer> rank = finish(collector, container);
+        assertThat(rank.applyAsInt(1)).isEqualTo(0);
+        assertThat(rank.applyAsInt(3)).isEqualTo(1);
+        firstRetractor.run();
+        assertThat(finish(collector, container).applyAsInt(3)).isEqualTo(0);
+    }
+
+    @Test
+    void rankQuad() {
+        QuadConstraintCollector<Integer, Integer, Integer, Integer, ?, ToIntFunction<Integer>> collector =
+                ConstraintCollectors.rank((i, i2, i3, i4) -> i + i2 + i3 + i4);
+        Object container = collector.supplier().get();
+
+        Runnable firstRetractor = accumulate(collector, container, 1, 0, 0, 0);
+        accumulate(collector, container, 3, 0, 0, 0);
+        ToIntFunction<Integer> rank = finish(collector, container);
+        assertThat(rank.applyAsInt(1)).isEqualTo(0);
+        assertThat(rank.applyAsInt(3)).isEqualTo(1);
+        firstRetractor.run();
+        assertThat(finish(collector, container).applyAsInt(3)).isEqualTo(0);
+    }
+
+    // ************************************************************************
+    // variance
+    // ************************************************************************
+
+    @Test
+    void variance() {
+        UniConstraintCollector<Integer, ?, Double> collector = ConstraintCollectors.variance(i -> i);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, null);
+        // Add first value, which has no variance.
+        Runnable firstRetractor = accumulate(collector, container, 4);
+        assertResult(collector, container, 0.0D);
+        // Add second value, the mean is 2.5.
+        Runnable secondRetractor = accumulate(collector, container, 1);
+        assertResult(collector, container, 2.25D);
+        // Add third value, same as the second, the mean is 2.
+        Runnable thirdRetractor = accumulate(collector, container, 1);
+        assertResult(collector, container, 2.0D);
+        // Retract one instance of the second value.
+        secondRetractor.run();
+        assertResult(collector, container, 2.25D);
+        thirdRetractor.run();
+        assertResult(collector, container, 0.0D);
+        // Retract last value; there are no values now.
+        firstRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    void varianceLong() {
+        UniConstraintCollector<Long, ?, Double> collector = ConstraintCollectors.varianceLong(l -> l);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, null);
+        // Large values, of which the mean of the squares nearly cancels out the square of the mean.
+        Runnable firstRetractor = accumulate(collector, container, 1_000_000_004L);
+        Runnable secondRetractor = accumulate(collector, container, 1_000_000_001L);
+        assertResult(collector, container, 2.25D);
+        firstRetractor.run();
+        assertResult(collector, container, 0.0D);
+        secondRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    void standardDeviation() {
+        UniConstraintCollector<Integer, ?, Double> collector = ConstraintCollectors.standardDeviation(i -> i);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, null);
+        Runnable firstRetractor = accumulate(collector, container, 4);
+        assertResult(collector, container, 0.0D);
+        Runnable secondRetractor = accumulate(collector, container, 1);
+        assertResult(collector, container, 1.5D);
+        Runnable thirdRetractor = accumulate(collector, container, 1);
+        assertResult(collector, container, Math.sqrt(2.0D));
+        secondRetractor.run();
+        thirdRetractor.run();
+        firstRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    void varianceBi() {
+        BiConstraintCollector<Integer, Integer, ?, Double> collector = ConstraintCollectors.variance((i, i2) -> i + i2);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, null);
+        Runnable firstRetractor = accumulate(collector, container, 4, 0);
+        Runnable secondRetractor = accumulate(collector, container, 1, 0);
+        assertResult(collector, container, 2.25D);
+        firstRetractor.run();
+        assertResult(collector, container, 0.0D);
+        secondRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    void varianceTri() {
+        TriConstraintCollector<Integer, Integer, Integer, ?, Double> collector =
+                ConstraintCollectors.variance((i, i2, i3) -> i + i2 + i3);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, null);
+        Runnable firstRetractor = accumulate(collector, container, 4, 0, 0);
+        Runnable secondRetractor = accumulate(collector, container, 1, 0, 0);
+        assertResult(collector, container, 2.25D);
+        firstRetractor.run();
+        assertResult(collector, container, 0.0D);
+        secondRetractor.run();
+        assertResult(collector, container, null);
+    }
+
+    @Test
+    void varianceQuad() {
+        QuadConstraintCollector<Integer, Integer, Integer, Integer, ?, Double> collector =
+                ConstraintCollectors.variance((i, i2, i3, i4) -> i + i2 + i3 + i4);
+        Object container = collector.supplier().get();
+
+        // Default state.
+        assertResult(collector, container, null);
+        Runnable firstRetractor = accumulate(collector, container, 4, 0, 0, 0);
+        Runnable secondRetractor = accumulate(collector, container, 1, 0, 0, 0);
+        assertResult(collector, container, 2.25D);
+        firstRetractor.run();
+        assertResult(collector, container, 0.0D);
+        secondRetractor.run();
+        assertResult(collector, container, null);
+    }
+
     // ************************************************************************
     // toCollection
     // ************************************************************************
@@ -3960,6 +4380,26 @@ class ConstraintCollectorsTest {
         return collector.accumulator().apply((Container_) container, value);
     }
 
+    private static <A, B, C, D, Container_, Result_> Result_ finish(
+            QuadConstraintCollector<A, B, C, D, Container_, Result_> collector, Object container) {
+        return collector.finisher().apply((Container_) container);
+    }
+
+    private static <A, B, C, Container_, Result_> Result_ finish(
+            TriConstraintCollector<A, B, C, Container_, Result_> collector, Object container) {
+        return collector.finisher().apply((Container_) container);
+    }
+
+    private static <A, B, Container_, Result_> Result_ finish(
+            BiConstraintCollector<A, B, Container_, Result_> collector, Object container) {
+        return collector.finisher().apply((Container_) container);
+    }
+
+    private static <A, Container_, Result_> Result_ finish(
+            UniConstraintCollector<A, Container_, Result_> collector, Object container) {
+        return collector.finisher().apply((Container_) container);
+    }
+
     private static <A, B, C, D, Container_, Result_> void assertResult(
             QuadConstraintCollector<A, B, C, D, Container_, Result_> collector, Object container,
             Result_ expectedResult) {
@@ -17,6 +17,7 @@
 package org.optaplanner.core.api.solver;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
@@ -25,16 +26,21 @@ import static org.optaplanner.core.api.solver.SolverStatus.SOLVING_ACTIVE;
 import static org.optaplanner.core.api.solver.SolverStatus.SOLVING_SCHEDULED;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertSolutionInitialized;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
@@ -55,6 +61,7 @@ import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.phase.custom.CustomPhaseCommand;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -302,9 +309,335 @@ class SolverManagerTest {
         }
     }
 
+    @Test
+    @Timeout(60)
+    void throttling() throws ExecutionException, InterruptedException {
+        CountDownLatch firstBestSolutionConsumed = new CountDownLatch(1);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withLazyBestSolutionCloningEnabled(true)
+                // The second step waits until the consumer took the first best solution, so it can't be skipped ahead
+                .withPhases(createPhaseAssigningOneEntityPerStep(4, firstBestSolutionConsumed));
+        solverManager = SolverManager.create(solverConfig,
+                new SolverManagerConfig().withThrottlingDelay(Duration.ofHours(1L)));
+        List<TestdataSolution> bestSolutionList = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch finalBestSolutionConsumed = new CountDownLatch(1);
+        SolverJob<TestdataSolution, Long> solverJob = solverManager.solveAndListen(1L,
+                problemId -> PlannerTestUtils.generateTestdataSolution("s1", 4),
+                bestSolution -> {
+                    bestSolutionList.add(bestSolution);
+                    firstBestSolutionConsumed.countDown();
+                }, finalBestSolution -> finalBestSolutionConsumed.countDown(), null);
+        assertSolutionInitialized(solverJob.getFinalBestSolution());
+        finalBestSolutionConsumed.await();
+        // The first best solution is delivered immediately, the next 2 are suppressed
+        // and the last one is delivered at the end of the phase, long before the throttling delay is over.
+        assertThat(bestSolutionList).hasSize(2);
+        assertThat(bestSolutionList.get(0).getEntityList()).extracting(TestdataEntity::getValue)
+                .filteredOn(Objects::nonNull).hasSize(1);
+        assertSolutionInitialized(bestSolutionList.get(1));
+    }
+
+    @Test
+    @Timeout(60)
+    void solveAndListenToDiffs() throws ExecutionException, InterruptedException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(createPhaseAssigningOneEntityPerStep(4));
+        solverManager = SolverManager.create(solverConfig);
+        List<BestSolutionDiff<TestdataSolution>> diffList = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch finalBestSolutionConsumed = new CountDownLatch(1);
+        SolverJob<TestdataSolution, Long> solverJob = solverManager.solveAndListenToDiffs(1L,
+                problemId -> PlannerTestUtils.generateTestdataSolution("s1", 4),
+                diffList::add, finalBestSolution -> finalBestSolutionConsumed.countDown(), null);
+        assertSolutionInitialized(solverJob.getFinalBestSolution());
+        finalBestSolutionConsumed.await();
+
+        assertThat(diffList).isNotEmpty();
+        assertThat(diffList.get(0).isComplete()).isTrue();
+        assertThat(diffList.get(0).getChangedEntityList()).hasSize(4);
+        Set<String> changedEntityCodeSet = new HashSet<>();
+        for (BestSolutionDiff<TestdataSolution> diff : diffList.subList(1, diffList.size())) {
+            assertThat(diff.isComplete()).isFalse();
+            assertThat(diff.getChangedEntityList()).isNotEmpty();
+            for (Object changedEntity : diff.getChangedEntityList()) {
+                assertThat(diff.getNewBestSolution().getEntityList()).containsOnlyOnce((TestdataEntity) changedEntity);
+                assertThat(diff.getChangedVariableNames(changedEntity)).containsExactly("value");
+                changedEntityCodeSet.add(((TestdataEntity) changedEntity).getCode());
+            }
+        }
+        // Every entity that wasn't assigned yet in the first best solution changed in a later one
+        diffList.get(0).getNewBestSolution().getEntityList().stream()
+                .filter(entity -> entity.getValue() == null)
+                .forEach(entity -> assertThat(changedEntityCodeSet).contains(entity.getCode()));
+    }
+
+    private CustomPhaseConfig createPhaseAssigningOneEntityPerStep(int entityCount) {
+        return createPhaseAssigningOneEntityPerStep(entityCount, null);
+    }
+
+    /**
+     * @param secondStepLatch null if the second step doesn't wait
+     */
+    private CustomPhaseConfig createPhaseAssigningOneEntityPerStep(int entityCount, CountDownLatch secondStepLatch) {
+        CustomPhaseCommand<TestdataSolution>[] commands = new CustomPhaseCommand[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            int index = i;
+            commands[i] = scoreDirector -> {
+                if (index == 1 && secondStepLatch != null) {
+                    try {
+                        secondStepLatch.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        fail("Latch failed.");
+                    }
+                }
+                TestdataSolution solution = scoreDirector.getWorkingSolution();
+                TestdataEntity entity = solution.getEntityList().get(index);
+                scoreDirector.beforeVariableChanged(entity, "value");
+                entity.setValue(solution.getValueList().get(index));
+                scoreDirector.afterVariableChanged(entity, "value");
+                scoreDirector.triggerVariableListeners();
+            };
+        }
+        return new CustomPhaseConfig().withCustomPhaseCommands(commands);
+    }
+
+    @Test
+    @Timeout(60)
+    void solveByPriority() throws ExecutionException, InterruptedException {
+        List<String> stepList = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        CountDownLatch unblockedLatch = new CountDownLatch(1);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(createPhaseRecordingSteps(stepList, 1, "s1", startedLatch, unblockedLatch));
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L,
+                PlannerTestUtils.generateTestdataSolution("s1"));
+        startedLatch.await();
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L,
+                PlannerTestUtils.generateTestdataSolution("s2"));
+        SolverJob<TestdataSolution, Long> solverJob3 = solverManager.solve(3L, SolverJobScheduling.ofPriority(5),
+                PlannerTestUtils.generateTestdataSolution("s3"));
+        SolverJob<TestdataSolution, Long> solverJob4 = solverManager.solveAndListenToDiffs(4L,
+                SolverJobScheduling.ofPriority(5), problemId -> PlannerTestUtils.generateTestdataSolution("s4"),
+                diff -> {
+                }, null, null);
+        unblockedLatch.countDown();
+        solverJob1.getFinalBestSolution();
+        solverJob2.getFinalBestSolution();
+        solverJob3.getFinalBestSolution();
+        solverJob4.getFinalBestSolution();
+        assertThat(stepList).containsExactly("s1-0", "s3-0", "s4-0", "s2-0");
+    }
+
+    @Test
+    @Timeout(60)
+    void tenantParallelSolverCount() throws ExecutionException, InterruptedException {
+        List<String> stepList = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        CountDownLatch unblockedLatch = new CountDownLatch(1);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(createPhaseRecordingSteps(stepList, 1, "s1", startedLatch, unblockedLatch));
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                .withParallelSolverCount("2")
+                .withTenantParallelSolverCount(1));
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L, SolverJobScheduling.of("A", 0),
+                PlannerTestUtils.generateTestdataSolution("s1"));
+        startedLatch.await();
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L, SolverJobScheduling.of("A", 0),
+                PlannerTestUtils.generateTestdataSolution("s2"));
+        SolverJob<TestdataSolution, Long> solverJob3 = solverManager.solve(3L, SolverJobScheduling.of("B", 0),
+                PlannerTestUtils.generateTestdataSolution("s3"));
+        // The solver job of tenant B passes over the one of tenant A, which waits for the other one of tenant A
+        solverJob3.getFinalBestSolution();
+        assertThat(solverJob2.getSolverStatus()).isEqualTo(SOLVING_SCHEDULED);
+        unblockedLatch.countDown();
+        solverJob1.getFinalBestSolution();
+        solverJob2.getFinalBestSolution();
+        assertThat(stepList).containsExactly("s1-0", "s3-0", "s2-0");
+    }
+
+    @Test
+    @Timeout(60)
+    void coreBudget() throws ExecutionException, InterruptedException {
+        List<String> stepList = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        CountDownLatch unblockedLatch = new CountDownLatch(1);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(createPhaseRecordingSteps(stepList, 1, "s1", startedLatch, unblockedLatch));
+        // The parallelSolverCount allows 2 solver jobs, but the coreBudget only 1
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                .withParallelSolverCount("2")
+                .withCoreBudget("1"));
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L,
+                PlannerTestUtils.generateTestdataSolution("s1"));
+        startedLatch.await();
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L,
+                PlannerTestUtils.generateTestdataSolution("s2"));
+        SolverJob<TestdataSolution, Long> solverJob3 = solverManager.solve(3L, SolverJobScheduling.ofPriority(1),
+                PlannerTestUtils.generateTestdataSolution("s3"));
+        unblockedLatch.countDown();
+        solverJob1.getFinalBestSolution();
+        solverJob2.getFinalBestSolution();
+        solverJob3.getFinalBestSolution();
+        assertThat(stepList).containsExactly("s1-0", "s3-0", "s2-0");
+    }
+
+    @Test
+    @Timeout(60)
+    void timeSlice() throws ExecutionException, InterruptedException {
+        List<String> stepList = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        CountDownLatch unblockedLatch = new CountDownLatch(1);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(createPhaseRecordingSteps(stepList, 2, "s1", startedLatch, unblockedLatch));
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                .withParallelSolverCount("1")
+                .withTimeSlice(Duration.ofMillis(1L)));
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L,
+                PlannerTestUtils.generateTestdataSolution("s1"));
+        startedLatch.await();
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L, SolverJobScheduling.ofPriority(1),
+                PlannerTestUtils.generateTestdataSolution("s2"));
+        unblockedLatch.countDown();
+        solverJob1.getFinalBestSolution();
+        solverJob2.getFinalBestSolution();
+        // The first solver job pauses after its first step, until the one with a higher priority is done
+        assertThat(stepList).containsExactly("s1-0", "s2-0", "s2-1", "s1-1");
+    }
+
+    @Test
+    @Timeout(60)
+    void terminateEarlyWhilePausedByTimeSlice() throws ExecutionException, InterruptedException {
+        List<String> stepList = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch startedLatch1 = new CountDownLatch(1);
+        CountDownLatch unblockedLatch1 = new CountDownLatch(1);
+        CountDownLatch startedLatch2 = new CountDownLatch(1);
+        CountDownLatch unblockedLatch2 = new CountDownLatch(1);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(createPhaseRecordingSteps(stepList, 2, "s1", startedLatch1, unblockedLatch1),
+                        createPhaseRecordingSteps(stepList, 1, "s2", startedLatch2, unblockedLatch2));
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                .withParallelSolverCount("1")
+                .withTimeSlice(Duration.ofMillis(1L)));
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L,
+                PlannerTestUtils.generateTestdataSolution("s1"));
+        startedLatch1.await();
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L, SolverJobScheduling.ofPriority(1),
+                PlannerTestUtils.generateTestdataSolution("s2"));
+        unblockedLatch1.countDown();
+        // The first solver job is paused after its first step, while the second one is blocked
+        startedLatch2.await();
+        solverJob1.terminateEarly();
+        assertThat(solverJob1.getSolverStatus()).isEqualTo(NOT_SOLVING);
+        assertThat(solverJob1.getFinalBestSolution()).isNotNull();
+        unblockedLatch2.countDown();
+        solverJob2.getFinalBestSolution();
+        assertThat(stepList).doesNotContain("s1-1");
+    }
+
+    @Test
+    @Timeout(60)
+    void interruptWhilePausedByTimeSlice() throws ExecutionException, InterruptedException {
+        List<String> stepList = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<Thread> solverThread1 = new AtomicReference<>();
+        CountDownLatch startedLatch1 = new CountDownLatch(1);
+        CountDownLatch unblockedLatch1 = new CountDownLatch(1);
+        CountDownLatch startedLatch2 = new CountDownLatch(1);
+        CountDownLatch unblockedLatch2 = new CountDownLatch(1);
+        CustomPhaseCommand<TestdataSolution> recordSolverThreadCommand = scoreDirector -> {
+            if (scoreDirector.getWorkingSolution().getCode().equals("s1")) {
+                solverThread1.set(Thread.currentThread());
+            }
+        };
+        CustomPhaseConfig recordSolverThreadPhaseConfig = new CustomPhaseConfig()
+                .withCustomPhaseCommandList(List.of(recordSolverThreadCommand));
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(recordSolverThreadPhaseConfig,
+                        createPhaseRecordingSteps(stepList, 2, "s1", startedLatch1, unblockedLatch1),
+                        createPhaseRecordingSteps(stepList, 1, "s2", startedLatch2, unblockedLatch2));
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                .withParallelSolverCount("1")
+                .withTimeSlice(Duration.ofMillis(1L)));
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L,
+                PlannerTestUtils.generateTestdataSolution("s1"));
+        startedLatch1.await();
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L, SolverJobScheduling.ofPriority(1),
+                PlannerTestUtils.generateTestdataSolution("s2"));
+        unblockedLatch1.countDown();
+        // The first solver job is paused after its first step, while the second one is blocked
+        startedLatch2.await();
+        solverThread1.get().interrupt();
+        // The first solver job finishes without a solver slot, so it doesn't release the one of the second
+        assertThatExceptionOfType(ExecutionException.class).isThrownBy(solverJob1::getFinalBestSolution);
+        assertThat(solverJob1.getSolverStatus()).isEqualTo(NOT_SOLVING);
+        SolverJob<TestdataSolution, Long> solverJob3 = solverManager.solve(3L,
+                PlannerTestUtils.generateTestdataSolution("s3"));
+        assertThat(solverJob3.getSolverStatus()).isEqualTo(SOLVING_SCHEDULED);
+        unblockedLatch2.countDown();
+        solverJob2.getFinalBestSolution();
+        solverJob3.getFinalBestSolution();
+        assertThat(stepList).doesNotContain("s1-1");
+    }
+
+    @Test
+    @Timeout(60)
+    void closeWhileSolverJobsAreScheduled() throws ExecutionException, InterruptedException {
+        List<String> stepList = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(createPhaseRecordingSteps(stepList, 1, "s1", startedLatch, new CountDownLatch(1)));
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L,
+                PlannerTestUtils.generateTestdataSolution("s1"));
+        startedLatch.await();
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L, SolverJobScheduling.ofPriority(5),
+                PlannerTestUtils.generateTestdataSolution("s2"));
+        SolverJob<TestdataSolution, Long> solverJob3 = solverManager.solve(3L,
+                PlannerTestUtils.generateTestdataSolution("s3"));
+        // Interrupts the first solver job, which then finishes without starting the scheduled ones
+        solverManager.close();
+        assertThatExceptionOfType(ExecutionException.class).isThrownBy(solverJob1::getFinalBestSolution);
+        // The scheduled solver jobs are cancelled, so they return their problem
+        assertThat(solverJob2.getFinalBestSolution().getCode()).isEqualTo("s2");
+        assertThat(solverJob3.getFinalBestSolution().getCode()).isEqualTo("s3");
+        assertThat(stepList).containsExactly("s1-0");
+        assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> solverManager.solve(4L, PlannerTestUtils.generateTestdataSolution("s4")));
+    }
+
+    private CustomPhaseConfig createPhaseRecordingSteps(List<String> stepList, int stepCount, String blockedCode,
+            CountDownLatch startedLatch, CountDownLatch unblockedLatch) {
+        CustomPhaseCommand<TestdataSolution>[] commands = new CustomPhaseCommand[stepCount];
+        for (int i = 0; i < stepCount; i++) {
+            int index = i;
+            commands[i] = scoreDirector -> {
+                String code = scoreDirector.getWorkingSolution().getCode();
+                stepList.add(code + "-" + index);
+                if (index == 0 && code.equals(blockedCode)) {
+                    startedLatch.countDown();
+                    try {
+                        unblockedLatch.await();
+                        // Use up any time slice
+                        Thread.sleep(2L);
+                    } catch (InterruptedException e) {
+                        fail("Unblocking failed.");
+                    }
+                }
+            };
+        }
+        return new CustomPhaseConfig().withCustomPhaseCommands(commands);
+    }
+
     @Test
     @Timeout(600)
-    void terminateEarly() throws InterruptedException, BrokenBarrierException {
+    void terminateEarly()throws InterruptedException, BrokenBarrierException {
         CyclicBarrier startedBarrier = new CyclicBarrier(2);
         SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
                 TestdataEntity.class)
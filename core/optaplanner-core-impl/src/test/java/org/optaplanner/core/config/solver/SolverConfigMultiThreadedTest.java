@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.optaplanner.core.config.solver.testutil.MockThreadFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataEasyScoreCalculator;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -73,6 +74,40 @@ class SolverConfigMultiThreadedTest {
         return testdataSolution;
     }
 
+    @Test
+    @Timeout(5)
+    void solvingWithQueueMoveThreadHandOffIsReproducible() {
+        assertSolvingIsReproducible(MoveThreadHandOff.QUEUE);
+    }
+
+    @Test
+    @Timeout(5)
+    void solvingWithBatchedMoveThreadHandOffIsReproducible() {
+        assertSolvingIsReproducible(MoveThreadHandOff.BATCHED);
+    }
+
+    private void assertSolvingIsReproducible(MoveThreadHandOff moveThreadHandOff) {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class);
+        solverConfig.setMoveThreadCount("4");
+        solverConfig.setMoveThreadBufferSize(3);
+        solverConfig.setMoveThreadHandOff(moveThreadHandOff);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+
+        TestdataSolution firstSolution = PlannerTestUtils.solve(solverConfig, createTestSolution(20, 10));
+        TestdataSolution secondSolution = PlannerTestUtils.solve(solverConfig, createTestSolution(20, 10));
+        assertThat(firstSolution.getScore().isSolutionInitialized()).isTrue();
+        assertThat(secondSolution.getScore()).isEqualTo(firstSolution.getScore());
+        assertThat(extractValueCodes(secondSolution)).isEqualTo(extractValueCodes(firstSolution));
+    }
+
+    private List<String> extractValueCodes(TestdataSolution solution) {
+        return solution.getEntityList().stream()
+                .map(entity -> entity.getValue().getCode())
+                .collect(Collectors.toList());
+    }
+
     @Test
     @Timeout(5)
     void customThreadFactoryClassIsUsed() {
@@ -17,14 +17,21 @@
 package org.optaplanner.core.impl.constructionheuristic;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicType;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.testdata.domain.TestdataEasyScoreCalculator;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -110,4 +117,107 @@ class DefaultConstructionHeuristicPhaseTest {
         assertThat(solution.getEntityList().size()).isEqualTo(0);
     }
 
+    @Test
+    void solveWithParallelPlacementMatchesSequentialSolving() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()));
+        TestdataSolution sequentialSolution = PlannerTestUtils.solve(solverConfig, createSolution(20, 12));
+
+        // Every step can only worsen the moves of a later placement, so every conflict is detected
+        solverConfig.setMoveThreadCount("4");
+        solverConfig.setMoveThreadBufferSize(3);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withParallelPlacementCount(5)));
+        TestdataSolution parallelSolution = PlannerTestUtils.solve(solverConfig, createSolution(20, 12));
+        assertThat(parallelSolution.getScore()).isEqualTo(sequentialSolution.getScore());
+        assertThat(extractValueCodes(parallelSolution)).isEqualTo(extractValueCodes(sequentialSolution));
+    }
+
+    @Test
+    void solveWithParallelPlacementRequiresMoveThreadCount() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withParallelPlacementCount(5)));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> PlannerTestUtils.solve(solverConfig, createSolution(2, 2)))
+                .withMessageContaining("moveThreadCount");
+    }
+
+    @Test
+    void solveWithLazyInsertionMatchesCheapestInsertion() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withConstructionHeuristicType(ConstructionHeuristicType.CHEAPEST_INSERTION)));
+        TestdataSolution eagerSolution = PlannerTestUtils.solve(solverConfig, createSolution(20, 12));
+
+        // The score difference of a pair only depends on the entities with the same value, so the cache is exact
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withConstructionHeuristicType(ConstructionHeuristicType.CHEAPEST_INSERTION)
+                .withLazyInsertionEnabled(true)));
+        TestdataSolution lazySolution = PlannerTestUtils.solve(solverConfig, createSolution(20, 12));
+        assertThat(lazySolution.getScore()).isEqualTo(eagerSolution.getScore());
+        assertThat(extractValueCodes(lazySolution)).isEqualTo(extractValueCodes(eagerSolution));
+    }
+
+    @Test
+    void solveWithLazyInsertionAndRegretK() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class);
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withConstructionHeuristicType(ConstructionHeuristicType.CHEAPEST_INSERTION)
+                .withLazyInsertionEnabled(true)
+                .withInsertionRegretK(3)));
+
+        TestdataSolution solution = PlannerTestUtils.solve(solverConfig, createSolution(20, 12));
+        assertThat(solution.getEntityList()).allSatisfy(entity -> assertThat(entity.getValue()).isNotNull());
+        // Spread evenly: 8 values with 2 entities (4 penalty each) and 4 values with 1 entity
+        assertThat(solution.getScore().getScore()).isEqualTo(-36);
+    }
+
+    @Test
+    void solveWithLazyInsertionRequiresPooledEntityPlacer() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withLazyInsertionEnabled(true)));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> PlannerTestUtils.solve(solverConfig, createSolution(2, 2)))
+                .withMessageContaining("PooledEntityPlacer");
+    }
+
+    @Test
+    void solveWithInsertionRegretKRequiresLazyInsertion() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withConstructionHeuristicType(ConstructionHeuristicType.CHEAPEST_INSERTION)
+                .withInsertionRegretK(2)));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> PlannerTestUtils.solve(solverConfig, createSolution(2, 2)))
+                .withMessageContaining("lazyInsertionEnabled");
+    }
+
+    private static TestdataSolution createSolution(int entityCount, int valueCount) {
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(IntStream.range(0, valueCount)
+                .mapToObj(i -> new TestdataValue("v" + i))
+                .collect(Collectors.toList()));
+        solution.setEntityList(IntStream.range(0, entityCount)
+                .mapToObj(i -> new TestdataEntity("e" + i))
+                .collect(Collectors.toList()));
+        return solution;
+    }
+
+    private static List<String> extractValueCodes(TestdataSolution solution) {
+        return solution.getEntityList().stream()
+                .map(entity -> entity.getValue().getCode())
+                .collect(Collectors.toList());
+    }
+
 }
@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.exhaustivesearch;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -31,6 +32,8 @@ import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.config.exhaustivesearch.ExhaustiveSearchPhaseConfig;
+import org.optaplanner.core.config.exhaustivesearch.ExhaustiveSearchType;
+import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.exhaustivesearch.decider.ExhaustiveSearchDecider;
@@ -41,6 +44,7 @@ import org.optaplanner.core.impl.exhaustivesearch.scope.ExhaustiveSearchStepScop
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEasyScoreCalculator;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -195,4 +199,37 @@ class DefaultExhaustiveSearchPhaseTest {
         assertThat(solution.getEntityList().size()).isEqualTo(0);
     }
 
+    @Test
+    void solveWithParallelBranchAndBound() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class);
+        // Every additional entity on a value makes the score worse, so the bounds prune
+        solverConfig.getScoreDirectorFactoryConfig().setInitializingScoreTrend("ONLY_DOWN");
+        solverConfig.setEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        ExhaustiveSearchPhaseConfig phaseConfig = new ExhaustiveSearchPhaseConfig();
+        phaseConfig.setBranchAndBoundThreadCount(4);
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+
+        TestdataSolution solution = TestdataSolution.generateSolution(3, 7);
+        solution.getEntityList().forEach(entity -> entity.setValue(null));
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getEntityList()).allMatch(entity -> entity.getValue() != null);
+        // The optimal distribution of 7 entities over 3 values is 3, 2 and 2
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.of(-17));
+    }
+
+    @Test
+    void parallelBranchAndBoundRequiresBranchAndBound() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        ExhaustiveSearchPhaseConfig phaseConfig = new ExhaustiveSearchPhaseConfig();
+        phaseConfig.setExhaustiveSearchType(ExhaustiveSearchType.BRUTE_FORCE);
+        phaseConfig.setBranchAndBoundThreadCount(2);
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> PlannerTestUtils.solve(solverConfig, TestdataSolution.generateSolution()))
+                .withMessageContaining("branchAndBoundThreadCount");
+    }
+
 }
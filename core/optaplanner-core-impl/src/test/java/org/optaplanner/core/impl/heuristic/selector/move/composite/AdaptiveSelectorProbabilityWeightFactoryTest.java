@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.composite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+class AdaptiveSelectorProbabilityWeightFactoryTest {
+
+    @Test
+    void pickedStepsIncreaseProbabilityWeight() {
+        MoveSelector<TestdataSolution> childMoveSelectorA = mock(MoveSelector.class);
+        MoveSelector<TestdataSolution> childMoveSelectorB = mock(MoveSelector.class);
+        Map<MoveSelector<TestdataSolution>, Double> initialProbabilityWeightMap = new LinkedHashMap<>();
+        initialProbabilityWeightMap.put(childMoveSelectorA, 1.0);
+        initialProbabilityWeightMap.put(childMoveSelectorB, 1.0);
+        AdaptiveSelectorProbabilityWeightFactory<TestdataSolution> factory =
+                new AdaptiveSelectorProbabilityWeightFactory<>(initialProbabilityWeightMap);
+        factory.phaseStarted();
+
+        DummyMove moveA = new DummyMove("a");
+        DummyMove moveB = new DummyMove("b") {
+            // Another move class than moveA
+        };
+        LocalSearchStepScope<TestdataSolution> stepScope = mock(LocalSearchStepScope.class);
+        when(stepScope.getStep()).thenReturn(moveA);
+        when(stepScope.getBestScoreImproved()).thenReturn(true);
+        for (int i = 0; i < AdaptiveSelectorProbabilityWeightFactory.SEGMENT_STEP_COUNT - 1; i++) {
+            factory.moveSelected(childMoveSelectorA, moveA);
+            factory.moveSelected(childMoveSelectorB, moveB);
+            factory.stepEnded(stepScope);
+        }
+        // Only a full segment changes the probabilityWeights
+        assertThat(factory.createProbabilityWeight(null, childMoveSelectorA)).isEqualTo(1.0);
+        assertThat(factory.createProbabilityWeight(null, childMoveSelectorB)).isEqualTo(1.0);
+        factory.moveSelected(childMoveSelectorA, moveA);
+        factory.moveSelected(childMoveSelectorB, moveB);
+        factory.stepEnded(stepScope);
+        double reactionFactor = AdaptiveSelectorProbabilityWeightFactory.REACTION_FACTOR;
+        assertThat(factory.createProbabilityWeight(null, childMoveSelectorA))
+                .isCloseTo((1.0 - reactionFactor) + reactionFactor * 2.0, within(1e-9));
+        assertThat(factory.createProbabilityWeight(null, childMoveSelectorB))
+                .isCloseTo(1.0 - reactionFactor, within(1e-9));
+
+        // A new phase starts over
+        factory.phaseStarted();
+        assertThat(factory.createProbabilityWeight(null, childMoveSelectorA)).isEqualTo(1.0);
+        assertThat(factory.createProbabilityWeight(null, childMoveSelectorB)).isEqualTo(1.0);
+    }
+
+    @Test
+    void probabilityWeightHasFloor() {
+        MoveSelector<TestdataSolution> childMoveSelectorA = mock(MoveSelector.class);
+        MoveSelector<TestdataSolution> childMoveSelectorB = mock(MoveSelector.class);
+        MoveSelector<TestdataSolution> disabledChildMoveSelector = mock(MoveSelector.class);
+        Map<MoveSelector<TestdataSolution>, Double> initialProbabilityWeightMap = new LinkedHashMap<>();
+        initialProbabilityWeightMap.put(childMoveSelectorA, 1.0);
+        initialProbabilityWeightMap.put(childMoveSelectorB, 1.0);
+        initialProbabilityWeightMap.put(disabledChildMoveSelector, 0.0);
+        AdaptiveSelectorProbabilityWeightFactory<TestdataSolution> factory =
+                new AdaptiveSelectorProbabilityWeightFactory<>(initialProbabilityWeightMap);
+        factory.phaseStarted();
+
+        DummyMove moveA = new DummyMove("a");
+        LocalSearchStepScope<TestdataSolution> stepScope = mock(LocalSearchStepScope.class);
+        when(stepScope.getStep()).thenReturn(moveA);
+        when(stepScope.getBestScoreImproved()).thenReturn(true);
+        for (int i = 0; i < AdaptiveSelectorProbabilityWeightFactory.SEGMENT_STEP_COUNT * 100; i++) {
+            factory.moveSelected(childMoveSelectorA, moveA);
+            factory.stepEnded(stepScope);
+        }
+        double minimumProbabilityWeight = AdaptiveSelectorProbabilityWeightFactory.MINIMUM_PROBABILITY_WEIGHT_RATIO
+                * 2.0 / 2;
+        assertThat(factory.createProbabilityWeight(null, childMoveSelectorA)).isGreaterThan(1.0);
+        assertThat(factory.createProbabilityWeight(null, childMoveSelectorB)).isEqualTo(minimumProbabilityWeight);
+        assertThat(factory.createProbabilityWeight(null, disabledChildMoveSelector)).isEqualTo(0.0);
+    }
+
+}
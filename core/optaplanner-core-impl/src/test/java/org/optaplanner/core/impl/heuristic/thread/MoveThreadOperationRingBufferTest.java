@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+class MoveThreadOperationRingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(new MoveThreadOperationRingBuffer<TestdataSolution>(1).getCapacity()).isEqualTo(1);
+        assertThat(new MoveThreadOperationRingBuffer<TestdataSolution>(4).getCapacity()).isEqualTo(4);
+        assertThat(new MoveThreadOperationRingBuffer<TestdataSolution>(5).getCapacity()).isEqualTo(8);
+    }
+
+    @Test
+    void offerAndPoll() {
+        MoveThreadOperationRingBuffer<TestdataSolution> ringBuffer = new MoveThreadOperationRingBuffer<>(2);
+        MoveChunkEvaluationOperation<TestdataSolution> a = newChunk(0, 0, "a0", "a1");
+        MoveChunkEvaluationOperation<TestdataSolution> b = newChunk(0, 2, "a2");
+        MoveChunkEvaluationOperation<TestdataSolution> c = newChunk(0, 3, "a3");
+        assertThat(ringBuffer.isEmpty()).isTrue();
+        assertThat(ringBuffer.poll()).isNull();
+        assertThat(ringBuffer.offer(a)).isTrue();
+        assertThat(ringBuffer.offer(b)).isTrue();
+        assertThat(ringBuffer.offer(c)).isFalse();
+        assertThat(ringBuffer.poll()).isSameAs(a);
+        assertThat(ringBuffer.offer(c)).isTrue();
+        assertThat(ringBuffer.poll()).isSameAs(b);
+        assertThat(ringBuffer.poll()).isSameAs(c);
+        assertThat(ringBuffer.poll()).isNull();
+        assertThat(ringBuffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void steal() {
+        MoveThreadOperationRingBuffer<TestdataSolution> ringBuffer = new MoveThreadOperationRingBuffer<>(4);
+        MoveChunkEvaluationOperation<TestdataSolution> a = newChunk(0, 0, "a0");
+        ApplyStepOperation<TestdataSolution, SimpleScore> step = new ApplyStepOperation<>(1, new DummyMove("a0"),
+                SimpleScore.of(0));
+        MoveChunkEvaluationOperation<TestdataSolution> b = newChunk(1, 0, "b0");
+        ringBuffer.offer(a);
+        ringBuffer.offer(step);
+        ringBuffer.offer(b);
+        assertThat(ringBuffer.steal(0)).isSameAs(a);
+        // Never steal a step operation or anything behind it
+        assertThat(ringBuffer.steal(1)).isNull();
+        assertThat(ringBuffer.poll()).isSameAs(step);
+        // Never steal a chunk of a step that the stealing move thread hasn't applied yet
+        assertThat(ringBuffer.steal(0)).isNull();
+        assertThat(ringBuffer.steal(1)).isSameAs(b);
+        assertThat(ringBuffer.steal(1)).isNull();
+    }
+
+    private static MoveChunkEvaluationOperation<TestdataSolution> newChunk(int stepIndex, int firstMoveIndex,
+            String... moveCodes) {
+        List<Move<TestdataSolution>> moveList = new ArrayList<>(moveCodes.length);
+        for (String moveCode : moveCodes) {
+            moveList.add(new DummyMove(moveCode));
+        }
+        return new MoveChunkEvaluationOperation<>(stepIndex, firstMoveIndex, moveList);
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class OrderByMoveIndexResultArrayTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrderByMoveIndexResultArrayTest.class);
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executorService.shutdownNow();
+        if (!executorService.awaitTermination(1, TimeUnit.MILLISECONDS)) {
+            LOGGER.warn("Thread pool didn't terminate within the timeout.");
+        }
+    }
+
+    @Test
+    void addMove() throws InterruptedException {
+        // Capacity: 4 moves in circulation
+        OrderByMoveIndexResultArray<TestdataSolution> resultArray = new OrderByMoveIndexResultArray<>(4);
+
+        resultArray.startNextStep(0);
+        executorService.submit(() -> resultArray.addMove(0, 0, 0, new DummyMove("a0"), SimpleScore.of(-100)));
+        executorService.submit(() -> resultArray.addMove(1, 0, 1, new DummyMove("a1"), SimpleScore.of(-1000)));
+        executorService.submit(() -> resultArray.addMove(0, 0, 3, new DummyMove("a3"), SimpleScore.of(-30)));
+        executorService.submit(() -> resultArray.addMove(1, 0, 2, new DummyMove("a2"), SimpleScore.of(-200)));
+        assertResult("a0", -100, resultArray.take());
+        assertResult("a1", -1000, resultArray.take());
+        executorService.submit(() -> resultArray.addMove(1, 0, 5, new DummyMove("a5"), SimpleScore.of(-5)));
+        executorService.submit(() -> resultArray.addMove(0, 0, 4, new DummyMove("a4"), SimpleScore.of(-4)));
+        assertResult("a2", -200, resultArray.take());
+        assertResult("a3", -30, resultArray.take());
+        assertResult("a4", -4, resultArray.take());
+        assertResult("a5", -5, resultArray.take());
+        resultArray.endStep();
+        assertThat(resultArray.isEvaluating(0)).isFalse();
+        executorService.submit(() -> resultArray.addMove(1, 0, 6, new DummyMove("a6"), SimpleScore.of(-6)));
+
+        resultArray.startNextStep(1);
+        assertThat(resultArray.isEvaluating(1)).isTrue();
+        executorService.submit(() -> resultArray.addMove(0, 1, 1, new DummyMove("b1"), SimpleScore.of(-1)));
+        executorService.submit(() -> resultArray.addMove(1, 0, 7, new DummyMove("a7"), SimpleScore.of(-7)));
+        executorService.submit(() -> resultArray.addMove(0, 1, 0, new DummyMove("b0"), SimpleScore.of(0)));
+        executorService.submit(() -> resultArray.addMove(0, 1, 2, new DummyMove("b2"), SimpleScore.of(-2)));
+        assertResult("b0", 0, resultArray.take());
+        assertResult("b1", -1, resultArray.take());
+        assertResult("b2", -2, resultArray.take());
+    }
+
+    @Test
+    void addUndoableMove() throws InterruptedException {
+        // Capacity: 4 moves in circulation
+        OrderByMoveIndexResultArray<TestdataSolution> resultArray = new OrderByMoveIndexResultArray<>(4);
+
+        resultArray.startNextStep(0);
+        executorService.submit(() -> resultArray.addUndoableMove(0, 0, 0, new DummyMove("a0")));
+        executorService.submit(() -> resultArray.addUndoableMove(1, 0, 3, new DummyMove("a3")));
+        executorService.submit(() -> resultArray.addMove(0, 0, 1, new DummyMove("a1"), SimpleScore.of(-1)));
+        executorService.submit(() -> resultArray.addUndoableMove(1, 0, 2, new DummyMove("a2")));
+        assertResult("a0", false, resultArray.take());
+        assertResult("a1", -1, resultArray.take());
+        assertResult("a2", false, resultArray.take());
+        resultArray.endStep();
+
+        resultArray.startNextStep(1);
+        executorService.submit(() -> resultArray.addMove(0, 1, 1, new DummyMove("b1"), SimpleScore.of(-1)));
+        executorService.submit(() -> resultArray.addUndoableMove(1, 0, 4, new DummyMove("a4")));
+        executorService.submit(() -> resultArray.addUndoableMove(1, 1, 0, new DummyMove("b0")));
+        assertResult("b0", false, resultArray.take());
+        assertResult("b1", -1, resultArray.take());
+    }
+
+    @Test
+    void addExceptionThrown() throws InterruptedException, ExecutionException {
+        // Capacity: 4 moves in circulation
+        OrderByMoveIndexResultArray<TestdataSolution> resultArray = new OrderByMoveIndexResultArray<>(4);
+
+        resultArray.startNextStep(0);
+        Future<?> a1Future =
+                executorService.submit(() -> resultArray.addMove(0, 0, 1, new DummyMove("a1"), SimpleScore.of(-1)));
+        executorService.submit(() -> resultArray.addMove(1, 0, 0, new DummyMove("a0"), SimpleScore.of(0))).get();
+        // Otherwise the exception can be relayed before a1 is added
+        a1Future.get();
+        assertResult("a0", 0, resultArray.take());
+        IllegalArgumentException exception = new IllegalArgumentException();
+        Future<?> exceptionFuture = executorService.submit(() -> resultArray.addExceptionThrown(1, exception));
+        exceptionFuture.get(); // Avoid random failing test when the task hasn't started yet
+        assertThat(resultArray.hasExceptionThrown()).isTrue();
+        assertResult("a1", -1, resultArray.take());
+        assertThatThrownBy(resultArray::take).hasCause(exception);
+        resultArray.endStep();
+        assertThatThrownBy(() -> resultArray.startNextStep(1)).hasCause(exception);
+    }
+
+    private void assertResult(String moveCode, int score, OrderByMoveIndexBlockingQueue.MoveResult<TestdataSolution> result) {
+        assertCode(moveCode, result.getMove());
+        assertThat(result.getScore()).isEqualTo(SimpleScore.of(score));
+    }
+
+    private void assertResult(String moveCode, boolean doable,
+            OrderByMoveIndexBlockingQueue.MoveResult<TestdataSolution> result) {
+        assertCode(moveCode, result.getMove());
+        assertThat(result.isMoveDoable()).isEqualTo(doable);
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+class MoveScoreMemoTest {
+
+    private final SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+    private final GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+            solutionDescriptor.findEntityDescriptorOrFail(TestdataEntity.class).getGenuineVariableDescriptor("value");
+
+    @Test
+    void changedInputsAndUnselectedMovesAreForgotten() {
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        TestdataValue v4 = new TestdataValue("v4");
+        TestdataEntity e1 = new TestdataEntity("e1", v1);
+        TestdataEntity e2 = new TestdataEntity("e2", v2);
+        TestdataEntity e3 = new TestdataEntity("e3", v3);
+        MoveScoreMemo<TestdataSolution> memo = new MoveScoreMemo<>();
+        memo.phaseStarted(solutionDescriptor);
+
+        SimpleScore stepStartingScore = SimpleScore.of(-10);
+        memo.putScore(changeMove(e1, v2), stepStartingScore, SimpleScore.of(-8));
+        memo.putScore(changeMove(e3, v1), stepStartingScore, SimpleScore.of(-9));
+        memo.putScore(changeMove(e1, v3), stepStartingScore, SimpleScore.of(-11));
+        assertThat(memo.size()).isEqualTo(3);
+        e2.setValue(v4);
+        memo.stepEnded(stepScope(changeMove(e2, v4), changeMove(e2, v2)));
+
+        // The value v2 changed, so that memoized score is stale
+        stepStartingScore = SimpleScore.of(-7);
+        assertThat(memo.findScore(changeMove(e1, v2), stepStartingScore)).isNull();
+        assertThat(memo.findScore(changeMove(e3, v1), stepStartingScore)).isEqualTo(SimpleScore.of(-6));
+        // The move e1 -> v3 isn't selected during this step, so it's forgotten at the end of it
+        e2.setValue(v2);
+        memo.stepEnded(stepScope(changeMove(e2, v2), changeMove(e2, v4)));
+        assertThat(memo.size()).isEqualTo(1);
+
+        assertThat(memo.findScore(changeMove(e1, v3), stepStartingScore)).isNull();
+        assertThat(memo.findScore(changeMove(e3, v1), stepStartingScore)).isEqualTo(SimpleScore.of(-6));
+    }
+
+    private ChangeMove<TestdataSolution> changeMove(TestdataEntity entity, TestdataValue toValue) {
+        return new ChangeMove<>(variableDescriptor, entity, toValue);
+    }
+
+    private static LocalSearchStepScope<TestdataSolution> stepScope(ChangeMove<TestdataSolution> step,
+            ChangeMove<TestdataSolution> undoStep) {
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(mock(LocalSearchPhaseScope.class), 0);
+        stepScope.setStep(step);
+        stepScope.setUndoStep(undoStep);
+        return stepScope;
+    }
+
+}
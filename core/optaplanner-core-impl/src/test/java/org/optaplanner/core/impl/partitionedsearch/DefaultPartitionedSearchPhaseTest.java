@@ -28,6 +28,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -81,7 +82,38 @@ class DefaultPartitionedSearchPhaseTest {
         solver.solve(createSolution(partCount * partSize, 2));
     }
 
+    @Test
+    @Timeout(5)
+    void dynamicRepartitioning() {
+        final int partCount = 3;
+        SolverConfig solverConfig = createSolverConfig(false, SolverConfig.MOVE_THREAD_COUNT_NONE, 1);
+        PartitionedSearchPhaseConfig partitionedSearchPhaseConfig =
+                (PartitionedSearchPhaseConfig) solverConfig.getPhaseConfigList().get(0);
+        partitionedSearchPhaseConfig.getSolutionPartitionerCustomProperties().put("partCount", Integer.toString(partCount));
+        partitionedSearchPhaseConfig.setDynamicRepartitioning(true);
+        DefaultSolver<TestdataSolution> solver =
+                (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        PartitionedSearchPhase<TestdataSolution> phase = (PartitionedSearchPhase<TestdataSolution>) solver.getPhaseList()
+                .get(0);
+        AtomicInteger finalPartCount = new AtomicInteger();
+        phase.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<TestdataSolution>() {
+            @Override
+            public void phaseEnded(AbstractPhaseScope<TestdataSolution> phaseScope) {
+                finalPartCount.set(((PartitionedSearchPhaseScope) phaseScope).getPartCount());
+            }
+        });
+        TestdataSolution bestSolution = solver.solve(createSolution(30, 10));
+        assertThat(bestSolution.getScore().isSolutionInitialized()).isTrue();
+        assertThat(bestSolution.getEntityList()).allMatch(entity -> entity.getValue() != null);
+        // Depends on how fast each part converges, but never more than twice the initial partCount
+        assertThat(finalPartCount.get()).isBetween(partCount, partCount * 2);
+    }
+
     private static SolverFactory<TestdataSolution> createSolverFactory(boolean infinite, String moveThreadCount, int partSize) {
+        return SolverFactory.create(createSolverConfig(infinite, moveThreadCount, partSize));
+    }
+
+    private static SolverConfig createSolverConfig(boolean infinite, String moveThreadCount, int partSize) {
         SolverConfig solverConfig = PlannerTestUtils
                 .buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
         solverConfig.setMoveThreadCount(moveThreadCount);
@@ -98,7 +130,7 @@ class DefaultPartitionedSearchPhaseTest {
         }
         partitionedSearchPhaseConfig.setPhaseConfigList(
                 Arrays.asList(constructionHeuristicPhaseConfig, localSearchPhaseConfig));
-        return SolverFactory.create(solverConfig);
+        return solverConfig;
     }
 
     private static TestdataSolution createSolution(int entities, int values) {
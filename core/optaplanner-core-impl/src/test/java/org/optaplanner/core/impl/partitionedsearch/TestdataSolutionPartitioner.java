@@ -29,16 +29,39 @@ public class TestdataSolutionPartitioner implements SolutionPartitioner<Testdata
      * {@link PartitionedSearchPhaseConfig#solutionPartitionerCustomProperties Custom property}.
      */
     private int partSize = 1;
+    /**
+     * {@link PartitionedSearchPhaseConfig#solutionPartitionerCustomProperties Custom property}.
+     * If set, the {@link #partSize} is ignored and every working solution is split in as many parts (or less),
+     * so a part can be split again.
+     */
+    private Integer partCount = null;
 
     public void setPartSize(int partSize) {
         this.partSize = partSize;
     }
 
+    public void setPartCount(Integer partCount) {
+        this.partCount = partCount;
+    }
+
     @Override
     public List<TestdataSolution> splitWorkingSolution(ScoreDirector<TestdataSolution> scoreDirector,
             Integer runnablePartThreadLimit) {
         TestdataSolution workingSolution = scoreDirector.getWorkingSolution();
         List<TestdataEntity> allEntities = workingSolution.getEntityList();
+        if (partCount != null) {
+            int partCountPartSize = (allEntities.size() + partCount - 1) / partCount;
+            List<TestdataSolution> partitions = new ArrayList<>();
+            for (int i = 0; i < allEntities.size(); i += partCountPartSize) {
+                List<TestdataEntity> partitionEntitites = new ArrayList<>(
+                        allEntities.subList(i, Math.min(i + partCountPartSize, allEntities.size())));
+                TestdataSolution partition = new TestdataSolution();
+                partition.setEntityList(partitionEntitites);
+                partition.setValueList(workingSolution.getValueList());
+                partitions.add(partition);
+            }
+            return partitions;
+        }
         if (allEntities.size() % partSize > 0) {
             throw new IllegalStateException("This partitioner can only make equally sized partitions."
                     + " This is impossible because number of allEntities (" + allEntities.size()
@@ -23,7 +23,9 @@ import java.util.Iterator;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -143,6 +145,47 @@ class PartitionQueueTest {
         assertThatIllegalStateException().isThrownBy(it::hasNext).withCause(exception);
     }
 
+    @Test
+    void addPart() throws ExecutionException, InterruptedException {
+        PartitionQueue<TestdataSolution> partitionQueue = new PartitionQueue<>(2, 4);
+        Iterator<PartitionChangeMove<TestdataSolution>> it = partitionQueue.iterator();
+
+        PartitionChangeMove<TestdataSolution> moveA1 = buildMove();
+        executorService.submit(() -> partitionQueue.addMove(0, moveA1)).get();
+        executorService.submit(() -> partitionQueue.addFinish(1, 123)).get();
+        // Part A is split again in 2 new parts before it finishes
+        assertThat(executorService.submit(partitionQueue::addPart).get()).isEqualTo(2);
+        assertThat(executorService.submit(partitionQueue::addPart).get()).isEqualTo(3);
+        executorService.submit(() -> partitionQueue.addFinish(0, 123)).get();
+        assertThat(partitionQueue.getPartCount()).isEqualTo(4);
+        assertThat(it.next()).isSameAs(moveA1);
+
+        PartitionChangeMove<TestdataSolution> moveD1 = buildMove();
+        executorService.submit(() -> partitionQueue.addMove(3, moveD1)).get();
+        PartitionChangeMove<TestdataSolution> moveC1 = buildMove();
+        executorService.submit(() -> partitionQueue.addMove(2, moveC1)).get();
+        executorService.submit(() -> partitionQueue.addFinish(3, 123)).get();
+        assertThat(it.next()).isSameAs(moveD1);
+        assertThat(it.next()).isSameAs(moveC1);
+
+        executorService.submit(() -> partitionQueue.addFinish(2, 123)).get();
+        assertThat(it.hasNext()).isFalse();
+        assertThat(partitionQueue.getPartsCalculationCount()).isEqualTo(4 * 123);
+        assertThatIllegalStateException().isThrownBy(partitionQueue::addPart);
+    }
+
+    @Test
+    void addMoveWhileConsumerWaits() throws ExecutionException, InterruptedException, TimeoutException {
+        PartitionQueue<TestdataSolution> partitionQueue = new PartitionQueue<>(1);
+        Iterator<PartitionChangeMove<TestdataSolution>> it = partitionQueue.iterator();
+
+        Future<Boolean> hasNextFuture = executorService.submit(it::hasNext);
+        PartitionChangeMove<TestdataSolution> moveA1 = buildMove();
+        executorService.submit(() -> partitionQueue.addMove(0, moveA1)).get();
+        assertThat(hasNextFuture.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(it.next()).isSameAs(moveA1);
+    }
+
     PartitionChangeMove<TestdataSolution> buildMove() {
         return new PartitionChangeMove<>(null, -1);
     }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.scope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+class PartitionChangeRecorderTest {
+
+    @Test
+    void createMoveOnlyContainsChangesAndRedoesSkippedMoves() {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        EasyScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(solutionDescriptor, solution -> SimpleScore.of(0));
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        List<TestdataValue> valueList = Arrays.asList(v1, v2);
+
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v1);
+        TestdataEntity c = new TestdataEntity("c", v1);
+        TestdataSolution solution = buildSolution(valueList, a, b, c);
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = scoreDirectorFactory.buildScoreDirector(true, false);
+        scoreDirector.setWorkingSolution(solution);
+
+        // The part thread works on other instances of the same entities, such as planning clones
+        TestdataEntity partA = new TestdataEntity("a", v1);
+        TestdataEntity partB = new TestdataEntity("b", v1);
+        TestdataEntity partC = new TestdataEntity("c", v1);
+        TestdataSolution part = buildSolution(valueList, partA, partB, partC);
+        InnerScoreDirector<TestdataSolution, SimpleScore> partScoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        partScoreDirector.setWorkingSolution(part);
+        PartitionChangeRecorder<TestdataSolution> changeRecorder =
+                new PartitionChangeRecorder<>(solutionDescriptor, buildSolution(valueList, a, b, c), 0);
+
+        partA.setValue(v2);
+        PartitionChangeMove<TestdataSolution> move1 = changeRecorder.createMove(partScoreDirector, scoreDirector);
+        assertThat(move1).hasToString("part-0 {1 variables changed}");
+        move1.doMoveOnly(scoreDirector);
+        assertThat(a.getValue()).isSameAs(v2);
+        assertThat(b.getValue()).isSameAs(v1);
+
+        partB.setValue(v2);
+        PartitionChangeMove<TestdataSolution> move2 = changeRecorder.createMove(partScoreDirector, scoreDirector);
+        assertThat(move2).hasToString("part-0 {1 variables changed}");
+        partB.setValue(v1);
+        partC.setValue(v2);
+        PartitionChangeMove<TestdataSolution> move3 = changeRecorder.createMove(partScoreDirector, scoreDirector);
+        assertThat(move3).hasToString("part-0 {2 variables changed}");
+        // The PartitionQueue skipped move2, so move3 does it too
+        move3.doMoveOnly(scoreDirector);
+        assertThat(a.getValue()).isSameAs(v2);
+        assertThat(b.getValue()).isSameAs(v1);
+        assertThat(c.getValue()).isSameAs(v2);
+
+        PartitionChangeMove<TestdataSolution> move4 = changeRecorder.createMove(partScoreDirector, scoreDirector);
+        assertThat(move4).hasToString("part-0 {0 variables changed}");
+    }
+
+    private static TestdataSolution buildSolution(List<TestdataValue> valueList, TestdataEntity... entities) {
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(valueList);
+        solution.setEntityList(Arrays.asList(entities));
+        return solution;
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.portfoliosearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
+import org.optaplanner.core.config.localsearch.decider.acceptor.LocalSearchAcceptorConfig;
+import org.optaplanner.core.config.portfoliosearch.PortfolioSearchPhaseConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+class DefaultPortfolioSearchPhaseTest {
+
+    private static SolverConfig createSolverConfig(int exchangeStepCountLimit) {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        PortfolioSearchPhaseConfig portfolioSearchPhaseConfig = new PortfolioSearchPhaseConfig()
+                .withExchangeStepCountLimit(exchangeStepCountLimit)
+                .withLocalSearchPhases(
+                        new LocalSearchPhaseConfig()
+                                .withAcceptorConfig(new LocalSearchAcceptorConfig().withLateAcceptanceSize(10)),
+                        new LocalSearchPhaseConfig()
+                                .withAcceptorConfig(new LocalSearchAcceptorConfig().withEntityTabuSize(1)));
+        portfolioSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(3));
+        solverConfig.setPhaseConfigList(List.of(new ConstructionHeuristicPhaseConfig(), portfolioSearchPhaseConfig));
+        return solverConfig;
+    }
+
+    @Test
+    void solve() {
+        TestdataSolution solution = TestdataSolution.generateSolution(5, 10);
+        TestdataSolution bestSolution = PlannerTestUtils.solve(createSolverConfig(5), solution);
+        assertThat(bestSolution).isNotNull();
+        assertThat(bestSolution.getScore().isSolutionInitialized()).isTrue();
+        assertThat(bestSolution.getEntityList()).allSatisfy(entity -> assertThat(entity.getValue()).isNotNull());
+    }
+
+    @Test
+    void solveIsReproducible() {
+        SolverConfig solverConfig = createSolverConfig(5);
+        List<String> firstValueCodeList = solveAndCollectValueCodes(solverConfig);
+        List<String> secondValueCodeList = solveAndCollectValueCodes(solverConfig);
+        assertThat(secondValueCodeList).isEqualTo(firstValueCodeList);
+    }
+
+    private static List<String> solveAndCollectValueCodes(SolverConfig solverConfig) {
+        TestdataSolution bestSolution = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver()
+                .solve(TestdataSolution.generateSolution(5, 10));
+        return bestSolution.getEntityList().stream()
+                .map(entity -> entity.getValue().getCode())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void exchangeStepCountLimitMustBePositive() {
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(createSolverConfig(0));
+        assertThatIllegalArgumentException()
+                .isThrownBy(solverFactory::buildSolver)
+                .withMessageContaining("exchangeStepCountLimit");
+    }
+
+}
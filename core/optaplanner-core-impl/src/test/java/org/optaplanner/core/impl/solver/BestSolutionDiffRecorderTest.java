@@ -0,0 +1,107 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.solver.BestSolutionDiff;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+
+class BestSolutionDiffRecorderTest {
+
+    @Test
+    void diff() {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        BestSolutionDiffRecorder<TestdataSolution> diffRecorder = new BestSolutionDiffRecorder<>(solutionDescriptor);
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 3);
+        TestdataValue v1 = solution.getValueList().get(0);
+        TestdataValue v2 = solution.getValueList().get(1);
+        solution.getEntityList().forEach(entity -> entity.setValue(v1));
+
+        BestSolutionDiff<TestdataSolution> firstDiff = diffRecorder.diff(solution);
+        assertThat(firstDiff.isComplete()).isTrue();
+        assertThat(firstDiff.getChangedEntityList()).containsExactlyElementsOf(solution.getEntityList());
+
+        TestdataSolution newBestSolution = solutionDescriptor.getSolutionCloner().cloneSolution(solution);
+        TestdataEntity changedEntity = newBestSolution.getEntityList().get(1);
+        changedEntity.setValue(v2);
+        BestSolutionDiff<TestdataSolution> secondDiff = diffRecorder.diff(newBestSolution);
+        assertThat(secondDiff.getNewBestSolution()).isSameAs(newBestSolution);
+        assertThat(secondDiff.isComplete()).isFalse();
+        assertThat(secondDiff.getChangedEntityList()).containsExactly(changedEntity);
+        assertThat(secondDiff.getChangedVariableNames(changedEntity)).containsExactly("value");
+        assertThat(secondDiff.getChangedVariableNames(newBestSolution.getEntityList().get(0))).isEmpty();
+
+        TestdataSolution unchangedSolution = solutionDescriptor.getSolutionCloner().cloneSolution(newBestSolution);
+        assertThat(diffRecorder.diff(unchangedSolution).getChangedEntityList()).isEmpty();
+    }
+
+    @Test
+    void diffWithAddedEntity() {
+        SolutionDescriptor<TestdataSolution> solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        BestSolutionDiffRecorder<TestdataSolution> diffRecorder = new BestSolutionDiffRecorder<>(solutionDescriptor);
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 2);
+        diffRecorder.diff(solution);
+
+        TestdataSolution newBestSolution = solutionDescriptor.getSolutionCloner().cloneSolution(solution);
+        newBestSolution.setEntityList(new ArrayList<>(newBestSolution.getEntityList()));
+        newBestSolution.getEntityList().add(new TestdataEntity("added"));
+        BestSolutionDiff<TestdataSolution> diff = diffRecorder.diff(newBestSolution);
+        assertThat(diff.isComplete()).isTrue();
+        assertThat(diff.getChangedEntityList()).hasSize(3);
+    }
+
+    @Test
+    void diffWithChainedVariable() {
+        SolutionDescriptor<TestdataChainedSolution> solutionDescriptor =
+                TestdataChainedSolution.buildSolutionDescriptor();
+        BestSolutionDiffRecorder<TestdataChainedSolution> diffRecorder =
+                new BestSolutionDiffRecorder<>(solutionDescriptor);
+        TestdataChainedAnchor anchor = new TestdataChainedAnchor("anchor");
+        TestdataChainedEntity a = new TestdataChainedEntity("a", anchor);
+        TestdataChainedEntity b = new TestdataChainedEntity("b", a);
+        TestdataChainedSolution solution = new TestdataChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(anchor));
+        solution.setChainedEntityList(Arrays.asList(a, b));
+        solution.setUnchainedValueList(Arrays.asList(new TestdataValue("v1")));
+        diffRecorder.diff(solution);
+
+        // Every entity is a different instance, but b still follows a
+        TestdataChainedSolution newBestSolution = solutionDescriptor.getSolutionCloner().cloneSolution(solution);
+        assertThat(diffRecorder.diff(newBestSolution).getChangedEntityList()).isEmpty();
+
+        TestdataChainedSolution reversedSolution = solutionDescriptor.getSolutionCloner().cloneSolution(newBestSolution);
+        TestdataChainedEntity reversedA = reversedSolution.getChainedEntityList().get(0);
+        TestdataChainedEntity reversedB = reversedSolution.getChainedEntityList().get(1);
+        reversedB.setChainedObject(anchor);
+        reversedA.setChainedObject(reversedB);
+        BestSolutionDiff<TestdataChainedSolution> diff = diffRecorder.diff(reversedSolution);
+        assertThat(diff.getChangedEntityList()).containsExactly(reversedA, reversedB);
+        assertThat(diff.getChangedVariableNames(reversedA)).containsExactly("chainedObject");
+    }
+
+}
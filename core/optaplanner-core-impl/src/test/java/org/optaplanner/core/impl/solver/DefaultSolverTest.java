@@ -18,12 +18,16 @@ package org.optaplanner.core.impl.solver;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -48,6 +52,9 @@ import org.optaplanner.core.api.score.calculator.EasyScoreCalculator;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.api.solver.change.MergeableProblemChange;
+import org.optaplanner.core.api.solver.change.ProblemChangeDirector;
+import org.optaplanner.core.api.solver.event.BestSolutionChangedEvent;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicType;
 import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
@@ -55,6 +62,8 @@ import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchType;
 import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.ProblemChangeBatchingConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.monitoring.MonitoringConfig;
 import org.optaplanner.core.config.solver.monitoring.SolverMetric;
@@ -66,10 +75,14 @@ import org.optaplanner.core.impl.phase.custom.NoChangeCustomPhaseCommand;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.score.DummySimpleScoreEasyScoreCalculator;
+import org.optaplanner.core.impl.testdata.domain.TestdataEasyScoreCalculator;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.clone.deepcloning.value.TestdataDeepClonedValue;
+import org.optaplanner.core.impl.testdata.domain.clone.deepcloning.value.TestdataDeepClonedValueEntity;
+import org.optaplanner.core.impl.testdata.domain.clone.deepcloning.value.TestdataDeepClonedValueSolution;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
 import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
 import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
@@ -112,6 +125,75 @@ class DefaultSolverTest {
         assertThat(solution.getScore().isSolutionInitialized()).isTrue();
     }
 
+    @Test
+    void solveWithLazyBestSolutionCloning() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withLazyBestSolutionCloningEnabled(true);
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class);
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+        TestdataSolution solution = TestdataSolution.generateSolution(3, 6);
+
+        List<BestSolutionChangedEvent<TestdataSolution>> eventList = new ArrayList<>();
+        List<TestdataSolution> eventSolutionList = new ArrayList<>();
+        solver.addEventListener(event -> {
+            eventList.add(event);
+            TestdataSolution newBestSolution = event.getNewBestSolution();
+            assertThat(newBestSolution.getScore()).isEqualTo(event.getNewBestScore());
+            eventSolutionList.add(newBestSolution);
+        });
+
+        TestdataSolution bestSolution = solver.solve(solution);
+        assertThat(bestSolution.getScore().isSolutionInitialized()).isTrue();
+        SimpleScore bestScore = bestSolution.getScore();
+        assertThat(ScoreManager.create(solverFactory).updateScore(bestSolution)).isEqualTo(bestScore);
+        assertThat(eventSolutionList).isNotEmpty();
+        for (TestdataSolution eventSolution : eventSolutionList) {
+            SimpleScore eventScore = eventSolution.getScore();
+            assertThat(ScoreManager.create(solverFactory).updateScore(eventSolution)).isEqualTo(eventScore);
+        }
+        // A delivered event keeps the best solution it planning cloned
+        BestSolutionChangedEvent<TestdataSolution> lastEvent = eventList.get(eventList.size() - 1);
+        assertThat(lastEvent.getNewBestSolution()).isSameAs(eventSolutionList.get(eventSolutionList.size() - 1));
+    }
+
+    @Test
+    void solveWithLazyBestSolutionCloningAndDeepClonedPlanningValue() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataDeepClonedValueSolution.class,
+                TestdataDeepClonedValueEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withLazyBestSolutionCloningEnabled(true);
+        Solver<TestdataDeepClonedValueSolution> solver = SolverFactory.<TestdataDeepClonedValueSolution> create(solverConfig)
+                .buildSolver();
+        TestdataDeepClonedValueSolution solution = TestdataDeepClonedValueSolution.generateSolution(3, 6);
+        solution.getEntityList().forEach(entity -> entity.setValue(null));
+
+        List<TestdataDeepClonedValueSolution> eventSolutionList = new ArrayList<>();
+        solver.addEventListener(event -> eventSolutionList.add(event.getNewBestSolution()));
+
+        TestdataDeepClonedValueSolution bestSolution = solver.solve(solution);
+        eventSolutionList.add(bestSolution);
+        // Every planning value must be an instance of that best solution, not of the working solution
+        for (TestdataDeepClonedValueSolution eventSolution : eventSolutionList) {
+            Set<TestdataDeepClonedValue> valueSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            valueSet.addAll(eventSolution.getValueList());
+            assertThat(eventSolution.getEntityList())
+                    .extracting(TestdataDeepClonedValueEntity::getValue)
+                    .allMatch(value -> value == null || valueSet.contains(value));
+        }
+    }
+
+    @Test
+    void lazyBestSolutionCloningWithChainedVariable() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataChainedSolution.class,
+                TestdataChainedEntity.class)
+                .withLazyBestSolutionCloningEnabled(true);
+        SolverFactory<TestdataChainedSolution> solverFactory = SolverFactory.create(solverConfig);
+        assertThatIllegalArgumentException().isThrownBy(solverFactory::buildSolver)
+                .withMessageContaining("lazyBestSolutionCloningEnabled");
+    }
+
     @Test
     void checkDefaultMeters() {
         TestMeterRegistry meterRegistry = new TestMeterRegistry();
@@ -719,6 +801,196 @@ class DefaultSolverTest {
         executorService.shutdown();
     }
 
+    @Test
+    @Timeout(60)
+    void solveWithInPlaceProblemChange() throws InterruptedException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withInPlaceProblemChangeEnabled(true);
+        solverConfig.setDaemon(true); // Avoid terminating the solver too quickly.
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class);
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+        final int valueCount = 4;
+        TestdataSolution solution = TestdataSolution.generateSolution(valueCount, 2 * valueCount);
+
+        AtomicReference<TestdataSolution> bestSolution = new AtomicReference<>();
+        CountDownLatch solverStarted = new CountDownLatch(1);
+        CountDownLatch firstProblemChangeReceived = new CountDownLatch(1);
+        CountDownLatch secondProblemChangeReceived = new CountDownLatch(1);
+        solver.addEventListener(bestSolutionChangedEvent -> {
+            solverStarted.countDown();
+            if (bestSolutionChangedEvent.isEveryProblemChangeProcessed()) {
+                TestdataSolution newBestSolution = bestSolutionChangedEvent.getNewBestSolution();
+                bestSolution.set(newBestSolution);
+                if (newBestSolution.getValueList().size() == valueCount + 1) {
+                    firstProblemChangeReceived.countDown();
+                } else if (newBestSolution.getValueList().size() == valueCount + 2) {
+                    secondProblemChangeReceived.countDown();
+                }
+            }
+        });
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.submit(() -> {
+            solver.solve(solution);
+        });
+
+        solverStarted.await(); // Make sure we submit a ProblemChange only after the Solver started solving.
+        solver.addProblemChange((workingSolution, problemChangeDirector) -> {
+            problemChangeDirector.addProblemFact(new TestdataValue("added value 1"), workingSolution.getValueList()::add);
+        });
+        firstProblemChangeReceived.await();
+        // The second batch of changes starts from the working solution of the restarted solver
+        solver.addProblemChange((workingSolution, problemChangeDirector) -> {
+            TestdataValue addedValue = new TestdataValue("added value 2");
+            problemChangeDirector.addProblemFact(addedValue, workingSolution.getValueList()::add);
+            problemChangeDirector.changeVariable(workingSolution.getEntityList().get(0), "value",
+                    entity -> entity.setValue(addedValue));
+        });
+        secondProblemChangeReceived.await();
+
+        TestdataSolution changedSolution = bestSolution.get();
+        assertThat(changedSolution.getValueList()).hasSize(valueCount + 2);
+        SimpleScore changedScore = changedSolution.getScore();
+        assertThat(ScoreManager.create(solverFactory).updateScore(changedSolution)).isEqualTo(changedScore);
+
+        solver.terminateEarly();
+        executorService.shutdown();
+    }
+
+    @Test
+    @Timeout(60)
+    void solveWithInPlaceProblemChangeAndDeepClonedPlanningValue() throws InterruptedException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataDeepClonedValueSolution.class,
+                TestdataDeepClonedValueEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withInPlaceProblemChangeEnabled(true);
+        solverConfig.setDaemon(true); // Avoid terminating the solver too quickly.
+        Solver<TestdataDeepClonedValueSolution> solver = SolverFactory.<TestdataDeepClonedValueSolution> create(solverConfig)
+                .buildSolver();
+        final int valueCount = 4;
+        TestdataDeepClonedValueSolution solution = TestdataDeepClonedValueSolution.generateSolution(valueCount, 8);
+
+        AtomicReference<TestdataDeepClonedValueSolution> bestSolution = new AtomicReference<>();
+        CountDownLatch solverStarted = new CountDownLatch(1);
+        CountDownLatch problemChangeReceived = new CountDownLatch(1);
+        solver.addEventListener(bestSolutionChangedEvent -> {
+            solverStarted.countDown();
+            TestdataDeepClonedValueSolution newBestSolution = bestSolutionChangedEvent.getNewBestSolution();
+            if (bestSolutionChangedEvent.isEveryProblemChangeProcessed()
+                    && newBestSolution.getValueList().size() == valueCount + 1) {
+                bestSolution.set(newBestSolution);
+                problemChangeReceived.countDown();
+            }
+        });
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.submit(() -> {
+            solver.solve(solution);
+        });
+
+        solverStarted.await(); // Make sure we submit a ProblemChange only after the Solver started solving.
+        solver.addProblemChange((workingSolution, problemChangeDirector) -> {
+            problemChangeDirector.addProblemFact(new TestdataDeepClonedValue("added value"),
+                    workingSolution.getValueList()::add);
+        });
+        problemChangeReceived.await();
+
+        // Every planning value must be an instance of the solution, not of an earlier clone of it
+        TestdataDeepClonedValueSolution changedSolution = bestSolution.get();
+        Set<TestdataDeepClonedValue> valueSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        valueSet.addAll(changedSolution.getValueList());
+        assertThat(changedSolution.getEntityList())
+                .allSatisfy(entity -> assertThat(valueSet).contains(entity.getValue()));
+
+        solver.terminateEarly();
+        executorService.shutdown();
+    }
+
+    @Test
+    void solveWithProblemChangeBatching() throws InterruptedException {
+        TestMeterRegistry meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withProblemChangeBatchingConfig(new ProblemChangeBatchingConfig()
+                        .withWaitMillisecondsLimit(3_600_000L) // Only the batch size limit restarts the solver.
+                        .withBatchSizeLimit(2))
+                .withMonitoringConfig(new MonitoringConfig()
+                        .withSolverMetricList(List.of(SolverMetric.PROBLEM_CHANGE_QUEUE_SIZE,
+                                SolverMetric.PROBLEM_CHANGE_LATENCY)));
+        solverConfig.setDaemon(true); // Avoid terminating the solver too quickly.
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        Solver<TestdataSolution> solver = solverFactory.buildSolver();
+        final int valueCount = 4;
+        TestdataSolution solution = TestdataSolution.generateSolution(valueCount, valueCount);
+        TestdataEntity entity = solution.getEntityList().get(0);
+
+        CountDownLatch solverStarted = new CountDownLatch(1);
+        CountDownLatch problemChangesProcessed = new CountDownLatch(1);
+        AtomicReference<Double> queueSize = new AtomicReference<>();
+        AtomicReference<Long> latencyCount = new AtomicReference<>();
+        solver.addEventListener(bestSolutionChangedEvent -> {
+            solverStarted.countDown();
+            if (bestSolutionChangedEvent.isEveryProblemChangeProcessed()
+                    && bestSolutionChangedEvent.getNewBestSolution().getValueList().size() == valueCount + 1) {
+                queueSize.set(meterRegistry.find(SolverMetric.PROBLEM_CHANGE_QUEUE_SIZE.getMeterId()).gauge().value());
+                latencyCount.set(meterRegistry.find(SolverMetric.PROBLEM_CHANGE_LATENCY.getMeterId()).timer().count());
+                problemChangesProcessed.countDown();
+            }
+        });
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.submit(() -> {
+            solver.solve(solution);
+        });
+
+        solverStarted.await(); // Make sure we submit a ProblemChange only after the Solver started solving.
+        AtomicInteger firstChangeCount = new AtomicInteger();
+        AtomicInteger secondChangeCount = new AtomicInteger();
+        solver.addProblemChange(new ChangeEntityValueProblemChange(entity, 0, firstChangeCount));
+        // Merged with the first one, so the batch is not full yet
+        solver.addProblemChange(new ChangeEntityValueProblemChange(entity, 1, secondChangeCount));
+        solver.addProblemChange((workingSolution, problemChangeDirector) -> {
+            problemChangeDirector.addProblemFact(new TestdataValue("added value"), workingSolution.getValueList()::add);
+        });
+        problemChangesProcessed.await();
+
+        assertThat(firstChangeCount).hasValue(0);
+        assertThat(secondChangeCount).hasValue(1);
+        assertThat(queueSize).hasValue(0.0);
+        assertThat(latencyCount).hasValue(2L);
+
+        solver.terminateEarly();
+        executorService.shutdown();
+    }
+
+    private static class ChangeEntityValueProblemChange implements MergeableProblemChange<TestdataSolution> {
+
+        private final TestdataEntity entity;
+        private final int valueIndex;
+        private final AtomicInteger doChangeCount;
+
+        public ChangeEntityValueProblemChange(TestdataEntity entity, int valueIndex, AtomicInteger doChangeCount) {
+            this.entity = entity;
+            this.valueIndex = valueIndex;
+            this.doChangeCount = doChangeCount;
+        }
+
+        @Override
+        public Object getProblemFact() {
+            return entity;
+        }
+
+        @Override
+        public void doChange(TestdataSolution workingSolution, ProblemChangeDirector problemChangeDirector) {
+            doChangeCount.incrementAndGet();
+            TestdataValue value = workingSolution.getValueList().get(valueIndex);
+            problemChangeDirector.changeVariable(entity, "value", workingEntity -> workingEntity.setValue(value));
+        }
+    }
+
     @Test
     void solveRepeatedlyBasicVariable(SoftAssertions softly) {
         SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.recaller;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+import org.optaplanner.core.impl.testdata.domain.clone.deepcloning.value.TestdataDeepClonedValueSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListEntity;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListSolution;
+import org.optaplanner.core.impl.testdata.domain.list.TestdataListValue;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+class BestSolutionSnapshotTest {
+
+    @Test
+    void createBestSolution() {
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        TestdataSolution workingSolution = TestdataSolution.generateSolution(3, 2);
+        TestdataEntity a = workingSolution.getEntityList().get(0);
+        TestdataEntity b = workingSolution.getEntityList().get(1);
+        TestdataValue v1 = workingSolution.getValueList().get(0);
+        TestdataValue v2 = workingSolution.getValueList().get(1);
+        TestdataValue v3 = workingSolution.getValueList().get(2);
+        a.setValue(v1);
+        b.setValue(v2);
+        scoreDirector.setWorkingSolution(workingSolution);
+
+        BestSolutionSnapshot<TestdataSolution> snapshot =
+                new BestSolutionSnapshot<>(scoreDirector.getSolutionDescriptor());
+        assertThat(snapshot.record(workingSolution, SimpleScore.of(-1))).isTrue();
+        a.setValue(v3);
+        b.setValue(null);
+
+        TestdataSolution bestSolution = snapshot.createBestSolution(scoreDirector);
+        assertThat(bestSolution).isNotSameAs(workingSolution);
+        assertThat(bestSolution.getScore()).isEqualTo(SimpleScore.of(-1));
+        assertThat(bestSolution.getEntityList()).extracting(TestdataEntity::getValue)
+                .containsExactly(v1, v2);
+        assertThat(bestSolution.getEntityList().get(0)).isNotSameAs(a);
+        // The working solution is untouched
+        assertThat(a.getValue()).isSameAs(v3);
+        assertThat(b.getValue()).isNull();
+    }
+
+    @Test
+    void createBestSolutionWithChainedVariable() {
+        InnerScoreDirector<TestdataChainedSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataChainedSolution.buildSolutionDescriptor());
+        TestdataChainedAnchor anchor = new TestdataChainedAnchor("anchor");
+        TestdataChainedEntity a = new TestdataChainedEntity("a", anchor);
+        TestdataChainedEntity b = new TestdataChainedEntity("b", a);
+        TestdataChainedSolution workingSolution = new TestdataChainedSolution("solution");
+        workingSolution.setChainedAnchorList(Arrays.asList(anchor));
+        workingSolution.setChainedEntityList(Arrays.asList(a, b));
+        workingSolution.setUnchainedValueList(Arrays.asList(new TestdataValue("v1")));
+        scoreDirector.setWorkingSolution(workingSolution);
+
+        BestSolutionSnapshot<TestdataChainedSolution> snapshot =
+                new BestSolutionSnapshot<>(scoreDirector.getSolutionDescriptor());
+        snapshot.record(workingSolution, SimpleScore.of(0));
+        // Reverse the chain
+        b.setChainedObject(anchor);
+        a.setChainedObject(b);
+
+        TestdataChainedSolution bestSolution = snapshot.createBestSolution(scoreDirector);
+        TestdataChainedEntity bestA = bestSolution.getChainedEntityList().get(0);
+        TestdataChainedEntity bestB = bestSolution.getChainedEntityList().get(1);
+        assertThat(bestA).isNotSameAs(a);
+        assertThat(bestA.getChainedObject()).isSameAs(anchor);
+        assertThat(bestB.getChainedObject()).isSameAs(bestA);
+        assertThat(a.getChainedObject()).isSameAs(b);
+    }
+
+    @Test
+    void createBestSolutionWithListVariable() {
+        InnerScoreDirector<TestdataListSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataListSolution.buildSolutionDescriptor());
+        TestdataListSolution workingSolution = TestdataListSolution.generateInitializedSolution(4, 2);
+        TestdataListEntity a = workingSolution.getEntityList().get(0);
+        TestdataListEntity b = workingSolution.getEntityList().get(1);
+        List<String> recordedCodeListOfA = a.getValueList().stream().map(TestdataListValue::getCode).collect(toList());
+        List<String> recordedCodeListOfB = b.getValueList().stream().map(TestdataListValue::getCode).collect(toList());
+        scoreDirector.setWorkingSolution(workingSolution);
+
+        BestSolutionSnapshot<TestdataListSolution> snapshot =
+                new BestSolutionSnapshot<>(scoreDirector.getSolutionDescriptor());
+        snapshot.record(workingSolution, SimpleScore.of(0));
+        b.getValueList().addAll(a.getValueList());
+        a.getValueList().clear();
+
+        TestdataListSolution bestSolution = snapshot.createBestSolution(scoreDirector);
+        TestdataListEntity bestA = bestSolution.getEntityList().get(0);
+        TestdataListEntity bestB = bestSolution.getEntityList().get(1);
+        assertThat(bestA.getValueList()).isNotSameAs(a.getValueList());
+        assertThat(bestA.getValueList()).extracting(TestdataListValue::getCode)
+                .containsExactlyElementsOf(recordedCodeListOfA);
+        assertThat(bestB.getValueList()).extracting(TestdataListValue::getCode)
+                .containsExactlyElementsOf(recordedCodeListOfB);
+        assertThat(bestA.getValueList()).allMatch(value -> value.getEntity() == bestA);
+        assertThat(a.getValueList()).isEmpty();
+        assertThat(b.getValueList()).hasSize(4);
+    }
+
+    @Test
+    void recordDeepClonedValue() {
+        InnerScoreDirector<TestdataDeepClonedValueSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataDeepClonedValueSolution.buildSolutionDescriptor());
+        TestdataDeepClonedValueSolution workingSolution = TestdataDeepClonedValueSolution.generateSolution(2, 2);
+        scoreDirector.setWorkingSolution(workingSolution);
+
+        // The planning clone of the working solution has its own instances of those values
+        BestSolutionSnapshot<TestdataDeepClonedValueSolution> snapshot =
+                new BestSolutionSnapshot<>(scoreDirector.getSolutionDescriptor());
+        assertThat(snapshot.record(workingSolution, SimpleScore.of(0))).isFalse();
+
+        workingSolution.getEntityList().forEach(entity -> entity.setValue(null));
+        assertThat(snapshot.record(workingSolution, SimpleScore.of(0))).isTrue();
+    }
+
+}
@@ -19,13 +19,17 @@ package org.optaplanner.core.impl.solver.termination;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.change.DefaultProblemChangeDirector;
 import org.optaplanner.core.impl.solver.change.ProblemChangeAdapter;
+import org.optaplanner.core.impl.solver.change.QueuedProblemChange;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 
@@ -70,6 +74,104 @@ class BasicPlumbingTerminationTest {
         assertThat(count).hasValue(21);
     }
 
+    @Test
+    void addProblemChangeWithMergeKey() {
+        AtomicInteger count = new AtomicInteger(0);
+        BasicPlumbingTermination<TestdataSolution> basicPlumbingTermination = new BasicPlumbingTermination<>(false);
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> count.getAndAdd(1)), "key");
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> count.getAndAdd(20)));
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> count.getAndAdd(300)), "key");
+        assertThat(basicPlumbingTermination.getProblemChangeQueueSize()).isEqualTo(2);
+
+        SolverScope<TestdataSolution> solverScopeMock = mockSolverScope();
+        basicPlumbingTermination.startProblemFactChangesProcessing().removeIf(changeAdapter -> {
+            changeAdapter.doProblemChange(solverScopeMock);
+            return true;
+        });
+        basicPlumbingTermination.endProblemFactChangesProcessing();
+        assertThat(count).hasValue(320);
+        assertThat(basicPlumbingTermination.isEveryProblemFactChangeProcessed()).isTrue();
+    }
+
+    @Test
+    void addProblemChangeWithMergeKeyKeepsOrder() {
+        List<String> appliedList = new ArrayList<>();
+        BasicPlumbingTermination<TestdataSolution> basicPlumbingTermination = new BasicPlumbingTermination<>(false);
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> appliedList.add("update1")),
+                "key");
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> appliedList.add("remove")));
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> appliedList.add("other")),
+                "otherKey");
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> appliedList.add("update2")),
+                "key");
+        assertThat(basicPlumbingTermination.getProblemChangeQueueSize()).isEqualTo(3);
+
+        SolverScope<TestdataSolution> solverScopeMock = mockSolverScope();
+        basicPlumbingTermination.startProblemFactChangesProcessing().removeIf(changeAdapter -> {
+            changeAdapter.doProblemChange(solverScopeMock);
+            return true;
+        });
+        basicPlumbingTermination.endProblemFactChangesProcessing();
+        // The merged change takes the place of the replaced one, before the non-mergeable change
+        assertThat(appliedList).containsExactly("update2", "remove", "other");
+    }
+
+    @Test
+    void addProblemChangeWithMergeKeyAfterProcessingStarted() {
+        List<String> appliedList = new ArrayList<>();
+        BasicPlumbingTermination<TestdataSolution> basicPlumbingTermination = new BasicPlumbingTermination<>(false);
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> appliedList.add("update1")),
+                "key");
+        QueuedProblemChange<TestdataSolution> startedProblemChange =
+                basicPlumbingTermination.startProblemFactChangesProcessing().peek();
+        startedProblemChange.doProblemChange(mockSolverScope());
+        // The started change can't be replaced anymore, so the new one waits at the end of the queue
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> appliedList.add("update2")),
+                "key");
+        assertThat(basicPlumbingTermination.getProblemChangeQueueSize()).isEqualTo(2);
+        assertThat(appliedList).containsExactly("update1");
+    }
+
+    @Test
+    void batchSizeLimit() {
+        BasicPlumbingTermination<TestdataSolution> basicPlumbingTermination =
+                new BasicPlumbingTermination<>(false, 3_600_000L, 2);
+        SolverScope<TestdataSolution> solverScopeMock = mockSolverScope();
+        assertThat(basicPlumbingTermination.isSolverTerminated(solverScopeMock)).isFalse();
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> {
+                }));
+        assertThat(basicPlumbingTermination.isSolverTerminated(solverScopeMock)).isFalse();
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> {
+                }));
+        assertThat(basicPlumbingTermination.isSolverTerminated(solverScopeMock)).isTrue();
+    }
+
+    @Test
+    void batchWaitLimit() {
+        BasicPlumbingTermination<TestdataSolution> basicPlumbingTermination =
+                new BasicPlumbingTermination<>(true, 100L, Integer.MAX_VALUE);
+        SolverScope<TestdataSolution> solverScopeMock = mockSolverScope();
+        long startNanos = System.nanoTime();
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> {
+                }));
+        // Blocks until the problem change has waited long enough
+        assertThat(basicPlumbingTermination.waitForRestartSolverDecision()).isTrue();
+        assertThat(System.nanoTime() - startNanos).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100L));
+        assertThat(basicPlumbingTermination.isSolverTerminated(solverScopeMock)).isTrue();
+    }
+
     private SolverScope<TestdataSolution> mockSolverScope() {
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
         InnerScoreDirector<TestdataSolution, ?> scoreDirectorMock = mock(InnerScoreDirector.class);
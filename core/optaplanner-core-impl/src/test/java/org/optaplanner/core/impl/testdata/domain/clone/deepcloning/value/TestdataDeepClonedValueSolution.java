@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.testdata.domain.clone.deepcloning.value;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningEntityCollectionProperty;
+import org.optaplanner.core.api.domain.solution.PlanningScore;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.solution.ProblemFactCollectionProperty;
+import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataObject;
+
+@PlanningSolution
+public class TestdataDeepClonedValueSolution extends TestdataObject {
+
+    public static SolutionDescriptor<TestdataDeepClonedValueSolution> buildSolutionDescriptor() {
+        return SolutionDescriptor.buildSolutionDescriptor(TestdataDeepClonedValueSolution.class,
+                TestdataDeepClonedValueEntity.class);
+    }
+
+    public static TestdataDeepClonedValueSolution generateSolution(int valueListSize, int entityListSize) {
+        TestdataDeepClonedValueSolution solution = new TestdataDeepClonedValueSolution("Generated Solution 0");
+        List<TestdataDeepClonedValue> valueList = new ArrayList<>(valueListSize);
+        for (int i = 0; i < valueListSize; i++) {
+            valueList.add(new TestdataDeepClonedValue("Generated Value " + i));
+        }
+        solution.setValueList(valueList);
+        List<TestdataDeepClonedValueEntity> entityList = new ArrayList<>(entityListSize);
+        for (int i = 0; i < entityListSize; i++) {
+            entityList.add(new TestdataDeepClonedValueEntity("Generated Entity " + i, valueList.get(i % valueListSize)));
+        }
+        solution.setEntityList(entityList);
+        return solution;
+    }
+
+    private List<TestdataDeepClonedValue> valueList;
+    private List<TestdataDeepClonedValueEntity> entityList;
+
+    private SimpleScore score;
+
+    public TestdataDeepClonedValueSolution() {
+    }
+
+    public TestdataDeepClonedValueSolution(String code) {
+        super(code);
+    }
+
+    @ValueRangeProvider(id = "valueRange")
+    @ProblemFactCollectionProperty
+    public List<TestdataDeepClonedValue> getValueList() {
+        return valueList;
+    }
+
+    public void setValueList(List<TestdataDeepClonedValue> valueList) {
+        this.valueList = valueList;
+    }
+
+    @PlanningEntityCollectionProperty
+    public List<TestdataDeepClonedValueEntity> getEntityList() {
+        return entityList;
+    }
+
+    public void setEntityList(List<TestdataDeepClonedValueEntity> entityList) {
+        this.entityList = entityList;
+    }
+
+    @PlanningScore
+    public SimpleScore getScore() {
+        return score;
+    }
+
+    public void setScore(SimpleScore score) {
+        this.score = score;
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class OrderStatisticTreeTest {
+
+    @Test
+    void addAndRemoveDuplicates() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        assertThat(tree.isEmpty()).isTrue();
+        tree.add(5);
+        tree.add(3);
+        tree.add(5);
+        tree.add(8);
+        assertThat(tree.size()).isEqualTo(4);
+        assertThat(tree.get(0)).isEqualTo(3);
+        assertThat(tree.get(1)).isEqualTo(5);
+        assertThat(tree.get(2)).isEqualTo(5);
+        assertThat(tree.get(3)).isEqualTo(8);
+        assertThat(tree.countLessThan(5)).isEqualTo(1);
+        assertThat(tree.countLessThan(6)).isEqualTo(3);
+        assertThat(tree.countLessThan(100)).isEqualTo(4);
+
+        tree.remove(5);
+        assertThat(tree.size()).isEqualTo(3);
+        assertThat(tree.get(2)).isEqualTo(8);
+        assertThat(tree.countLessThan(8)).isEqualTo(2);
+        tree.remove(5);
+        tree.remove(3);
+        tree.remove(8);
+        assertThat(tree.isEmpty()).isTrue();
+    }
+
+    @Test
+    void copyIsIndependent() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        tree.add(5);
+        tree.add(3);
+        tree.add(5);
+        OrderStatisticTree<Integer> copy = tree.copy();
+        assertThat(copy.isUnchangedCopyOf(tree)).isTrue();
+        tree.remove(3);
+        assertThat(copy.isUnchangedCopyOf(tree)).isFalse();
+        tree.add(1);
+        tree.add(8);
+        assertThat(copy.size()).isEqualTo(3);
+        assertThat(copy.get(0)).isEqualTo(3);
+        assertThat(copy.countLessThan(5)).isEqualTo(1);
+        copy.remove(5);
+        assertThat(copy.size()).isEqualTo(2);
+        assertThat(tree.size()).isEqualTo(4);
+        assertThat(tree.countLessThan(8)).isEqualTo(3);
+    }
+
+    @Test
+    void copiesOfCopiesAreIndependent() {
+        Random random = new Random(37);
+        List<OrderStatisticTree<Integer>> treeList = new ArrayList<>();
+        List<List<Integer>> expectedListList = new ArrayList<>();
+        treeList.add(new OrderStatisticTree<>(Comparator.naturalOrder()));
+        expectedListList.add(new ArrayList<>());
+        for (int i = 0; i < 5_000; i++) {
+            int treeIndex = random.nextInt(treeList.size());
+            OrderStatisticTree<Integer> tree = treeList.get(treeIndex);
+            List<Integer> expectedList = expectedListList.get(treeIndex);
+            if (random.nextInt(50) == 0) {
+                OrderStatisticTree<Integer> copy = tree.copy();
+                assertThat(copy.isUnchangedCopyOf(tree)).isTrue();
+                treeList.add(copy);
+                expectedListList.add(new ArrayList<>(expectedList));
+            } else if (expectedList.isEmpty() || random.nextInt(3) > 0) {
+                int key = random.nextInt(200);
+                tree.add(key);
+                expectedList.add(key);
+            } else {
+                Integer key = expectedList.get(random.nextInt(expectedList.size()));
+                tree.remove(key);
+                expectedList.remove(key);
+            }
+        }
+        for (int i = 0; i < treeList.size(); i++) {
+            OrderStatisticTree<Integer> tree = treeList.get(i);
+            List<Integer> expectedList = expectedListList.get(i);
+            Collections.sort(expectedList);
+            assertThat(tree.size()).isEqualTo(expectedList.size());
+            for (int j = 0; j < expectedList.size(); j++) {
+                assertThat(tree.get(j)).isEqualTo(expectedList.get(j));
+            }
+        }
+    }
+
+    @Test
+    void invalidAccess() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        tree.add(1);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> tree.get(1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> tree.get(-1));
+        assertThatIllegalStateException().isThrownBy(() -> tree.remove(2));
+    }
+
+    @Test
+    void randomOperationsMatchSortedList() {
+        Random random = new Random(37);
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        List<Integer> expectedList = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            if (expectedList.isEmpty() || random.nextInt(3) > 0) {
+                int key = random.nextInt(500);
+                tree.add(key);
+                expectedList.add(key);
+            } else {
+                Integer key = expectedList.get(random.nextInt(expectedList.size()));
+                tree.remove(key);
+                expectedList.remove(key);
+            }
+            if (i % 100 == 0) {
+                Collections.sort(expectedList);
+                assertThat(tree.size()).isEqualTo(expectedList.size());
+                for (int j = 0; j < expectedList.size(); j++) {
+                    assertThat(tree.get(j)).isEqualTo(expectedList.get(j));
+                }
+                int key = random.nextInt(500);
+                int expectedCount = (int) expectedList.stream().filter(k -> k < key).count();
+                assertThat(tree.countLessThan(key)).isEqualTo(expectedCount);
+            }
+        }
+    }
+
+}